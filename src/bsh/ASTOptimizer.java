@@ -0,0 +1,274 @@
+package bsh;
+
+/**
+	A single pass over a parsed tree which folds constant expressions and
+	eliminates dead branches before the tree is evaluated.
+	<p>
+
+	Only subtrees built entirely of literals are folded: binary and unary
+	operations on primitive literals, concatenation of string literals
+	with other literals, boolean short-circuits with a constant left hand
+	side (false && x, true || x) and ternary expressions with a constant
+	condition.  Names are never treated as constants, not even final
+	variables, since a name may be shadowed or declared dynamically in an
+	enclosing namespace at runtime.  Operations which fail (e.g. integer
+	division by zero) are left in place so that the error is raised at
+	runtime with the usual location information.
+	<p>
+
+	An if statement with a constant condition is replaced by the branch
+	taken, or removed when there is none.  The value of an if statement
+	may be the result of an untyped method or script, so this is only done
+	for statements of a block which are followed by another statement.
+	<p>
+
+	Folded nodes keep the tokens and source file of the expression they
+	replace, so that error messages and getText() are unaffected.
+
+	@see PreparsedScript
+*/
+final class ASTOptimizer implements ParserConstants
+{
+	/**
+		The system property which disables the optimizer when set to
+		"false".
+	*/
+	static final String PROPERTY = "bsh.optimize";
+
+	/**
+		The number of rewrites of each kind made by one pass.
+	*/
+	static final class Stats
+	{
+		int foldedExpressions;
+		int foldedConcatenations;
+		int shortCircuits;
+		int prunedBranches;
+
+		int total() {
+			return foldedExpressions + foldedConcatenations
+				+ shortCircuits + prunedBranches;
+		}
+
+		public String toString() {
+			return "folded expressions: " + foldedExpressions
+				+ ", folded concatenations: " + foldedConcatenations
+				+ ", short circuits: " + shortCircuits
+				+ ", pruned branches: " + prunedBranches;
+		}
+	}
+
+	private final Stats stats = new Stats();
+
+	private ASTOptimizer() { }
+
+	static boolean isEnabled() {
+		return !"false".equals( System.getProperty( PROPERTY ) );
+	}
+
+	/**
+		Optimize the children of the root node in place.
+		@return the statistics of the pass.
+	*/
+	static Stats optimize( SimpleNode root )
+	{
+		ASTOptimizer optimizer = new ASTOptimizer();
+		optimizer.children( root );
+		if ( Interpreter.DEBUG )
+			Interpreter.debug( "ASTOptimizer: " + optimizer.stats );
+		return optimizer.stats;
+	}
+
+	/**
+		Optimize the children of the node, replacing or removing them as
+		required.
+	*/
+	private void children( SimpleNode node )
+	{
+		int n = node.jjtGetNumChildren();
+		int kept = 0;
+		for ( int i = 0; i < n; i++ )
+		{
+			SimpleNode child = (SimpleNode)node.children[i];
+			SimpleNode result = node( child, node, i == n - 1 );
+			if ( result == null )
+				continue;
+			if ( result != child )
+				result.jjtSetParent( node );
+			node.children[ kept++ ] = result;
+		}
+		if ( kept < n )
+		{
+			Node [] children = new Node[ kept ];
+			System.arraycopy( node.children, 0, children, 0, kept );
+			node.children = children;
+		}
+	}
+
+	/**
+		@return the node, its replacement or null if it is to be removed.
+	*/
+	private SimpleNode node( SimpleNode node, SimpleNode parent, boolean last )
+	{
+		children( node );
+
+		if ( node instanceof BSHBinaryExpression )
+			return binary( (BSHBinaryExpression)node );
+		if ( node instanceof BSHUnaryExpression )
+			return unary( (BSHUnaryExpression)node );
+		if ( node instanceof BSHTernaryExpression )
+			return ternary( node );
+		if ( node instanceof BSHIfStatement && parent instanceof BSHBlock
+			&& !last )
+			return ifStatement( node );
+		return node;
+	}
+
+	private SimpleNode binary( BSHBinaryExpression node )
+	{
+		int kind = node.kind;
+		if ( kind == INSTANCEOF )
+			return node;
+
+		Object lhs = constant( node.getChild( 0 ) );
+		if ( lhs == null )
+			return node;
+
+		if ( ( kind == BOOL_AND || kind == BOOL_ANDX )
+			&& lhs == Primitive.FALSE )
+		{
+			stats.shortCircuits++;
+			return literal( node, Primitive.FALSE );
+		}
+		if ( ( kind == BOOL_OR || kind == BOOL_ORX )
+			&& lhs == Primitive.TRUE )
+		{
+			stats.shortCircuits++;
+			return literal( node, Primitive.TRUE );
+		}
+
+		Object rhs = constant( node.getChild( 1 ) );
+		if ( rhs == null )
+			return node;
+
+		if ( kind == PLUS && ( lhs instanceof String || rhs instanceof String ) )
+		{
+			String value = lhs.toString() + rhs.toString();
+			if ( BSHLiteral.internStrings )
+				value = value.intern();
+			stats.foldedConcatenations++;
+			return literal( node, value );
+		}
+
+		if ( !isPrimitiveValue( lhs ) || !isPrimitiveValue( rhs ) )
+			return node;
+		try {
+			Object value = Primitive.binaryOperation( lhs, rhs, kind );
+			stats.foldedExpressions++;
+			return literal( node, value );
+		} catch ( UtilEvalError e ) {
+			return node;
+		} catch ( InterpreterError e ) {
+			return node;
+		}
+	}
+
+	private SimpleNode unary( BSHUnaryExpression node )
+	{
+		int kind = node.kind;
+		if ( kind == INCR || kind == DECR )
+			return node;
+
+		Object operand = constant( node.getChild( 0 ) );
+		if ( !isPrimitiveValue( operand ) )
+			return node;
+		try {
+			Object value = Primitive.unaryOperation( (Primitive)operand, kind );
+			stats.foldedExpressions++;
+			return literal( node, value );
+		} catch ( UtilEvalError e ) {
+			return node;
+		} catch ( InterpreterError e ) {
+			return node;
+		}
+	}
+
+	private SimpleNode ternary( SimpleNode node )
+	{
+		Object condition = constant( node.getChild( 0 ) );
+		if ( condition == Primitive.TRUE )
+		{
+			stats.prunedBranches++;
+			return node.getChild( 1 );
+		}
+		if ( condition == Primitive.FALSE )
+		{
+			stats.prunedBranches++;
+			return node.getChild( 2 );
+		}
+		return node;
+	}
+
+	private SimpleNode ifStatement( SimpleNode node )
+	{
+		Object condition = constant( node.getChild( 0 ) );
+		SimpleNode branch;
+		if ( condition == Primitive.TRUE )
+			branch = node.getChild( 1 );
+		else if ( condition == Primitive.FALSE )
+			branch = node.jjtGetNumChildren() > 2 ? node.getChild( 2 ) : null;
+		else
+			return node;
+
+		stats.prunedBranches++;
+		return branch;
+	}
+
+	/**
+		@return the value of a literal or of a primary expression which
+			consists only of a literal, with booleans as the shared
+			Primitive.TRUE and Primitive.FALSE, or null if the node is
+			not constant.
+	*/
+	static Object constant( SimpleNode node )
+	{
+		if ( node instanceof BSHPrimaryExpression
+			&& node.jjtGetNumChildren() == 1 )
+			return constant( node.getChild( 0 ) );
+		if ( !(node instanceof BSHLiteral) )
+			return null;
+		Object value = ((BSHLiteral)node).value;
+		if ( value instanceof Primitive
+			&& ((Primitive)value).getType() == Boolean.TYPE )
+			return Primitive.valueOf(
+				((Boolean)((Primitive)value).getValue()).booleanValue() );
+		return value;
+	}
+
+	private static boolean isPrimitiveValue( Object value ) {
+		return value instanceof Primitive
+			&& value != Primitive.NULL && value != Primitive.VOID;
+	}
+
+	/**
+		@return a primary expression holding the value as a literal, in
+			place of the node.
+	*/
+	private static SimpleNode literal( SimpleNode node, Object value )
+	{
+		BSHLiteral literal = new BSHLiteral( ParserTreeConstants.JJTLITERAL );
+		literal.value = value;
+		BSHPrimaryExpression expression = new BSHPrimaryExpression(
+			ParserTreeConstants.JJTPRIMARYEXPRESSION );
+		expression.jjtAddChild( literal, 0 );
+		literal.jjtSetParent( expression );
+		SimpleNode [] nodes = { expression, literal };
+		for ( int i = 0; i < nodes.length; i++ )
+		{
+			nodes[i].firstToken = node.firstToken;
+			nodes[i].lastToken = node.lastToken;
+			nodes[i].sourceFile = node.sourceFile;
+		}
+		return expression;
+	}
+}
@@ -0,0 +1,828 @@
+package bsh;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+	A compact binary form of parsed scripts, so that a script can be loaded
+	without the lexer and parser.  The parsed form of foo.bsh is kept in
+	foo.bshc next to it, written by running this class:
+	<pre>
+		java bsh.ASTSerializer foo.bsh ...
+	</pre>
+	PreparsedScript, and Interpreter.source() when the parse cache is
+	enabled (see BshClassManager.setParseCacheSize()), use the .bshc file
+	of a script when it is fresh, i.e. it was written from the current text
+	of the script, and otherwise parse the script as usual.
+	<p>
+
+	The format is a header (magic, format version, length and CRC-32 of
+	the source file), a string table holding every identifier, literal and
+	token image once, a token table (kind, image and source position of
+	each token and the index of the following one) and the statement trees in pre-order: the node id, its
+	first and last token, the fields set by the parser for its node type,
+	and its children.  Numbers are written as variable length ints.
+	<p>
+
+	The tokens are kept so that line numbers and node text in error
+	messages are the same as for parsed scripts.  Comments are not kept.
+	FORMAT_VERSION must change with any change of the grammar or of the
+	node fields written here.
+	@see Interpreter#source( String, NameSpace )
+	@see PreparsedScript#PreparsedScript( File, ClassLoader )
+*/
+public final class ASTSerializer implements ParserTreeConstants
+{
+	static final int MAGIC = 0x42534843; // "BSHC"
+	static final int FORMAT_VERSION = 1;
+	static final String EXTENSION = ".bshc";
+
+	// literal tags
+	private static final int NULL = 0, VOID = 1, BOOLEAN = 2, CHAR = 3,
+		INT = 4, LONG = 5, FLOAT = 6, DOUBLE = 7, STRING = 8;
+
+	private static final Constructor [] nodeConstructors =
+		new Constructor[ jjtNodeName.length ];
+
+	private ASTSerializer() { }
+
+	/**
+		Write the .bshc file of each script.
+	*/
+	public static void main( String [] args ) throws IOException, EvalError
+	{
+		if ( args.length == 0 ) {
+			System.err.println("usage: ASTSerializer file.bsh ...");
+			System.exit(1);
+		}
+		for ( int i = 0; i < args.length; i++ )
+			System.out.println( "wrote: " + write( new File( args[i] ) ) );
+	}
+
+	/**
+		Parse the script and write its .bshc file.
+		@return the .bshc file
+	*/
+	public static File write( File source ) throws IOException, EvalError
+	{
+		byte [] text = readFully( source );
+		Reader in = new BufferedReader( new FileReader( source ) );
+		SimpleNode [] statements;
+		try {
+			statements = Interpreter.parse( in, source.getPath() );
+		} finally {
+			in.close();
+		}
+
+		File file = getFile( source );
+		OutputStream out = new BufferedOutputStream(
+			new FileOutputStream( file ) );
+		try {
+			write( statements, text.length, checksum( text ), out );
+		} finally {
+			out.close();
+		}
+		return file;
+	}
+
+	/**
+		The .bshc file of a script: foo.bshc for foo.bsh, else the name of
+		the script with .bshc appended.
+	*/
+	static File getFile( File source ) {
+		return new File( getPath( source.getPath() ) );
+	}
+
+	/**
+		The path of the .bshc form of the script at the path, as getFile().
+	*/
+	static String getPath( String path )
+	{
+		if ( path.endsWith(".bsh") )
+			return path + "c";
+		return path + EXTENSION;
+	}
+
+	/**
+		Load the parsed statements of the script from its .bshc file.
+		@param sourceFileInfo is set as the source of the statements.
+		@return the statements or null if there is no .bshc file written
+			from the current script text in this format.
+	*/
+	static SimpleNode [] readFresh( File source, String sourceFileInfo )
+	{
+		File file = getFile( source );
+		if ( !file.isFile() )
+			return null;
+		try {
+			InputStream in = new FileInputStream( file );
+			try {
+				return readFresh( in, readFully( source ), sourceFileInfo );
+			} finally {
+				in.close();
+			}
+		} catch ( IOException e ) {
+			Interpreter.debug("Unable to read "+file+": "+e);
+			return null;
+		}
+	}
+
+	/**
+		Read the parsed statements of a script from its .bshc form.
+		@param text the current text of the script
+		@param sourceFileInfo is set as the source of the statements.
+		@return the statements or null if they were not written from the
+			text in this format.
+	*/
+	static SimpleNode [] readFresh(
+		InputStream is, byte [] text, String sourceFileInfo )
+	{
+		try {
+			DataInputStream in = new DataInputStream(
+				new BufferedInputStream( is ) );
+			if ( in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION )
+			{
+				Interpreter.debug("Ignoring .bshc of another version: "
+					+ sourceFileInfo );
+				return null;
+			}
+			long length = in.readLong();
+			int checksum = in.readInt();
+			if ( length != text.length || checksum != checksum( text ) )
+				return null;
+			return new TreeReader( in ).statements( sourceFileInfo );
+		} catch ( IOException e ) {
+			Interpreter.debug("Unable to read .bshc of "+sourceFileInfo+": "+e);
+			return null;
+		} catch ( RuntimeException e ) {
+			// a damaged file
+			Interpreter.debug("Unable to read .bshc of "+sourceFileInfo+": "+e);
+			return null;
+		}
+	}
+
+	/**
+		Write the parsed statements.
+		@param length the length of the source file
+		@param checksum the CRC-32 of the source file
+	*/
+	static void write( SimpleNode [] statements, long length, int checksum,
+		OutputStream os )
+		throws IOException
+	{
+		DataOutputStream out = new DataOutputStream( os );
+		out.writeInt( MAGIC );
+		out.writeInt( FORMAT_VERSION );
+		out.writeLong( length );
+		out.writeInt( checksum );
+		new TreeWriter( statements ).write( out );
+		out.flush();
+	}
+
+	/**
+		Read statements written by write() after the header.
+		@param sourceFileInfo is set as the source of the statements.
+	*/
+	static SimpleNode [] read( InputStream is, String sourceFileInfo )
+		throws IOException
+	{
+		DataInputStream in = new DataInputStream( is );
+		if ( in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION )
+			throw new IOException("Not a .bshc file of version "
+				+ FORMAT_VERSION );
+		in.readLong();
+		in.readInt();
+		return new TreeReader( in ).statements( sourceFileInfo );
+	}
+
+	static int checksum( byte [] text )
+	{
+		CRC32 crc = new CRC32();
+		crc.update( text );
+		return (int)crc.getValue();
+	}
+
+	static byte [] readFully( File file ) throws IOException
+	{
+		byte [] bytes = new byte[ (int)file.length() ];
+		DataInputStream in = new DataInputStream( new FileInputStream( file ) );
+		try {
+			in.readFully( bytes );
+		} finally {
+			in.close();
+		}
+		return bytes;
+	}
+
+	static byte [] readFully( InputStream in ) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte [] buf = new byte[ 8192 ];
+		for ( int n; ( n = in.read( buf ) ) > 0; )
+			out.write( buf, 0, n );
+		return out.toByteArray();
+	}
+
+	private static final class TreeWriter
+	{
+		private final SimpleNode [] statements;
+		private final List<String> strings = new ArrayList<String>();
+		private final Map<String,Integer> stringIndex =
+			new HashMap<String,Integer>();
+		private final List<Token> tokens = new ArrayList<Token>();
+		private final Map<Token,Integer> tokenIndex =
+			new IdentityHashMap<Token,Integer>();
+
+		TreeWriter( SimpleNode [] statements )
+		{
+			this.statements = statements;
+			// the tokens of each statement, then those outside of them
+			for ( int i = 0; i < statements.length; i++ )
+			{
+				SimpleNode node = statements[i];
+				for ( Token t = node.firstToken; t != null; t = t.next )
+				{
+					if ( !tokenIndex.containsKey( t ) ) {
+						tokenIndex.put( t, tokens.size() );
+						tokens.add( t );
+						addString( t.image );
+					}
+					if ( t == node.lastToken )
+						break;
+				}
+			}
+			for ( int i = 0; i < statements.length; i++ )
+				collect( statements[i] );
+		}
+
+		private void collect( SimpleNode node )
+		{
+			addToken( node.firstToken );
+			addToken( node.lastToken );
+			switch ( node.id )
+			{
+				case JJTCLASSDECLARATION:
+					addString( ((BSHClassDeclaration)node).name );
+					addModifiers( ((BSHClassDeclaration)node).modifiers );
+					break;
+				case JJTMETHODDECLARATION:
+					addString( ((BSHMethodDeclaration)node).name );
+					addModifiers( ((BSHMethodDeclaration)node).modifiers );
+					break;
+				case JJTTYPEDVARIABLEDECLARATION:
+					addModifiers(
+						((BSHTypedVariableDeclaration)node).modifiers );
+					break;
+				case JJTVARIABLEDECLARATOR:
+					addString( ((BSHVariableDeclarator)node).name );
+					break;
+				case JJTFORMALPARAMETER:
+					addString( ((BSHFormalParameter)node).name );
+					break;
+				case JJTPRIMITIVETYPE:
+					addString( ((BSHPrimitiveType)node).type.getName() );
+					break;
+				case JJTAMBIGUOUSNAME:
+					addString( ((BSHAmbiguousName)node).text );
+					break;
+				case JJTPRIMARYSUFFIX:
+					addString( ((BSHPrimarySuffix)node).field );
+					break;
+				case JJTLITERAL:
+					Object value = ((BSHLiteral)node).value;
+					if ( value instanceof String )
+						addString( (String)value );
+					break;
+				case JJTLABELEDSTATEMENT:
+					addString( ((BSHLabeledStatement)node).label );
+					break;
+				case JJTFORMALCOMMENT:
+					addString( ((BSHFormalComment)node).text );
+					break;
+				case JJTENHANCEDFORSTATEMENT:
+					addString( ((BSHEnhancedForStatement)node).varName );
+					break;
+				case JJTRETURNSTATEMENT:
+					addString( ((BSHReturnStatement)node).label );
+					break;
+			}
+			for ( int i = 0; i < node.jjtGetNumChildren(); i++ )
+				collect( node.getChild(i) );
+		}
+
+		/**
+			Add the token and the tokens following it up to one which was
+			added before, e.g. a token of a child node which precedes the
+			first token of its statement.
+		*/
+		private void addToken( Token t )
+		{
+			for ( ; t != null && !tokenIndex.containsKey( t ); t = t.next )
+			{
+				tokenIndex.put( t, tokens.size() );
+				tokens.add( t );
+				addString( t.image );
+			}
+		}
+
+		private void addModifiers( Modifiers modifiers )
+		{
+			if ( modifiers != null && modifiers.modifiers != null )
+				for ( Enumeration e = modifiers.modifiers.keys();
+					e.hasMoreElements(); )
+					addString( (String)e.nextElement() );
+		}
+
+		private void addString( String s )
+		{
+			if ( s != null && !stringIndex.containsKey( s ) ) {
+				stringIndex.put( s, strings.size() );
+				strings.add( s );
+			}
+		}
+
+		void write( DataOutputStream out ) throws IOException
+		{
+			writeInt( out, strings.size() );
+			for ( String s : strings ) {
+				writeInt( out, s.length() );
+				for ( int i = 0; i < s.length(); i++ )
+					writeInt( out, s.charAt(i) );
+			}
+
+			writeInt( out, tokens.size() );
+			for ( int i = 0; i < tokens.size(); i++ )
+			{
+				Token t = tokens.get(i);
+				writeInt( out, t.kind );
+				Integer next = t.next == null ? null : tokenIndex.get( t.next );
+				writeInt( out, next == null ? 0 : next.intValue() + 1 );
+				writeString( out, t.image );
+				writeInt( out, t.beginLine );
+				writeInt( out, t.beginColumn );
+				writeInt( out, t.endLine - t.beginLine );
+				writeInt( out, t.endColumn );
+			}
+
+			writeInt( out, statements.length );
+			for ( int i = 0; i < statements.length; i++ )
+				writeNode( out, statements[i] );
+		}
+
+		private void writeNode( DataOutputStream out, SimpleNode node )
+			throws IOException
+		{
+			writeInt( out, node.id );
+			writeToken( out, node.firstToken );
+			writeToken( out, node.lastToken );
+			switch ( node.id )
+			{
+				case JJTCLASSDECLARATION:
+					BSHClassDeclaration cd = (BSHClassDeclaration)node;
+					writeString( out, cd.name );
+					writeModifiers( out, cd.modifiers );
+					writeInt( out, cd.numInterfaces );
+					out.writeBoolean( cd.extend );
+					out.writeBoolean( cd.isInterface );
+					break;
+				case JJTMETHODDECLARATION:
+					BSHMethodDeclaration md = (BSHMethodDeclaration)node;
+					writeString( out, md.name );
+					writeModifiers( out, md.modifiers );
+					writeInt( out, md.numThrows );
+					break;
+				case JJTIMPORTDECLARATION:
+					BSHImportDeclaration imp = (BSHImportDeclaration)node;
+					out.writeBoolean( imp.importPackage );
+					out.writeBoolean( imp.staticImport );
+					out.writeBoolean( imp.superImport );
+					break;
+				case JJTVARIABLEDECLARATOR:
+					writeString( out, ((BSHVariableDeclarator)node).name );
+					break;
+				case JJTFORMALPARAMETER:
+					writeString( out, ((BSHFormalParameter)node).name );
+					break;
+				case JJTTYPE:
+					writeInt( out, ((BSHType)node).getArrayDims() );
+					break;
+				case JJTRETURNTYPE:
+					out.writeBoolean( ((BSHReturnType)node).isVoid );
+					break;
+				case JJTPRIMITIVETYPE:
+					writeString( out, ((BSHPrimitiveType)node).type.getName() );
+					break;
+				case JJTAMBIGUOUSNAME:
+					writeString( out, ((BSHAmbiguousName)node).text );
+					break;
+				case JJTASSIGNMENT:
+					writeInt( out, ((BSHAssignment)node).operator );
+					break;
+				case JJTBINARYEXPRESSION:
+					writeInt( out, ((BSHBinaryExpression)node).kind );
+					break;
+				case JJTUNARYEXPRESSION:
+					BSHUnaryExpression ue = (BSHUnaryExpression)node;
+					writeInt( out, ue.kind );
+					out.writeBoolean( ue.postfix );
+					break;
+				case JJTPRIMARYSUFFIX:
+					BSHPrimarySuffix ps = (BSHPrimarySuffix)node;
+					writeInt( out, ps.operation );
+					writeString( out, ps.field );
+					break;
+				case JJTLITERAL:
+					writeLiteral( out, ((BSHLiteral)node).value );
+					break;
+				case JJTARRAYDIMENSIONS:
+					BSHArrayDimensions ad = (BSHArrayDimensions)node;
+					writeInt( out, ad.numDefinedDims );
+					writeInt( out, ad.numUndefinedDims );
+					break;
+				case JJTLABELEDSTATEMENT:
+					writeString( out, ((BSHLabeledStatement)node).label );
+					break;
+				case JJTBLOCK:
+					out.writeBoolean( ((BSHBlock)node).isSynchronized );
+					break;
+				case JJTFORMALCOMMENT:
+					writeString( out, ((BSHFormalComment)node).text );
+					break;
+				case JJTSWITCHLABEL:
+					out.writeBoolean( ((BSHSwitchLabel)node).isDefault );
+					break;
+				case JJTWHILESTATEMENT:
+					out.writeBoolean( ((BSHWhileStatement)node).isDoStatement );
+					break;
+				case JJTFORSTATEMENT:
+					BSHForStatement fs = (BSHForStatement)node;
+					out.writeBoolean( fs.hasForInit );
+					out.writeBoolean( fs.hasExpression );
+					out.writeBoolean( fs.hasForUpdate );
+					break;
+				case JJTENHANCEDFORSTATEMENT:
+					writeString( out, ((BSHEnhancedForStatement)node).varName );
+					break;
+				case JJTTYPEDVARIABLEDECLARATION:
+					writeModifiers( out,
+						((BSHTypedVariableDeclaration)node).modifiers );
+					break;
+				case JJTRETURNSTATEMENT:
+					BSHReturnStatement rs = (BSHReturnStatement)node;
+					writeInt( out, rs.kind );
+					writeString( out, rs.label );
+					break;
+			}
+			writeInt( out, node.jjtGetNumChildren() );
+			for ( int i = 0; i < node.jjtGetNumChildren(); i++ )
+				writeNode( out, node.getChild(i) );
+		}
+
+		private void writeLiteral( DataOutputStream out, Object value )
+			throws IOException
+		{
+			if ( value == Primitive.NULL )
+				writeInt( out, NULL );
+			else if ( value == Primitive.VOID )
+				writeInt( out, VOID );
+			else if ( value instanceof String ) {
+				writeInt( out, STRING );
+				writeString( out, (String)value );
+			} else {
+				Object v = ((Primitive)value).getValue();
+				if ( v instanceof Boolean ) {
+					writeInt( out, BOOLEAN );
+					out.writeBoolean( ((Boolean)v).booleanValue() );
+				} else if ( v instanceof Character ) {
+					writeInt( out, CHAR );
+					out.writeChar( ((Character)v).charValue() );
+				} else if ( v instanceof Integer ) {
+					writeInt( out, INT );
+					out.writeInt( ((Integer)v).intValue() );
+				} else if ( v instanceof Long ) {
+					writeInt( out, LONG );
+					out.writeLong( ((Long)v).longValue() );
+				} else if ( v instanceof Float ) {
+					writeInt( out, FLOAT );
+					out.writeFloat( ((Float)v).floatValue() );
+				} else if ( v instanceof Double ) {
+					writeInt( out, DOUBLE );
+					out.writeDouble( ((Double)v).doubleValue() );
+				} else
+					throw new InterpreterError("Unexpected literal: "+value);
+			}
+		}
+
+		private void writeModifiers( DataOutputStream out, Modifiers modifiers )
+			throws IOException
+		{
+			if ( modifiers == null ) {
+				writeInt( out, 0 );
+				return;
+			}
+			int count = modifiers.modifiers == null ? 0
+				: modifiers.modifiers.size();
+			writeInt( out, count + 1 );
+			if ( count > 0 )
+				for ( Enumeration e = modifiers.modifiers.keys();
+					e.hasMoreElements(); )
+					writeString( out, (String)e.nextElement() );
+		}
+
+		private void writeToken( DataOutputStream out, Token t )
+			throws IOException
+		{
+			writeInt( out, t == null ? 0 : tokenIndex.get( t ) + 1 );
+		}
+
+		private void writeString( DataOutputStream out, String s )
+			throws IOException
+		{
+			writeInt( out, s == null ? 0 : stringIndex.get( s ) + 1 );
+		}
+
+		private static void writeInt( DataOutputStream out, int i )
+			throws IOException
+		{
+			while ( ( i & ~0x7F ) != 0 ) {
+				out.writeByte( ( i & 0x7F ) | 0x80 );
+				i >>>= 7;
+			}
+			out.writeByte( i );
+		}
+	}
+
+	private static final class TreeReader
+	{
+		private final DataInputStream in;
+		private String [] strings;
+		private Token [] tokens;
+
+		TreeReader( DataInputStream in ) {
+			this.in = in;
+		}
+
+		SimpleNode [] statements( String sourceFileInfo ) throws IOException
+		{
+			strings = new String[ readInt() ];
+			char [] chars = new char[ 64 ];
+			for ( int i = 0; i < strings.length; i++ )
+			{
+				int length = readInt();
+				if ( length > chars.length )
+					chars = new char[ length ];
+				for ( int j = 0; j < length; j++ )
+					chars[j] = (char)readInt();
+				strings[i] = new String( chars, 0, length );
+			}
+
+			tokens = new Token[ readInt() ];
+			int [] next = new int[ tokens.length ];
+			for ( int i = 0; i < tokens.length; i++ )
+			{
+				Token t = new Token();
+				t.kind = readInt();
+				next[i] = readInt();
+				t.image = readString();
+				t.beginLine = readInt();
+				t.beginColumn = readInt();
+				t.endLine = t.beginLine + readInt();
+				t.endColumn = readInt();
+				tokens[i] = t;
+			}
+			for ( int i = 0; i < tokens.length; i++ )
+				if ( next[i] != 0 )
+					tokens[i].next = tokens[ next[i] - 1 ];
+
+			SimpleNode [] statements = new SimpleNode[ readInt() ];
+			for ( int i = 0; i < statements.length; i++ ) {
+				statements[i] = readNode();
+				statements[i].setSourceFile( sourceFileInfo );
+			}
+			return statements;
+		}
+
+		private SimpleNode readNode() throws IOException
+		{
+			int id = readInt();
+			SimpleNode node = newNode( id );
+			node.firstToken = readToken();
+			node.lastToken = readToken();
+			switch ( id )
+			{
+				case JJTCLASSDECLARATION:
+					BSHClassDeclaration cd = (BSHClassDeclaration)node;
+					cd.name = readString();
+					cd.modifiers = readModifiers();
+					cd.numInterfaces = readInt();
+					cd.extend = in.readBoolean();
+					cd.isInterface = in.readBoolean();
+					break;
+				case JJTMETHODDECLARATION:
+					BSHMethodDeclaration md = (BSHMethodDeclaration)node;
+					md.name = readString();
+					md.modifiers = readModifiers();
+					md.numThrows = readInt();
+					break;
+				case JJTIMPORTDECLARATION:
+					BSHImportDeclaration imp = (BSHImportDeclaration)node;
+					imp.importPackage = in.readBoolean();
+					imp.staticImport = in.readBoolean();
+					imp.superImport = in.readBoolean();
+					break;
+				case JJTVARIABLEDECLARATOR:
+					((BSHVariableDeclarator)node).name = readString();
+					break;
+				case JJTFORMALPARAMETER:
+					((BSHFormalParameter)node).name = readString();
+					break;
+				case JJTTYPE:
+					for ( int i = readInt(); i > 0; i-- )
+						((BSHType)node).addArrayDimension();
+					break;
+				case JJTRETURNTYPE:
+					((BSHReturnType)node).isVoid = in.readBoolean();
+					break;
+				case JJTPRIMITIVETYPE:
+					((BSHPrimitiveType)node).type =
+						primitiveType( readString() );
+					break;
+				case JJTAMBIGUOUSNAME:
+					((BSHAmbiguousName)node).text = readString();
+					break;
+				case JJTASSIGNMENT:
+					((BSHAssignment)node).operator = readInt();
+					break;
+				case JJTBINARYEXPRESSION:
+					((BSHBinaryExpression)node).kind = readInt();
+					break;
+				case JJTUNARYEXPRESSION:
+					BSHUnaryExpression ue = (BSHUnaryExpression)node;
+					ue.kind = readInt();
+					ue.postfix = in.readBoolean();
+					break;
+				case JJTPRIMARYSUFFIX:
+					BSHPrimarySuffix ps = (BSHPrimarySuffix)node;
+					ps.operation = readInt();
+					ps.field = readString();
+					break;
+				case JJTLITERAL:
+					((BSHLiteral)node).value = readLiteral();
+					break;
+				case JJTARRAYDIMENSIONS:
+					BSHArrayDimensions ad = (BSHArrayDimensions)node;
+					ad.numDefinedDims = readInt();
+					ad.numUndefinedDims = readInt();
+					break;
+				case JJTLABELEDSTATEMENT:
+					((BSHLabeledStatement)node).label = readString();
+					break;
+				case JJTBLOCK:
+					((BSHBlock)node).isSynchronized = in.readBoolean();
+					break;
+				case JJTFORMALCOMMENT:
+					((BSHFormalComment)node).text = readString();
+					break;
+				case JJTSWITCHLABEL:
+					((BSHSwitchLabel)node).isDefault = in.readBoolean();
+					break;
+				case JJTWHILESTATEMENT:
+					((BSHWhileStatement)node).isDoStatement = in.readBoolean();
+					break;
+				case JJTFORSTATEMENT:
+					BSHForStatement fs = (BSHForStatement)node;
+					fs.hasForInit = in.readBoolean();
+					fs.hasExpression = in.readBoolean();
+					fs.hasForUpdate = in.readBoolean();
+					break;
+				case JJTENHANCEDFORSTATEMENT:
+					((BSHEnhancedForStatement)node).varName = readString();
+					break;
+				case JJTTYPEDVARIABLEDECLARATION:
+					((BSHTypedVariableDeclaration)node).modifiers =
+						readModifiers();
+					break;
+				case JJTRETURNSTATEMENT:
+					BSHReturnStatement rs = (BSHReturnStatement)node;
+					rs.kind = readInt();
+					rs.label = readString();
+					break;
+			}
+			int numChildren = readInt();
+			for ( int i = 0; i < numChildren; i++ )
+			{
+				SimpleNode child = readNode();
+				child.jjtSetParent( node );
+				node.jjtAddChild( child, i );
+			}
+			return node;
+		}
+
+		private Object readLiteral() throws IOException
+		{
+			switch ( readInt() )
+			{
+				case NULL: return Primitive.NULL;
+				case VOID: return Primitive.VOID;
+				case BOOLEAN: return new Primitive( in.readBoolean() );
+				case CHAR: return new Primitive( in.readChar() );
+				case INT: return new Primitive( in.readInt() );
+				case LONG: return new Primitive( in.readLong() );
+				case FLOAT: return new Primitive( in.readFloat() );
+				case DOUBLE: return new Primitive( in.readDouble() );
+				case STRING:
+					String s = readString();
+					return BSHLiteral.internStrings ? s.intern() : s;
+				default: throw new IOException("Bad literal");
+			}
+		}
+
+		private Modifiers readModifiers() throws IOException
+		{
+			int count = readInt();
+			if ( count == 0 )
+				return null;
+			Modifiers modifiers = new Modifiers();
+			if ( --count > 0 )
+			{
+				modifiers.modifiers = new java.util.Hashtable();
+				for ( int i = 0; i < count; i++ )
+					modifiers.modifiers.put( readString(), Void.TYPE );
+			}
+			return modifiers;
+		}
+
+		private Token readToken() throws IOException
+		{
+			int i = readInt();
+			return i == 0 ? null : tokens[ i - 1 ];
+		}
+
+		private String readString() throws IOException
+		{
+			int i = readInt();
+			return i == 0 ? null : strings[ i - 1 ];
+		}
+
+		private int readInt() throws IOException
+		{
+			int i = 0;
+			for ( int shift = 0; ; shift += 7 ) {
+				int b = in.readByte();
+				i |= ( b & 0x7F ) << shift;
+				if ( ( b & 0x80 ) == 0 )
+					return i;
+			}
+		}
+	}
+
+	private static Class primitiveType( String name ) throws IOException
+	{
+		Class [] types = { Boolean.TYPE, Character.TYPE, Byte.TYPE,
+			Short.TYPE, Integer.TYPE, Long.TYPE, Float.TYPE, Double.TYPE };
+		for ( int i = 0; i < types.length; i++ )
+			if ( types[i].getName().equals( name ) )
+				return types[i];
+		throw new IOException("Bad primitive type: "+name);
+	}
+
+	private static SimpleNode newNode( int id ) throws IOException
+	{
+		if ( id <= 0 || id >= nodeConstructors.length )
+			throw new IOException("Bad node id: "+id);
+		try {
+			Constructor con = nodeConstructors[ id ];
+			if ( con == null )
+			{
+				con = Class.forName( "bsh.BSH" + jjtNodeName[ id ] )
+					.getDeclaredConstructor( Integer.TYPE );
+				con.setAccessible( true );
+				nodeConstructors[ id ] = con;
+			}
+			return (SimpleNode)con.newInstance( new Object [] { id } );
+		} catch ( Exception e ) {
+			throw new IOException("Unable to create node: "
+				+ jjtNodeName[ id ] + ": " + e );
+		}
+	}
+}
@@ -36,6 +36,7 @@ package bsh;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
 	New object, new array, or inner class style allocation with body.
@@ -43,7 +44,7 @@ import java.lang.reflect.InvocationTargetException;
 class BSHAllocationExpression extends SimpleNode
 {
     BSHAllocationExpression(int id) { super(id); }
-	private static int innerClassCount = 0;
+	private static final AtomicInteger innerClassCount = new AtomicInteger();
 	
     public Object eval( CallStack callstack, Interpreter interpreter) 
 		throws EvalError
@@ -122,7 +123,8 @@ class BSHAllocationExpression extends SimpleNode
 		}
 		Object obj;
         try {
-            obj = Reflect.constructObject( type, args );
+            obj = Reflect.constructObject(
+				interpreter.getClassManager(), type, args );
         } catch ( ReflectError e) {
             throw new EvalError(
 				"Constructor error: " + e.getMessage(), this, callstack );
@@ -171,7 +173,7 @@ class BSHAllocationExpression extends SimpleNode
 		CallStack callstack, Interpreter interpreter ) 
 		throws EvalError
 	{
-		String name = callstack.top().getName() + "$" + (++innerClassCount);
+		String name = callstack.top().getName() + "$" + innerClassCount.incrementAndGet();
 		Modifiers modifiers = new Modifiers();
 		modifiers.addModifier( Modifiers.CLASS, "public" );
 		Class clas = ClassGenerator.getClassGenerator() .generateClass( 
@@ -236,15 +238,15 @@ class BSHAllocationExpression extends SimpleNode
 		throws EvalError
 	{
 		/*
-			dimensionsNode can return either a fully intialized array or VOID.
-			when VOID the prescribed array dimensions (defined and undefined)
-			are contained in the node.
+			dimensionsNode either holds an array initializer or prescribes
+			the array dimensions (defined and undefined).
 		*/
-        Object result = dimensionsNode.eval( type, callstack, interpreter );
-        if ( result != Primitive.VOID )
-            return result;
+        if ( dimensionsNode.hasInitializer() )
+            return dimensionsNode.eval( type, callstack, interpreter );
 		else
-			return arrayNewInstance( type, dimensionsNode, callstack );
+			return arrayNewInstance( type, dimensionsNode, 
+				dimensionsNode.evalDimensions( callstack, interpreter ),
+				callstack );
 	}
 
 	/**
@@ -278,7 +280,8 @@ class BSHAllocationExpression extends SimpleNode
 		see below.
 	*/
 	private Object arrayNewInstance( 
-		Class type, BSHArrayDimensions dimensionsNode, CallStack callstack )
+		Class type, BSHArrayDimensions dimensionsNode, 
+		int [] definedDimensions, CallStack callstack )
 		throws EvalError
 	{
 		if ( dimensionsNode.numUndefinedDims > 0 )
@@ -290,7 +293,7 @@ class BSHAllocationExpression extends SimpleNode
 
         try {
             return Array.newInstance( 
-				type, dimensionsNode.definedDimensions);
+				type, definedDimensions);
         } catch( NegativeArraySizeException e1 ) {
 			throw new TargetError( e1, this, callstack );
         } catch( Exception e ) {
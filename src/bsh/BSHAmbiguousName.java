@@ -37,6 +37,8 @@ package bsh;
 class BSHAmbiguousName extends SimpleNode
 {
     public String text;
+	/** The frame slot of a method local, set by FrameLayout */
+	FrameLayout.Slot slot;
 
     BSHAmbiguousName(int id) { super(id); }
 	
@@ -56,6 +58,16 @@ class BSHAmbiguousName extends SimpleNode
 		throws EvalError
     {
 		try {
+			if ( slot != null && !forceClass )
+			{
+				Variable var = callstack.top().getFrameVariable( 
+					slot, text, false );
+				if ( var != null ) {
+					Object value = var.getValue();
+					if ( value != Primitive.VOID )
+						return value;
+				}
+			}
         	return 
 				getName( callstack.top() ).toObject( 
 					callstack, interpreter, forceClass );
@@ -81,6 +93,13 @@ class BSHAmbiguousName extends SimpleNode
 		throws EvalError
     {
 		try {
+			if ( slot != null )
+			{
+				NameSpace namespace = callstack.top();
+				Variable var = namespace.getFrameVariable( slot, text, true );
+				if ( var != null )
+					return new LHS( namespace, text, var );
+			}
 			return getName( callstack.top() ).toLHS( callstack, interpreter );
 		} catch ( UtilEvalError e ) {
 			throw e.toEvalError( this, callstack );
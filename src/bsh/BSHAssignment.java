@@ -147,6 +147,15 @@ class BSHAssignment extends SimpleNode implements ParserConstants
     private Object operation( Object lhs, Object rhs, int kind ) 
 		throws UtilEvalError
     {
+		// Fast path for int, long, double and boolean values, without boxing
+		if ( lhs instanceof Primitive && rhs instanceof Primitive )
+		{
+			Primitive result = Primitive.rawBinaryOperation( 
+				(Primitive)lhs, (Primitive)rhs, kind );
+			if ( result != null )
+				return result;
+		}
+
 		/*
 			Implement String += value;
 			According to the JLS, value may be anything.
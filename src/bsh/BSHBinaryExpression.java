@@ -58,7 +58,7 @@ class BSHBinaryExpression extends SimpleNode
         {
 			// null object ref is not instance of any type
 			if ( lhs == Primitive.NULL )
-				return new Primitive(false);
+				return Primitive.FALSE;
 
             Class rhs = ((BSHType)jjtGetChild(1)).getType( 
 				callstack, interpreter );
@@ -75,13 +75,13 @@ class BSHBinaryExpression extends SimpleNode
 			*/
 			if ( lhs instanceof Primitive )
 				if ( rhs == bsh.Primitive.class )
-					return new Primitive(true);
+					return Primitive.TRUE;
 				else
-					return new Primitive(false);
+					return Primitive.FALSE;
 
 			// General case - performe the instanceof based on assignability
             boolean ret = Types.isJavaBaseAssignable( rhs, lhs.getClass() );
-            return new Primitive(ret);
+            return Primitive.valueOf(ret);
         }
 
 
@@ -98,7 +98,7 @@ class BSHBinaryExpression extends SimpleNode
 				obj = ((Primitive)lhs).getValue();
 			if ( obj instanceof Boolean && 
 				( ((Boolean)obj).booleanValue() == false ) )
-				return new Primitive(false);
+				return Primitive.FALSE;
 		}
 		/*
 			Look ahead and short circuit evaluation of the rhs if:
@@ -110,7 +110,7 @@ class BSHBinaryExpression extends SimpleNode
 				obj = ((Primitive)lhs).getValue();
 			if ( obj instanceof Boolean && 
 				( ((Boolean)obj).booleanValue() == true ) )
-				return new Primitive(true);
+				return Primitive.TRUE;
 		}
 
 		// end stuff that was tacked on for boolean short-circuiting.
@@ -119,8 +119,20 @@ class BSHBinaryExpression extends SimpleNode
 			Are both the lhs and rhs either wrappers or primitive values?
 			do binary op
 		*/
-		boolean isLhsWrapper = isWrapper( lhs );
         Object rhs = ((SimpleNode)jjtGetChild(1)).eval(callstack, interpreter);
+
+		// Fast path for int, long, double and boolean values, without boxing
+		if ( lhs instanceof Primitive && rhs instanceof Primitive )
+			try {
+				Primitive result = Primitive.rawBinaryOperation( 
+					(Primitive)lhs, (Primitive)rhs, kind );
+				if ( result != null )
+					return result;
+			} catch ( UtilEvalError e ) {
+				throw e.toEvalError( this, callstack  );
+			}
+
+		boolean isLhsWrapper = isWrapper( lhs );
 		boolean isRhsWrapper = isWrapper( rhs );
 		if ( 
 			( isLhsWrapper || isPrimitiveValue( lhs ) )
@@ -179,19 +191,16 @@ class BSHBinaryExpression extends SimpleNode
 			(including NULL and VOID represented by their Primitive types)
 		*/
 		//System.out.println("binary op arbitrary obj: {"+lhs+"}, {"+rhs+"}");
+        if(kind == PLUS && (lhs instanceof String || rhs instanceof String))
+            return lhs.toString() + rhs.toString();
+
         switch(kind)
         {
             case EQ:
-                return new Primitive((lhs == rhs));
+                return Primitive.valueOf(lhs == rhs);
 
             case NE:
-                return new Primitive((lhs != rhs));
-
-            case PLUS:
-                if(lhs instanceof String || rhs instanceof String)
-                    return lhs.toString() + rhs.toString();
-
-            // FALL THROUGH TO DEFAULT CASE!!!
+                return Primitive.valueOf(lhs != rhs);
 
             default:
                 if(lhs instanceof Primitive || rhs instanceof Primitive)
@@ -37,6 +37,10 @@ package bsh;
 class BSHBlock extends SimpleNode
 {
 	public boolean isSynchronized = false;
+	/** Set by FrameLayout when the block is part of a method body */
+	FrameLayout frameLayout;
+	/** Computed on the first evaluation, @see BlockNameSpace#isRequired */
+	private Boolean nameSpaceRequired;
 
 	BSHBlock(int id) { super(id); }
 
@@ -90,11 +94,16 @@ class BSHBlock extends SimpleNode
 	{	
 		Object ret = Primitive.VOID;
 		NameSpace enclosingNameSpace = null;
+		// a block which declares nothing is evaluated in the enclosing
+		// namespace
+		if ( !overrideNamespace && !isNameSpaceRequired() )
+			overrideNamespace = true;
 		if ( !overrideNamespace ) 
 		{
 			enclosingNameSpace= callstack.top();
 			BlockNameSpace bodyNameSpace = 
 				new BlockNameSpace( enclosingNameSpace );
+			bodyNameSpace.setFrame( frameLayout );
 
 			callstack.swap( bodyNameSpace );
 		}
@@ -141,6 +150,15 @@ class BSHBlock extends SimpleNode
 		return ret;
 	}
 
+	boolean isNameSpaceRequired()
+	{
+		Boolean required = nameSpaceRequired;
+		if ( required == null )
+			nameSpaceRequired = required =
+				Boolean.valueOf( BlockNameSpace.isRequired( this ) );
+		return required.booleanValue();
+	}
+
 	public interface NodeFilter {
 		public boolean isVisible( SimpleNode node );
 	}
@@ -33,6 +33,8 @@
 
 package bsh;
 
+import java.lang.ref.WeakReference;
+
 /**
 */
 class BSHClassDeclaration extends SimpleNode
@@ -52,15 +54,24 @@ class BSHClassDeclaration extends SimpleNode
 	int numInterfaces;
 	boolean extend;
 	boolean isInterface;
-	private Class<?> generatedClass;
+	/**
+		The class generated by the last evaluation and the class manager it
+		was generated for.  Parsed statements may be shared by interpreters,
+		which each declare the class for themselves.  Neither is serialized:
+		a deserialized declaration generates its class again when evaluated.
+	*/
+	private transient Class<?> generatedClass;
+	private transient WeakReference<BshClassManager> generatedFor;
 
 	BSHClassDeclaration(int id) { super(id); }
 
 	/**
 	*/
 	public synchronized Object eval(final CallStack callstack, final Interpreter interpreter ) throws EvalError {
-		if (generatedClass == null) {
+		final BshClassManager bcm = interpreter.getClassManager();
+		if (generatedClass == null || generatedFor.get() != bcm) {
 			generatedClass = generateClass(callstack, interpreter);
+			generatedFor = new WeakReference<BshClassManager>(bcm);
 		}
 		return generatedClass;
 	}
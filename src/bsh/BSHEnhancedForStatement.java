@@ -14,6 +14,10 @@ import java.util.*;
 class BSHEnhancedForStatement extends SimpleNode implements ParserConstants 
 {
 	String varName;
+	/** Set by FrameLayout when the loop is part of a method body */
+	FrameLayout frameLayout;
+	/** Computed on the first evaluation, @see BlockNameSpace#isRequired */
+	private Boolean nameSpaceRequired;
 
     BSHEnhancedForStatement(int id) { super(id); }
 
@@ -40,7 +44,14 @@ class BSHEnhancedForStatement extends SimpleNode implements ParserConstants
 				statement=((SimpleNode)jjtGetChild(1));
 		}
 
-		BlockNameSpace eachNameSpace = new BlockNameSpace( enclosingNameSpace );
+		// an untyped loop variable is assigned in the enclosing namespace
+		// anyway, so a loop which declares nothing runs there directly
+		NameSpace eachNameSpace = enclosingNameSpace;
+		if ( isNameSpaceRequired() )
+		{
+			eachNameSpace = new BlockNameSpace( enclosingNameSpace );
+			eachNameSpace.setFrame( frameLayout );
+		}
 		callstack.swap( eachNameSpace );
 
 		final Object iteratee = expression.eval( callstack, interpreter );
@@ -81,20 +92,17 @@ class BSHEnhancedForStatement extends SimpleNode implements ParserConstants
 
                 if (ret instanceof ReturnControl)
                 {
-                    switch(((ReturnControl)ret).kind)
-                    {
-                        case RETURN:
-							returnControl = ret;
-							breakout = true;
-                            break;
-
-                        case CONTINUE:
-                            break;
-
-                        case BREAK:
-                            breakout = true;
-                            break;
-                    }
+					ReturnControl control = (ReturnControl)ret;
+					// a return, or a break or continue of an enclosing 
+					// labeled statement, leaves the loop
+					if ( control.kind == RETURN 
+						|| !control.isTargetOf( this ) )
+					{
+						returnControl = ret;
+						breakout = true;
+					} else
+					if ( control.kind == BREAK )
+						breakout = true;
                 }
             }
 
@@ -105,4 +113,14 @@ class BSHEnhancedForStatement extends SimpleNode implements ParserConstants
 		callstack.swap(enclosingNameSpace);
         return returnControl;
     }
+
+	boolean isNameSpaceRequired()
+	{
+		Boolean required = nameSpaceRequired;
+		if ( required == null )
+			nameSpaceRequired = required = Boolean.valueOf( 
+				jjtGetChild( 0 ) instanceof BSHType
+				|| BlockNameSpace.isRequired( this ) );
+		return required.booleanValue();
+	}
 }
@@ -43,18 +43,18 @@ class BSHForStatement extends SimpleNode implements ParserConstants
     public boolean hasExpression;
     public boolean hasForUpdate;
 
-    private SimpleNode forInit;
-    private SimpleNode expression;
-    private SimpleNode forUpdate;
-    private SimpleNode statement;
-
-    private boolean parsed;
+	/** Set by FrameLayout when the loop is part of a method body */
+	FrameLayout frameLayout;
+	/** Computed on the first evaluation, @see BlockNameSpace#isRequired */
+	private Boolean nameSpaceRequired;
 
     BSHForStatement(int id) { super(id); }
 
     public Object eval(CallStack callstack , Interpreter interpreter)  
 		throws EvalError
     {
+		SimpleNode forInit = null, expression = null, forUpdate = null, 
+			statement = null;
         int i = 0;
         if(hasForInit)
             forInit = ((SimpleNode)jjtGetChild(i++));
@@ -66,7 +66,13 @@ class BSHForStatement extends SimpleNode implements ParserConstants
             statement = ((SimpleNode)jjtGetChild(i));
 
 		NameSpace enclosingNameSpace= callstack.top();
-		BlockNameSpace forNameSpace = new BlockNameSpace( enclosingNameSpace );
+		NameSpace forNameSpace = enclosingNameSpace;
+		// a loop which declares no variables runs in the enclosing namespace
+		if ( isNameSpaceRequired() )
+		{
+			forNameSpace = new BlockNameSpace( enclosingNameSpace );
+			forNameSpace.setFrame( frameLayout );
+		}
 
 		/*
 			Note: some interesting things are going on here.
@@ -112,20 +118,17 @@ class BSHForStatement extends SimpleNode implements ParserConstants
 
                 if (ret instanceof ReturnControl)
                 {
-                    switch(((ReturnControl)ret).kind)
-                    {
-                        case RETURN:
-							returnControl = ret;
-							breakout = true;
-                            break;
-
-                        case CONTINUE:
-                            break;
-
-                        case BREAK:
-                            breakout = true;
-                            break;
-                    }
+					ReturnControl control = (ReturnControl)ret;
+					// a return, or a break or continue of an enclosing 
+					// labeled statement, leaves the loop
+					if ( control.kind == RETURN 
+						|| !control.isTargetOf( this ) )
+					{
+						returnControl = ret;
+						breakout = true;
+					} else
+					if ( control.kind == BREAK )
+						breakout = true;
                 }
             }
 
@@ -140,4 +143,13 @@ class BSHForStatement extends SimpleNode implements ParserConstants
         return returnControl;
     }
 
+	boolean isNameSpaceRequired()
+	{
+		Boolean required = nameSpaceRequired;
+		if ( required == null )
+			nameSpaceRequired = required =
+				Boolean.valueOf( BlockNameSpace.isRequired( this ) );
+		return required.booleanValue();
+	}
+
 }
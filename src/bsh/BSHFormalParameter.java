@@ -41,8 +41,6 @@ class BSHFormalParameter extends SimpleNode
 {
 	public static final Class UNTYPED = null;
 	public String name;
-	// unsafe caching of type here
-	public Class type;
 
 	BSHFormalParameter(int id) { super(id); }
 
@@ -58,17 +56,15 @@ class BSHFormalParameter extends SimpleNode
 	}
 
 	/**
-		Evaluate the type.
+		Evaluate the type, UNTYPED for loose variable declaration.
 	*/
 	public Object eval( CallStack callstack, Interpreter interpreter) 
 		throws EvalError
 	{
 		if ( jjtGetNumChildren() > 0 )
-			type = ((BSHType)jjtGetChild(0)).getType( callstack, interpreter );
+			return ((BSHType)jjtGetChild(0)).getType( callstack, interpreter );
 		else
-			type = UNTYPED;
-
-		return type;
+			return UNTYPED;
 	}
 }
 
@@ -35,14 +35,8 @@ package bsh;
 
 class BSHFormalParameters extends SimpleNode
 {
-	private String [] paramNames;
-	/**
-		For loose type parameters the paramTypes are null.
-	*/
-	// unsafe caching of types
-	Class [] paramTypes;
+	private volatile String [] paramNames;
 	int numArgs;
-	String [] typeDescriptors;
 
 	BSHFormalParameters(int id) { super(id); }
 
@@ -71,9 +65,6 @@ class BSHFormalParameters extends SimpleNode
 	public String [] getTypeDescriptors( 
 		CallStack callstack, Interpreter interpreter, String defaultPackage )
 	{
-		if ( typeDescriptors != null )
-			return typeDescriptors;
-
 		insureParsed();
 		String [] typeDesc = new String[numArgs];
 
@@ -84,20 +75,16 @@ class BSHFormalParameters extends SimpleNode
 				callstack, interpreter, defaultPackage );
 		}
 
-		this.typeDescriptors = typeDesc;
 		return typeDesc;
 	}
 
 	/**
-		Evaluate the types.  
-		Note that type resolution does not require the interpreter instance.
+		Evaluate the types.  For loose type parameters the types are null.
+		The types are not cached, they depend on the namespace evaluated in.
 	*/
 	public Object eval( CallStack callstack, Interpreter interpreter )  
 		throws EvalError
 	{
-		if ( paramTypes != null )
-			return paramTypes;
-
 		insureParsed();
 		Class [] paramTypes = new Class[numArgs];
 
@@ -107,8 +94,6 @@ class BSHFormalParameters extends SimpleNode
 			paramTypes[i] = (Class)param.eval( callstack, interpreter );
 		}
 
-		this.paramTypes = paramTypes;
-
 		return paramTypes;
 	}
 }
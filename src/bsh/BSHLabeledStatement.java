@@ -0,0 +1,43 @@
+package bsh;
+
+/**
+	A statement with a label, the target of a labeled break or, when the
+	statement is a loop, of a labeled continue.  Loops find their labels with
+	hasLabel() and handle labeled break and continue themselves, any other
+	statement is left by a break with its label.
+*/
+class BSHLabeledStatement extends SimpleNode implements ParserConstants
+{
+	public String label;
+
+	BSHLabeledStatement(int id) { super(id); }
+
+	public Object eval( CallStack callstack, Interpreter interpreter )
+		throws EvalError
+	{
+		Object ret = ((SimpleNode)jjtGetChild(0)).eval( callstack, interpreter );
+		if ( ret instanceof ReturnControl )
+		{
+			ReturnControl control = (ReturnControl)ret;
+			if ( control.kind == BREAK && label.equals( control.label ) )
+				return Primitive.VOID;
+		}
+		return ret;
+	}
+
+	/**
+		@return true if the statement is labeled with the label, possibly
+			as one of several labels (e.g. a: b: while (...)).
+	*/
+	static boolean hasLabel( SimpleNode statement, String label )
+	{
+		Node parent = statement.jjtGetParent();
+		while ( parent instanceof BSHLabeledStatement )
+		{
+			if ( label.equals( ((BSHLabeledStatement)parent).label ) )
+				return true;
+			parent = parent.jjtGetParent();
+		}
+		return false;
+	}
+}
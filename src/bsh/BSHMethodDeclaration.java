@@ -49,10 +49,12 @@ class BSHMethodDeclaration extends SimpleNode
 
 	public Modifiers modifiers;
 
-	// Unsafe caching of type here.
-	Class returnType;  // null (none), Void.TYPE, or a Class
 	int numThrows = 0;
 
+	/** The local variable layout of the method body, see getFrameLayout() */
+	FrameLayout frameLayout;
+	private boolean frameLayoutResolved;
+
 	BSHMethodDeclaration(int id) { super(id); }
 
 	/**
@@ -106,6 +108,21 @@ class BSHMethodDeclaration extends SimpleNode
 				callstack, interpreter, defaultPackage );
 	}
 
+	/**
+		Get the frame layout of the method, resolving the names in the
+		method body on first use.
+		@return the layout or null if the method declares no locals
+	*/
+	synchronized FrameLayout getFrameLayout() 
+	{
+		if ( !frameLayoutResolved )
+		{
+			frameLayout = FrameLayout.resolve( this );
+			frameLayoutResolved = true;
+		}
+		return frameLayout;
+	}
+
 	BSHReturnType getReturnTypeNode() {
 		insureNodesParsed();
 		return returnTypeNode;
@@ -118,9 +135,6 @@ class BSHMethodDeclaration extends SimpleNode
 	public Object eval( CallStack callstack, Interpreter interpreter )
 		throws EvalError
 	{
-		returnType = evalReturnType( callstack, interpreter );
-		evalNodes( callstack, interpreter );
-
 		// Install an *instance* of this method in the namespace.
 		// See notes in BshMethod 
 
@@ -130,7 +144,7 @@ class BSHMethodDeclaration extends SimpleNode
 // look into this
 
 		NameSpace namespace = callstack.top();
-		BshMethod bshMethod = new BshMethod( this, namespace, modifiers );
+		BshMethod bshMethod = evalMethod( callstack, interpreter, namespace );
 		try {
 			namespace.setMethod( bshMethod );
 		} catch ( UtilEvalError e ) {
@@ -140,7 +154,32 @@ class BSHMethodDeclaration extends SimpleNode
 		return Primitive.VOID;
 	}
 
-	private void evalNodes( CallStack callstack, Interpreter interpreter ) 
+	/**
+		Evaluate the declaration into a method of the namespace, without
+		installing it there.
+		@param declaringNameSpace may be null for a method which is copied
+			into the namespaces it is declared in, see InstanceInitializer.
+	*/
+	BshMethod evalMethod( CallStack callstack, Interpreter interpreter,
+		NameSpace declaringNameSpace )
+		throws EvalError
+	{
+		// null (none), Void.TYPE, or a Class
+		Class returnType = evalReturnType( callstack, interpreter );
+		Class [] paramTypes = evalNodes( returnType, callstack, interpreter );
+
+		return new BshMethod( 
+			this, returnType, paramTypes, declaringNameSpace, modifiers );
+	}
+
+	/**
+		Validate the declaration and evaluate the parameter types.  The
+		types are returned rather than kept in the node, the declaration may
+		be evaluated concurrently and by interpreters with different class
+		managers.
+	*/
+	private Class [] evalNodes( 
+		Class returnType, CallStack callstack, Interpreter interpreter ) 
 		throws EvalError
 	{
 		insureNodesParsed();
@@ -150,13 +189,14 @@ class BSHMethodDeclaration extends SimpleNode
 			((BSHAmbiguousName)jjtGetChild(i)).toClass( 
 				callstack, interpreter );
 
-		paramsNode.eval( callstack, interpreter );
+		Class [] paramTypes = 
+			(Class [])paramsNode.eval( callstack, interpreter );
 
 		// if strictJava mode, check for loose parameters and return type
 		if ( interpreter.getStrictJava() )
 		{
-			for(int i=0; i<paramsNode.paramTypes.length; i++)
-				if ( paramsNode.paramTypes[i] == null )
+			for(int i=0; i<paramTypes.length; i++)
+				if ( paramTypes[i] == null )
 					// Warning: Null callstack here.  Don't think we need
 					// a stack trace to indicate how we sourced the method.
 					throw new EvalError(
@@ -171,6 +211,8 @@ class BSHMethodDeclaration extends SimpleNode
 				"(Strict Java Mode) Undeclared return type for method: "
 					+ name, this, null );
 		}
+
+		return paramTypes;
 	}
 
 	public String toString() {
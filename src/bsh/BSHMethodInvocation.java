@@ -38,6 +38,8 @@ import java.lang.reflect.InvocationTargetException;
 
 class BSHMethodInvocation extends SimpleNode
 {
+	private transient CallSiteCache callSiteCache;
+
 	BSHMethodInvocation (int id) { super(id); }
 
 	BSHAmbiguousName getNameNode() {
@@ -48,6 +50,12 @@ class BSHMethodInvocation extends SimpleNode
 		return (BSHArguments)jjtGetChild(1);
 	}
 
+	CallSiteCache getCallSiteCache() {
+		if ( callSiteCache == null )
+			callSiteCache = new CallSiteCache();
+		return callSiteCache;
+	}
+
 	/**
 		Evaluate the method invocation with the specified callstack and 
 		interpreter
@@ -72,7 +80,8 @@ class BSHMethodInvocation extends SimpleNode
 // factor out common functionality...
 // Move to Reflect?
 		try {
-			return name.invokeMethod( interpreter, args, callstack, this);
+			return name.invokeMethod( 
+				interpreter, args, callstack, this, getCallSiteCache() );
 		} catch ( ReflectError e ) {
 			throw new EvalError(
 				"Error in method invocation: " + e.getMessage(), 
@@ -47,8 +47,8 @@ class BSHPrimarySuffix extends SimpleNode
 		PROPERTY = 3;
 
 	public int operation;
-	Object index;
 	public String field;
+	private transient CallSiteCache callSiteCache;
 
 	BSHPrimarySuffix(int id) { super(id); }
 
@@ -158,9 +158,11 @@ class BSHPrimarySuffix extends SimpleNode
 			// field access
 			if ( jjtGetNumChildren() == 0 ) 
 				if ( toLHS )
-					return Reflect.getLHSObjectField(obj, field);
+					return Reflect.getLHSObjectField(
+						interpreter.getClassManager(), obj, field );
 				else
-					return Reflect.getObjectFieldValue( obj, field );
+					return Reflect.getObjectFieldValue(
+						interpreter.getClassManager(), obj, field );
 
 			// Method invocation
 			// (LHS or non LHS evaluation can both encounter method calls)
@@ -173,8 +175,11 @@ class BSHPrimarySuffix extends SimpleNode
 		// we handle all cases ... (e.g. property style access, etc.)
 		// maybe move this to Reflect ?
 			try {
+				if ( callSiteCache == null )
+					callSiteCache = new CallSiteCache();
 				return Reflect.invokeObjectMethod( 
-					obj, field, oa, interpreter, callstack, this );
+					obj, field, oa, interpreter, callstack, this, 
+					callSiteCache );
 			} catch ( ReflectError e ) {
 				throw new EvalError(
 					"Error in method invocation: " + e.getMessage(), 
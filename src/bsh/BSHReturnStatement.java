@@ -37,19 +37,27 @@ package bsh;
 class BSHReturnStatement extends SimpleNode implements ParserConstants
 {
 	public int kind;
+	/** The label of a labeled break or continue */
+	public String label;
+	/** The shared signal of a break, continue or return with no value */
+	private transient ReturnControl control;
 
 	BSHReturnStatement(int id) { super(id); }
 
 	public Object eval(CallStack callstack, Interpreter interpreter)  
 		throws EvalError
 	{
-		Object value;
-		if(jjtGetNumChildren() > 0)
-			value = ((SimpleNode)jjtGetChild(0)).eval(callstack, interpreter);
-		else
-			value = Primitive.VOID;
+		if ( jjtGetNumChildren() == 0 ) 
+		{
+			ReturnControl control = this.control;
+			if ( control == null )
+				this.control = control = new ReturnControl( 
+					kind, Primitive.VOID, this, label );
+			return control;
+		}
 
-		return new ReturnControl( kind, value, this );
+		// a return with a value reuses the carrier of the callstack
+		Object value = ((SimpleNode)jjtGetChild(0)).eval(callstack, interpreter);
+		return callstack.returnValue( value, this );
 	}
 }
-
@@ -33,10 +33,30 @@
 
 package bsh;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
 class BSHSwitchStatement 
 	extends SimpleNode 
 	implements ParserConstants 
 {
+	/** JumpTable.lookup() result when the table does not apply */
+	private static final int NO_TABLE = -2;
+	/** JumpTable.lookup() result when no label matches */
+	private static final int NO_MATCH = -1;
+
+	/** 
+		Built on the first evaluation, or NONE if the labels aren't constant.
+		Rebuilt when it is not valid for the namespace evaluated in.
+	*/
+	private transient volatile JumpTable jumpTable;
 
 	public BSHSwitchStatement(int id) { super(id); }
 
@@ -48,22 +68,25 @@ class BSHSwitchStatement
 		SimpleNode switchExp = ((SimpleNode)jjtGetChild(child++));
 		Object switchVal = switchExp.eval( callstack, interpreter );
 
-		/*
-			Note: this could be made clearer by adding an inner class for the
-			cases and an object context for the child traversal.
-		*/
 		// first label
 		BSHSwitchLabel label;
 		Object node;
-		ReturnControl returnControl=null;
 
 		// get the first label
 		if ( child >= numchild )
 			throw new EvalError("Empty switch statement.", this, callstack );
+
+		// jump directly to the matching label if the labels are constant
+		int target = getJumpTable( callstack.top() ).lookup( switchVal );
+		if ( target == NO_MATCH )
+			return Primitive.VOID;
+		if ( target != NO_TABLE )
+			return evalCases( target, callstack, interpreter );
+
 		label = ((BSHSwitchLabel)jjtGetChild(child++));
 
-		// while more labels or blocks and haven't hit return control
-		while ( child < numchild && returnControl == null ) 
+		// while more labels or blocks
+		while ( child < numchild ) 
 		{
 			// if label is default or equals switchVal
 			if ( label.isDefault 
@@ -71,43 +94,301 @@ class BSHSwitchStatement
 					switchVal, label.eval( callstack, interpreter ), 
 					callstack, switchExp )
 				)
+				return evalCases( child, callstack, interpreter );
+
+			// skip nodes until next label
+			while ( child < numchild ) 
 			{
-				// execute nodes, skipping labels, until a break or return
-				while ( child < numchild ) 
-				{
-					node = jjtGetChild(child++);
-					if ( node instanceof BSHSwitchLabel )
-						continue;
-					// eval it
-					Object value = 
-						((SimpleNode)node).eval( callstack, interpreter ); 
-
-					// should check to disallow continue here?
-					if ( value instanceof ReturnControl ) {
-						returnControl = (ReturnControl)value;
-						break;
-					}
-				}
-			} else 
-			{
-				// skip nodes until next label
-				while ( child < numchild ) 
-				{
-					node = jjtGetChild(child++);
-					if ( node instanceof BSHSwitchLabel ) {
-						label = (BSHSwitchLabel)node;
-						break;
-					}
+				node = jjtGetChild(child++);
+				if ( node instanceof BSHSwitchLabel ) {
+					label = (BSHSwitchLabel)node;
+					break;
 				}
 			}
 		}
 
-		if ( returnControl != null && returnControl.kind == RETURN )
+		return Primitive.VOID;
+	}
+
+	/**
+		Execute nodes from the child, skipping labels, until a break or
+		return.
+	*/
+	private Object evalCases( 
+		int child, CallStack callstack, Interpreter interpreter ) 
+		throws EvalError
+	{
+		int numchild = jjtGetNumChildren();
+		ReturnControl returnControl = null;
+		while ( child < numchild ) 
+		{
+			Node node = jjtGetChild(child++);
+			if ( node instanceof BSHSwitchLabel )
+				continue;
+			// eval it
+			Object value = 
+				((SimpleNode)node).eval( callstack, interpreter ); 
+
+			if ( value instanceof ReturnControl ) {
+				returnControl = (ReturnControl)value;
+				break;
+			}
+		}
+
+		// an unlabeled break ends the switch, a return, continue or labeled
+		// break is for an enclosing statement
+		if ( returnControl != null 
+			&& ( returnControl.kind != BREAK || returnControl.label != null ) )
 			return returnControl;
 		else
 			return Primitive.VOID;
 	}
 
+	private JumpTable getJumpTable( NameSpace namespace )
+	{
+		JumpTable table = jumpTable;
+		if ( table == null || !table.isValidIn( namespace ) ) 
+			jumpTable = table = JumpTable.build( this, namespace );
+		return table;
+	}
+
+	/**
+		A map from the constant values of the case labels to the index of
+		the first node after the label.  Labels of char, byte, short or
+		int values are held in a sorted int array, String and enum labels
+		(or any other object) in a HashMap.  A table is only built when all
+		labels are literals or static final fields (e.g. enum constants) of
+		one of these kinds.  It doesn't apply to switch values which are not
+		of the kind of the labels (e.g. a double value compared to int
+		labels), those are matched by evaluating each label in turn.
+		<p>
+
+		The labels which follow a default label are never reached by the
+		sequential evaluation and so are not entered in the table.
+		<p>
+
+		Static field labels are resolved through the imports of the
+		namespace, and only while no variable hides the class name.  A
+		table with such labels is valid only in the import scope and with 
+		the versions of its imports and class manager it was built with, 
+		and while the class names are not variables of the namespace 
+		evaluated in.
+	*/
+	private static final class JumpTable
+	{
+		static final JumpTable NONE = new JumpTable( null, null, null, 
+			NO_TABLE, null, null );
+
+		final int [] keys;
+		final int [] targets;
+		final Map<Object,Integer> objects;
+		final int defaultTarget;
+
+		/** The class names of static field labels, null if there are none */
+		final String [] classNames;
+		/** The import scope the static field labels were resolved in */
+		final WeakReference<NameSpace> scope;
+		final int importsVersion;
+		final int classManagerVersion;
+
+		JumpTable( 
+			int [] keys, int [] targets, Map<Object,Integer> objects, 
+			int defaultTarget, Set<String> classNames, NameSpace namespace ) 
+		{
+			this.keys = keys;
+			this.targets = targets;
+			this.objects = objects;
+			this.defaultTarget = defaultTarget;
+			if ( classNames == null || classNames.isEmpty() )
+			{
+				this.classNames = null;
+				this.scope = null;
+				this.importsVersion = 0;
+				this.classManagerVersion = 0;
+			} else {
+				this.classNames = classNames.toArray( new String[0] );
+				NameSpace scope = namespace.getImportScope();
+				this.scope = new WeakReference<NameSpace>( scope );
+				this.importsVersion = scope.getImportsVersion();
+				this.classManagerVersion = 
+					scope.getClassManager().getResolveCacheVersion();
+			}
+		}
+
+		/**
+			@return true if the labels have the values of the table when 
+				evaluated in the namespace.
+		*/
+		boolean isValidIn( NameSpace namespace )
+		{
+			if ( classNames == null )
+				return true;
+			NameSpace scope = namespace.getImportScope();
+			if ( this.scope.get() != scope
+				|| importsVersion != scope.getImportsVersion()
+				|| classManagerVersion != 
+					scope.getClassManager().getResolveCacheVersion() )
+				return false;
+			try {
+				// a variable would hide the class
+				for ( String name : classNames )
+					if ( namespace.getVariable( name ) != Primitive.VOID )
+						return false;
+			} catch ( UtilEvalError e ) {
+				return false;
+			}
+			return true;
+		}
+
+		/**
+			@return the index of the node at which to start, NO_MATCH or
+				NO_TABLE.
+		*/
+		int lookup( Object switchVal )
+		{
+			if ( this == NONE )
+				return NO_TABLE;
+			if ( keys != null )
+			{
+				Object value = switchVal;
+				if ( value instanceof Primitive )
+				{
+					Class type = ((Primitive)value).getType();
+					if ( type != Integer.TYPE && type != Character.TYPE 
+						&& type != Short.TYPE && type != Byte.TYPE )
+						return NO_TABLE;
+					value = ((Primitive)value).getValue();
+				}
+				int key;
+				if ( value instanceof Character )
+					key = ((Character)value).charValue();
+				else if ( value instanceof Integer || value instanceof Short
+					|| value instanceof Byte )
+					key = ((Number)value).intValue();
+				else
+					return NO_TABLE;
+				int i = Arrays.binarySearch( keys, key );
+				return i >= 0 ? targets[i] : defaultTarget;
+			}
+			if ( switchVal instanceof Primitive )
+				return NO_TABLE;
+			Integer target = objects.get( switchVal );
+			return target != null ? target.intValue() : defaultTarget;
+		}
+
+		static JumpTable build( BSHSwitchStatement node, NameSpace namespace )
+		{
+			Map<Integer,Integer> ints = new TreeMap<Integer,Integer>();
+			Map<Object,Integer> objects = new HashMap<Object,Integer>();
+			Set<String> classNames = new LinkedHashSet<String>();
+			int defaultTarget = NO_MATCH;
+			for ( int i = 1; i < node.jjtGetNumChildren(); i++ )
+			{
+				if ( !(node.jjtGetChild( i ) instanceof BSHSwitchLabel) )
+					continue;
+				BSHSwitchLabel label = (BSHSwitchLabel)node.jjtGetChild( i );
+				if ( label.isDefault ) {
+					defaultTarget = i+1;
+					break;
+				}
+				Object value = 
+					constant( label.getChild( 0 ), namespace, classNames );
+				if ( value == Primitive.NULL || value == Primitive.VOID )
+					return NONE;
+				if ( value instanceof Primitive )
+					value = ((Primitive)value).getValue();
+				if ( value instanceof Character )
+					value = new Integer( ((Character)value).charValue() );
+				else if ( value instanceof Short || value instanceof Byte )
+					value = new Integer( ((Number)value).intValue() );
+
+				if ( value == null
+					|| value instanceof Number && !(value instanceof Integer) 
+					|| value instanceof Boolean )
+					return NONE;
+				if ( value instanceof Integer ) {
+					if ( !ints.containsKey( value ) )
+						ints.put( (Integer)value, new Integer( i+1 ) );
+				} else if ( !objects.containsKey( value ) )
+					objects.put( value, new Integer( i+1 ) );
+			}
+			if ( !ints.isEmpty() && !objects.isEmpty() )
+				return NONE;
+
+			if ( objects.isEmpty() )
+			{
+				int [] keys = new int[ ints.size() ];
+				int [] targets = new int[ ints.size() ];
+				int n = 0;
+				for ( Map.Entry<Integer,Integer> entry : ints.entrySet() ) {
+					keys[n] = entry.getKey().intValue();
+					targets[n++] = entry.getValue().intValue();
+				}
+				return new JumpTable( keys, targets, null, defaultTarget, 
+					classNames, namespace );
+			}
+			return new JumpTable( null, null, objects, defaultTarget, 
+				classNames, namespace );
+		}
+
+		/**
+			@param classNames collects the first part of the class names of
+				static final field labels.
+			@return the value of a literal label or of a label naming a
+				static final field, or null if the label is not constant.
+		*/
+		private static Object constant( 
+			SimpleNode exp, NameSpace namespace, Set<String> classNames )
+		{
+			Object value = ASTOptimizer.constant( exp );
+			if ( value != null )
+				return value;
+
+			if ( exp instanceof BSHUnaryExpression 
+				&& ((BSHUnaryExpression)exp).kind != INCR
+				&& ((BSHUnaryExpression)exp).kind != DECR )
+			{
+				value = ASTOptimizer.constant( exp.getChild( 0 ) );
+				if ( !(value instanceof Primitive) )
+					return null;
+				try {
+					return Primitive.unaryOperation( (Primitive)value, 
+						((BSHUnaryExpression)exp).kind );
+				} catch ( UtilEvalError e ) {
+					return null;
+				} catch ( InterpreterError e ) {
+					return null;
+				}
+			}
+
+			if ( !(exp instanceof BSHPrimaryExpression) 
+				|| exp.jjtGetNumChildren() != 1
+				|| !(exp.getChild( 0 ) instanceof BSHAmbiguousName) )
+				return null;
+			String name = ((BSHAmbiguousName)exp.getChild( 0 )).text;
+			if ( !Name.isCompound( name ) )
+				return null;
+			try {
+				// a variable would hide the class
+				String className = Name.prefix( name, 1 );
+				if ( namespace.getVariable( className ) != Primitive.VOID )
+					return null;
+				classNames.add( className );
+				Class clas = namespace.getClass( Name.prefix( name ) );
+				if ( clas == null )
+					return null;
+				Field field = clas.getField( Name.suffix( name, 1 ) );
+				int modifiers = field.getModifiers();
+				if ( !Modifier.isStatic( modifiers ) 
+					|| !Modifier.isFinal( modifiers ) )
+					return null;
+				return field.get( null );
+			} catch ( Exception e ) {
+				return null;
+			}
+		}
+	}
+
 	/**
 		Helper method for testing equals on two primitive or boxable objects.
 		yuck: factor this out into Primitive.java
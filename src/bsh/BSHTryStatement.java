@@ -112,17 +112,17 @@ class BSHTryStatement extends SimpleNode
 				// Evaluation of the formal parameter simply resolves its
 				// type via the specified namespace.. it doesn't modify the
 				// namespace.
-				fp.eval( callstack, interpreter );
+				Class type = (Class)fp.eval( callstack, interpreter );
 
-				if ( fp.type == null && interpreter.getStrictJava() )
+				if ( type == null && interpreter.getStrictJava() )
 					throw new EvalError(
 						"(Strict Java) Untyped catch block", this, callstack );
 
 				// If the param is typed check assignability
-				if ( fp.type != null ) 
+				if ( type != null ) 
 					try {
 						thrown = (Throwable)Types.castObject(
-							thrown/*rsh*/, fp.type/*lhsType*/, Types.ASSIGNMENT );
+							thrown/*rsh*/, type/*lhsType*/, Types.ASSIGNMENT );
 					} catch( UtilEvalError e ) {
 						/*
 							Catch the mismatch and continue to try the next
@@ -146,7 +146,7 @@ class BSHTryStatement extends SimpleNode
 					new BlockNameSpace( enclosingNameSpace );
 
 				try {
-					if ( fp.type == BSHFormalParameter.UNTYPED )
+					if ( type == BSHFormalParameter.UNTYPED )
 						// set an untyped variable directly in the block
 						cbNameSpace.setBlockVariable( fp.name, thrown );
 					else
@@ -154,7 +154,7 @@ class BSHTryStatement extends SimpleNode
 						// set a typed variable (directly in the block)
 						Modifiers modifiers = new Modifiers();
 						cbNameSpace.setTypedVariable(
-							fp.name, fp.type, thrown, new Modifiers()/*none*/ );
+							fp.name, type, thrown, new Modifiers()/*none*/ );
 					}
 				} catch ( UtilEvalError e ) {
 					throw new InterpreterError(
@@ -177,6 +177,9 @@ class BSHTryStatement extends SimpleNode
 
 		// evaluate finally block
 		if( finallyBlock != null ) {
+			// returns in the finally block overwrite the callstack's carrier
+			if( ret instanceof ReturnControl )
+				ret = ((ReturnControl)ret).copy();
 			Object result = finallyBlock.eval(callstack, interpreter);
 			if( result instanceof ReturnControl )
 				return result;
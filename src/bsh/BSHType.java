@@ -34,17 +34,11 @@
 
 package bsh;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 
 class BSHType extends SimpleNode 
-	implements BshClassManager.Listener
 {
-	/**
-		baseType is used during evaluation of full type and retained for the
-		case where we are an array type.
-		In the case where we are not an array this will be the same as type.
-	*/
-	private Class baseType;
 	/** 
 		If we are an array type this will be non zero and indicate the 
 		dimensionality of the array.  e.g. 2 for String[][];
@@ -52,11 +46,34 @@ class BSHType extends SimpleNode
     private int arrayDims;
 
 	/** 
-		Internal cache of the type.  Cleared on classloader change.
+		Internal cache of the type.  A primitive type (or an array of one)
+		is the same for every evaluation.  A class type is kept only for the
+		import scope it was resolved in and the versions of its imports and
+		class manager: the node may be evaluated in namespaces with other 
+		imports or class managers.
+		@see NameSpace#getImportScope()
 	*/
-    private Class type;
+    private transient volatile ResolvedType resolved;
 
-	String descriptor;
+	/** A type and the namespace and versions it was resolved with */
+	private static final class ResolvedType
+	{
+		final Class type;
+		/** The import scope, null for primitive types */
+		final WeakReference<NameSpace> scope;
+		final int importsVersion;
+		final int classManagerVersion;
+
+		ResolvedType( Class type, NameSpace scope, int importsVersion,
+			int classManagerVersion )
+		{
+			this.type = type;
+			this.scope = scope == null ? null
+				: new WeakReference<NameSpace>( scope );
+			this.importsVersion = importsVersion;
+			this.classManagerVersion = classManagerVersion;
+		}
+	}
 
     BSHType(int id) { 
 		super(id); 
@@ -84,10 +101,6 @@ class BSHType extends SimpleNode
     public String getTypeDescriptor( 
 		CallStack callstack, Interpreter interpreter, String defaultPackage ) 
     {
-        // return cached type if available
-		if ( descriptor != null )
-			return descriptor;
-
 		String descriptor;
         //  first node will either be PrimitiveType or AmbiguousName
         SimpleNode node = getTypeNode();
@@ -134,7 +147,6 @@ class BSHType extends SimpleNode
 		for(int i=0; i<arrayDims; i++)
 			descriptor = "["+descriptor;
 
-		this.descriptor = descriptor;
 	//System.out.println("BSHType: returning descriptor: "+descriptor);
         return descriptor;
     }
@@ -143,16 +155,31 @@ class BSHType extends SimpleNode
 		throws EvalError
     {
         // return cached type if available
-		if ( type != null )
-			return type;
+		ResolvedType resolved = this.resolved;
+		if ( resolved != null && resolved.scope == null )
+			return resolved.type;
 
         //  first node will either be PrimitiveType or AmbiguousName
         SimpleNode node = getTypeNode();
+        Class type, baseType;
+		NameSpace scope = null;
+		int importsVersion = 0, classManagerVersion = 0;
         if ( node instanceof BSHPrimitiveType )
             baseType = ((BSHPrimitiveType)node).getType();
         else 
+		{
+			scope = callstack.top().getImportScope();
+			importsVersion = scope.getImportsVersion();
+			classManagerVersion = 
+				scope.getClassManager().getResolveCacheVersion();
+			if ( resolved != null && resolved.scope.get() == scope
+				&& resolved.importsVersion == importsVersion 
+				&& resolved.classManagerVersion == classManagerVersion )
+				return resolved.type;
+
             baseType = ((BSHAmbiguousName)node).toClass( 
 				callstack, interpreter );
+		}
 
         if ( arrayDims > 0 ) {
             try {
@@ -168,20 +195,22 @@ class BSHType extends SimpleNode
         } else
             type = baseType;
 
-		// hack... sticking to first interpreter that resolves this
-		// see comments on type instance variable
-		interpreter.getClassManager().addListener(this);
+		// "var" is untyped
+		if ( type != null )
+			this.resolved = new ResolvedType( 
+				type, scope, importsVersion, classManagerVersion );
 
         return type;
     }
 
 	/**
-		baseType is used during evaluation of full type and retained for the
-		case where we are an array type.
-		In the case where we are not an array this will be the same as type.
+		Get the base type of the type evaluated by getType(), which is the
+		element type if we are an array type, else the type itself.
 	*/
-	public Class getBaseType() {
-		return baseType;
+	public Class getBaseType( Class type ) {
+		for ( int i = 0; i < arrayDims; i++ )
+			type = type.getComponentType();
+		return type;
 	}
 	/** 
 		If we are an array type this will be non zero and indicate the 
@@ -191,11 +220,6 @@ class BSHType extends SimpleNode
 		return arrayDims;
 	}
 
-	public void classLoaderChanged() {
-		type = null;
-		baseType = null;
-	}
-
 	public static String getTypeDescriptor( Class clas ) 
 	{
 		if ( clas == Boolean.TYPE ) return "Z";
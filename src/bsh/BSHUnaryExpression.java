@@ -82,16 +82,16 @@ class BSHUnaryExpression extends SimpleNode implements ParserConstants
 
     private Object unaryOperation( Object op, int kind ) throws UtilEvalError
     {
+		// Primitive.unaryOperation() has the unboxed fast paths
+		if ( op instanceof Primitive )
+			return Primitive.unaryOperation( (Primitive)op, kind );
+
         if (op instanceof Boolean || op instanceof Character 
 			|| op instanceof Number)
             return primitiveWrapperUnaryOperation( op, kind );
 
-        if ( !(op instanceof Primitive) )
-            throw new UtilEvalError( "Unary operation " + tokenImage[kind]
-                + " inappropriate for object" );
-
-		
-        return Primitive.unaryOperation((Primitive)op, kind);
+        throw new UtilEvalError( "Unary operation " + tokenImage[kind]
+            + " inappropriate for object" );
     }
 
     private Object primitiveWrapperUnaryOperation(Object val, int kind)
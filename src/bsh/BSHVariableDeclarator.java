@@ -80,7 +80,9 @@ class BSHVariableDeclarator extends SimpleNode
 				&& initializer instanceof BSHArrayInitializer 
 			)
             	value = ((BSHArrayInitializer)initializer).eval( 
-					typeNode.getBaseType(), typeNode.getArrayDims(), 
+					typeNode.getBaseType( 
+						typeNode.getType( callstack, interpreter ) ), 
+					typeNode.getArrayDims(), 
 					callstack, interpreter);
 			else
 				value = initializer.eval( callstack, interpreter);
@@ -77,16 +77,13 @@ class BSHWhileStatement extends SimpleNode implements ParserConstants {
 			}
 			Object ret = body.eval(callstack, interpreter);
 			if (ret instanceof ReturnControl) {
-				switch(( (ReturnControl)ret).kind ) {
-					case RETURN:
-						return ret;
-
-					case CONTINUE:
-						break;
-
-					case BREAK:
-						return Primitive.VOID;
-				}
+				ReturnControl control = (ReturnControl)ret;
+				// a return, or a break or continue of an enclosing labeled
+				// statement, leaves the loop
+				if ( control.kind == RETURN || !control.isTargetOf( this ) )
+					return ret;
+				if ( control.kind == BREAK )
+					return Primitive.VOID;
 			}
 		}
         return Primitive.VOID;
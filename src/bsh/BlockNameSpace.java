@@ -33,6 +33,10 @@
 
 package	bsh;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
     A specialized namespace	for Blocks (e.g. the body of a "for" statement).
 	The Block acts like a child namespace but only for typed variables 
@@ -51,12 +55,67 @@ package	bsh;
 */
 class BlockNameSpace extends NameSpace 
 {
+	/**
+		Commands which operate on the namespace of their caller.
+	*/
+	private static final Set<String> SCOPED_COMMANDS =
+		new HashSet<String>( Arrays.asList( new String [] {
+			"eval", "source", "sourceRelative", "unset", "clear",
+			"importCommands", "importObject", "setNameSpace" } ) );
+
     public BlockNameSpace( NameSpace parent ) 
 		throws EvalError
 	{
 		super( parent, parent.getName()+ "/BlockNameSpace" );
     }
 
+	/**
+		Determine whether the statements of a block or loop, i.e. the
+		children of the node, must be evaluated in a BlockNameSpace of their
+		own.  The block namespace only holds typed variables declared in it
+		(and the classes declared there and closures over it), all other
+		assignments are delegated to the enclosing namespace.  So a scope
+		which declares nothing may be evaluated directly in the enclosing
+		namespace, saving the allocation of a namespace per evaluation
+		(e.g. for each iteration of a loop body).
+		<p>
+
+		Nested blocks and loops are scopes of their own and are not
+		examined.  Method and class declarations, anonymous inner classes,
+		imports and invocations of commands which operate on the namespace
+		of their caller (e.g. eval()) require a namespace.
+	*/
+	static boolean isRequired( SimpleNode node )
+	{
+		for ( int i = 0; i < node.jjtGetNumChildren(); i++ )
+			if ( declares( node.getChild( i ) ) )
+				return true;
+		return false;
+	}
+
+	private static boolean declares( SimpleNode node )
+	{
+		if ( node instanceof BSHBlock || node instanceof BSHForStatement
+			|| node instanceof BSHEnhancedForStatement
+		)
+			return false;
+
+		if ( node instanceof BSHTypedVariableDeclaration
+			|| node instanceof BSHMethodDeclaration
+			|| node instanceof BSHClassDeclaration
+			|| node instanceof BSHImportDeclaration
+			|| ( node instanceof BSHAllocationExpression
+				&& node.getChild( node.jjtGetNumChildren()-1 )
+					instanceof BSHBlock )
+			|| ( node instanceof BSHMethodInvocation
+				&& SCOPED_COMMANDS.contains(
+					((BSHMethodInvocation)node).getNameNode().text ) )
+		)
+			return true;
+
+		return isRequired( node );
+	}
+
 	/**
 		Override the standard namespace behavior to make assignments
 		happen in our parent (enclosing) namespace, unless the variable has
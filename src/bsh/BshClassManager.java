@@ -37,11 +37,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Hashtable;
 import java.util.Map;
 import java.util.Set;
@@ -97,26 +102,101 @@ public class BshClassManager
 	*/
 	protected ClassLoader externalClassLoader;
 
+	/**
+		The lookup caches behind the class and resolved method caches below.
+		A subclass which replaces those with maps or sets of its own gets
+		them cleared with the other caches, but not bounded or counted.
+		@see LookupCache
+	*/
+	private final transient LookupCache<String,Class> classCache = new LookupCache<String,Class>();
+	private final transient LookupCache<String,Boolean> nonClassCache = new LookupCache<String,Boolean>();
+	private final transient LookupCache<SignatureKey,Method> objectMethodCache = new LookupCache<SignatureKey,Method>();
+	private final transient LookupCache<SignatureKey,Method> staticMethodCache = new LookupCache<SignatureKey,Method>();
+
 	/**
 		Global cache for things we know are classes.
-		Note: these should probably be re-implemented with Soft references.
-		(as opposed to strong or Weak)
 	*/
-    protected transient Map<String,Class> absoluteClassCache = new Hashtable<String,Class>();
+    protected transient Map<String,Class> absoluteClassCache = classCache;
 	/**
 		Global cache for things we know are *not* classes.
-		Note: these should probably be re-implemented with Soft references.
-		(as opposed to strong or Weak)
 	*/
-    protected transient Set<String> absoluteNonClasses = Collections.synchronizedSet(new HashSet<String>());
+    protected transient Set<String> absoluteNonClasses = nonClassCache.asSet( Boolean.TRUE );
 
 	/**
 		Caches for resolved object and static methods.
 		We keep these maps separate to support fast lookup in the general case
 		where the method may be either.
 	*/
-	protected transient volatile Map<SignatureKey,Method> resolvedObjectMethods = new Hashtable<SignatureKey,Method>();
-	protected transient volatile Map<SignatureKey,Method> resolvedStaticMethods = new Hashtable<SignatureKey,Method>();
+	protected transient volatile Map<SignatureKey,Method> resolvedObjectMethods = objectMethodCache;
+	protected transient volatile Map<SignatureKey,Method> resolvedStaticMethods = staticMethodCache;
+	/**
+		Incremented whenever the resolved method caches are cleared so that
+		the call site caches derived from them can be dropped.
+		@see CallSiteCache
+	*/
+	private transient volatile int resolveCacheVersion;
+	/**
+		Invokers of the resolved methods, constructors and fields, dropped
+		with the resolved method caches.
+		@see MemberInvoker
+	*/
+	private final transient LookupCache<Member,MemberInvoker> invokers = new LookupCache<Member,MemberInvoker>();
+	/**
+		Caches for resolved fields and constructors.  Lookups which found
+		nothing are cached as NOT_FOUND.  Dropped with the resolved method
+		caches.
+	*/
+	private final transient LookupCache<SignatureKey,Object> resolvedFields = new LookupCache<SignatureKey,Object>();
+	private final transient LookupCache<SignatureKey,Object> resolvedConstructors = new LookupCache<SignatureKey,Object>();
+
+	/**
+		The classes defined for scripted class declarations by the signature
+		of their bytecode, see ClassGenerator.  Not dropped with the other
+		caches, as defining a class drops those.
+	*/
+	private final transient LookupCache<String,Class> generatedClasses = new LookupCache<String,Class>();
+
+	/**
+		The classes generated to implement sets of interfaces for scripted
+		objects, see InterfaceGenerator.  Not dropped with the other caches.
+	*/
+	private final transient LookupCache<List<Class>,InterfaceGenerator.Implementation> interfaceImplementations = new LookupCache<List<Class>,InterfaceGenerator.Implementation>();
+
+	/**
+		The maximum number of parsed scripts cached by a class manager,
+		taken from the system property "bsh.parseCache.size".  0 (the
+		default) disables the cache, eval( String ) and source() then parse
+		and evaluate a script statement by statement.
+		@see #setParseCacheSize( int )
+	*/
+	static final int DEFAULT_PARSE_CACHE_SIZE =
+		Integer.getInteger( "bsh.parseCache.size", 0 ).intValue();
+
+	/**
+		Parsed statements of evaluated text and sourced files, shared by the
+		interpreters of this class manager.  Null when disabled.
+	*/
+	private transient volatile LookupCache<Object,SimpleNode[]> parsedScripts =
+		DEFAULT_PARSE_CACHE_SIZE > 0 ? new LookupCache<Object,SimpleNode[]>(
+			DEFAULT_PARSE_CACHE_SIZE, LookupCache.Eviction.LRU ) : null;
+
+	/**
+		Cached result of a field or constructor lookup which found nothing.
+	*/
+	static final Object NOT_FOUND = new Object();
+
+	private static final Class [] NO_TYPES = new Class[0];
+
+	/**
+		The signature key of this thread for cache lookups, so that lookups
+		allocate nothing.  Keys put into the caches are always new.
+	*/
+	private static final ThreadLocal<SignatureKey> lookupKey =
+		new ThreadLocal<SignatureKey>() {
+			protected SignatureKey initialValue() {
+				return new SignatureKey( null, null, null );
+			}
+		};
 
 	private transient Set<String> definingClasses = Collections.synchronizedSet(new HashSet<String>());
 	protected transient Map<String,String> definingClassesBaseNames = new Hashtable<String,String>();
@@ -126,9 +206,18 @@ public class BshClassManager
 	static void clearResolveCache() {
 		BshClassManager[] managers = (BshClassManager[])classManagers.keySet().toArray(new BshClassManager[0]);
 		for( BshClassManager m : managers ) {
-			m.resolvedObjectMethods = new Hashtable<SignatureKey,Method>();
-			m.resolvedStaticMethods = new Hashtable<SignatureKey,Method>();
+			m.resolvedObjectMethods.clear();
+			m.resolvedStaticMethods.clear();
+			m.invokers.clear();
+			m.resolvedFields.clear();
+			m.resolvedConstructors.clear();
+			m.resolveCacheVersion++;
 		}
+		PropertyTable.clear();
+	}
+
+	int getResolveCacheVersion() {
+		return resolveCacheVersion;
 	}
 
 	/**
@@ -280,6 +369,25 @@ public class BshClassManager
 		return in;
 	}
 
+	/**
+		The scope of the resources found by getResource() and
+		getResourceAsStream(): an object which is the same for class managers
+		which find the same resources, e.g. their class loader.  Resources
+		parsed once for several class managers, like scripted commands, are
+		shared by scope.
+		@return the scope or null if the resources of this class manager are
+			not to be shared.
+		@see CommandRegistry
+	*/
+	protected Object getResourceScope() 
+	{
+		if ( getClass() != BshClassManager.class )
+			return null; // may find other resources
+		if ( externalClassLoader != null )
+			return externalClassLoader;
+		return Interpreter.class;
+	}
+
 	/**
 		Cache info about whether name is a class or not.
 		@param value 
@@ -322,13 +430,14 @@ public class BshClassManager
 	protected Method getResolvedMethod( 
 		Class clas, String methodName, Class [] types, boolean onlyStatic  ) 
 	{
-		SignatureKey sk = new SignatureKey( clas, methodName, types );
+		SignatureKey sk = lookupKey( clas, methodName, types );
 
 		// Try static and then object, if allowed
 		// Note that the Java compiler should not allow both.
 		Method method = resolvedStaticMethods.get( sk );
 		if ( method == null && !onlyStatic)
 			method = resolvedObjectMethods.get( sk );
+		sk.set( null, null, null );
 
 		if ( Interpreter.DEBUG )
 		{
@@ -342,16 +451,216 @@ public class BshClassManager
 		return method;
 	}
 
+	/**
+		Cache a resolved field, or null if the class has no such field,
+		subject to classloader change.
+	*/
+	void cacheResolvedField( Class clas, String fieldName, Field field )
+	{
+		resolvedFields.put( new SignatureKey( clas, fieldName, NO_TYPES ),
+			field == null ? NOT_FOUND : field );
+	}
+
+	/**
+		Return a previously cached resolved field.
+		@return the Field, NOT_FOUND or null if the field has not been
+			cached.
+	*/
+	Object getResolvedField( Class clas, String fieldName )
+	{
+		SignatureKey sk = lookupKey( clas, fieldName, NO_TYPES );
+		Object field = resolvedFields.get( sk );
+		sk.set( null, null, null );
+		return field;
+	}
+
+	/**
+		Cache the constructor resolved for the argument types, or null if
+		there is no matching constructor, subject to classloader change.
+	*/
+	void cacheResolvedConstructor(
+		Class clas, Class [] types, Constructor con )
+	{
+		resolvedConstructors.put( new SignatureKey( clas, "<init>", types ),
+			con == null ? NOT_FOUND : con );
+	}
+
+	/**
+		Return a previously cached resolved constructor.
+		@return the Constructor, NOT_FOUND or null if no constructor has
+			been cached for the argument types.
+	*/
+	Object getResolvedConstructor( Class clas, Class [] types )
+	{
+		SignatureKey sk = lookupKey( clas, "<init>", types );
+		Object con = resolvedConstructors.get( sk );
+		sk.set( null, null, null );
+		return con;
+	}
+
+	/**
+		Enable the cache of parsed scripts of the interpreters which use this
+		class manager.  eval( String ) and source() then parse the same text
+		or the same, unmodified file once, and evaluate the parsed statements
+		again on later calls.  The cache evicts the least recently used
+		scripts beyond maxSize.
+		<p>
+
+		A script is parsed completely before it is evaluated.  A script with
+		a syntax error is not cached but evaluated as without the cache: the
+		statements before the error run and then the error is reported.
+		When the cache is enabled source() also loads the statements of a
+		file from a fresh .bshc file (see ASTSerializer) instead of parsing
+		it.  The parsed statements are shared by all namespaces which
+		evaluate the text, the classes they resolve by name are cached per
+		import scope (see NameSpace.getImportScope()).
+		@param maxSize the maximum number of cached scripts, 0 to disable the
+			cache.
+	*/
+	public void setParseCacheSize( int maxSize )
+	{
+		if ( maxSize < 0 )
+			throw new IllegalArgumentException( "maxSize: " + maxSize );
+		parsedScripts = maxSize == 0 ? null : new LookupCache<Object,SimpleNode[]>(
+			maxSize, LookupCache.Eviction.LRU );
+	}
+
+	/**
+		@return the maximum number of cached parsed scripts, 0 if the cache
+			is disabled.
+	*/
+	public int getParseCacheSize() {
+		LookupCache<Object,SimpleNode[]> cache = parsedScripts;
+		return cache == null ? 0 : cache.getMaxSize();
+	}
+
+	/**
+		The statistics of the parsed script cache.
+		@return the statistics or null if the cache is disabled.
+	*/
+	public LookupCache.Stats getParseCacheStats() {
+		LookupCache<Object,SimpleNode[]> cache = parsedScripts;
+		return cache == null ? null : cache.getStats();
+	}
+
+	/**
+		@return the parsed script cache or null if it is disabled.
+	*/
+	LookupCache<Object,SimpleNode[]> getParseCache() {
+		return parsedScripts;
+	}
+
+	/**
+		@return the generated classes by bytecode signature
+		@see ClassGenerator
+	*/
+	LookupCache<String,Class> getGeneratedClasses() {
+		return generatedClasses;
+	}
+
+	/**
+		@return the generated interface implementations by interface set
+		@see InterfaceGenerator
+	*/
+	LookupCache<List<Class>,InterfaceGenerator.Implementation> getInterfaceImplementations() {
+		return interfaceImplementations;
+	}
+
+	/**
+		The statistics of all caches of the class manager by cache name:
+		"classes", "nonClasses", "objectMethods", "staticMethods", "fields",
+		"constructors", "invokers", "generatedClasses" and
+		"interfaceImplementations".
+	*/
+	public Map<String,LookupCache.Stats> getCacheStatistics()
+	{
+		Map<String,LookupCache.Stats> stats =
+			new LinkedHashMap<String,LookupCache.Stats>();
+		for ( Map.Entry<String,LookupCache<?,?>> entry : caches().entrySet() )
+			stats.put( entry.getKey(), entry.getValue().getStats() );
+		return stats;
+	}
+
+	/**
+		Bound all caches of the class manager, evicting entries of caches
+		which are larger.
+		@param maxSize the maximum number of entries of each cache, 0 for
+			unbounded
+		@see LookupCache
+	*/
+	public void setCacheLimit( int maxSize, LookupCache.Eviction eviction )
+	{
+		for ( LookupCache<?,?> cache : caches().values() )
+			cache.setLimit( maxSize, eviction );
+	}
+
+	private Map<String,LookupCache<?,?>> caches()
+	{
+		Map<String,LookupCache<?,?>> caches =
+			new LinkedHashMap<String,LookupCache<?,?>>();
+		caches.put( "classes", classCache );
+		caches.put( "nonClasses", nonClassCache );
+		caches.put( "objectMethods", objectMethodCache );
+		caches.put( "staticMethods", staticMethodCache );
+		caches.put( "fields", resolvedFields );
+		caches.put( "constructors", resolvedConstructors );
+		caches.put( "invokers", invokers );
+		caches.put( "generatedClasses", generatedClasses );
+		caches.put( "interfaceImplementations", interfaceImplementations );
+		return caches;
+	}
+
+	/**
+		The lookup key of this thread set to the signature.  The caller
+		resets it after the lookup, in order not to keep the class.
+	*/
+	private static SignatureKey lookupKey(
+		Class clas, String methodName, Class [] types )
+	{
+		SignatureKey sk = lookupKey.get();
+		sk.set( clas, methodName, types );
+		return sk;
+	}
+
+	/**
+		Return the invoker of a resolved method, constructor or field, which
+		is shared by all of its uses through this class manager.
+	*/
+	MemberInvoker getInvoker( Member member )
+	{
+		MemberInvoker invoker = invokers.get( member );
+		if ( invoker == null )
+		{
+			invoker = new MemberInvoker( member );
+			invokers.put( member, invoker );
+		}
+		return invoker;
+	}
+
 	/**
 		Clear the caches in BshClassManager
 		@see public void #reset() for external usage
 	*/
 	protected void clearCaches() 
 	{
-		absoluteNonClasses = Collections.synchronizedSet(new HashSet<String>());
-		absoluteClassCache = new Hashtable<String,Class>();
-		resolvedObjectMethods = new Hashtable<SignatureKey,Method>();
-		resolvedStaticMethods = new Hashtable<SignatureKey,Method>();
+		absoluteNonClasses.clear();
+		absoluteClassCache.clear();
+		resolvedObjectMethods.clear();
+		resolvedStaticMethods.clear();
+		invokers.clear();
+		resolvedFields.clear();
+		resolvedConstructors.clear();
+		resolveCacheVersion++;
+	}
+
+	/**
+		Drop the resources parsed for the resource scope of this class
+		manager, after the resources found through the scope changed, e.g.
+		when its class loader was extended in place.
+		@see #getResourceScope()
+	*/
+	protected void resourcesChanged() {
+		CommandRegistry.clear( getResourceScope() );
 	}
 
 	/**
@@ -580,8 +889,8 @@ public class BshClassManager
 		it by ignoring the types of untyped parameter positions?  The method
 		resolver could return a set of "hints" for the signature key caching?
 
-		There is also the overhead of creating one of these for every method
-		dispatched.  What is the alternative?
+		Lookups reuse a key per thread, only keys put into a cache are
+		created.
 	*/
 	static class SignatureKey
 	{
@@ -591,9 +900,17 @@ public class BshClassManager
 		int hashCode = 0;
 
 		SignatureKey( Class clas, String methodName, Class [] types ) {
+			set( clas, methodName, types );
+		}
+
+		/**
+			Reuse the key for a lookup.
+		*/
+		void set( Class clas, String methodName, Class [] types ) {
 			this.clas = clas;
 			this.methodName = methodName;
 			this.types = types;
+			this.hashCode = 0;
 		}
 
 		public int hashCode() 
@@ -613,12 +930,12 @@ public class BshClassManager
 
 		public boolean equals( Object o ) { 
 			SignatureKey target = (SignatureKey)o;
-			if ( types == null )
-				return target.types == null;
 			if ( clas != target.clas )
 				return false;
 			if ( !methodName.equals( target.methodName ) )
 				return false;
+			if ( types == null || target.types == null )
+				return types == target.types;
 			if ( types.length != target.types.length )
 				return false;
 			for( int i =0; i< types.length; i++ )
@@ -75,6 +75,8 @@ public class BshMethod
 
 	// Scripted method body
 	BSHBlock methodBody;
+	// Layout of the locals of the method body, may be null
+	FrameLayout frameLayout;
 
 	// Java Method, for a BshObject that delegates to a real Java method
 	private Method javaMethod;
@@ -82,13 +84,35 @@ public class BshMethod
 
 	// End method components
 
+	/*
+		Tiered execution state, see BshMethodCompiler.  Methods are shared by
+		threads, so the state is volatile: a thread sees the compiled form
+		completely initialized.  The invocation count may lose increments,
+		which only delays compilation, and two threads may compile the
+		method at once, the last one wins.
+	*/
+	private transient volatile int invocations;
+	private transient volatile boolean notCompilable;
+	private transient volatile BshMethodCompiler.Compiled compiled;
+
 	BshMethod( 
-		BSHMethodDeclaration method, 
+		BSHMethodDeclaration method, Class returnType, Class [] paramTypes,
 		NameSpace declaringNameSpace, Modifiers modifiers ) 
 	{
-		this( method.name, method.returnType, method.paramsNode.getParamNames(),
-			method.paramsNode.paramTypes, method.blockNode, declaringNameSpace,
-			modifiers );
+		this( method.name, returnType, method.paramsNode.getParamNames(),
+			paramTypes, method.blockNode, declaringNameSpace, modifiers );
+		this.frameLayout = method.getFrameLayout();
+	}
+
+	/**
+		Copy the method, binding it to a different declaring namespace.
+	*/
+	BshMethod( BshMethod method, NameSpace declaringNameSpace ) 
+	{
+		this( method.name, method.creturnType, method.paramNames,
+			method.cparamTypes, method.methodBody, declaringNameSpace,
+			method.modifiers );
+		this.frameLayout = method.frameLayout;
 	}
 
 	BshMethod( 
@@ -211,6 +235,24 @@ public class BshMethod
 		Object[] argValues, Interpreter interpreter, CallStack callstack,
 			SimpleNode callerInfo, boolean overrideNameSpace ) 
 		throws EvalError 
+	{
+		return invoke( argValues, interpreter, callstack, callerInfo,
+			overrideNameSpace, declaringNameSpace );
+	}
+
+	/**
+		Invoke the bsh method as if it were declared in the specified
+		namespace.  The delegate methods of generated classes invoke the 
+		method declarations of the class body this way in the instance (or 
+		static) namespace of the class, where evaluating the body declared 
+		the same method.
+		@see ClassGeneratorUtil#invokeMethod( BshMethod, This, Object [] )
+	*/
+	Object invoke( 
+		Object[] argValues, Interpreter interpreter, CallStack callstack,
+			SimpleNode callerInfo, boolean overrideNameSpace, 
+			NameSpace declaringNameSpace ) 
+		throws EvalError 
 	{
 		if ( argValues != null )
 			for (int i=0; i<argValues.length; i++)
@@ -252,16 +294,17 @@ public class BshMethod
 			{
 				return invokeImpl( 
 					argValues, interpreter, callstack, 
-					callerInfo, overrideNameSpace );
+					callerInfo, overrideNameSpace, declaringNameSpace );
 			}
 		} else
 			return invokeImpl( argValues, interpreter, callstack, callerInfo,
-				overrideNameSpace );
+				overrideNameSpace, declaringNameSpace );
 	}
 
 	private Object invokeImpl( 
 		Object[] argValues, Interpreter interpreter, CallStack callstack,
-			SimpleNode callerInfo, boolean overrideNameSpace ) 
+			SimpleNode callerInfo, boolean overrideNameSpace,
+			NameSpace declaringNameSpace ) 
 		throws EvalError 
 	{
 		Class returnType = getReturnType();
@@ -296,6 +339,13 @@ public class BshMethod
 				+ name, callerInfo, callstack );
 		}
 
+		if ( !overrideNameSpace && !notCompilable )
+		{
+			Object ret = invokeCompiled( argValues, paramTypes );
+			if ( ret != null )
+				return ret;
+		}
+
 		// Make the local namespace for the method invocation
 		NameSpace localNameSpace;
 		if ( overrideNameSpace )
@@ -304,6 +354,7 @@ public class BshMethod
 		{
 			localNameSpace = new NameSpace( declaringNameSpace, name );
 			localNameSpace.isMethod = true;
+			localNameSpace.setFrame( frameLayout );
 		}
 		// should we do this for both cases above?
 		localNameSpace.setNode( callerInfo );
@@ -416,6 +467,49 @@ public class BshMethod
 		return ret;
 	}
 
+	/**
+		Count the invocation and once the method is hot run its compiled
+		form.  A compiled method is a pure function of its (typed primitive)
+		arguments, so when the compiled code fails we simply return null and
+		let the interpreter evaluate the call and report the error.  An
+		argument which the cast changes goes into a copy of the arguments,
+		so that the interpreter then gets them as they were passed.
+		@return the method's return value or null if the method must be
+			interpreted.
+	*/
+	private Object invokeCompiled( Object[] argValues, Class [] paramTypes )
+	{
+		BshMethodCompiler.Compiled compiled = this.compiled;
+		if ( compiled == null )
+		{
+			if ( BshMethodCompiler.THRESHOLD < 0 
+				|| ++invocations <= BshMethodCompiler.THRESHOLD )
+				return null;
+			this.compiled = compiled = BshMethodCompiler.compile( this );
+			if ( compiled == null ) {
+				notCompilable = true;
+				return null;
+			}
+		}
+
+		try {
+			Object [] args = argValues;
+			for (int i=0; i<numArgs; i++)
+			{
+				Object arg = Types.castObject( 
+					argValues[i], paramTypes[i], Types.ASSIGNMENT );
+				if ( arg != argValues[i] ) {
+					if ( args == argValues )
+						args = argValues.clone();
+					args[i] = arg;
+				}
+			}
+			return compiled.invoke( args );
+		} catch ( Exception e ) {
+			return null;
+		}
+	}
+
 	public boolean hasModifier( String name ) {
 		return modifiers != null && modifiers.hasModifier(name);
 	}
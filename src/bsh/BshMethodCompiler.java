@@ -0,0 +1,1063 @@
+package bsh;
+
+import bsh.org.objectweb.asm.*;
+import bsh.org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+	BshMethodCompiler translates the body of a frequently invoked scripted
+	method into a JVM class using the ASM bytecode generator.
+	<p>
+
+	Only a conservative subset of the language is compiled: methods whose
+	parameters and return type are declared as int, long, double or boolean
+	and whose bodies use only typed local variables of those types,
+	arithmetic, comparison and logical operators, casts, if, while, do, for,
+	break, continue and return.  Such a method is a pure function of its
+	arguments, so the compiled form needs no namespace and the interpreter
+	can always re-run the call if the compiled code fails for any reason
+	(e.g. integer division by zero), producing the usual error.
+	<p>
+
+	Any other construct causes compile() to return null and the method stays
+	interpreted.  The number of invocations before a method is compiled is
+	set with the system property "bsh.jit.threshold".  A negative value
+	disables compilation.
+
+	@see BshMethod
+*/
+final class BshMethodCompiler implements Constants
+{
+	/**
+		The number of interpreted invocations of a method before an attempt
+		is made to compile it.
+	*/
+	static final int THRESHOLD =
+		Integer.getInteger( "bsh.jit.threshold", 1000 ).intValue();
+
+	/**
+		The compiled form of a method body.  Arguments are the bsh.Primitive
+		wrapped values already cast to the declared parameter types.
+	*/
+	public interface Compiled
+	{
+		Object invoke( Object [] args ) throws Exception;
+	}
+
+	private static final String PRIMITIVE = "bsh/Primitive";
+	private static final String COMPILED =
+		Type.getInternalName( Compiled.class );
+
+	private static int classCount;
+
+	/**
+		Thrown internally when the method uses a construct the compiler does
+		not handle.
+	*/
+	private static class Unsupported extends Exception
+	{
+		Unsupported( String s ) { super( s ); }
+	}
+
+	private static class Local
+	{
+		final Type type;
+		final int slot;
+
+		Local( Type type, int slot ) {
+			this.type = type;
+			this.slot = slot;
+		}
+	}
+
+	/**
+		The target of break and continue statements, a loop or a labeled
+		statement.  A labeled statement which is not a loop has no continue
+		label.
+	*/
+	private static class Loop
+	{
+		final String label;
+		final Label continueLabel, breakLabel;
+
+		Loop( String label, Label continueLabel, Label breakLabel ) {
+			this.label = label;
+			this.continueLabel = continueLabel;
+			this.breakLabel = breakLabel;
+		}
+	}
+
+	/**
+		A class loader per compiled method, so that the class can be
+		collected with the method.
+	*/
+	private static class Loader extends ClassLoader
+	{
+		Loader() {
+			super( BshMethodCompiler.class.getClassLoader() );
+		}
+
+		Class define( String name, byte [] code ) {
+			return defineClass( name, code, 0, code.length );
+		}
+	}
+
+	private final BshMethod method;
+	private final Type returnType;
+	private final List<Map<String,Local>> scopes =
+		new ArrayList<Map<String,Local>>();
+	private final List<Loop> loops = new ArrayList<Loop>();
+	private CodeVisitor code;
+	private int nextSlot = 2; // this, args
+
+	private BshMethodCompiler( BshMethod method ) throws Unsupported
+	{
+		this.method = method;
+		Class rtype = method.getReturnType();
+		if ( rtype == null )
+			throw new Unsupported( "loosely typed return value" );
+		this.returnType = rtype == Void.TYPE ? Type.VOID_TYPE : type( rtype );
+	}
+
+	/**
+		Compile the scripted method.
+		@return the compiled method body or null if the method cannot be
+			compiled.
+	*/
+	static Compiled compile( BshMethod method )
+	{
+		if ( method.methodBody == null )
+			return null;
+
+		String className;
+		synchronized ( BshMethodCompiler.class ) {
+			className = "bsh/jit/" + method.getName() + "$" + (++classCount);
+		}
+
+		try {
+			byte [] bytes = new BshMethodCompiler( method ).generate(
+				className );
+			Class clas = new Loader().define(
+				className.replace( '/', '.' ), bytes );
+			return (Compiled)clas.newInstance();
+		} catch ( Unsupported e ) {
+			if ( Interpreter.DEBUG )
+				Interpreter.debug( "Not compiling " + method + ": "
+					+ e.getMessage() );
+		} catch ( Exception e ) {
+			if ( Interpreter.DEBUG )
+				Interpreter.debug( "Error compiling " + method + ": " + e );
+		} catch ( LinkageError e ) {
+			if ( Interpreter.DEBUG )
+				Interpreter.debug( "Error compiling " + method + ": " + e );
+		}
+		return null;
+	}
+
+	private byte [] generate( String className ) throws Unsupported
+	{
+		ClassWriter cw = new ClassWriter( true/*computeMaxs*/ );
+		cw.visit( ACC_PUBLIC | ACC_FINAL, className, "java/lang/Object",
+			new String [] { COMPILED }, "BeanShell method " + method.getName() );
+
+		code = cw.visitMethod( ACC_PUBLIC, "<init>", "()V", null );
+		code.visitVarInsn( ALOAD, 0 );
+		code.visitMethodInsn(
+			INVOKESPECIAL, "java/lang/Object", "<init>", "()V" );
+		code.visitInsn( RETURN );
+		code.visitMaxs( 0, 0 );
+
+		code = cw.visitMethod( ACC_PUBLIC, "invoke",
+			"([Ljava/lang/Object;)Ljava/lang/Object;",
+			new String [] { "java/lang/Exception" } );
+
+		// The parameters and the top level of the body share a scope, as
+		// they share the method namespace in the interpreter.
+		pushScope();
+		Class [] paramTypes = method.getParameterTypes();
+		String [] paramNames = method.getParameterNames();
+		for ( int i = 0; i < paramNames.length; i++ )
+		{
+			if ( paramTypes[i] == null )
+				throw new Unsupported( "loosely typed parameter" );
+			Type type = type( paramTypes[i] );
+			code.visitVarInsn( ALOAD, 1 );
+			pushInt( i );
+			code.visitInsn( AALOAD );
+			unwrap( type );
+			code.visitVarInsn(
+				type.getOpcode( ISTORE ), declare( paramNames[i], type ) );
+		}
+
+		statements( method.methodBody );
+		popScope();
+
+		// falling off the end of the method
+		if ( returnType == Type.VOID_TYPE ) {
+			code.visitFieldInsn(
+				GETSTATIC, PRIMITIVE, "VOID", "L" + PRIMITIVE + ";" );
+			code.visitInsn( ARETURN );
+		} else
+			// let the interpreter report the missing return value
+			throwIllegalState();
+
+		code.visitMaxs( 0, 0 );
+		return cw.toByteArray();
+	}
+
+	// Statements
+
+	private void statements( SimpleNode block ) throws Unsupported
+	{
+		for ( int i = 0; i < block.jjtGetNumChildren(); i++ )
+		{
+			SimpleNode node = (SimpleNode)block.jjtGetChild( i );
+			if ( node instanceof BSHTypedVariableDeclaration )
+				declaration( (BSHTypedVariableDeclaration)node );
+			else
+				statement( node );
+		}
+	}
+
+	private void statement( SimpleNode node ) throws Unsupported
+	{
+		if ( node instanceof BSHBlock )
+		{
+			if ( ((BSHBlock)node).isSynchronized )
+				throw new Unsupported( "synchronized block" );
+			pushScope();
+			statements( node );
+			popScope();
+		}
+		else if ( node instanceof BSHIfStatement )
+			ifStatement( node );
+		else if ( node instanceof BSHWhileStatement )
+			whileStatement( (BSHWhileStatement)node );
+		else if ( node instanceof BSHForStatement )
+			forStatement( (BSHForStatement)node );
+		else if ( node instanceof BSHReturnStatement )
+			returnStatement( (BSHReturnStatement)node );
+		else if ( node instanceof BSHLabeledStatement )
+			labeledStatement( (BSHLabeledStatement)node );
+		else if ( node instanceof BSHStatementExpressionList )
+			for ( int i = 0; i < node.jjtGetNumChildren(); i++ )
+				statement( (SimpleNode)node.jjtGetChild( i ) );
+		else
+			pop( expression( node ) );
+	}
+
+	private void declaration( BSHTypedVariableDeclaration node )
+		throws Unsupported
+	{
+		if ( node.modifiers != null )
+			throw new Unsupported( "variable modifiers" );
+		Type type = declaredType( (BSHType)node.jjtGetChild( 0 ) );
+
+		BSHVariableDeclarator [] declarators = node.getDeclarators();
+		for ( int i = 0; i < declarators.length; i++ )
+		{
+			BSHVariableDeclarator dec = declarators[i];
+			if ( dec.jjtGetNumChildren() > 0 )
+				widen( expression( (SimpleNode)dec.jjtGetChild( 0 ) ), type );
+			else
+				pushDefault( type );
+			// declare after the initializer, which sees the enclosing names
+			code.visitVarInsn(
+				type.getOpcode( ISTORE ), declare( dec.name, type ) );
+		}
+	}
+
+	private void ifStatement( SimpleNode node ) throws Unsupported
+	{
+		Label elseLabel = new Label();
+		condition( (SimpleNode)node.jjtGetChild( 0 ), elseLabel, false );
+		statement( (SimpleNode)node.jjtGetChild( 1 ) );
+		if ( node.jjtGetNumChildren() > 2 )
+		{
+			Label end = new Label();
+			code.visitJumpInsn( GOTO, end );
+			code.visitLabel( elseLabel );
+			statement( (SimpleNode)node.jjtGetChild( 2 ) );
+			code.visitLabel( end );
+		} else
+			code.visitLabel( elseLabel );
+	}
+
+	private void whileStatement( BSHWhileStatement node ) throws Unsupported
+	{
+		Label test = new Label(), end = new Label();
+		if ( node.isDoStatement )
+		{
+			Label top = new Label();
+			code.visitLabel( top );
+			loopBody( (SimpleNode)node.jjtGetChild( 0 ), test, end );
+			code.visitLabel( test );
+			condition( (SimpleNode)node.jjtGetChild( 1 ), top, true );
+		} else {
+			code.visitLabel( test );
+			condition( (SimpleNode)node.jjtGetChild( 0 ), end, false );
+			if ( node.jjtGetNumChildren() > 1 )
+				loopBody( (SimpleNode)node.jjtGetChild( 1 ), test, end );
+			code.visitJumpInsn( GOTO, test );
+		}
+		code.visitLabel( end );
+	}
+
+	private void forStatement( BSHForStatement node ) throws Unsupported
+	{
+		int i = 0;
+		SimpleNode init = null, test = null, update = null, body = null;
+		if ( node.hasForInit )
+			init = (SimpleNode)node.jjtGetChild( i++ );
+		if ( node.hasExpression )
+			test = (SimpleNode)node.jjtGetChild( i++ );
+		if ( node.hasForUpdate )
+			update = (SimpleNode)node.jjtGetChild( i++ );
+		if ( i < node.jjtGetNumChildren() )
+			body = (SimpleNode)node.jjtGetChild( i );
+
+		pushScope();
+		if ( init instanceof BSHTypedVariableDeclaration )
+			declaration( (BSHTypedVariableDeclaration)init );
+		else if ( init != null )
+			statement( init );
+
+		Label top = new Label(), next = new Label(), end = new Label();
+		code.visitLabel( top );
+		if ( test != null )
+			condition( test, end, false );
+		if ( body != null )
+			loopBody( body, next, end );
+		code.visitLabel( next );
+		if ( update != null )
+			statement( update );
+		code.visitJumpInsn( GOTO, top );
+		code.visitLabel( end );
+		popScope();
+	}
+
+	private void loopBody( SimpleNode body, Label next, Label end )
+		throws Unsupported
+	{
+		SimpleNode loop = (SimpleNode)body.jjtGetParent();
+		String label = loop.jjtGetParent() instanceof BSHLabeledStatement ?
+			((BSHLabeledStatement)loop.jjtGetParent()).label : null;
+		loops.add( new Loop( label, next, end ) );
+		statement( body );
+		loops.remove( loops.size()-1 );
+	}
+
+	/**
+		A labeled loop is its own target, any other labeled statement may
+		be left with a labeled break.
+	*/
+	private void labeledStatement( BSHLabeledStatement node )
+		throws Unsupported
+	{
+		SimpleNode body = (SimpleNode)node.jjtGetChild( 0 );
+		if ( body instanceof BSHWhileStatement 
+			|| body instanceof BSHForStatement )
+		{
+			statement( body );
+			return;
+		}
+		Label end = new Label();
+		loops.add( new Loop( node.label, null, end ) );
+		statement( body );
+		loops.remove( loops.size()-1 );
+		code.visitLabel( end );
+	}
+
+	/**
+		@return the innermost loop, or the statement with the label.
+	*/
+	private Loop target( String label ) throws Unsupported
+	{
+		for ( int i = loops.size()-1; i >= 0; i-- )
+		{
+			Loop loop = loops.get( i );
+			if ( label == null ? loop.continueLabel != null 
+					: label.equals( loop.label ) )
+				return loop;
+		}
+		throw new Unsupported( "break or continue outside of its target" );
+	}
+
+	private void returnStatement( BSHReturnStatement node )
+		throws Unsupported
+	{
+		if ( node.kind == ParserConstants.BREAK
+			|| node.kind == ParserConstants.CONTINUE )
+		{
+			Loop loop = target( node.label );
+			if ( node.kind == ParserConstants.BREAK )
+				code.visitJumpInsn( GOTO, loop.breakLabel );
+			else if ( loop.continueLabel != null )
+				code.visitJumpInsn( GOTO, loop.continueLabel );
+			else
+				throw new Unsupported( "continue of a statement which is not a loop" );
+			return;
+		}
+
+		boolean hasValue = node.jjtGetNumChildren() > 0;
+		if ( returnType == Type.VOID_TYPE )
+		{
+			if ( hasValue )
+				throw new Unsupported( "value returned from void method" );
+			code.visitFieldInsn(
+				GETSTATIC, PRIMITIVE, "VOID", "L" + PRIMITIVE + ";" );
+		} else {
+			if ( !hasValue )
+				throw new Unsupported( "missing return value" );
+			code.visitTypeInsn( NEW, PRIMITIVE );
+			code.visitInsn( DUP );
+			widen( expression( (SimpleNode)node.jjtGetChild( 0 ) ),
+				returnType );
+			code.visitMethodInsn( INVOKESPECIAL, PRIMITIVE, "<init>",
+				"(" + returnType.getDescriptor() + ")V" );
+		}
+		code.visitInsn( ARETURN );
+	}
+
+	// Expressions
+
+	/**
+		Determine the static type of an expression without generating code.
+	*/
+	private Type typeOf( SimpleNode node ) throws Unsupported
+	{
+		if ( node instanceof BSHPrimaryExpression )
+		{
+			SimpleNode prefix = prefix( node );
+			if ( prefix instanceof BSHAmbiguousName )
+				return local( node ).type;
+			return typeOf( prefix );
+		}
+		if ( node instanceof BSHLiteral )
+			return literalType( (BSHLiteral)node );
+		if ( node instanceof BSHBinaryExpression )
+		{
+			int kind = ((BSHBinaryExpression)node).kind;
+			if ( isCondition( kind ) )
+				return Type.BOOLEAN_TYPE;
+			return resultType( kind, typeOf( child( node, 0 ) ),
+				typeOf( child( node, 1 ) ) );
+		}
+		if ( node instanceof BSHUnaryExpression )
+		{
+			int kind = ((BSHUnaryExpression)node).kind;
+			if ( kind == ParserConstants.INCR || kind == ParserConstants.DECR )
+				return local( child( node, 0 ) ).type;
+			return typeOf( child( node, 0 ) );
+		}
+		if ( node instanceof BSHAssignment )
+			return local( child( node, 0 ) ).type;
+		if ( node instanceof BSHTernaryExpression )
+			return typeOf( child( node, 1 ) );
+		if ( node instanceof BSHCastExpression )
+			return declaredType( (BSHType)child( node, 0 ) );
+		throw new Unsupported( node.toString() );
+	}
+
+	/**
+		Generate the code for an expression, leaving its value on the stack.
+		@return the type of the value.
+	*/
+	private Type expression( SimpleNode node ) throws Unsupported
+	{
+		if ( node instanceof BSHPrimaryExpression )
+		{
+			SimpleNode prefix = prefix( node );
+			if ( prefix instanceof BSHAmbiguousName ) {
+				Local local = local( node );
+				code.visitVarInsn( local.type.getOpcode( ILOAD ), local.slot );
+				return local.type;
+			}
+			return expression( prefix );
+		}
+		if ( node instanceof BSHLiteral )
+			return literal( (BSHLiteral)node );
+		if ( node instanceof BSHBinaryExpression )
+			return binary( (BSHBinaryExpression)node );
+		if ( node instanceof BSHUnaryExpression )
+			return unary( (BSHUnaryExpression)node );
+		if ( node instanceof BSHAssignment )
+			return assignment( (BSHAssignment)node );
+		if ( node instanceof BSHTernaryExpression )
+		{
+			Type type = typeOf( child( node, 1 ) );
+			if ( type != typeOf( child( node, 2 ) ) )
+				throw new Unsupported( "mixed types in conditional" );
+			Label elseLabel = new Label(), end = new Label();
+			condition( child( node, 0 ), elseLabel, false );
+			expression( child( node, 1 ) );
+			code.visitJumpInsn( GOTO, end );
+			code.visitLabel( elseLabel );
+			expression( child( node, 2 ) );
+			code.visitLabel( end );
+			return type;
+		}
+		if ( node instanceof BSHCastExpression )
+		{
+			Type to = declaredType( (BSHType)child( node, 0 ) );
+			cast( expression( child( node, 1 ) ), to );
+			return to;
+		}
+		throw new Unsupported( node.toString() );
+	}
+
+	private Type literal( BSHLiteral node ) throws Unsupported
+	{
+		Type type = literalType( node );
+		Object value = ((Primitive)node.value).getValue();
+		if ( type == Type.BOOLEAN_TYPE )
+			pushInt( ((Boolean)value).booleanValue() ? 1 : 0 );
+		else if ( type == Type.INT_TYPE )
+			pushInt( ((Integer)value).intValue() );
+		else
+			code.visitLdcInsn( value );
+		return type;
+	}
+
+	private Type binary( BSHBinaryExpression node ) throws Unsupported
+	{
+		if ( isCondition( node.kind ) )
+		{
+			Label falseLabel = new Label(), end = new Label();
+			condition( node, falseLabel, false );
+			code.visitInsn( ICONST_1 );
+			code.visitJumpInsn( GOTO, end );
+			code.visitLabel( falseLabel );
+			code.visitInsn( ICONST_0 );
+			code.visitLabel( end );
+			return Type.BOOLEAN_TYPE;
+		}
+
+		SimpleNode lhs = child( node, 0 ), rhs = child( node, 1 );
+		Type ltype = typeOf( lhs ), rtype = typeOf( rhs );
+		Type type = resultType( node.kind, ltype, rtype );
+		widen( expression( lhs ), type );
+		widen( expression( rhs ), isShift( node.kind ) ? Type.INT_TYPE : type );
+		operator( node.kind, type );
+		return type;
+	}
+
+	private Type unary( BSHUnaryExpression node ) throws Unsupported
+	{
+		SimpleNode operand = child( node, 0 );
+		int kind = node.kind;
+		if ( kind == ParserConstants.INCR || kind == ParserConstants.DECR )
+		{
+			Local local = local( operand );
+			Type type = local.type;
+			if ( type == Type.INT_TYPE )
+			{
+				if ( node.postfix )
+					code.visitVarInsn( ILOAD, local.slot );
+				code.visitIincInsn( local.slot,
+					kind == ParserConstants.INCR ? 1 : -1 );
+				if ( !node.postfix )
+					code.visitVarInsn( ILOAD, local.slot );
+				return type;
+			}
+			if ( !isNumeric( type ) )
+				throw new Unsupported( "increment of " + type );
+			code.visitVarInsn( type.getOpcode( ILOAD ), local.slot );
+			if ( node.postfix )
+				code.visitInsn( DUP2 );
+			code.visitLdcInsn( type == Type.LONG_TYPE ?
+				(Object)new Long( 1 ) : (Object)new Double( 1 ) );
+			code.visitInsn( type.getOpcode(
+				kind == ParserConstants.INCR ? IADD : ISUB ) );
+			if ( !node.postfix )
+				code.visitInsn( DUP2 );
+			code.visitVarInsn( type.getOpcode( ISTORE ), local.slot );
+			return type;
+		}
+
+		if ( kind == ParserConstants.BANG )
+		{
+			if ( expression( operand ) != Type.BOOLEAN_TYPE )
+				throw new Unsupported( "! on non boolean" );
+			code.visitInsn( ICONST_1 );
+			code.visitInsn( IXOR );
+			return Type.BOOLEAN_TYPE;
+		}
+
+		Type type = expression( operand );
+		if ( !isNumeric( type ) )
+			throw new Unsupported( "unary operator on " + type );
+		switch ( kind )
+		{
+			case ParserConstants.PLUS:
+				break;
+			case ParserConstants.MINUS:
+				code.visitInsn( type.getOpcode( INEG ) );
+				break;
+			case ParserConstants.TILDE:
+				if ( type == Type.INT_TYPE ) {
+					code.visitInsn( ICONST_M1 );
+					code.visitInsn( IXOR );
+				} else if ( type == Type.LONG_TYPE ) {
+					code.visitLdcInsn( new Long( -1 ) );
+					code.visitInsn( LXOR );
+				} else
+					throw new Unsupported( "~ on " + type );
+				break;
+			default:
+				throw new Unsupported( "unary operator" );
+		}
+		return type;
+	}
+
+	private Type assignment( BSHAssignment node ) throws Unsupported
+	{
+		Local local = local( child( node, 0 ) );
+		Type type = local.type;
+		SimpleNode rhs = child( node, 1 );
+
+		if ( node.operator == ParserConstants.ASSIGN )
+			widen( expression( rhs ), type );
+		else {
+			int kind = assignmentOperator( node.operator );
+			Type rtype = typeOf( rhs );
+			// the result is assigned to the variable without a narrowing
+			// conversion, as in the interpreter
+			if ( resultType( kind, type, rtype ) != type )
+				throw new Unsupported( "narrowing compound assignment" );
+			code.visitVarInsn( type.getOpcode( ILOAD ), local.slot );
+			widen( expression( rhs ), isShift( kind ) ? Type.INT_TYPE : type );
+			operator( kind, type );
+		}
+		code.visitInsn( type.getSize() == 2 ? DUP2 : DUP );
+		code.visitVarInsn( type.getOpcode( ISTORE ), local.slot );
+		return type;
+	}
+
+	/**
+		Generate code that jumps to the target label when the boolean
+		expression evaluates to jumpIf.
+	*/
+	private void condition( SimpleNode node, Label target, boolean jumpIf )
+		throws Unsupported
+	{
+		while ( node instanceof BSHPrimaryExpression
+			&& !(prefix( node ) instanceof BSHAmbiguousName) )
+			node = prefix( node );
+
+		if ( node instanceof BSHUnaryExpression
+			&& ((BSHUnaryExpression)node).kind == ParserConstants.BANG )
+		{
+			condition( child( node, 0 ), target, !jumpIf );
+			return;
+		}
+
+		if ( !(node instanceof BSHBinaryExpression)
+			|| !isCondition( ((BSHBinaryExpression)node).kind ) )
+		{
+			if ( expression( node ) != Type.BOOLEAN_TYPE )
+				throw new Unsupported( "non boolean condition" );
+			code.visitJumpInsn( jumpIf ? IFNE : IFEQ, target );
+			return;
+		}
+
+		int kind = ((BSHBinaryExpression)node).kind;
+		SimpleNode lhs = child( node, 0 ), rhs = child( node, 1 );
+		switch ( kind )
+		{
+			case ParserConstants.BOOL_AND:
+			case ParserConstants.BOOL_ANDX:
+				if ( jumpIf ) {
+					Label skip = new Label();
+					condition( lhs, skip, false );
+					condition( rhs, target, true );
+					code.visitLabel( skip );
+				} else {
+					condition( lhs, target, false );
+					condition( rhs, target, false );
+				}
+				return;
+
+			case ParserConstants.BOOL_OR:
+			case ParserConstants.BOOL_ORX:
+				if ( jumpIf ) {
+					condition( lhs, target, true );
+					condition( rhs, target, true );
+				} else {
+					Label skip = new Label();
+					condition( lhs, skip, true );
+					condition( rhs, target, false );
+					code.visitLabel( skip );
+				}
+				return;
+		}
+
+		// relational and equality operators
+		Type ltype = typeOf( lhs ), rtype = typeOf( rhs );
+		Type type;
+		if ( ltype == Type.BOOLEAN_TYPE && rtype == Type.BOOLEAN_TYPE ) {
+			if ( kind != ParserConstants.EQ && kind != ParserConstants.NE )
+				throw new Unsupported( "relational operator on boolean" );
+			type = Type.BOOLEAN_TYPE;
+		} else
+			type = promote( ltype, rtype );
+		widen( expression( lhs ), type );
+		widen( expression( rhs ), type );
+
+		int ifop;
+		switch ( kind )
+		{
+			case ParserConstants.EQ: ifop = IFEQ; break;
+			case ParserConstants.NE: ifop = IFNE; break;
+			case ParserConstants.LT: case ParserConstants.LTX:
+				ifop = IFLT; break;
+			case ParserConstants.GT: case ParserConstants.GTX:
+				ifop = IFGT; break;
+			case ParserConstants.LE: case ParserConstants.LEX:
+				ifop = IFLE; break;
+			default:
+				ifop = IFGE;
+		}
+		if ( !jumpIf )
+			ifop = negate( ifop );
+
+		if ( type == Type.INT_TYPE || type == Type.BOOLEAN_TYPE )
+			code.visitJumpInsn( ifop + (IF_ICMPEQ - IFEQ), target );
+		else {
+			if ( type == Type.LONG_TYPE )
+				code.visitInsn( LCMP );
+			else
+				// NaN must make every comparison but != false
+				code.visitInsn( ( ifop == IFLT || ifop == IFLE )
+					== jumpIf ? DCMPG : DCMPL );
+			code.visitJumpInsn( ifop, target );
+		}
+	}
+
+	// Helpers
+
+	private static int negate( int ifop )
+	{
+		switch ( ifop )
+		{
+			case IFEQ: return IFNE;
+			case IFNE: return IFEQ;
+			case IFLT: return IFGE;
+			case IFGE: return IFLT;
+			case IFGT: return IFLE;
+			default: return IFGT;
+		}
+	}
+
+	private static boolean isCondition( int kind )
+	{
+		switch ( kind )
+		{
+			case ParserConstants.BOOL_AND: case ParserConstants.BOOL_ANDX:
+			case ParserConstants.BOOL_OR: case ParserConstants.BOOL_ORX:
+			case ParserConstants.EQ: case ParserConstants.NE:
+			case ParserConstants.LT: case ParserConstants.LTX:
+			case ParserConstants.GT: case ParserConstants.GTX:
+			case ParserConstants.LE: case ParserConstants.LEX:
+			case ParserConstants.GE: case ParserConstants.GEX:
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isShift( int kind )
+	{
+		switch ( kind )
+		{
+			case ParserConstants.LSHIFT: case ParserConstants.LSHIFTX:
+			case ParserConstants.RSIGNEDSHIFT:
+			case ParserConstants.RSIGNEDSHIFTX:
+			case ParserConstants.RUNSIGNEDSHIFT:
+			case ParserConstants.RUNSIGNEDSHIFTX:
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isNumeric( Type type ) {
+		return type == Type.INT_TYPE || type == Type.LONG_TYPE
+			|| type == Type.DOUBLE_TYPE;
+	}
+
+	/**
+		The type of a binary arithmetic, bitwise or shift operation, which is
+		also the type both operands are converted to (except the shift
+		distance, which must be an int).
+	*/
+	private static Type resultType( int kind, Type ltype, Type rtype )
+		throws Unsupported
+	{
+		switch ( kind )
+		{
+			case ParserConstants.PLUS: case ParserConstants.MINUS:
+			case ParserConstants.STAR: case ParserConstants.SLASH:
+			case ParserConstants.MOD:
+				return promote( ltype, rtype );
+
+			case ParserConstants.BIT_AND: case ParserConstants.BIT_ANDX:
+			case ParserConstants.BIT_OR: case ParserConstants.BIT_ORX:
+			case ParserConstants.XOR:
+				if ( ltype == Type.BOOLEAN_TYPE && rtype == Type.BOOLEAN_TYPE )
+					return Type.BOOLEAN_TYPE;
+				Type type = promote( ltype, rtype );
+				if ( type == Type.DOUBLE_TYPE )
+					throw new Unsupported( "bitwise operator on double" );
+				return type;
+		}
+		if ( isShift( kind ) )
+		{
+			if ( rtype != Type.INT_TYPE
+				|| ( ltype != Type.INT_TYPE && ltype != Type.LONG_TYPE ) )
+				throw new Unsupported( "shift operands" );
+			return ltype;
+		}
+		throw new Unsupported( "operator " + kind );
+	}
+
+	private void operator( int kind, Type type )
+	{
+		int opcode;
+		switch ( kind )
+		{
+			case ParserConstants.PLUS: opcode = IADD; break;
+			case ParserConstants.MINUS: opcode = ISUB; break;
+			case ParserConstants.STAR: opcode = IMUL; break;
+			case ParserConstants.SLASH: opcode = IDIV; break;
+			case ParserConstants.MOD: opcode = IREM; break;
+			case ParserConstants.BIT_AND: case ParserConstants.BIT_ANDX:
+				opcode = IAND; break;
+			case ParserConstants.BIT_OR: case ParserConstants.BIT_ORX:
+				opcode = IOR; break;
+			case ParserConstants.XOR: opcode = IXOR; break;
+			case ParserConstants.LSHIFT: case ParserConstants.LSHIFTX:
+				opcode = ISHL; break;
+			case ParserConstants.RSIGNEDSHIFT:
+			case ParserConstants.RSIGNEDSHIFTX:
+				opcode = ISHR; break;
+			default:
+				opcode = IUSHR;
+		}
+		code.visitInsn( type.getOpcode( opcode ) );
+	}
+
+	private static int assignmentOperator( int operator ) throws Unsupported
+	{
+		switch ( operator )
+		{
+			case ParserConstants.PLUSASSIGN: return ParserConstants.PLUS;
+			case ParserConstants.MINUSASSIGN: return ParserConstants.MINUS;
+			case ParserConstants.STARASSIGN: return ParserConstants.STAR;
+			case ParserConstants.SLASHASSIGN: return ParserConstants.SLASH;
+			case ParserConstants.MODASSIGN: return ParserConstants.MOD;
+			case ParserConstants.ANDASSIGN:
+			case ParserConstants.ANDASSIGNX:
+				return ParserConstants.BIT_AND;
+			case ParserConstants.ORASSIGN:
+			case ParserConstants.ORASSIGNX:
+				return ParserConstants.BIT_OR;
+			case ParserConstants.XORASSIGN: return ParserConstants.XOR;
+			case ParserConstants.LSHIFTASSIGN:
+			case ParserConstants.LSHIFTASSIGNX:
+				return ParserConstants.LSHIFT;
+			case ParserConstants.RSIGNEDSHIFTASSIGN:
+			case ParserConstants.RSIGNEDSHIFTASSIGNX:
+				return ParserConstants.RSIGNEDSHIFT;
+			case ParserConstants.RUNSIGNEDSHIFTASSIGN:
+			case ParserConstants.RUNSIGNEDSHIFTASSIGNX:
+				return ParserConstants.RUNSIGNEDSHIFT;
+		}
+		throw new Unsupported( "assignment operator" );
+	}
+
+	private static Type promote( Type ltype, Type rtype ) throws Unsupported
+	{
+		if ( !isNumeric( ltype ) || !isNumeric( rtype ) )
+			throw new Unsupported( "non numeric operand" );
+		if ( ltype == Type.DOUBLE_TYPE || rtype == Type.DOUBLE_TYPE )
+			return Type.DOUBLE_TYPE;
+		if ( ltype == Type.LONG_TYPE || rtype == Type.LONG_TYPE )
+			return Type.LONG_TYPE;
+		return Type.INT_TYPE;
+	}
+
+	/**
+		Widening primitive conversion of the value on the stack.
+	*/
+	private void widen( Type from, Type to ) throws Unsupported
+	{
+		if ( from == to )
+			return;
+		if ( from == Type.INT_TYPE && to == Type.LONG_TYPE )
+			code.visitInsn( I2L );
+		else if ( from == Type.INT_TYPE && to == Type.DOUBLE_TYPE )
+			code.visitInsn( I2D );
+		else if ( from == Type.LONG_TYPE && to == Type.DOUBLE_TYPE )
+			code.visitInsn( L2D );
+		else
+			throw new Unsupported( "cannot assign " + from + " to " + to );
+	}
+
+	private void cast( Type from, Type to ) throws Unsupported
+	{
+		if ( from == to )
+			return;
+		if ( from == Type.LONG_TYPE && to == Type.INT_TYPE )
+			code.visitInsn( L2I );
+		else if ( from == Type.DOUBLE_TYPE && to == Type.INT_TYPE )
+			code.visitInsn( D2I );
+		else if ( from == Type.DOUBLE_TYPE && to == Type.LONG_TYPE )
+			code.visitInsn( D2L );
+		else
+			widen( from, to );
+	}
+
+	private void pop( Type type ) {
+		code.visitInsn( type.getSize() == 2 ? POP2 : POP );
+	}
+
+	private void pushInt( int value )
+	{
+		if ( value >= -1 && value <= 5 )
+			code.visitInsn( ICONST_0 + value );
+		else if ( value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE )
+			code.visitIntInsn( BIPUSH, value );
+		else if ( value >= Short.MIN_VALUE && value <= Short.MAX_VALUE )
+			code.visitIntInsn( SIPUSH, value );
+		else
+			code.visitLdcInsn( new Integer( value ) );
+	}
+
+	private void pushDefault( Type type )
+	{
+		if ( type == Type.LONG_TYPE )
+			code.visitInsn( LCONST_0 );
+		else if ( type == Type.DOUBLE_TYPE )
+			code.visitInsn( DCONST_0 );
+		else
+			code.visitInsn( ICONST_0 );
+	}
+
+	/**
+		Unwrap the bsh.Primitive on the stack to a value of the given type.
+		The raw value accessors of Primitive do not box.
+	*/
+	private void unwrap( Type type )
+	{
+		code.visitTypeInsn( CHECKCAST, PRIMITIVE );
+		String accessor = type == Type.BOOLEAN_TYPE ? "booleanValue"
+			: type == Type.INT_TYPE ? "intValue"
+			: type == Type.LONG_TYPE ? "longValue" : "doubleValue";
+		code.visitMethodInsn( INVOKEVIRTUAL, PRIMITIVE,
+			accessor, "()" + type.getDescriptor() );
+	}
+
+	private void throwIllegalState()
+	{
+		code.visitTypeInsn( NEW, "java/lang/IllegalStateException" );
+		code.visitInsn( DUP );
+		code.visitMethodInsn( INVOKESPECIAL,
+			"java/lang/IllegalStateException", "<init>", "()V" );
+		code.visitInsn( ATHROW );
+	}
+
+	private static SimpleNode child( SimpleNode node, int i ) {
+		return (SimpleNode)node.jjtGetChild( i );
+	}
+
+	/**
+		The prefix of a primary expression with no suffixes.
+	*/
+	private static SimpleNode prefix( SimpleNode node ) throws Unsupported
+	{
+		if ( node.jjtGetNumChildren() != 1 )
+			throw new Unsupported( "primary suffix" );
+		return child( node, 0 );
+	}
+
+	private static Type type( Class clas ) throws Unsupported
+	{
+		if ( clas == Integer.TYPE )
+			return Type.INT_TYPE;
+		if ( clas == Long.TYPE )
+			return Type.LONG_TYPE;
+		if ( clas == Double.TYPE )
+			return Type.DOUBLE_TYPE;
+		if ( clas == Boolean.TYPE )
+			return Type.BOOLEAN_TYPE;
+		throw new Unsupported( "type " + clas );
+	}
+
+	private static Type declaredType( BSHType node ) throws Unsupported
+	{
+		SimpleNode typeNode = node.getTypeNode();
+		if ( node.getArrayDims() != 0
+			|| !(typeNode instanceof BSHPrimitiveType) )
+			throw new Unsupported( "non primitive type" );
+		return type( ((BSHPrimitiveType)typeNode).getType() );
+	}
+
+	private static Type literalType( BSHLiteral node ) throws Unsupported
+	{
+		if ( node.value instanceof Primitive )
+		{
+			Object value = ((Primitive)node.value).getValue();
+			if ( value instanceof Integer )
+				return Type.INT_TYPE;
+			if ( value instanceof Long )
+				return Type.LONG_TYPE;
+			if ( value instanceof Double )
+				return Type.DOUBLE_TYPE;
+			if ( value instanceof Boolean )
+				return Type.BOOLEAN_TYPE;
+		}
+		throw new Unsupported( "literal " + node.value );
+	}
+
+	// Scopes
+
+	private void pushScope() {
+		scopes.add( new HashMap<String,Local>() );
+	}
+
+	private void popScope() {
+		scopes.remove( scopes.size()-1 );
+	}
+
+	private int declare( String name, Type type ) throws Unsupported
+	{
+		Map<String,Local> scope = scopes.get( scopes.size()-1 );
+		if ( scope.containsKey( name ) )
+			throw new Unsupported( "redeclared variable " + name );
+		Local local = new Local( type, nextSlot );
+		nextSlot += type.getSize();
+		scope.put( name, local );
+		return local.slot;
+	}
+
+	/**
+		The local variable named by a primary expression.
+	*/
+	private Local local( SimpleNode node ) throws Unsupported
+	{
+		if ( !(node instanceof BSHPrimaryExpression)
+			|| !(prefix( node ) instanceof BSHAmbiguousName) )
+			throw new Unsupported( "not a variable: " + node );
+		String name = ((BSHAmbiguousName)prefix( node )).text;
+		for ( int i = scopes.size()-1; i >= 0; i-- )
+		{
+			Local local = scopes.get( i ).get( name );
+			if ( local != null )
+				return local;
+		}
+		throw new Unsupported( "non local name " + name );
+	}
+}
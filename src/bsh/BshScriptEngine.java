@@ -34,6 +34,12 @@ public class BshScriptEngine extends AbstractScriptEngine implements Compilable,
 
 	private BshScriptEngineFactory factory;
 	private bsh.Interpreter interpreter;
+	/**
+		The interpreters evaluating on several threads at once, or null if
+		the engine evaluates with its one interpreter.
+		@see BshScriptEngineFactory#isPooled()
+	*/
+	private final InterpreterPool pool;
 
 
 	public BshScriptEngine() {
@@ -43,6 +49,7 @@ public class BshScriptEngine extends AbstractScriptEngine implements Compilable,
 
 	public BshScriptEngine(BshScriptEngineFactory factory) {
 		this.factory = factory;
+		this.pool = factory != null && factory.isPooled() ? new InterpreterPool() : null;
 		getInterpreter(); // go ahead and prime the interpreter now
 	}
 
@@ -76,11 +83,19 @@ public class BshScriptEngine extends AbstractScriptEngine implements Compilable,
 
 	private Object evalSource(Object source, ScriptContext scriptContext) throws ScriptException {
 		bsh.NameSpace contextNameSpace = getEngineNameSpace(scriptContext);
-		Interpreter bsh = getInterpreter();
-		bsh.setNameSpace(contextNameSpace);
+		if (pool == null) {
+			return evalSource(source, contextNameSpace, scriptContext);
+		}
+		// the variables and methods of a namespace are not thread-safe, so
+		// the evaluations in one context take turns
+		synchronized (contextNameSpace) {
+			return evalSource(source, contextNameSpace, scriptContext);
+		}
+	}
+
 
-		bsh.setOut(toPrintStream(scriptContext.getWriter()));
-		bsh.setErr(toPrintStream(scriptContext.getErrorWriter()));
+	private Object evalSource(Object source, NameSpace contextNameSpace, ScriptContext scriptContext) throws ScriptException {
+		Interpreter bsh = checkout(contextNameSpace, scriptContext);
 
 		try {
 			if (source instanceof Reader) {
@@ -103,6 +118,35 @@ public class BshScriptEngine extends AbstractScriptEngine implements Compilable,
 		} catch (InterpreterError e) {
 			// The interpreter had a fatal problem
 			throw new ScriptException(e.toString());
+		} finally {
+			checkin(bsh);
+		}
+	}
+
+
+	/**
+		Get the interpreter to evaluate in the namespace, with the output of
+		the context: a pooled interpreter if the engine has a pool, else the
+		interpreter of the engine.
+	*/
+	private Interpreter checkout(NameSpace nameSpace, ScriptContext scriptContext) {
+		PrintStream out = toPrintStream(scriptContext.getWriter());
+		PrintStream err = toPrintStream(scriptContext.getErrorWriter());
+		if (pool != null) {
+			return pool.checkout(nameSpace, out, err);
+		}
+
+		Interpreter bsh = getInterpreter();
+		bsh.setNameSpace(nameSpace);
+		bsh.setOut(out);
+		bsh.setErr(err);
+		return bsh;
+	}
+
+
+	private void checkin(Interpreter bsh) {
+		if (pool != null) {
+			pool.checkin(bsh);
 		}
 	}
 
@@ -116,21 +160,39 @@ public class BshScriptEngine extends AbstractScriptEngine implements Compilable,
 	/*
 		Check the context for an existing global namespace embedded
 		in the script context engine scope.  If none exists, ininitialize the
-		context with one.
+		context with one.  With a pool of interpreters the namespace is
+		created once, for all threads, and gets the class manager of the pool.
 	*/
 
 
-	private static NameSpace getEngineNameSpace(ScriptContext scriptContext) {
+	private NameSpace getEngineNameSpace(ScriptContext scriptContext) {
 		NameSpace ns = (NameSpace) scriptContext.getAttribute(engineNameSpaceKey, ScriptContext.ENGINE_SCOPE);
+		if (ns != null) {
+			return ns;
+		}
+		if (pool == null) {
+			return createEngineNameSpace(scriptContext);
+		}
+
+		synchronized (scriptContext) {
+			ns = (NameSpace) scriptContext.getAttribute(engineNameSpaceKey, ScriptContext.ENGINE_SCOPE);
+			if (ns == null) {
+				ns = createEngineNameSpace(scriptContext);
+			}
+			return ns;
+		}
+	}
 
-		if (ns == null) {
-			// Create a global namespace for the interpreter
-			Map<String, Object> engineView = new ScriptContextEngineView(scriptContext);
-			ns = new ExternalNameSpace(null/*parent*/, "javax_script_context", engineView);
 
-			scriptContext.setAttribute(engineNameSpaceKey, ns, ScriptContext.ENGINE_SCOPE);
+	private NameSpace createEngineNameSpace(ScriptContext scriptContext) {
+		// Create a global namespace for the interpreter
+		Map<String, Object> engineView = new ScriptContextEngineView(scriptContext);
+		NameSpace ns = new ExternalNameSpace(null/*parent*/, "javax_script_context", engineView);
+		if (pool != null) {
+			pool.bind(ns);
 		}
 
+		scriptContext.setAttribute(engineNameSpaceKey, ns, ScriptContext.ENGINE_SCOPE);
 		return ns;
 	}
 
@@ -161,7 +223,9 @@ public class BshScriptEngine extends AbstractScriptEngine implements Compilable,
 
 	public CompiledScript compile(String script) throws ScriptException {
 		try {
-			final PreparsedScript preparsed = new PreparsedScript(script);
+			final PreparsedScript preparsed = pool == null
+					? new PreparsedScript(script)
+					: new PreparsedScript(script, pool.getClassManager());
 			return new CompiledScript() {
 
 				@Override
@@ -171,12 +235,24 @@ public class BshScriptEngine extends AbstractScriptEngine implements Compilable,
 					Collections.sort(scopes); // lowest scope at first pos
 					Collections.reverse(scopes); // highest scope at first pos
 					for (final Integer scope : scopes) {
-						map.putAll(context.getBindings(scope));
+						final Bindings bindings = context.getBindings(scope);
+						if (bindings != null) {
+							map.putAll(bindings);
+						}
 					}
-					preparsed.setOut(toPrintStream(context.getWriter()));
-					preparsed.setErr(toPrintStream(context.getErrorWriter()));
 					try {
-						return preparsed.invoke(map);
+						if (pool == null) {
+							preparsed.setOut(toPrintStream(context.getWriter()));
+							preparsed.setErr(toPrintStream(context.getErrorWriter()));
+							return preparsed.invoke(map);
+						}
+						// the shared interpreter of the script would mix up the output
+						final Interpreter bsh = checkout(getEngineNameSpace(context), context);
+						try {
+							return preparsed.invoke(map, bsh);
+						} finally {
+							checkin(bsh);
+						}
 					} catch (final EvalError e) {
 						throw constructScriptException(e);
 					}
@@ -14,6 +14,42 @@ public class BshScriptEngineFactory implements javax.script.ScriptEngineFactory
 
 	final List<String> names = Arrays.asList("beanshell", "bsh");
 
+	/**
+	 * Whether the engines of factories created by the script engine manager
+	 * evaluate with a pool of interpreters, taken from the system property
+	 * "bsh.engine.pooled" (default false).
+	 */
+	static final boolean DEFAULT_POOLED = Boolean.getBoolean("bsh.engine.pooled");
+
+	private final boolean pooled;
+
+
+	public BshScriptEngineFactory() {
+		this(DEFAULT_POOLED);
+	}
+
+
+	/**
+	 * @param pooled whether the engines evaluate with a pool of interpreters
+	 *               sharing one class manager, so that an engine may be used
+	 *               by several threads at once.  Evaluations in one script
+	 *               context take turns, those in different contexts run
+	 *               concurrently.  Otherwise an engine evaluates
+	 *               with one interpreter, and must be used by one thread at a
+	 *               time.
+	 */
+	public BshScriptEngineFactory(boolean pooled) {
+		this.pooled = pooled;
+	}
+
+
+	/**
+	 * @see #BshScriptEngineFactory(boolean)
+	 */
+	public boolean isPooled() {
+		return pooled;
+	}
+
 
 	public String getEngineName() {
 		return "BeanShell Engine";
@@ -67,7 +103,8 @@ public class BshScriptEngineFactory implements javax.script.ScriptEngineFactory
 			return getLanguageVersion();
 		}
 		if (param.equals("THREADING")) {
-			return "MULTITHREADED";
+			// an engine with one interpreter rebinds it for each evaluation
+			return pooled ? "MULTITHREADED" : null;
 		}
 
 		return null;
@@ -118,7 +155,7 @@ public class BshScriptEngineFactory implements javax.script.ScriptEngineFactory
 
 
 	public ScriptEngine getScriptEngine() {
-		return new BshScriptEngine();
+		return new BshScriptEngine(this);
 	}
 
 	// End impl ScriptEngineFactory
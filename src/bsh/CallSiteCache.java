@@ -0,0 +1,160 @@
+package bsh;
+
+import java.lang.reflect.Method;
+
+/**
+	A polymorphic inline cache of the Java methods resolved at one method
+	invocation site in the AST (a BSHMethodInvocation or a method call
+	BSHPrimarySuffix).  The method name of a site never changes, so entries
+	are keyed only by the receiver class and the argument types.  A hit is a
+	few identity comparisons against the arguments instead of building a
+	SignatureKey and probing the class manager's method tables.
+	<p>
+
+	Up to MAX_ENTRIES receiver/argument type combinations are cached.  Beyond
+	that the site is considered megamorphic and resolution always goes
+	through Reflect.resolveJavaMethod().
+	<p>
+
+	The entries are dropped whenever the resolved method caches of the
+	class manager are cleared, i.e. on BshClassManager.Listener
+	classLoaderChanged() and on changes of accessibility.  Scripted objects
+	(bsh.This) are dispatched through their namespace and are never cached
+	here, so namespace changes need no invalidation.
+	<p>
+
+	Each entry also holds the invoker of its method, see MemberInvoker.
+	<p>
+
+	The cache state is immutable and replaced as a whole, so a site may be
+	shared by several threads without locking.
+*/
+final class CallSiteCache
+{
+	/** Number of entries before the site is considered megamorphic */
+	static final int MAX_ENTRIES = 4;
+
+	private static final Entry [] NO_ENTRIES = new Entry[0];
+
+	private static final class Entry
+	{
+		final Class clas;
+		final Class [] types;
+		final boolean staticOnly;
+		final Method method;
+		final MemberInvoker invoker;
+
+		Entry( Class clas, Class [] types, boolean staticOnly, Method method,
+			MemberInvoker invoker )
+		{
+			this.clas = clas;
+			this.types = types;
+			this.staticOnly = staticOnly;
+			this.method = method;
+			this.invoker = invoker;
+		}
+
+		boolean matches( Class clas, Object [] args, boolean staticOnly )
+		{
+			if ( this.clas != clas || this.staticOnly != staticOnly )
+				return false;
+			int length = args == null ? 0 : args.length;
+			if ( types.length != length )
+				return false;
+			for ( int i = 0; i < length; i++ )
+			{
+				Object arg = args[i];
+				Class type = arg == null ? null
+					: arg instanceof Primitive ? ((Primitive)arg).getType()
+					: arg.getClass();
+				if ( types[i] != type )
+					return false;
+			}
+			return true;
+		}
+	}
+
+	private static final class State
+	{
+		final BshClassManager classManager;
+		final int version;
+		/** null when the site is megamorphic */
+		final Entry [] entries;
+
+		State( BshClassManager classManager, int version, Entry [] entries ) {
+			this.classManager = classManager;
+			this.version = version;
+			this.entries = entries;
+		}
+	}
+
+	private volatile State state;
+
+	/**
+		Resolve the named Java method for the receiver class and arguments.
+		@see Reflect#resolveJavaMethod( BshClassManager, Class, String,
+			Class [], boolean )
+		@return the method or null if no matching method was found.
+	*/
+	Method resolve(
+		BshClassManager bcm, Class clas, String name, Object [] args,
+		boolean staticOnly )
+		throws UtilEvalError
+	{
+		if ( bcm == null )
+			return Reflect.resolveJavaMethod(
+				bcm, clas, name, Types.getTypes( args ), staticOnly );
+
+		State state = this.state;
+		int version = bcm.getResolveCacheVersion();
+		Entry [] entries;
+		if ( state != null && state.classManager == bcm
+			&& state.version == version )
+		{
+			entries = state.entries;
+			if ( entries == null )
+				return Reflect.resolveJavaMethod(
+					bcm, clas, name, Types.getTypes( args ), staticOnly );
+			for ( int i = 0; i < entries.length; i++ )
+				if ( entries[i].matches( clas, args, staticOnly ) )
+					return entries[i].method;
+		} else
+			entries = NO_ENTRIES;
+
+		Class [] types = Types.getTypes( args );
+		Method method = Reflect.resolveJavaMethod(
+			bcm, clas, name, types, staticOnly );
+		if ( method == null )
+			return null;
+
+		Entry [] newEntries = null;
+		if ( entries.length < MAX_ENTRIES )
+		{
+			newEntries = new Entry[ entries.length + 1 ];
+			System.arraycopy( entries, 0, newEntries, 0, entries.length );
+			newEntries[ entries.length ] =
+				new Entry( clas, types, staticOnly, method,
+					bcm.getInvoker( method ) );
+		}
+		this.state = new State( bcm, version, newEntries );
+		return method;
+	}
+
+	/**
+		Return the invoker of a method resolved through this site, without
+		a lookup in the class manager when the site has cached the method.
+		@param bcm may be null
+		@return the invoker or null if there is no class manager.
+	*/
+	MemberInvoker getInvoker( BshClassManager bcm, Method method )
+	{
+		if ( bcm == null )
+			return null;
+		State state = this.state;
+		if ( state != null && state.entries != null )
+			for ( int i = 0; i < state.entries.length; i++ )
+				if ( state.entries[i].method == method )
+					return state.entries[i].invoker;
+		return bcm.getInvoker( method );
+	}
+}
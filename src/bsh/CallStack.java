@@ -63,6 +63,9 @@ public final class CallStack implements Serializable {
 
 	private final Stack<NameSpace> stack = new Stack<NameSpace>();
 
+	/** The carrier of returns with a value, see returnValue() */
+	private transient ReturnControl returnValue;
+
 
 	public CallStack() { }
 
@@ -101,6 +104,27 @@ public final class CallStack implements Serializable {
 		stack.set( stack.size()-1-depth, ns );
 	}
 
+	/**
+		Signal the return of a value by a return statement evaluated on this
+		stack.  All such returns share one carrier, so that returning a value
+		does not allocate.  The carrier is valid until the next return with a
+		value on the stack: the method invocation (or eval()) which the
+		return ends takes the value before evaluating anything else.  A
+		statement which evaluates more code before passing the return on (a
+		finally block) must hold a copy instead.
+	*/
+	ReturnControl returnValue( Object value, SimpleNode returnPoint ) {
+		ReturnControl control = returnValue;
+		if ( control == null )
+			returnValue = control = new ReturnControl( 
+				ParserConstants.RETURN, value, returnPoint );
+		else {
+			control.value = value;
+			control.returnPoint = returnPoint;
+		}
+		return control;
+	}
+
 	public NameSpace pop() {
 		try {
 			return stack.pop();
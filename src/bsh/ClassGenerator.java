@@ -2,8 +2,11 @@ package bsh;
 
 import java.io.*;
 import java.util.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.security.MessageDigest;
 
 
 public final class ClassGenerator {
@@ -11,6 +14,37 @@ public final class ClassGenerator {
     private static ClassGenerator cg;
 	private static final String DEBUG_DIR = System.getProperty("bsh.debugClasses");
 
+	/**
+	 * The directory of the on-disk store of generated bytecode, taken from
+	 * the system property "bsh.classCache".  Null (the default) if there
+	 * is none.
+	 */
+	private static final String CACHE_DIR = System.getProperty("bsh.classCache");
+
+	/**
+	 * The revision of the generated bytecode, to be incremented when
+	 * ClassGeneratorUtil changes the code it generates between releases.
+	 * 2: delegate methods invoke the method declarations by index.
+	 * 3: typed instance fields are accessed by index.
+	 * 4: constructors pass their index to initInstance().
+	 */
+	private static final int CODE_REVISION = 4;
+
+	/**
+	 * The version of bsh and the revision of the generated bytecode, which
+	 * bytecode generated by another process (the on-disk store, classes
+	 * compiled by bshc) must have been generated by to be used.
+	 */
+	static final String CODE_VERSION = Interpreter.VERSION + '/' + CODE_REVISION;
+
+	/**
+	 * The bytecode generated for scripted classes by signature (see
+	 * ClassGeneratorUtil.getSignature()), shared by all interpreters.
+	 * The bytecode does not depend on the interpreter, only the static
+	 * This set after the class is defined does.
+	 */
+	private static final LookupCache<String, byte[]> generatedCode = new LookupCache<String, byte[]>();
+
 
 	public static ClassGenerator getClassGenerator() {
         if (cg == null) {
@@ -90,35 +124,49 @@ public final class ClassGenerator {
         DelayedEvalBshMethod[] methods = getDeclaredMethods(block, callstack, interpreter, packageName);
 
         ClassGeneratorUtil classGenerator = new ClassGeneratorUtil(modifiers, className, packageName, superClass, interfaces, variables, methods, classStaticNameSpace, isInterface);
-        byte[] code = classGenerator.generateClass();
+        String signature = classGenerator.getSignature();
+
+        // Reuse the class defined for an equal declaration, else define it
+        Class genClass = getDefinedClass(bcm, fqClassName, signature);
+        if (genClass == null) {
+            byte[] code = getCode(classGenerator, className, signature);
+
+            // if debug, write out the class file to debugClasses directory
+            if (DEBUG_DIR != null) try {
+                FileOutputStream out = new FileOutputStream(DEBUG_DIR + '/' + className + ".class");
+                out.write(code);
+                out.close();
+            } catch (IOException e) {
+                throw new IllegalStateException("cannot create file " + DEBUG_DIR + '/' + className + ".class", e);
+            }
 
-        // if debug, write out the class file to debugClasses directory
-		if (DEBUG_DIR != null) try {
-            FileOutputStream out = new FileOutputStream(DEBUG_DIR + '/' + className + ".class");
-            out.write(code);
-            out.close();
-        } catch (IOException e) {
-            throw new IllegalStateException("cannot create file " + DEBUG_DIR + '/' + className + ".class", e);
+            // Define the new class in the classloader
+            genClass = bcm.defineClass(fqClassName, code);
+            bcm.getGeneratedClasses().put(signature, genClass);
         }
 
-        // Define the new class in the classloader
-        Class genClass = bcm.defineClass(fqClassName, code);
+        // Bind the delegate methods to the declarations of this class body
+        // and the typed fields to the instances
+        if ( ! genClass.isInterface()) {
+            classGenerator.bindMethods(genClass);
+            classGenerator.bindInstanceFields(genClass);
+        }
 
         // import the unq name into parent
         enclosingNameSpace.importClass(fqClassName.replace('$', '.'));
 
-        try {
-            classStaticNameSpace.setLocalVariable(ClassGeneratorUtil.BSHINIT, block, false/*strictJava*/);
-        } catch (UtilEvalError e) {
-            throw new InterpreterError("unable to init static: " + e);
-        }
+        // Give the static space the instance initializer of the body
+        classGenerator.bindInstanceInitializer(block);
 
         // Give the static space its class static import
         // important to do this after all classes are defined
         classStaticNameSpace.setClassStatic(genClass);
 
-        // evaluate the static portion of the block in the static space
-        block.evalBlock(callstack, interpreter, true/*override*/, ClassNodeFilter.CLASSSTATIC);
+        // evaluate the static portion of the block in the static space,
+        // unless the script compiler is only declaring the class
+        if (!interpreter.declareClassesOnly) {
+            block.evalBlock(callstack, interpreter, true/*override*/, ClassNodeFilter.CLASSSTATIC);
+        }
 
         callstack.pop();
 
@@ -138,6 +186,150 @@ public final class ClassGenerator {
     }
 
 
+    /**
+     * Get the class which the class manager defined for a declaration with
+     * the signature, if the class manager still resolves the name of the
+     * class and every type which it links to as it did then.  Otherwise the
+     * class refers to replaced classes (e.g. a redefined scripted
+     * superclass) and is defined again.
+     * <p/>
+     * A reused class gets the static namespace and the method bodies of the
+     * new declaration, so instances created from the earlier declaration
+     * share its statics and run its methods.
+     */
+    private static Class getDefinedClass(BshClassManager bcm, String fqClassName, String signature) {
+        Class clas = bcm.getGeneratedClasses().get(signature);
+        if (clas == null || bcm.classForName(fqClassName) != clas) {
+            return null;
+        }
+        try {
+            List<Class> types = new ArrayList<Class>();
+            types.add(clas.getSuperclass());
+            types.addAll(Arrays.asList(clas.getInterfaces()));
+            for (Field field : clas.getDeclaredFields()) {
+                types.add(field.getType());
+            }
+            for (Method method : clas.getDeclaredMethods()) {
+                types.add(method.getReturnType());
+                types.addAll(Arrays.asList(method.getParameterTypes()));
+            }
+            for (Constructor con : clas.getDeclaredConstructors()) {
+                types.addAll(Arrays.asList(con.getParameterTypes()));
+            }
+            for (Class type : types) {
+                while (type != null && type.isArray()) {
+                    type = type.getComponentType();
+                }
+                if (type != null && !type.isPrimitive() && bcm.classForName(type.getName()) != type) {
+                    return null;
+                }
+            }
+        } catch (LinkageError e) {
+            return null;
+        }
+        return clas;
+    }
+
+
+    /**
+     * Get the bytecode of the class from the cache, from the on-disk store
+     * or else generate it.
+     */
+    private static byte[] getCode(ClassGeneratorUtil classGenerator, String className, String signature) {
+        byte[] code = generatedCode.get(signature);
+        if (code != null) {
+            return code;
+        }
+
+        File file = CACHE_DIR == null ? null : new File(CACHE_DIR, className + '-' + hash(signature) + ".class");
+        if (file != null && file.isFile()) try {
+            code = readFully(file);
+        } catch (IOException e) {
+            Interpreter.debug("Unable to read " + file + ": " + e);
+        }
+
+        if (code == null) {
+            code = classGenerator.generateClass();
+            if (file != null) try {
+                // write and rename, so that no other process reads a partial file
+                File tmp = File.createTempFile("bshClass", ".tmp", file.getParentFile());
+                FileOutputStream out = new FileOutputStream(tmp);
+                try {
+                    out.write(code);
+                } finally {
+                    out.close();
+                }
+                if (!tmp.renameTo(file)) {
+                    tmp.delete();
+                }
+            } catch (IOException e) {
+                Interpreter.debug("Unable to write " + file + ": " + e);
+            }
+        }
+
+        generatedCode.put(signature, code);
+        return code;
+    }
+
+
+    /**
+     * Get the cached bytecode of the class generated for a declaration with
+     * the signature, null if there is none.
+     */
+    static byte[] getGeneratedCode(String signature) {
+        return generatedCode.get(signature);
+    }
+
+
+    /**
+     * Add bytecode generated ahead of time (see ScriptCompiler) to the
+     * cache, so that it is used for declarations with the signature instead
+     * of generating it again.
+     */
+    static void addGeneratedCode(String signature, byte[] code) {
+        generatedCode.put(signature, code);
+    }
+
+
+    /**
+     * The statistics of the bytecode cache shared by all interpreters.
+     */
+    public static LookupCache.Stats getCodeCacheStats() {
+        return generatedCode.getStats();
+    }
+
+
+    /**
+     * The name of a class in the on-disk store, which changes with the
+     * version of bsh and the code revision as the generated bytecode may.
+     */
+    private static String hash(String signature) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest((CODE_VERSION + '\n' + signature).getBytes("UTF-8"));
+            StringBuilder sb = new StringBuilder();
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return sb.toString();
+        } catch (Exception e) {
+            throw new InterpreterError("Unable to hash class signature: " + e);
+        }
+    }
+
+
+    private static byte[] readFully(File file) throws IOException {
+        byte[] bytes = new byte[(int) file.length()];
+        DataInputStream in = new DataInputStream(new FileInputStream(file));
+        try {
+            in.readFully(bytes);
+        } finally {
+            in.close();
+        }
+        return bytes;
+    }
+
+
     static Variable[] getDeclaredVariables(BSHBlock body, CallStack callstack, Interpreter interpreter, String defaultPackage) {
         List<Variable> vars = new ArrayList<Variable>();
         for (int child = 0; child < body.jjtGetNumChildren(); child++) {
@@ -178,6 +370,7 @@ public final class ClassGenerator {
                 String[] paramTypes = paramTypesNode.getTypeDescriptors(callstack, interpreter, defaultPackage);
 
                 DelayedEvalBshMethod bm = new DelayedEvalBshMethod(name, returnType, returnTypeNode, md.paramsNode.getParamNames(), paramTypes, paramTypesNode, md.blockNode, null/*declaringNameSpace*/, modifiers, callstack, interpreter);
+                bm.frameLayout = md.getFrameLayout();
 
                 methods.add(bm);
             }
@@ -92,20 +92,16 @@ public class ClassGeneratorUtil implements Constants {
 	private static final String BSHTHIS = "_bshThis";
 
 	/**
-	 * The prefix for the name of the super delegate methods. e.g.
-	 * _bshSuperfoo() is equivalent to super.foo()
-	 */
-	static final String BSHSUPER = "_bshSuper";
-
-	/**
-	 * The bsh static namespace variable name of the instance initializer
+	 * The name of the static field holding the method declarations which
+	 * the delegate methods invoke, indexed as the methods of the class body.
 	 */
-	static final String BSHINIT = "_bshInstanceInitializer";
+	private static final String BSHMETHODS = "_bshMethods";
 
 	/**
-	 * The bsh static namespace variable that holds the constructor methods
+	 * The prefix for the name of the super delegate methods. e.g.
+	 * _bshSuperfoo() is equivalent to super.foo()
 	 */
-	private static final String BSHCONSTRUCTORS = "_bshConstructors";
+	static final String BSHSUPER = "_bshSuper";
 
 	/**
 	 * The switch branch number for the default constructor.
@@ -130,6 +126,17 @@ public class ClassGeneratorUtil implements Constants {
 	private final NameSpace classStaticNameSpace;
 	private final Modifiers classModifiers;
 	private boolean isInterface;
+	/**
+	 * Whether each of the methods overrides a superclass method, which
+	 * gets a super delegate method
+	 */
+	private final boolean[] overridden;
+	/**
+	 * The typed instance fields, which the generated field accessors
+	 * index after the fields of the generated superclasses
+	 */
+	private final Variable[] instanceFields;
+	private final int fieldBase;
 
 
 	/**
@@ -171,13 +178,66 @@ public class ClassGeneratorUtil implements Constants {
 		this.constructors = (DelayedEvalBshMethod[]) consl.toArray(new DelayedEvalBshMethod[consl.size()]);
 		this.methods = (DelayedEvalBshMethod[]) methodsl.toArray(new DelayedEvalBshMethod[methodsl.size()]);
 
-		try {
-			classStaticNameSpace.setLocalVariable(BSHCONSTRUCTORS, constructors, false/*strict*/);
-		} catch (UtilEvalError e) {
-			throw new InterpreterError("can't set cons var");
+		this.isInterface = isInterface;
+
+		this.overridden = new boolean[methods.length];
+		for (int i = 0; i < methods.length; i++) {
+			overridden[i] = classContainsMethod(superClass, methods[i].getName(), methods[i].getParamTypeDescriptors());
 		}
 
-		this.isInterface = isInterface;
+		List<Variable> fields = new ArrayList<Variable>();
+		if ( ! isInterface) {
+			for (Variable var : vars) {
+				if ( ! var.hasModifier("private") && ! var.hasModifier("static") && var.getTypeDescriptor() != null) {
+					fields.add(var);
+				}
+			}
+		}
+		this.instanceFields = fields.toArray(new Variable[fields.size()]);
+		this.fieldBase = GeneratedClass.class.isAssignableFrom(superClass) ? getInstanceFields(superClass).size() : 0;
+	}
+
+
+	/**
+	 * Describe everything that the generated bytecode depends on: the
+	 * names, modifiers and types of the class and its members, and the
+	 * constructors and overridden methods of the superclass.  Classes
+	 * with equal signatures have identical bytecode.
+	 */
+	String getSignature() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(getASMModifiers(classModifiers)).append(isInterface ? " interface " : " class ").append(fqClassName);
+		sb.append(" extends ").append(superClassName);
+		for (Class interf : interfaces) {
+			sb.append(' ').append(Type.getInternalName(interf));
+		}
+		sb.append('\n');
+		for (Constructor superConstructor : superConstructors) {
+			sb.append("super <init>").append(getMethodDescriptor("V", getTypeDescriptors(superConstructor.getParameterTypes()))).append('\n');
+		}
+		for (Variable var : vars) {
+			appendModifiers(sb, var.getModifiers());
+			sb.append(var.getTypeDescriptor()).append(' ').append(var.getName()).append('\n');
+		}
+		sb.append("super fields ").append(fieldBase).append('\n');
+		for (DelayedEvalBshMethod constructor : constructors) {
+			appendModifiers(sb, constructor.getModifiers());
+			sb.append("<init>").append(getMethodDescriptor("V", constructor.getParamTypeDescriptors())).append('\n');
+		}
+		for (int i = 0; i < methods.length; i++) {
+			appendModifiers(sb, methods[i].getModifiers());
+			sb.append(methods[i].getName()).append(getMethodDescriptor(methods[i].getReturnTypeDescriptor(), methods[i].getParamTypeDescriptors()));
+			sb.append(overridden[i] ? " overrides\n" : "\n");
+		}
+		return sb.toString();
+	}
+
+
+	private static void appendModifiers(StringBuilder sb, Modifiers modifiers) {
+		if (modifiers != null && modifiers.hasModifier("private")) {
+			sb.append("private ");
+		}
+		sb.append(getASMModifiers(modifiers)).append(' ');
 	}
 
 
@@ -209,6 +269,9 @@ public class ClassGeneratorUtil implements Constants {
 
 			// Generate the static bsh static reference holder field
 			generateField(BSHSTATIC + className, "Lbsh/This;", ACC_PUBLIC + ACC_STATIC, cw);
+
+			// Generate the static method declarations field
+			generateField(BSHMETHODS + className, "[Lbsh/BshMethod;", ACC_PUBLIC + ACC_STATIC, cw);
 		}
 
 		// Generate the fields
@@ -249,8 +312,15 @@ public class ClassGeneratorUtil implements Constants {
 			generateConstructor(DEFAULTCONSTRUCTOR/*index*/, new String[0], ACC_PUBLIC, cw);
 		}
 
+		// Generate the typed field accessors
+		if ( ! isInterface) {
+			generateFieldGetter(cw);
+			generateFieldSetter(cw);
+		}
+
 		// Generate the delegate methods
-		for (DelayedEvalBshMethod method : methods) {
+		for (int i = 0; i < methods.length; i++) {
+			DelayedEvalBshMethod method = methods[i];
 			String returnType = method.getReturnTypeDescriptor();
 
 			// Don't generate private /*or loosely return typed */ methods
@@ -263,11 +333,10 @@ public class ClassGeneratorUtil implements Constants {
 				modifiers |= (ACC_PUBLIC | ACC_ABSTRACT);
 			}
 
-			generateMethod(className, fqClassName, method.getName(), returnType, method.getParamTypeDescriptors(), modifiers, cw);
+			generateMethod(className, fqClassName, i, method.getName(), returnType, method.getParamTypeDescriptors(), modifiers, cw);
 
 			boolean isStatic = (modifiers & ACC_STATIC) > 0;
-			boolean overridden = classContainsMethod(superClass, method.getName(), method.getParamTypeDescriptors());
-			if (!isStatic && overridden) {
+			if (!isStatic && overridden[i]) {
 				generateSuperDelegateMethod(superClassName, method.getName(), returnType, method.getParamTypeDescriptors(), modifiers, cw);
 			}
 		}
@@ -313,14 +382,118 @@ public class ClassGeneratorUtil implements Constants {
 	}
 
 
+	/**
+	 * Generate the GeneratedClass._bshGetField() accessor, which switches
+	 * on the index of the typed instance field to read it, wrapping
+	 * primitive values in bsh.Primitive.  Indexes of the fields of
+	 * generated superclasses are passed on to the superclass.
+	 */
+	private void generateFieldGetter(ClassWriter cw) {
+		CodeVisitor cv = cw.visitMethod(ACC_PUBLIC, "_bshGetField", "(I)Ljava/lang/Object;", null/*exceptions*/);
+		Label defaultLabel = new Label();
+		Label[] labels = generateFieldSwitch(defaultLabel, cv);
+		for (int i = 0; i < instanceFields.length; i++) {
+			String type = instanceFields[i].getTypeDescriptor();
+			cv.visitLabel(labels[i]);
+			if (isPrimitive(type)) {
+				cv.visitTypeInsn(NEW, "bsh/Primitive");
+				cv.visitInsn(DUP);
+				cv.visitVarInsn(ALOAD, 0);
+				cv.visitFieldInsn(GETFIELD, fqClassName, instanceFields[i].getName(), type);
+				cv.visitMethodInsn(INVOKESPECIAL, "bsh/Primitive", "<init>", "(" + type + ")V");
+			} else {
+				cv.visitVarInsn(ALOAD, 0);
+				cv.visitFieldInsn(GETFIELD, fqClassName, instanceFields[i].getName(), type);
+			}
+			cv.visitInsn(ARETURN);
+		}
+		cv.visitLabel(defaultLabel);
+		if (fieldBase > 0) {
+			cv.visitVarInsn(ALOAD, 0);
+			cv.visitVarInsn(ILOAD, 1);
+			cv.visitMethodInsn(INVOKESPECIAL, superClassName, "_bshGetField", "(I)Ljava/lang/Object;");
+			cv.visitInsn(ARETURN);
+		} else {
+			generateIndexError(cv);
+		}
+		cv.visitMaxs(20, 20);
+	}
+
+
+	/**
+	 * Generate the GeneratedClass._bshSetField() accessor, which switches
+	 * on the index of the typed instance field to write it, unwrapping
+	 * bsh.Primitive values.  Indexes of the fields of generated
+	 * superclasses are passed on to the superclass.
+	 */
+	private void generateFieldSetter(ClassWriter cw) {
+		CodeVisitor cv = cw.visitMethod(ACC_PUBLIC, "_bshSetField", "(ILjava/lang/Object;)V", null/*exceptions*/);
+		Label defaultLabel = new Label();
+		Label[] labels = generateFieldSwitch(defaultLabel, cv);
+		for (int i = 0; i < instanceFields.length; i++) {
+			String type = instanceFields[i].getTypeDescriptor();
+			cv.visitLabel(labels[i]);
+			cv.visitVarInsn(ALOAD, 0);
+			cv.visitVarInsn(ALOAD, 2);
+			cv.visitMethodInsn(INVOKESTATIC, "bsh/Primitive", "unwrap", "(Ljava/lang/Object;)Ljava/lang/Object;");
+			generateUnboxCode(type, cv);
+			cv.visitFieldInsn(PUTFIELD, fqClassName, instanceFields[i].getName(), type);
+			cv.visitInsn(RETURN);
+		}
+		cv.visitLabel(defaultLabel);
+		if (fieldBase > 0) {
+			cv.visitVarInsn(ALOAD, 0);
+			cv.visitVarInsn(ILOAD, 1);
+			cv.visitVarInsn(ALOAD, 2);
+			cv.visitMethodInsn(INVOKESPECIAL, superClassName, "_bshSetField", "(ILjava/lang/Object;)V");
+			cv.visitInsn(RETURN);
+		} else {
+			generateIndexError(cv);
+		}
+		cv.visitMaxs(20, 20);
+	}
+
+
+	/**
+	 * Generate a switch on the field index argument, less the fields of
+	 * the superclasses, with a label per instance field.
+	 */
+	private Label[] generateFieldSwitch(Label defaultLabel, CodeVisitor cv) {
+		Label[] labels = new Label[instanceFields.length];
+		for (int i = 0; i < labels.length; i++) {
+			labels[i] = new Label();
+		}
+		if (labels.length > 0) {
+			cv.visitVarInsn(ILOAD, 1);
+			cv.visitIntInsn(SIPUSH, fieldBase);
+			cv.visitInsn(ISUB);
+			cv.visitTableSwitchInsn(0/*min*/, labels.length - 1/*max*/, defaultLabel, labels);
+		}
+		return labels;
+	}
+
+
+	/**
+	 * Generate code to throw an IndexOutOfBoundsException.
+	 */
+	private static void generateIndexError(CodeVisitor cv) {
+		cv.visitTypeInsn(NEW, "java/lang/IndexOutOfBoundsException");
+		cv.visitInsn(DUP);
+		cv.visitMethodInsn(INVOKESPECIAL, "java/lang/IndexOutOfBoundsException", "<init>", "()V");
+		cv.visitInsn(ATHROW);
+	}
+
+
 	/**
 	 * Generate a delegate method - static or instance.
 	 * The generated code packs the method arguments into an object array
-	 * (wrapping primitive types in bsh.Primitive), invokes the static or
-	 * instance namespace invokeMethod() method, and then unwraps / returns
-	 * the result.
+	 * (wrapping primitive types in bsh.Primitive), invokes the method
+	 * declaration at the index in the methods field through invokeMethod()
+	 * with the static or instance This, and then unwraps / returns the
+	 * result.  The declaration is bound when the class is defined, so that
+	 * the call does not look up the method by name and argument types.
 	 */
-	private static void generateMethod(String className, String fqClassName, String methodName, String returnType, String[] paramTypes, int modifiers, ClassWriter cw) {
+	private static void generateMethod(String className, String fqClassName, int index, String methodName, String returnType, String[] paramTypes, int modifiers, ClassWriter cw) {
 		String[] exceptions = null;
 		boolean isStatic = (modifiers & ACC_STATIC) != 0;
 
@@ -338,6 +511,11 @@ public class ClassGeneratorUtil implements Constants {
 			return;
 		}
 
+		// Push the method declaration
+		cv.visitFieldInsn(GETSTATIC, fqClassName, BSHMETHODS + className, "[Lbsh/BshMethod;");
+		cv.visitIntInsn(SIPUSH, index);
+		cv.visitInsn(AALOAD);
+
 		// Generate code to push the BSHTHIS or BSHSTATIC field
 		if (isStatic) {
 			cv.visitFieldInsn(GETSTATIC, fqClassName, BSHSTATIC + className, "Lbsh/This;");
@@ -349,22 +527,11 @@ public class ClassGeneratorUtil implements Constants {
 			cv.visitFieldInsn(GETFIELD, fqClassName, BSHTHIS + className, "Lbsh/This;");
 		}
 
-		// Push the name of the method as a constant
-		cv.visitLdcInsn(methodName);
-
 		// Generate code to push arguments as an object array
 		generateParameterReifierCode(paramTypes, isStatic, cv);
 
-		// Push nulls for various args of invokeMethod
-		cv.visitInsn(ACONST_NULL); // interpreter
-		cv.visitInsn(ACONST_NULL); // callstack
-		cv.visitInsn(ACONST_NULL); // callerinfo
-
-		// Push the boolean constant 'true' (for declaredOnly)
-		cv.visitInsn(ICONST_1);
-
-		// Invoke the method This.invokeMethod( name, Class [] sig, boolean )
-		cv.visitMethodInsn(INVOKEVIRTUAL, "bsh/This", "invokeMethod", Type.getMethodDescriptor(Type.getType(Object.class), new Type[]{Type.getType(String.class), Type.getType(Object[].class), Type.getType(Interpreter.class), Type.getType(CallStack.class), Type.getType(SimpleNode.class), Type.getType(Boolean.TYPE)}));
+		// Invoke the method ClassGeneratorUtil.invokeMethod( method, This, Object [] )
+		cv.visitMethodInsn(INVOKESTATIC, "bsh/ClassGeneratorUtil", "invokeMethod", Type.getMethodDescriptor(Type.getType(Object.class), new Type[]{Type.getType(BshMethod.class), Type.getType(This.class), Type.getType(Object[].class)}));
 
 		// Generate code to unwrap bsh Primitive types
 		cv.visitMethodInsn(INVOKESTATIC, "bsh/Primitive", "unwrap", "(Ljava/lang/Object;)Ljava/lang/Object;");
@@ -377,6 +544,76 @@ public class ClassGeneratorUtil implements Constants {
 	}
 
 
+	/**
+	 * Invoke a method declaration of a generated class in the namespace of
+	 * the static or instance This.  This is called by the generated
+	 * delegate methods, see generateMethod().
+	 */
+	public static Object invokeMethod(BshMethod method, This thisRef, Object[] args) throws EvalError {
+		// Wrap nulls, as This.invokeMethod() does
+		for (int i = 0; i < args.length; i++) {
+			if (args[i] == null) {
+				args[i] = Primitive.NULL;
+			}
+		}
+		NameSpace namespace = thisRef.getNameSpace();
+		return method.invoke(args, thisRef.declaringInterpreter, new CallStack(namespace), SimpleNode.JAVACODE, false/*overrideNameSpace*/, namespace);
+	}
+
+
+	/**
+	 * Give the class static namespace the typed instance fields of the
+	 * generated class, for the instance namespaces.
+	 */
+	void bindInstanceFields(Class genClass) {
+		String[] names = new String[instanceFields.length];
+		Class[] types = new Class[instanceFields.length];
+		try {
+			for (int i = 0; i < names.length; i++) {
+				names[i] = instanceFields[i].getName();
+				types[i] = genClass.getDeclaredField(names[i]).getType();
+			}
+		} catch (NoSuchFieldException e) {
+			throw new InterpreterError("Error in class gen setup: " + e);
+		}
+		classStaticNameSpace.setInstanceFields(new InstanceFields(fieldBase, names, types));
+	}
+
+
+	/**
+	 * Get the typed instance fields of a generated class from its static
+	 * namespace.
+	 */
+	static InstanceFields getInstanceFields(Class genClass) {
+		String className = genClass.getName();
+		className = className.substring(className.lastIndexOf('.') + 1);
+		return getClassStaticThis(genClass, className).getNameSpace().getInstanceFields();
+	}
+
+
+	/**
+	 * Bind the delegate methods of the generated class to the method
+	 * declarations of the class body.
+	 */
+	void bindMethods(Class genClass) {
+		try {
+			LHS lhs = Reflect.getLHSStaticField(genClass, BSHMETHODS + className);
+			lhs.assign(methods, false/*strict*/);
+		} catch (Exception e) {
+			throw new InterpreterError("Error in class gen setup: " + e);
+		}
+	}
+
+
+	/**
+	 * Give the static namespace the instance initializer of the class body,
+	 * which is evaluated by initInstance().
+	 */
+	void bindInstanceInitializer(BSHBlock block) {
+		classStaticNameSpace.setInstanceInitializer(new InstanceInitializer(block, getBaseName(className), constructors, superConstructors));
+	}
+
+
 	/**
 	 * Generate a constructor.
 	 */
@@ -410,8 +647,11 @@ public class ClassGeneratorUtil implements Constants {
 		// Push arguments as an object array
 		cv.visitVarInsn(ALOAD, argsVar);
 
+		// push this constructor index number onto stack
+		cv.visitIntInsn(BIPUSH, index);
+
 		// invoke the initInstance() method
-		cv.visitMethodInsn(INVOKESTATIC, "bsh/ClassGeneratorUtil", "initInstance", "(L" + GeneratedClass.class.getName().replace('.', '/') + ";Ljava/lang/String;[Ljava/lang/Object;)V");
+		cv.visitMethodInsn(INVOKESTATIC, "bsh/ClassGeneratorUtil", "initInstance", "(L" + GeneratedClass.class.getName().replace('.', '/') + ";Ljava/lang/String;[Ljava/lang/Object;I)V");
 
 		cv.visitInsn(RETURN);
 
@@ -551,7 +791,7 @@ public class ClassGeneratorUtil implements Constants {
 	}
 
 
-	private static String getMethodDescriptor(String returnType, String[] paramTypes) {
+	static String getMethodDescriptor(String returnType, String[] paramTypes) {
 		StringBuilder sb = new StringBuilder("(");
 		for (String paramType : paramTypes) {
 			sb.append(paramType);
@@ -664,7 +904,7 @@ public class ClassGeneratorUtil implements Constants {
 	 * @author Eric Bruneton
 	 * @author Pat Niemeyer
 	 */
-	private static void generateParameterReifierCode(String[] paramTypes, boolean isStatic, final CodeVisitor cv) {
+	static void generateParameterReifierCode(String[] paramTypes, boolean isStatic, final CodeVisitor cv) {
 		cv.visitIntInsn(SIPUSH, paramTypes.length);
 		cv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
 		int localVarIndex = isStatic ? 0 : 1;
@@ -713,54 +953,66 @@ public class ClassGeneratorUtil implements Constants {
 	 * @author Eric Bruneton
 	 * @author Pat Niemeyer
 	 */
-	private static void generateReturnCode(String returnType, CodeVisitor cv) {
+	static void generateReturnCode(String returnType, CodeVisitor cv) {
 		if (returnType.equals("V")) {
 			cv.visitInsn(POP);
 			cv.visitInsn(RETURN);
-		} else if (isPrimitive(returnType)) {
-			int opcode = IRETURN;
-			String type;
-			String meth;
-			if (returnType.equals("B")) {
-				type = "java/lang/Byte";
-				meth = "byteValue";
-			} else if (returnType.equals("I")) {
-				type = "java/lang/Integer";
-				meth = "intValue";
-			} else if (returnType.equals("Z")) {
-				type = "java/lang/Boolean";
-				meth = "booleanValue";
-			} else if (returnType.equals("D")) {
-				opcode = DRETURN;
-				type = "java/lang/Double";
-				meth = "doubleValue";
-			} else if (returnType.equals("F")) {
-				opcode = FRETURN;
-				type = "java/lang/Float";
-				meth = "floatValue";
-			} else if (returnType.equals("J")) {
-				opcode = LRETURN;
-				type = "java/lang/Long";
-				meth = "longValue";
-			} else if (returnType.equals("C")) {
-				type = "java/lang/Character";
-				meth = "charValue";
-			} else /*if (returnType.equals("S") )*/ {
-				type = "java/lang/Short";
-				meth = "shortValue";
-			}
-
-			String desc = returnType;
-			cv.visitTypeInsn(CHECKCAST, type); // type is correct here
-			cv.visitMethodInsn(INVOKEVIRTUAL, type, meth, "()" + desc);
-			cv.visitInsn(opcode);
 		} else {
-			cv.visitTypeInsn(CHECKCAST, descriptorToClassName(returnType));
-			cv.visitInsn(ARETURN);
+			cv.visitInsn(generateUnboxCode(returnType, cv));
 		}
 	}
 
 
+	/**
+	 * Generate code to convert the wrapper object on the stack to the
+	 * primitive type, or to cast the object to the type.
+	 *
+	 * @return the opcode which returns a value of the type
+	 */
+	private static int generateUnboxCode(String type, CodeVisitor cv) {
+		if ( ! isPrimitive(type)) {
+			cv.visitTypeInsn(CHECKCAST, descriptorToClassName(type));
+			return ARETURN;
+		}
+
+		int opcode = IRETURN;
+		String wrapper;
+		String meth;
+		if (type.equals("B")) {
+			wrapper = "java/lang/Byte";
+			meth = "byteValue";
+		} else if (type.equals("I")) {
+			wrapper = "java/lang/Integer";
+			meth = "intValue";
+		} else if (type.equals("Z")) {
+			wrapper = "java/lang/Boolean";
+			meth = "booleanValue";
+		} else if (type.equals("D")) {
+			opcode = DRETURN;
+			wrapper = "java/lang/Double";
+			meth = "doubleValue";
+		} else if (type.equals("F")) {
+			opcode = FRETURN;
+			wrapper = "java/lang/Float";
+			meth = "floatValue";
+		} else if (type.equals("J")) {
+			opcode = LRETURN;
+			wrapper = "java/lang/Long";
+			meth = "longValue";
+		} else if (type.equals("C")) {
+			wrapper = "java/lang/Character";
+			meth = "charValue";
+		} else /*if (type.equals("S") )*/ {
+			wrapper = "java/lang/Short";
+			meth = "shortValue";
+		}
+
+		cv.visitTypeInsn(CHECKCAST, wrapper); // type is correct here
+		cv.visitMethodInsn(INVOKEVIRTUAL, wrapper, meth, "()" + type);
+		return opcode;
+	}
+
+
 	/**
 	 * Evaluate the arguments (if any) for the constructor specified by
 	 * the constructor index.  Return the ConstructorArgs object which
@@ -773,43 +1025,24 @@ public class ClassGeneratorUtil implements Constants {
 	 *         and evaluated arguments for the alternate constructor
 	 */
 	public static ConstructorArgs getConstructorArgs(String superClassName, This classStaticThis, Object[] consArgs, int index) {
-		DelayedEvalBshMethod[] constructors;
-		try {
-			constructors = (DelayedEvalBshMethod[]) classStaticThis.getNameSpace().getVariable(BSHCONSTRUCTORS);
-		} catch (Exception e) {
-			throw new InterpreterError("unable to get instance initializer: " + e);
-		}
-
 		if (index == DEFAULTCONSTRUCTOR) // auto-gen default constructor
 		{
 			return ConstructorArgs.DEFAULT;
 		} // use default super constructor
 
+		InstanceInitializer initializer = classStaticThis.getNameSpace().getInstanceInitializer();
+		if (initializer == null) {
+			throw new InterpreterError("unable to get instance initializer");
+		}
+		DelayedEvalBshMethod[] constructors = initializer.getConstructors();
 		DelayedEvalBshMethod constructor = constructors[index];
 
-		if (constructor.methodBody.jjtGetNumChildren() == 0) {
-			return ConstructorArgs.DEFAULT;
-		} // use default super constructor
-
 		// Determine if the constructor calls this() or super()
-		String altConstructor = null;
-		BSHArguments argsNode = null;
-		SimpleNode firstStatement = (SimpleNode) constructor.methodBody.jjtGetChild(0);
-		if (firstStatement instanceof BSHPrimaryExpression) {
-			firstStatement = (SimpleNode) firstStatement.jjtGetChild(0);
-		}
-		if (firstStatement instanceof BSHMethodInvocation) {
-			BSHMethodInvocation methodNode = (BSHMethodInvocation) firstStatement;
-			BSHAmbiguousName methodName = methodNode.getNameNode();
-			if (methodName.text.equals("super") || methodName.text.equals("this")) {
-				altConstructor = methodName.text;
-				argsNode = methodNode.getArgsNode();
-			}
-		}
-
+		BSHMethodInvocation altConstructor = initializer.getAltConstructor(index);
 		if (altConstructor == null) {
 			return ConstructorArgs.DEFAULT;
 		} // use default super constructor
+		BSHArguments argsNode = altConstructor.getArgsNode();
 
 		// Make a tmp namespace to hold the original constructor args for
 		// use in eval of the parameters node
@@ -839,14 +1072,10 @@ public class ClassGeneratorUtil implements Constants {
 
 		Class[] argTypes = Types.getTypes(args);
 		args = Primitive.unwrap(args);
-		Class superClass = interpreter.getClassManager().classForName(superClassName);
-		if (superClass == null) {
-			throw new InterpreterError("can't find superclass: " + superClassName);
-		}
-		Constructor[] superCons = superClass.getDeclaredConstructors();
+		Constructor[] superCons = initializer.getSuperConstructors();
 
 		// find the matching super() constructor for the args
-		if (altConstructor.equals("super")) {
+		if (altConstructor.getNameNode().text.equals("super")) {
 			int i = Reflect.findMostSpecificConstructorIndex(argTypes, superCons);
 			if (i == -1) {
 				throw new InterpreterError("can't find constructor for args!");
@@ -883,7 +1112,7 @@ public class ClassGeneratorUtil implements Constants {
 
 	/**
 	 * Register actual context, used by generated class constructor, which calls
-	 * {@link  #initInstance(GeneratedClass, String, Object[])}.
+	 * {@link  #initInstance(GeneratedClass, String, Object[], int)}.
 	 */
 	static void registerConstructorContext(CallStack callstack, Interpreter interpreter) {
 		if (callstack != null) {
@@ -904,9 +1133,11 @@ public class ClassGeneratorUtil implements Constants {
 	 * This method is called from the generated class constructor to evaluate
 	 * the instance initializer and scripted constructor in the instance
 	 * namespace.
+	 *
+	 * @param index the index of the scripted constructor which was called,
+	 *              or DEFAULTCONSTRUCTOR for the generated default constructor
 	 */
-	public static void initInstance(GeneratedClass instance, String className, Object[] args) {
-		Class[] sig = Types.getTypes(args);
+	public static void initInstance(GeneratedClass instance, String className, Object[] args, int index) {
 		CallStack callstack = new CallStack();
 		Interpreter interpreter;
 		NameSpace instanceNameSpace;
@@ -915,6 +1146,7 @@ public class ClassGeneratorUtil implements Constants {
 		// (the case if using a this() alternate constuctor)
 		// todo PeJoBo70 write test for this
 		This instanceThis = getClassInstanceThis(instance, className);
+		InstanceInitializer initializer;
 
 		// XXX clean up this conditional
 		if (instanceThis == null) {
@@ -929,12 +1161,10 @@ public class ClassGeneratorUtil implements Constants {
 			}
 
 
-			// Get the instance initializer block from the static This
-			BSHBlock instanceInitBlock;
-			try {
-				instanceInitBlock = (BSHBlock) classStaticThis.getNameSpace().getVariable(BSHINIT);
-			} catch (Exception e) {
-				throw new InterpreterError("unable to get instance initializer: " + e);
+			// Get the instance initializer from the static This
+			initializer = classStaticThis.getNameSpace().getInstanceInitializer();
+			if (initializer == null) {
+				throw new InterpreterError("unable to get instance initializer");
 			}
 
 			// Create the instance namespace
@@ -955,15 +1185,17 @@ public class ClassGeneratorUtil implements Constants {
 				throw new InterpreterError("Error in class gen setup: " + e);
 			}
 
-			// Give the instance space its object import
+			// Give the instance space its object import and typed fields
 			instanceNameSpace.setClassInstance(instance);
+			instanceNameSpace.setInstanceFields(classStaticThis.getNameSpace().getInstanceFields());
 
 			// should use try/finally here to pop ns
 			callstack.push(instanceNameSpace);
 
-			// evaluate the instance portion of the block in it
-			try { // Evaluate the initializer block
-				instanceInitBlock.evalBlock(callstack, interpreter, true/*override*/, ClassGenerator.ClassNodeFilter.CLASSINSTANCE);
+			// declare the instance methods and evaluate the instance
+			// initializer statements in it
+			try {
+				initializer.init(callstack, interpreter);
 			} catch (Exception e) {
 				throw new InterpreterError("Error in class initialization: " + e, e);
 			}
@@ -975,24 +1207,19 @@ public class ClassGeneratorUtil implements Constants {
 			// constructor.  Fall through to invoke the constructor body below.
 			interpreter = instanceThis.declaringInterpreter;
 			instanceNameSpace = instanceThis.getNameSpace();
+			initializer = getClassStaticThis(instance.getClass(), className).getNameSpace().getInstanceInitializer();
 		}
 
-		// invoke the constructor method from the instanceThis
+		// the generated default constructor has no scripted body
+		if (index == DEFAULTCONSTRUCTOR) {
+			return;
+		}
 
-		String constructorName = getBaseName(className);
+		// invoke the scripted constructor of the Java constructor in the
+		// instance namespace
 		try {
-			// Find the constructor (now in the instance namespace)
-			BshMethod constructor = instanceNameSpace.getMethod(constructorName, sig, true/*declaredOnly*/);
-
-			// if args, we must have constructor
-			if (args.length > 0 && constructor == null) {
-				throw new InterpreterError("Can't find constructor: " + className);
-			}
-
-			// Evaluate the constructor
-			if (constructor != null) {
-				constructor.invoke(args, interpreter, callstack, null/*callerInfo*/, false/*overrideNameSpace*/);
-			}
+			BshMethod constructor = initializer.getConstructor(index);
+			constructor.invoke(args, interpreter, callstack, null/*callerInfo*/, false/*overrideNameSpace*/, instanceNameSpace);
 		} catch (Exception e) {
 			if (e instanceof TargetError) {
 				e = (Exception) ((TargetError) e).getTarget();
@@ -0,0 +1,132 @@
+package bsh;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+	The parsed scripted commands of the JVM, so that a command script (e.g.
+	bsh/commands/print.bsh) is read and parsed once rather than by every
+	interpreter which uses it.  Each interpreter still evaluates the shared
+	statements into its own namespace, which declares the command methods.
+	<p>
+
+	Scripts are registered by the resource scope of the class manager (the
+	class loader which its resources are found through) and the resource
+	path, which together identify the resource URL.  Paths where there is
+	no script are registered too, so that looking up a missing command does
+	not search the class path for its script again.  Class managers with an
+	extended class path have a scope of their own, class managers which do
+	not have a scope are not cached.
+	<p>
+
+	Scopes are held weakly and their scripts softly, parsed statements may
+	reference classes of the scope through the types they resolved.  A
+	class manager drops the scripts of its scope when its class path
+	changes, which may extend the class loader of the scope in place.
+	Command scripts are assumed not to change while the JVM runs.  The
+	.bshc form of a script (see ASTSerializer) next to it is loaded instead
+	of parsing the script when it was written from the same text.
+	@see NameSpace#getCommand( String, Class [], Interpreter )
+	@see BshClassManager#getResourceScope()
+*/
+final class CommandRegistry
+{
+	/** The statements of a script by resource path, or NO_SCRIPT */
+	private static final Map<Object,SoftReference<Map<String,Object>>>
+		scopes = Collections.synchronizedMap(
+			new WeakHashMap<Object,SoftReference<Map<String,Object>>>() );
+
+	private static final Object NO_SCRIPT = new Object();
+
+	private CommandRegistry() { }
+
+	/**
+		Get the parsed statements of the command script, reading and parsing
+		it on first use.
+		@return the statements or null if there is no script at the path.
+		@throws EvalError on errors parsing the script.
+	*/
+	static SimpleNode [] getScript( BshClassManager bcm, String scriptPath )
+		throws EvalError
+	{
+		Object scope = bcm.getResourceScope();
+		Map<String,Object> scripts = scope == null ? null : getScripts( scope );
+		Object script = scripts == null ? null : scripts.get( scriptPath );
+		if ( script == null )
+		{
+			script = loadScript( bcm, scriptPath );
+			if ( scripts != null )
+				scripts.put( scriptPath, script );
+		}
+		return script == NO_SCRIPT ? null : (SimpleNode [])script;
+	}
+
+	/**
+		Drop the scripts registered for the resource scope, including the
+		paths where there was no script.
+		@see BshClassManager#resourcesChanged()
+	*/
+	static void clear( Object scope ) {
+		if ( scope != null )
+			scopes.remove( scope );
+	}
+
+	private static Map<String,Object> getScripts( Object scope )
+	{
+		synchronized ( scopes )
+		{
+			SoftReference<Map<String,Object>> ref = scopes.get( scope );
+			Map<String,Object> scripts = ref == null ? null : ref.get();
+			if ( scripts == null )
+			{
+				scripts = new ConcurrentHashMap<String,Object>();
+				scopes.put( scope, new SoftReference<Map<String,Object>>(
+					scripts ) );
+			}
+			return scripts;
+		}
+	}
+
+	private static Object loadScript( BshClassManager bcm, String scriptPath )
+		throws EvalError
+	{
+		Interpreter.debug("searching for script: "+scriptPath );
+		InputStream in = bcm.getResourceAsStream( scriptPath );
+		if ( in == null )
+			return NO_SCRIPT;
+
+		byte [] text;
+		try {
+			try {
+				text = ASTSerializer.readFully( in );
+			} finally {
+				in.close();
+			}
+
+			// the parsed form written at build time, see ASTSerializer
+			in = bcm.getResourceAsStream( ASTSerializer.getPath( scriptPath ) );
+			if ( in != null )
+				try {
+					SimpleNode [] script =
+						ASTSerializer.readFresh( in, text, scriptPath );
+					if ( script != null )
+						return script;
+				} finally {
+					in.close();
+				}
+		} catch ( IOException e ) {
+			throw new EvalError( "Error reading script: " + scriptPath
+				+ ": " + e, null, null, e );
+		}
+
+		return Interpreter.parse( new InputStreamReader(
+			new ByteArrayInputStream( text ) ), scriptPath );
+	}
+}
@@ -44,6 +44,10 @@ public class DelayedEvalBshMethod extends BshMethod
 	transient CallStack callstack;
 	transient Interpreter interpreter;
 
+	// the types once evaluated, the nodes do not cache class types
+	private transient volatile Class returnType;
+	private transient volatile Class [] paramTypes;
+
 	/**
 		This constructor is used in class generation.  It supplies String type
 		descriptors for return and parameter class types and allows delay of 
@@ -84,9 +88,13 @@ public class DelayedEvalBshMethod extends BshMethod
 		if ( returnTypeNode == null )
 			return null;
 
-		// BSHType will cache the type for us
+		Class returnType = this.returnType;
+		if ( returnType != null )
+			return returnType;
 		try {
-			return returnTypeNode.evalReturnType( callstack, interpreter );
+			returnType = returnTypeNode.evalReturnType( callstack, interpreter );
+			this.returnType = returnType;
+			return returnType;
 		} catch ( EvalError e ) {
 			throw new InterpreterError("can't eval return type: "+e);
 		}
@@ -96,9 +104,13 @@ public class DelayedEvalBshMethod extends BshMethod
 
 	public Class [] getParameterTypes() 
 	{ 
-		// BSHFormalParameters will cache the type for us
+		Class [] paramTypes = this.paramTypes;
+		if ( paramTypes != null )
+			return paramTypes;
 		try {
-			return (Class [])paramTypesNode.eval( callstack, interpreter );
+			paramTypes = (Class [])paramTypesNode.eval( callstack, interpreter );
+			this.paramTypes = paramTypes;
+			return paramTypes;
 		} catch ( EvalError e ) {
 			throw new InterpreterError("can't eval param types: "+e);
 		}
@@ -0,0 +1,322 @@
+package bsh;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+	The layout of a local variable frame: the names of the variables
+	declared lexically in a method body, block or for statement, each
+	assigned an index into the frame array of the NameSpace which evaluates
+	that scope.
+	<p>
+
+	Layouts are computed once per parsed method declaration by resolve(),
+	which also binds each simple name in the method to the slot of its
+	innermost lexical declaration: the number of namespaces between the use
+	and the declaring scope, and the index in the frame of that scope.  A
+	bound name reads its variable by following that many parents and an
+	array access via NameSpace.getFrameVariable(), instead of hashing
+	through each namespace of the scope chain.  The binding is only a hint:
+	a namespace in between which could supply the name in another way, or a
+	chain of another shape, falls back to the regular NameSpace lookup.
+	<p>
+
+	Variables of the global namespace and of scopes outside of method
+	declarations are still held only in the NameSpace variable map.
+
+	@see NameSpace#setFrame( FrameLayout )
+*/
+final class FrameLayout implements java.io.Serializable
+{
+	/**
+		The binding of a name to a slot in a layout.
+	*/
+	static final class Slot implements java.io.Serializable
+	{
+		final FrameLayout layout;
+		final int index;
+		/** The number of namespaces between the use and the frame */
+		final int depth;
+		/** Whether one of the namespaces in between is a method namespace */
+		final boolean crossesMethod;
+		/**
+			The slots of the same name in the frames in between, declared
+			after the use, by increasing depth, or null if there are none.
+			A use sees such a variable once it is declared.
+		*/
+		final Slot [] shadows;
+
+		Slot( FrameLayout layout, int index, int depth, 
+			boolean crossesMethod, Slot [] shadows ) 
+		{
+			this.layout = layout;
+			this.index = index;
+			this.depth = depth;
+			this.crossesMethod = crossesMethod;
+			this.shadows = shadows;
+		}
+	}
+
+	private final String [] names;
+	private final Map<String,Integer> slots = new HashMap<String,Integer>();
+
+	private FrameLayout( List<String> names )
+	{
+		this.names = names.toArray( new String[names.size()] );
+		for ( int i = 0; i < this.names.length; i++ )
+			slots.put( this.names[i], new Integer( i ) );
+	}
+
+	int size() {
+		return names.length;
+	}
+
+	String getName( int index ) {
+		return names[index];
+	}
+
+	/**
+		@return the slot index of the name or -1 if it is not declared in
+			this layout.
+	*/
+	int getSlot( String name )
+	{
+		Integer slot = slots.get( name );
+		return slot == null ? -1 : slot.intValue();
+	}
+
+	/**
+		Compute the frame layouts of the method and of the blocks and loops
+		nested in it and bind the names used in the method body.
+		The layouts of nested method declarations are computed as part of
+		their enclosing method so that they may bind its locals.
+	*/
+	static FrameLayout resolve( BSHMethodDeclaration method )
+	{
+		return new Resolver().method( method );
+	}
+
+	/**
+		A scope being resolved.  The layout is created when the scope is
+		complete, after which the pending names are bound.
+	*/
+	private static class Scope
+	{
+		final List<String> names = new ArrayList<String>();
+		final List<Use> uses = new ArrayList<Use>();
+		/** False for scopes evaluated in a namespace with no frame */
+		final boolean framed;
+		/** False for scopes evaluated in the enclosing namespace */
+		final boolean nameSpace;
+		final boolean method;
+		FrameLayout layout;
+
+		Scope( boolean framed, boolean nameSpace, boolean method ) {
+			this.framed = framed;
+			this.nameSpace = nameSpace;
+			this.method = method;
+		}
+
+		void declare( String name ) {
+			if ( !names.contains( name ) )
+				names.add( name );
+		}
+
+		FrameLayout close()
+		{
+			if ( !framed || !nameSpace || names.isEmpty() )
+				return null;
+			layout = new FrameLayout( names );
+			for ( Use use : uses )
+				use.bind( layout );
+			return layout;
+		}
+	}
+
+	/**
+		A name declared in an enclosing scope, with the scopes between the
+		use and the declaration, from the outermost.  The scopes in between
+		are closed before the declaring scope, so that their layouts are
+		known when the use is bound.
+	*/
+	private static class Use
+	{
+		final BSHAmbiguousName name;
+		final Scope [] between;
+
+		Use( BSHAmbiguousName name, Scope [] between ) {
+			this.name = name;
+			this.between = between;
+		}
+
+		void bind( FrameLayout layout )
+		{
+			String text = name.text;
+			int depth = 0;
+			boolean crossesMethod = false;
+			List<Slot> shadows = null;
+			for ( int i = between.length-1; i >= 0; i-- )
+			{
+				Scope scope = between[i];
+				if ( scope.names.contains( text ) )
+				{
+					// declared in a scope without a frame
+					if ( scope.layout == null )
+						return;
+					if ( shadows == null )
+						shadows = new ArrayList<Slot>();
+					shadows.add( new Slot( scope.layout, 
+						scope.layout.getSlot( text ), depth, false, null ) );
+				}
+				if ( scope.nameSpace )
+					depth++;
+				if ( scope.method )
+					crossesMethod = true;
+			}
+			name.slot = new Slot( layout, layout.getSlot( text ), depth, 
+				crossesMethod, shadows == null ? null 
+					: shadows.toArray( new Slot[shadows.size()] ) );
+		}
+	}
+
+	private static class Resolver
+	{
+		final List<Scope> scopes = new ArrayList<Scope>();
+
+		FrameLayout method( BSHMethodDeclaration method )
+		{
+			method.insureNodesParsed();
+			Scope scope = push( true, true, true );
+			String [] params = method.paramsNode.getParamNames();
+			for ( int i = 0; i < params.length; i++ )
+				scope.declare( params[i] );
+			// The body is evaluated in the method namespace itself
+			if ( method.blockNode != null )
+				children( method.blockNode, scope );
+			return pop();
+		}
+
+		void node( SimpleNode node )
+		{
+			if ( node instanceof BSHMethodDeclaration )
+			{
+				BSHMethodDeclaration method = (BSHMethodDeclaration)node;
+				synchronized ( method ) {
+					if ( method.frameLayout == null )
+						method.frameLayout = method( method );
+				}
+			}
+			else if ( node instanceof BSHClassDeclaration )
+				; // class bodies are evaluated in class namespaces
+			else if ( node instanceof BSHAllocationExpression )
+			{
+				// skip the body of an anonymous inner class
+				for ( int i = 0; i < node.jjtGetNumChildren(); i++ )
+					if ( !(node.jjtGetChild( i ) instanceof BSHBlock) )
+						node( (SimpleNode)node.jjtGetChild( i ) );
+			}
+			else if ( node instanceof BSHTryStatement )
+				tryStatement( node );
+			else if ( node instanceof BSHBlock )
+			{
+				BSHBlock block = (BSHBlock)node;
+				children( block, 
+					push( true, block.isNameSpaceRequired(), false ) );
+				block.frameLayout = pop();
+			}
+			else if ( node instanceof BSHForStatement )
+			{
+				BSHForStatement loop = (BSHForStatement)node;
+				children( loop, 
+					push( true, loop.isNameSpaceRequired(), false ) );
+				loop.frameLayout = pop();
+			}
+			else if ( node instanceof BSHEnhancedForStatement )
+			{
+				BSHEnhancedForStatement loop = (BSHEnhancedForStatement)node;
+				Scope scope = push( true, loop.isNameSpaceRequired(), false );
+				// an untyped loop variable is assigned in the enclosing scope
+				if ( loop.jjtGetChild( 0 ) instanceof BSHType )
+					scope.declare( loop.varName );
+				children( loop, scope );
+				loop.frameLayout = pop();
+			}
+			else if ( node instanceof BSHAmbiguousName )
+				use( (BSHAmbiguousName)node );
+			else
+				children( node, null );
+		}
+
+		/**
+			Catch blocks are evaluated in a namespace holding the catch
+			parameter, which has no frame.
+		*/
+		void tryStatement( SimpleNode node )
+		{
+			for ( int i = 0; i < node.jjtGetNumChildren(); i++ )
+			{
+				SimpleNode child = (SimpleNode)node.jjtGetChild( i );
+				if ( child instanceof BSHFormalParameter )
+				{
+					Scope scope = push( false, true, false );
+					scope.declare( ((BSHFormalParameter)child).name );
+					children( (SimpleNode)node.jjtGetChild( ++i ), scope );
+					pop();
+				} else
+					node( child );
+			}
+		}
+
+		/**
+			Resolve the children of the node.  Typed variables declared
+			directly in the node are declared in the scope, if any.
+		*/
+		void children( SimpleNode node, Scope scope )
+		{
+			for ( int i = 0; i < node.jjtGetNumChildren(); i++ )
+			{
+				SimpleNode child = (SimpleNode)node.jjtGetChild( i );
+				node( child );
+				if ( scope != null
+					&& child instanceof BSHTypedVariableDeclaration )
+				{
+					BSHVariableDeclarator [] declarators =
+						((BSHTypedVariableDeclaration)child).getDeclarators();
+					for ( int j = 0; j < declarators.length; j++ )
+						scope.declare( declarators[j].name );
+				}
+			}
+		}
+
+		void use( BSHAmbiguousName name )
+		{
+			String text = name.text;
+			if ( Name.isCompound( text ) || text.equals( "this" )
+				|| text.equals( "super" ) || text.equals( "global" ) )
+				return;
+			for ( int i = scopes.size()-1; i >= 0; i-- )
+			{
+				Scope scope = scopes.get( i );
+				if ( scope.names.contains( text ) ) {
+					List<Scope> between = scopes.subList( i+1, scopes.size() );
+					scope.uses.add( new Use( name, 
+						between.toArray( new Scope[between.size()] ) ) );
+					return;
+				}
+			}
+		}
+
+		Scope push( boolean framed, boolean nameSpace, boolean method )
+		{
+			Scope scope = new Scope( framed, nameSpace, method );
+			scopes.add( scope );
+			return scope;
+		}
+
+		FrameLayout pop() {
+			return scopes.remove( scopes.size()-1 ).close();
+		}
+	}
+}
@@ -1,8 +1,20 @@
 package bsh;
 
 /**
- * Marker interface for generated classes
+ * Interface of the generated classes, which accesses their typed fields
  */
 public interface GeneratedClass {
 
+	/**
+	 * Get the typed instance field with the index, see InstanceFields.
+	 * Primitive values are wrapped as bsh.Primitive.
+	 */
+	Object _bshGetField(int index);
+
+	/**
+	 * Set the typed instance field with the index to the value, which is
+	 * already converted to the type of the field (a bsh.Primitive for
+	 * primitive types).
+	 */
+	void _bshSetField(int index, Object value);
 }
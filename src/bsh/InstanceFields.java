@@ -0,0 +1,97 @@
+package bsh;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+	The typed instance fields of a generated class.  The Java fields which
+	ClassGeneratorUtil generates for the typed, non-private field
+	declarations of a scripted class hold the state of its instances, the
+	instance namespace does not keep a copy of their values.
+	<p>
+
+	Each field has an index, counting on from the fields of the generated
+	superclasses.  The _bshGetField() and _bshSetField() accessors generated
+	in the class switch on the index to read and write the field with a
+	plain getfield / putfield.  The instance namespace looks up the fields
+	by name before any other variable, see NameSpace.getVariableImpl().
+
+	@see GeneratedClass
+*/
+final class InstanceFields implements java.io.Serializable
+{
+	private final int base;
+	private final String [] names;
+	private final Class [] types;
+	private final Map<String,Integer> indexes = new HashMap<String,Integer>();
+
+	/**
+		@param base the number of fields of the generated superclasses.
+	*/
+	InstanceFields( int base, String [] names, Class [] types )
+	{
+		this.base = base;
+		this.names = names;
+		this.types = types;
+		for ( int i = 0; i < names.length; i++ )
+			indexes.put( names[i], new Integer( i ) );
+	}
+
+	/**
+		@return the number of fields including those of the generated
+			superclasses, i.e. the index of the first field of a subclass.
+	*/
+	int size() {
+		return base + names.length;
+	}
+
+	/**
+		Get the variable of the field of the instance.
+		@return the variable or null if the class declares no such field.
+	*/
+	Variable getVariable( GeneratedClass instance, String name )
+	{
+		Integer i = indexes.get( name );
+		if ( i == null )
+			return null;
+		int index = i.intValue();
+		return new FieldVariable( names[index], types[index], instance,
+			base + index );
+	}
+
+	/**
+		A typed field of an instance.  The value is converted to the type of
+		the field on assignment, as a typed variable does.
+	*/
+	static final class FieldVariable extends Variable
+	{
+		private final GeneratedClass instance;
+		private final int index;
+
+		FieldVariable(
+			String name, Class type, GeneratedClass instance, int index )
+		{
+			super( name, type, (LHS)null );
+			this.instance = instance;
+			this.index = index;
+		}
+
+		public void setValue( Object value, int context )
+			throws UtilEvalError
+		{
+			if ( value == null )
+				value = Primitive.getDefaultValue( type );
+
+			value = Types.castObject( value, type,
+				context == DECLARATION ? Types.CAST : Types.ASSIGNMENT );
+
+			instance._bshSetField( index, value );
+		}
+
+		Object getValue()
+		{
+			Object value = instance._bshGetField( index );
+			return value == null ? Primitive.NULL : value;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package bsh;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+	The instance initialization of a generated class, computed once per
+	class declaration rather than filtered out of the class body on every
+	instantiation.  It holds the statements of the body which initialize an
+	instance (the non-static field declarations and initializer blocks, in
+	order), the instance methods which are declared in each instance
+	namespace, and the this() or super() call which begins each scripted
+	constructor.
+	<p>
+
+	The types of the instance methods are resolved on the first
+	instantiation, in the instance namespace, as evaluating their
+	declarations there did.  Every instance then gets copies of the
+	resolved methods bound to its namespace.  The methods are declared
+	before the initializer statements are evaluated, so that field
+	initializers may call methods declared after them.
+
+	@see ClassGeneratorUtil#initInstance( GeneratedClass, String, Object [], int )
+	@see ClassGeneratorUtil#getConstructorArgs( String, This, Object [], int )
+*/
+final class InstanceInitializer implements java.io.Serializable
+{
+	private final SimpleNode [] statements;
+	private final BSHMethodDeclaration [] methodDeclarations;
+	/** The scripted constructors, in the order of the constructor switch */
+	private final BSHMethodDeclaration [] constructorDeclarations;
+	private final DelayedEvalBshMethod [] constructors;
+	private final BSHMethodInvocation [] altConstructors;
+	private transient Constructor [] superConstructors;
+
+	/** The resolved constructors and methods, null until the first use */
+	private transient BshMethod [] resolvedConstructors;
+	private transient volatile BshMethod [] methods;
+
+	/**
+		@param body the class body
+		@param baseName the name of the constructors
+		@param constructors the scripted constructors of the class generator
+		@param superConstructors the superclass constructors of the
+			constructor switch
+	*/
+	InstanceInitializer( BSHBlock body, String baseName,
+		DelayedEvalBshMethod [] constructors, Constructor [] superConstructors )
+	{
+		List<SimpleNode> statements = new ArrayList<SimpleNode>();
+		List<BSHMethodDeclaration> methods =
+			new ArrayList<BSHMethodDeclaration>();
+		List<BSHMethodDeclaration> constructorDeclarations =
+			new ArrayList<BSHMethodDeclaration>();
+		for ( int i = 0; i < body.jjtGetNumChildren(); i++ )
+		{
+			SimpleNode node = (SimpleNode)body.jjtGetChild( i );
+			if ( node instanceof BSHMethodDeclaration
+				&& ((BSHMethodDeclaration)node).name.equals( baseName ) )
+				constructorDeclarations.add( (BSHMethodDeclaration)node );
+
+			if ( !ClassGenerator.ClassNodeFilter.CLASSINSTANCE.isVisible(
+				node ) )
+				continue;
+			if ( node instanceof BSHMethodDeclaration )
+				methods.add( (BSHMethodDeclaration)node );
+			else
+				statements.add( node );
+		}
+		this.statements =
+			statements.toArray( new SimpleNode[ statements.size() ] );
+		this.methodDeclarations =
+			methods.toArray( new BSHMethodDeclaration[ methods.size() ] );
+		this.constructorDeclarations = constructorDeclarations.toArray(
+			new BSHMethodDeclaration[ constructorDeclarations.size() ] );
+		this.constructors = constructors;
+		this.superConstructors = superConstructors;
+
+		altConstructors = new BSHMethodInvocation[ constructors.length ];
+		for ( int i = 0; i < constructors.length; i++ )
+			altConstructors[i] = getAltConstructor( constructors[i] );
+	}
+
+	/**
+		Determine if the constructor begins with a call of this() or super()
+		@return the invocation or null
+	*/
+	private static BSHMethodInvocation getAltConstructor(
+		DelayedEvalBshMethod constructor )
+	{
+		if ( constructor.methodBody.jjtGetNumChildren() == 0 )
+			return null;
+
+		SimpleNode firstStatement =
+			(SimpleNode)constructor.methodBody.jjtGetChild( 0 );
+		if ( firstStatement instanceof BSHPrimaryExpression )
+			firstStatement = (SimpleNode)firstStatement.jjtGetChild( 0 );
+		if ( firstStatement instanceof BSHMethodInvocation )
+		{
+			BSHMethodInvocation methodNode =
+				(BSHMethodInvocation)firstStatement;
+			String name = methodNode.getNameNode().text;
+			if ( name.equals( "super" ) || name.equals( "this" ) )
+				return methodNode;
+		}
+		return null;
+	}
+
+	DelayedEvalBshMethod [] getConstructors() {
+		return constructors;
+	}
+
+	/**
+		@return the this() or super() invocation which begins the body of the
+			constructor, or null if there is none.
+	*/
+	BSHMethodInvocation getAltConstructor( int index ) {
+		return altConstructors[ index ];
+	}
+
+	Constructor [] getSuperConstructors() {
+		return superConstructors;
+	}
+
+	/**
+		Initialize the instance namespace on the top of the callstack:
+		declare the instance methods and evaluate the initializer statements.
+	*/
+	void init( CallStack callstack, Interpreter interpreter )
+		throws EvalError
+	{
+		NameSpace namespace = callstack.top();
+		BshMethod [] methods = this.methods;
+		if ( methods == null )
+			methods = resolve( callstack, interpreter );
+		for ( int i = 0; i < methods.length; i++ )
+			try {
+				namespace.setMethod( new BshMethod( methods[i], namespace ) );
+			} catch ( UtilEvalError e ) {
+				throw e.toEvalError( methodDeclarations[i], callstack );
+			}
+
+		for ( SimpleNode statement : statements )
+			if ( statement.eval( callstack, interpreter )
+				instanceof ReturnControl )
+				break;
+	}
+
+	/**
+		Get the scripted constructor with the index, resolved by the first
+		init().
+	*/
+	BshMethod getConstructor( int index ) {
+		return resolvedConstructors[ index ];
+	}
+
+	private synchronized BshMethod [] resolve(
+		CallStack callstack, Interpreter interpreter )
+		throws EvalError
+	{
+		if ( methods != null )
+			return methods;
+
+		BshMethod [] resolved = new BshMethod[ methodDeclarations.length ];
+		for ( int i = 0; i < resolved.length; i++ )
+			resolved[i] = methodDeclarations[i].evalMethod(
+				callstack, interpreter, null/*declaringNameSpace*/ );
+
+		resolvedConstructors =
+			new BshMethod[ constructorDeclarations.length ];
+		for ( int i = 0; i < resolvedConstructors.length; i++ )
+		{
+			int j = indexOf( methodDeclarations, constructorDeclarations[i] );
+			resolvedConstructors[i] = j == -1
+				? constructorDeclarations[i].evalMethod(
+					callstack, interpreter, null/*declaringNameSpace*/ )
+				: resolved[j];
+		}
+		methods = resolved;
+		return resolved;
+	}
+
+	private static int indexOf( Object [] array, Object o )
+	{
+		for ( int i = 0; i < array.length; i++ )
+			if ( array[i] == o )
+				return i;
+		return -1;
+	}
+}
@@ -0,0 +1,375 @@
+package bsh;
+
+import bsh.org.objectweb.asm.*;
+import bsh.org.objectweb.asm.Type;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * InterfaceGenerator generates the classes which implement interfaces for
+ * scripted objects, see This.getInterface().  It replaces the dynamic proxy
+ * and its reflective invocation handler with plain bytecode.
+ * <p/>
+ * A class is generated once per set of interfaces and class manager.  Each
+ * method of the interfaces (and equals(), hashCode() and toString()) gets an
+ * index and a delegate method, which passes the index and its arguments to
+ * the Dispatcher of the instance.  The dispatcher resolves the scripted
+ * method of each index in the namespace of its This reference once, and
+ * again only when the methods of the namespace change.
+ * <p/>
+ * Interfaces which are not public cannot be implemented by a class of
+ * another package and class loader.  For them newInstance() returns null,
+ * and This falls back to a dynamic proxy.
+ */
+public final class InterfaceGenerator implements Constants {
+
+	/**
+	 * The instance field of the generated classes holding the dispatcher
+	 */
+	private static final String DISPATCHER = "_bshDispatcher";
+
+	private static final String DISPATCHER_TYPE = "bsh/InterfaceGenerator$Dispatcher";
+
+	/**
+	 * The generated classes are named by this prefix and a sequence number
+	 */
+	private static final String CLASS_PREFIX = "bsh/ScriptedInterface$";
+
+	private static final AtomicInteger classNumber = new AtomicInteger();
+
+	/**
+	 * Cached for the interface sets which are implemented by a proxy
+	 */
+	private static final Implementation NOT_GENERATED = new Implementation(null, null);
+
+
+	private InterfaceGenerator() {
+	}
+
+
+	/**
+	 * Get an implementation of the interfaces for the scripted object.
+	 *
+	 * @return the instance of the generated class, or null if the class
+	 *         cannot be generated for the interfaces
+	 */
+	static Object newInstance(This ths, Class[] interfaces) {
+		if (ths.declaringInterpreter == null) {
+			return null;
+		}
+		LookupCache<List<Class>, Implementation> cache = ths.declaringInterpreter.getClassManager().getInterfaceImplementations();
+		List<Class> key = Arrays.asList(interfaces.clone());
+		Implementation implementation = cache.get(key);
+		if (implementation == null) {
+			implementation = generate(interfaces);
+			cache.put(key, implementation);
+		}
+		if (implementation == NOT_GENERATED) {
+			return null;
+		}
+		try {
+			return implementation.constructor.newInstance(new Dispatcher(ths, implementation.methods));
+		} catch (Exception e) {
+			throw new InterpreterError("Error instantiating interface implementation: " + e);
+		}
+	}
+
+
+	/**
+	 * Generate and define the class implementing the interfaces.
+	 */
+	private static Implementation generate(Class[] interfaces) {
+		Method[] methods = getMethods(interfaces);
+		if (methods == null) {
+			return NOT_GENERATED;
+		}
+
+		String className = CLASS_PREFIX + classNumber.incrementAndGet();
+		byte[] code = generateClass(className, interfaces, methods);
+		Class implClass = new InterfaceLoader(interfaces).define(className.replace('/', '.'), code);
+		try {
+			return new Implementation(implClass.getConstructor(Dispatcher.class), methods);
+		} catch (NoSuchMethodException e) {
+			throw new InterpreterError("Error in interface generation: " + e);
+		}
+	}
+
+
+	/**
+	 * Get the methods to implement: the instance methods of the interfaces,
+	 * one per signature, and the Object methods which a proxy dispatches.
+	 *
+	 * @return the methods in the order of their indexes, or null if the
+	 *         interfaces cannot be implemented by a generated class
+	 */
+	private static Method[] getMethods(Class[] interfaces) {
+		Map<String, Method> methods = new LinkedHashMap<String, Method>();
+		try {
+			addMethod(Object.class.getMethod("equals", Object.class), methods);
+			addMethod(Object.class.getMethod("hashCode"), methods);
+			addMethod(Object.class.getMethod("toString"), methods);
+		} catch (NoSuchMethodException e) {
+			throw new InterpreterError("Error in interface generation: " + e);
+		}
+
+		for (Class interf : interfaces) {
+			if ( ! interf.isInterface() || ! Modifier.isPublic(interf.getModifiers())) {
+				return null;
+			}
+			for (Method method : interf.getMethods()) {
+				if (Modifier.isStatic(method.getModifiers())) {
+					continue;
+				}
+				// the delegate method casts the result to the return type
+				if ( ! isPublic(method.getReturnType())) {
+					return null;
+				}
+				if ( ! addMethod(method, methods)) {
+					return null;
+				}
+			}
+		}
+		return methods.values().toArray(new Method[methods.size()]);
+	}
+
+
+	/**
+	 * Add the method unless a method of the same signature is already added.
+	 *
+	 * @return false if the methods of the signature differ in return type
+	 */
+	private static boolean addMethod(Method method, Map<String, Method> methods) {
+		String descriptor = Type.getMethodDescriptor(method);
+		String key = method.getName() + descriptor.substring(0, descriptor.indexOf(')') + 1);
+		Method other = methods.get(key);
+		if (other == null) {
+			methods.put(key, method);
+			return true;
+		}
+		return other.getReturnType() == method.getReturnType();
+	}
+
+
+	private static boolean isPublic(Class type) {
+		while (type.isArray()) {
+			type = type.getComponentType();
+		}
+		return type.isPrimitive() || Modifier.isPublic(type.getModifiers());
+	}
+
+
+	/**
+	 * Generate the class bytecode.
+	 */
+	private static byte[] generateClass(String className, Class[] interfaces, Method[] methods) {
+		String[] interfaceNames = new String[interfaces.length];
+		for (int i = 0; i < interfaces.length; i++) {
+			interfaceNames[i] = Type.getInternalName(interfaces[i]);
+		}
+
+		String sourceFile = "BeanShell Generated via ASM (www.objectweb.org)";
+		ClassWriter cw = new ClassWriter(false);
+		cw.visit(ACC_PUBLIC | ACC_FINAL | ACC_SUPER, className, "java/lang/Object", interfaceNames, sourceFile);
+		cw.visitField(ACC_PRIVATE | ACC_FINAL, DISPATCHER, "L" + DISPATCHER_TYPE + ";", null/*value*/);
+
+		generateConstructor(className, cw);
+		for (int i = 0; i < methods.length; i++) {
+			generateMethod(className, i, methods[i], cw);
+		}
+
+		return cw.toByteArray();
+	}
+
+
+	/**
+	 * Generate the constructor, which takes the dispatcher.
+	 */
+	private static void generateConstructor(String className, ClassWriter cw) {
+		CodeVisitor cv = cw.visitMethod(ACC_PUBLIC, "<init>", "(L" + DISPATCHER_TYPE + ";)V", null/*exceptions*/);
+		cv.visitVarInsn(ALOAD, 0);
+		cv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V");
+		cv.visitVarInsn(ALOAD, 0);
+		cv.visitVarInsn(ALOAD, 1);
+		cv.visitFieldInsn(PUTFIELD, className, DISPATCHER, "L" + DISPATCHER_TYPE + ";");
+		cv.visitInsn(RETURN);
+		cv.visitMaxs(2, 2);
+	}
+
+
+	/**
+	 * Generate the delegate method of the interface method with the index,
+	 * which invokes the dispatcher with the index and the arguments as an
+	 * object array, and unpacks and returns the result.
+	 */
+	private static void generateMethod(String className, int index, Method method, ClassWriter cw) {
+		Class[] paramClasses = method.getParameterTypes();
+		String[] paramTypes = new String[paramClasses.length];
+		for (int i = 0; i < paramTypes.length; i++) {
+			paramTypes[i] = Type.getDescriptor(paramClasses[i]);
+		}
+		String returnType = Type.getDescriptor(method.getReturnType());
+
+		CodeVisitor cv = cw.visitMethod(ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null/*exceptions*/);
+
+		// push the dispatcher, the instance and the index
+		cv.visitVarInsn(ALOAD, 0);
+		cv.visitFieldInsn(GETFIELD, className, DISPATCHER, "L" + DISPATCHER_TYPE + ";");
+		cv.visitVarInsn(ALOAD, 0);
+		cv.visitIntInsn(SIPUSH, index);
+
+		// push the arguments as an object array
+		ClassGeneratorUtil.generateParameterReifierCode(paramTypes, false/*isStatic*/, cv);
+
+		cv.visitMethodInsn(INVOKEVIRTUAL, DISPATCHER_TYPE, "invoke", "(Ljava/lang/Object;I[Ljava/lang/Object;)Ljava/lang/Object;");
+
+		// return the unwrapped result, converted to the return type
+		ClassGeneratorUtil.generateReturnCode(returnType, cv);
+
+		// Need to calculate this... just fudging here for now.
+		cv.visitMaxs(20, 20);
+	}
+
+
+	/**
+	 * A generated class, with the interface methods by index.
+	 */
+	static final class Implementation {
+		final Constructor constructor;
+		final Method[] methods;
+
+
+		Implementation(Constructor constructor, Method[] methods) {
+			this.constructor = constructor;
+			this.methods = methods;
+		}
+	}
+
+
+	/**
+	 * The scripted object of an instance of a generated class, which invokes
+	 * its scripted methods for the interface methods by index.
+	 * <p/>
+	 * The scripted method of an interface method is resolved on its first
+	 * invocation, and kept while the methods of the namespace do not change.
+	 * It is only resolved in advance if its lookup by the runtime types of
+	 * the arguments could not find another method, see
+	 * NameSpace.getOnlyMethod().  Otherwise each invocation looks it up
+	 * by the arguments, as This.invokeMethod() does.
+	 */
+	public static final class Dispatcher {
+		private final This ths;
+		private final Method[] methods;
+		private final Resolved[] resolved;
+
+
+		Dispatcher(This ths, Method[] methods) {
+			this.ths = ths;
+			this.methods = methods;
+			this.resolved = new Resolved[methods.length];
+		}
+
+
+		/**
+		 * Invoke the scripted method of the interface method with the index.
+		 * Exceptions which the interface method does not declare are
+		 * wrapped in an UndeclaredThrowableException, as a proxy does.
+		 *
+		 * @param args the arguments, primitive values wrapped as Primitive
+		 */
+		public Object invoke(Object proxy, int index, Object[] args) throws Throwable {
+			Method method = methods[index];
+			try {
+				return ths.invokeInterfaceMethod(proxy, method, getMethod(index), args);
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable t) {
+				for (Class type : method.getExceptionTypes()) {
+					if (type.isInstance(t)) {
+						throw t;
+					}
+				}
+				throw new UndeclaredThrowableException(t);
+			}
+		}
+
+
+		/**
+		 * @return the scripted method resolved for the interface method, or
+		 *         null if it is looked up by the arguments
+		 */
+		private BshMethod getMethod(int index) {
+			NameSpace namespace = ths.getNameSpace();
+			int version = namespace.getMethodsVersion();
+			Resolved r = resolved[index];
+			if (r == null || r.version != version) {
+				Method method = methods[index];
+				r = new Resolved(namespace.getOnlyMethod(method.getName(), method.getParameterTypes()), version);
+				resolved[index] = r;
+			}
+			return r.method;
+		}
+	}
+
+
+	/**
+	 * A resolved scripted method and the version of the namespace methods
+	 * it was resolved for
+	 */
+	private static final class Resolved {
+		final BshMethod method;
+		final int version;
+
+
+		Resolved(BshMethod method, int version) {
+			this.method = method;
+			this.version = version;
+		}
+	}
+
+
+	/**
+	 * Defines a generated class.  The interfaces and their types are loaded
+	 * through the class loader of the first interface and then of the others,
+	 * the bsh classes through the class loader of bsh.
+	 */
+	private static final class InterfaceLoader extends ClassLoader {
+		private final Class[] interfaces;
+
+
+		InterfaceLoader(Class[] interfaces) {
+			super(interfaces[0].getClassLoader());
+			this.interfaces = interfaces;
+		}
+
+
+		@Override
+		protected Class findClass(String name) throws ClassNotFoundException {
+			for (int i = 1; i < interfaces.length; i++) {
+				ClassLoader loader = interfaces[i].getClassLoader();
+				if (loader != null && loader != getParent()) {
+					try {
+						return loader.loadClass(name);
+					} catch (ClassNotFoundException e) {
+						// try the next
+					}
+				}
+			}
+			return Class.forName(name, false, InterfaceGenerator.class.getClassLoader());
+		}
+
+
+		Class define(String name, byte[] code) {
+			return defineClass(name, code, 0, code.length);
+		}
+	}
+}
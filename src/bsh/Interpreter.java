@@ -49,6 +49,8 @@ import java.io.Serializable;
 import java.io.StringReader;
 import java.lang.reflect.Method;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
 	The BeanShell script interpreter.
@@ -138,7 +140,8 @@ public class Interpreter
 
 	/* --- Instance data --- */
 
-	transient Parser parser;
+	/** Created on first use, see insureParser() */
+	private transient Parser parser;
 	NameSpace globalNameSpace;
 	transient Reader in;
 	transient PrintStream out;
@@ -168,6 +171,13 @@ public class Interpreter
 	 */
 	private boolean compatibility = COMPATIBIILTY;
 
+	/**
+		Set by the script compiler, which generates the scripted classes of
+		a script without running it: class declarations define the class
+		but do not evaluate its static initializers.
+	*/
+	transient boolean declareClassesOnly;
+
 	/* --- End instance data --- */
 
 	/**
@@ -190,7 +200,6 @@ public class Interpreter
 		Interpreter parent, String sourceFileInfo )
 	{
 		//System.out.println("New Interpreter: "+this +", sourcefile = "+sourceFileInfo );
-		parser = new Parser( in );
 		long t1 = 0;
 		if (Interpreter.DEBUG) {
 			t1=System.currentTimeMillis();
@@ -205,8 +214,8 @@ public class Interpreter
 			setStrictJava( parent.getStrictJava() );
 		this.sourceFileInfo = sourceFileInfo;
 
-		BshClassManager bcm = BshClassManager.createClassManager( this );
 		if ( namespace == null ) {
+			BshClassManager bcm = BshClassManager.createClassManager( this );
 			globalNameSpace = new NameSpace( bcm, "global");
 			initRootSystemObject();
 		} else {
@@ -584,12 +593,46 @@ public class Interpreter
 
 	/**
 		Read text from fileName and eval it.
+		If the parse cache is enabled (see BshClassManager.setParseCacheSize())
+		the parsed statements of the file are cached until it is modified,
+		and a .bshc file of the script which was written from its current
+		text is loaded instead of parsing the file (see ASTSerializer).
 	*/
 	public Object source( String filename, NameSpace nameSpace ) 
 		throws FileNotFoundException, IOException, EvalError 
 	{
 		File file = pathToFile( filename );
 		if ( Interpreter.DEBUG ) debug("Sourcing file: "+file);
+		BshClassManager bcm = nameSpace.getClassManager();
+		LookupCache<Object,SimpleNode[]> cache = 
+			bcm == null ? null : bcm.getParseCache();
+		if ( cache != null )
+		{
+			// a modified file is another key
+			ScriptFileKey key = new ScriptFileKey( filename, file );
+			SimpleNode [] statements = cache.get( key );
+			if ( statements == null )
+			{
+				// prefer the parsed form if written from this text
+				statements = ASTSerializer.readFresh( file, filename );
+				if ( statements == null )
+				{
+					Reader sourceIn = new BufferedReader( new FileReader(file) );
+					try {
+						statements = parse( sourceIn, filename );
+					} catch ( EvalError e ) {
+						// not cached, evaluated up to the error below
+					} finally {
+						sourceIn.close();
+					}
+				}
+				if ( statements != null )
+					cache.put( key, statements );
+			}
+			if ( statements != null )
+				return eval( statements, nameSpace, filename );
+		}
+
 		Reader sourceIn = new BufferedReader( new FileReader(file) );
 		try {
 			return eval( sourceIn, nameSpace, filename );
@@ -636,7 +679,6 @@ public class Interpreter
 			/*, CallStack callstack */ ) 
 		throws EvalError 
 	{
-		Object retVal = null;
 		if ( Interpreter.DEBUG ) debug("eval: nameSpace = "+nameSpace);
 
 		/* 
@@ -648,23 +690,72 @@ public class Interpreter
 			new Interpreter( 
 				in, out, err, false, nameSpace, this, sourceFileInfo  );
 
+		return evalStatements( 
+			localInterpreter, null, nameSpace, sourceFileInfo );
+	}
+
+	/**
+		Evaluate statements parsed by parse() in the specified namespace, as
+		eval() evaluates the statements it reads.  The statements are not
+		modified and may be evaluated again, also concurrently.
+		@param sourceFileInfo is for information purposes only.
+		@see #parse( Reader, String )
+	*/
+	Object eval( 
+		SimpleNode [] statements, NameSpace nameSpace, String sourceFileInfo )
+		throws EvalError 
+	{
+		if ( Interpreter.DEBUG ) debug("eval parsed: nameSpace = "+nameSpace);
+
+		Interpreter localInterpreter = 
+			new Interpreter( new StringReader(""), 
+				out, err, false, nameSpace, this, sourceFileInfo  );
+
+		return evalStatements( 
+			localInterpreter, statements, nameSpace, sourceFileInfo );
+	}
+
+	/**
+		Evaluate the statements, or if statements is null the statements
+		read by the local interpreter, one at a time.
+	*/
+	private Object evalStatements( Interpreter localInterpreter, 
+		SimpleNode [] statements, NameSpace nameSpace, String sourceFileInfo )
+		throws EvalError 
+	{
+		Object retVal = null;
 		CallStack callstack = new CallStack( nameSpace );
 
 		SimpleNode node = null;
+		int next = 0;
 		boolean eof = false;
 		while(!eof)
 		{
 			try
 			{
-				eof = localInterpreter.Line();
-				if (localInterpreter.get_jjtree().nodeArity() > 0)
+				SimpleNode statement = null;
+				if ( statements == null )
 				{
-					if( node != null )
-						node.lastToken.next = null;  // prevent OutOfMemoryError
+					eof = localInterpreter.Line();
+					if (localInterpreter.get_jjtree().nodeArity() > 0)
+					{
+						if( node != null )
+							node.lastToken.next = null;  // prevent OutOfMemoryError
 
-					node = (SimpleNode)localInterpreter.get_jjtree().rootNode();
-					// nodes remember from where they were sourced
-					node.setSourceFile( sourceFileInfo );
+						statement = 
+							(SimpleNode)localInterpreter.get_jjtree().rootNode();
+						// nodes remember from where they were sourced
+						statement.setSourceFile( sourceFileInfo );
+					}
+				} 
+				else if ( next < statements.length )
+					statement = statements[ next++ ];
+				else
+					eof = true;
+
+				if ( statement != null )
+				{
+					node = statement;
 
 					if ( TRACE )
 						println( "// " +node.getText() );
@@ -727,7 +818,8 @@ public class Interpreter
 					"Sourced file: "+sourceFileInfo+" Token Parsing Error: " 
 					+ e.getMessage(), node, callstack, e );
 			} finally {
-				localInterpreter.get_jjtree().reset();
+				if ( localInterpreter.parser != null )
+					localInterpreter.get_jjtree().reset();
 
 				// reinit the callstack
 				if ( callstack.depth() > 1 ) {
@@ -739,6 +831,44 @@ public class Interpreter
 		return Primitive.unwrap( retVal );
 	}
 
+	/**
+		Parse all statements of the source without evaluating them, e.g. in
+		order to evaluate them repeatedly with eval( SimpleNode [], ... ).
+		@param sourceFileInfo is for information purposes only.
+		@throws EvalError on parse errors
+	*/
+	static SimpleNode [] parse( Reader in, String sourceFileInfo ) 
+		throws EvalError 
+	{
+		Parser parser = new Parser( in );
+		List<SimpleNode> statements = new ArrayList<SimpleNode>();
+		try {
+			while ( !parser.Line() )
+			{
+				if ( parser.jjtree.nodeArity() > 0 )
+				{
+					SimpleNode node = (SimpleNode)parser.jjtree.rootNode();
+					node.setSourceFile( sourceFileInfo );
+					statements.add( node );
+				}
+				parser.jjtree.reset();
+			}
+		} catch ( ParseException e ) {
+			e.setErrorSourceFile( sourceFileInfo );
+			throw e;
+		} catch ( TokenMgrError e ) {
+			throw new EvalError(
+				"Sourced file: "+sourceFileInfo+" Token Parsing Error: " 
+				+ e.getMessage(), null, null, e );
+		}
+
+		// Don't keep the tokens of the following statements
+		for ( SimpleNode node : statements )
+			node.lastToken.next = null;
+
+		return statements.toArray( new SimpleNode[ statements.size() ] );
+	}
+
 	/**
 		Evaluate the inputstream in this interpreter's global namespace.
 	*/
@@ -763,9 +893,60 @@ public class Interpreter
 	{
 
 		String s = ( statements.endsWith(";") ? statements : statements+";" );
-		return eval( 
-			new StringReader(s), nameSpace, 
-			"inline evaluation of: ``"+ showEvalString(s)+"''" );
+		String sourceFileInfo = "inline evaluation of: ``"+ showEvalString(s)+"''";
+		BshClassManager bcm = nameSpace.getClassManager();
+		LookupCache<Object,SimpleNode[]> cache = 
+			bcm == null ? null : bcm.getParseCache();
+		if ( cache != null )
+		{
+			SimpleNode [] parsed = cache.get( s );
+			if ( parsed == null )
+				try {
+					parsed = parse( new StringReader(s), sourceFileInfo );
+					cache.put( s, parsed );
+				} catch ( EvalError e ) {
+					// Text which does not parse is not cached, its statements
+					// are evaluated up to the error as without the cache
+				}
+			if ( parsed != null )
+				return eval( parsed, nameSpace, sourceFileInfo );
+		}
+
+		return eval( new StringReader(s), nameSpace, sourceFileInfo );
+	}
+
+	/**
+		The key of a sourced file in the parsed script cache: the file as
+		named (which the statements report as their source), its path, and
+		the time it was modified and its length so that the cached
+		statements of a file are not used after it changes.
+	*/
+	private static final class ScriptFileKey
+	{
+		private final String filename;
+		private final String path;
+		private final long lastModified;
+		private final long length;
+
+		ScriptFileKey( String filename, File file ) {
+			this.filename = filename;
+			this.path = file.getPath();
+			this.lastModified = file.lastModified();
+			this.length = file.length();
+		}
+
+		public boolean equals( Object o )
+		{
+			if ( !(o instanceof ScriptFileKey) )
+				return false;
+			ScriptFileKey key = (ScriptFileKey)o;
+			return filename.equals( key.filename ) && path.equals( key.path )
+				&& lastModified == key.lastModified && length == key.length;
+		}
+
+		public int hashCode() {
+			return path.hashCode() * 31 + (int)( lastModified ^ length );
+		}
 	}
 
 	private String showEvalString( String s ) {
@@ -1010,15 +1191,25 @@ public class Interpreter
 
 	/*	Methods for interacting with Parser */
 
-	private JJTParserState get_jjtree() {
-		return parser.jjtree;
+	/**
+		The parser of the input stream is created when the interpreter first
+		reads its input, so that evaluating parsed statements (e.g. those of
+		a precompiled script) does not need the parser.  The signatures of
+		the methods here do not refer to the parser classes, as reflecting
+		on the interpreter (e.g. to call it from a script) would load them.
+	*/
+	private void insureParser() {
+		if ( parser == null )
+			parser = new Parser( in );
 	}
 
-	private JavaCharStream get_jj_input_stream() {
-		return parser.jj_input_stream;
+	private JJTParserState get_jjtree() {
+		insureParser();
+		return parser.jjtree;
 	}
 
 	private boolean Line() throws ParseException {
+		insureParser();
 		return parser.Line();
 	}
 
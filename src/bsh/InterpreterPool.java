@@ -0,0 +1,82 @@
+package bsh;
+
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+	A pool of interpreters which share one class manager, so that a script
+	engine can evaluate on several threads at once with warm caches.  An
+	interpreter is checked out for an evaluation, bound to the namespace and
+	the output streams of the evaluation, and checked in afterwards.  The
+	pool creates interpreters as they are needed, so that it holds as many
+	as were checked out at once.
+	<p>
+
+	The namespaces evaluated in are given the class manager of the pool, see
+	bind( NameSpace ).  The pooled interpreters are created in the idle
+	namespace, so that they do not create class managers of their own.
+
+	@see BshScriptEngine
+*/
+final class InterpreterPool
+{
+	private final ConcurrentLinkedQueue<Interpreter> idle =
+		new ConcurrentLinkedQueue<Interpreter>();
+	private final BshClassManager classManager =
+		BshClassManager.createClassManager( null/*interpreter*/ );
+	/** The namespace of the idle interpreters */
+	private final NameSpace idleNameSpace =
+		new NameSpace( classManager, "idle" );
+
+	/**
+		The class manager shared by the namespaces of the pooled
+		interpreters.
+	*/
+	BshClassManager getClassManager() {
+		return classManager;
+	}
+
+	/**
+		Give a namespace created for evaluation by the pooled interpreters the
+		shared class manager.
+	*/
+	void bind( NameSpace namespace ) {
+		namespace.setClassManager( classManager );
+	}
+
+	/**
+		Get an idle interpreter or create one, bound to the namespace and the
+		streams.  The caller must check it in when done.
+	*/
+	Interpreter checkout( NameSpace namespace, PrintStream out, PrintStream err )
+	{
+		Interpreter interpreter = idle.poll();
+		if ( interpreter == null )
+		{
+			interpreter = new Interpreter( new StringReader(""), 
+				System.out, System.err, false/*interactive*/, idleNameSpace );
+			interpreter.evalOnly = true;
+		}
+		interpreter.setNameSpace( namespace );
+		interpreter.setOut( out );
+		interpreter.setErr( err );
+		return interpreter;
+	}
+
+	/**
+		Return a checked out interpreter to the pool.  Its namespace and
+		streams are reset, so that it does not keep the evaluation's
+		context, and so is strict Java mode, which a script may have set.
+		Scripted objects created in the evaluation may still call back
+		through it, printing to the standard streams.
+	*/
+	void checkin( Interpreter interpreter )
+	{
+		interpreter.setNameSpace( idleNameSpace );
+		interpreter.setOut( System.out );
+		interpreter.setErr( System.err );
+		interpreter.setStrictJava( false );
+		idle.offer( interpreter );
+	}
+}
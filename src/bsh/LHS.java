@@ -69,8 +69,12 @@ class LHS implements ParserConstants, java.io.Serializable
 	int type;
 
 	String varName;
+	/** The resolved variable of a frame slot, may be null */
+	Variable var;
 	String propName;
 	Field field;
+	/** The invoker of the field, may be null */
+	MemberInvoker invoker;
 	Object object;
 	int index;
 
@@ -101,6 +105,18 @@ throw new Error("namespace lhs");
 		this.nameSpace = nameSpace;
 	}
 
+	/**
+		Resolved variable LHS constructor.
+		@see NameSpace#getFrameVariable( FrameLayout.Slot, String, boolean )
+	*/
+	LHS( NameSpace nameSpace, String varName, Variable var )
+	{
+		type = VARIABLE;
+		this.varName = varName;
+		this.nameSpace = nameSpace;
+		this.var = var;
+	}
+
 	/**
 		Static field LHS Constructor.
 		This simply calls Object field constructor with null object.
@@ -154,11 +170,16 @@ throw new Error("namespace lhs");
 	public Object getValue() throws UtilEvalError
 	{
 		if ( type == VARIABLE )
+		{
+			if ( var != null )
+				return var.getValue();
 			return nameSpace.getVariable( varName );
+		}
 
 		if (type == FIELD)
 			try {
-				Object o = field.get( object );
+				Object o = invoker == null ?
+					field.get( object ) : invoker.get( object );
 				return Primitive.wrap( o, field.getType() );
 			} catch(IllegalAccessException e2) {
 				throw new UtilEvalError("Can't read field: " + field);
@@ -192,6 +213,15 @@ throw new Error("namespace lhs");
 	{
 		if ( type == VARIABLE )
 		{
+			if ( var != null )
+				try {
+					var.setValue( val, Variable.ASSIGNMENT );
+				} catch ( UtilEvalError e ) {
+					throw new UtilEvalError(
+						"Variable assignment: " + varName + ": " 
+						+ e.getMessage() );
+				}
+			else
 			// Set the variable in namespace according to localVar flag
 			if ( localVar )
 				nameSpace.setLocalVariable( varName, val, strictJava );
@@ -206,7 +236,10 @@ throw new Error("namespace lhs");
 
 				// This should probably be in Reflect.java
 				Reflect.setAccessible(field);
-				field.set( object, fieldVal );
+				if ( invoker == null )
+					field.set( object, fieldVal );
+				else
+					invoker.set( object, fieldVal );
 				return val;
 			}
 			catch( NullPointerException e) {   
@@ -0,0 +1,355 @@
+package bsh;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+	A concurrent cache of the lookups of a class manager, e.g. of classes by
+	name or of resolved methods by signature.  Reads take no lock.
+	<p>
+
+	A cache is unbounded unless a maximum size is set.  A bounded cache
+	which grows past its size evicts the least recently used (LRU) or the
+	least frequently used (LFU) entries, down to seven eighths of the
+	maximum so that the cost of eviction is spread over many insertions.
+	Recency is approximated by the number of insertions into the cache, so
+	that a hit does not write to shared state (beyond its own entry, once
+	per insertion).  Frequencies are only counted in LFU caches.
+	<p>
+
+	The initial bound and policy of the caches are taken from the system
+	properties "bsh.cache.maxSize" (default 0, unbounded) and
+	"bsh.cache.eviction" (LRU or LFU, default LRU).
+	<p>
+
+	A cache is a Map, so that it may stand in for the maps and sets which
+	the class manager exposed to its subclasses before, see asSet().
+	@see BshClassManager#setCacheLimit( int, LookupCache.Eviction )
+	@see BshClassManager#getCacheStatistics()
+*/
+public final class LookupCache<K,V> extends AbstractMap<K,V>
+{
+	/** The eviction policy of a bounded cache */
+	public enum Eviction { LRU, LFU }
+
+	static final int DEFAULT_MAX_SIZE =
+		Integer.getInteger( "bsh.cache.maxSize", 0 ).intValue();
+	static final Eviction DEFAULT_EVICTION = Eviction.valueOf(
+		System.getProperty( "bsh.cache.eviction", "LRU" ).toUpperCase() );
+
+	private static final class Entry<V>
+	{
+		final V value;
+		// Racy by design, these only guide the eviction
+		int lastUse;
+		int uses;
+
+		Entry( V value, int lastUse ) {
+			this.value = value;
+			this.lastUse = lastUse;
+		}
+	}
+
+	/**
+		Hit, miss and eviction counts of a cache.  The counts are striped
+		over a few padded cells so that threads hitting the same cache do
+		not contend on one counter.  They are kept when the cache is
+		cleared.
+	*/
+	public static final class Stats
+	{
+		private static final int CELLS = 8, PADDING = 16;
+		private static final int HITS = 0, MISSES = 1, EVICTIONS = 2;
+
+		private final AtomicLongArray counts =
+			new AtomicLongArray( CELLS * PADDING );
+
+		void hit() {
+			increment( HITS, 1 );
+		}
+
+		void miss() {
+			increment( MISSES, 1 );
+		}
+
+		void evicted( int count ) {
+			increment( EVICTIONS, count );
+		}
+
+		private void increment( int counter, int delta ) {
+			int cell = Thread.currentThread().hashCode() & ( CELLS - 1 );
+			counts.addAndGet( cell * PADDING + counter, delta );
+		}
+
+		private long sum( int counter )
+		{
+			long sum = 0;
+			for ( int i = 0; i < CELLS; i++ )
+				sum += counts.get( i * PADDING + counter );
+			return sum;
+		}
+
+		public long getHits() {
+			return sum( HITS );
+		}
+
+		public long getMisses() {
+			return sum( MISSES );
+		}
+
+		public long getEvictions() {
+			return sum( EVICTIONS );
+		}
+
+		public String toString() {
+			return "hits: " + getHits() + ", misses: " + getMisses()
+				+ ", evictions: " + getEvictions();
+		}
+	}
+
+	/**
+		An entry of the cache as seen through entrySet().
+	*/
+	private static final class EntryView<K,V> implements Map.Entry<K,V>
+	{
+		private final K key;
+		private final V value;
+
+		EntryView( K key, V value ) {
+			this.key = key;
+			this.value = value;
+		}
+
+		public K getKey() {
+			return key;
+		}
+
+		public V getValue() {
+			return value;
+		}
+
+		public V setValue( V value ) {
+			throw new UnsupportedOperationException();
+		}
+
+		public boolean equals( Object o )
+		{
+			if ( !(o instanceof Map.Entry) )
+				return false;
+			Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+			return key.equals( e.getKey() ) && ( value == null
+				? e.getValue() == null : value.equals( e.getValue() ) );
+		}
+
+		public int hashCode() {
+			return key.hashCode() ^ ( value == null ? 0 : value.hashCode() );
+		}
+	}
+
+	private final Map<K,Entry<V>> map = new ConcurrentHashMap<K,Entry<V>>();
+	private final Stats stats = new Stats();
+	private volatile int maxSize;
+	private volatile Eviction eviction;
+	private volatile int clock;
+
+	LookupCache() {
+		this( DEFAULT_MAX_SIZE, DEFAULT_EVICTION );
+	}
+
+	LookupCache( int maxSize, Eviction eviction ) {
+		setLimit( maxSize, eviction );
+	}
+
+	/**
+		Bound the cache.
+		@param maxSize the maximum number of entries, 0 for unbounded
+	*/
+	public void setLimit( int maxSize, Eviction eviction )
+	{
+		if ( maxSize < 0 )
+			throw new IllegalArgumentException( "maxSize: " + maxSize );
+		if ( eviction == null )
+			throw new NullPointerException( "eviction" );
+		this.eviction = eviction;
+		this.maxSize = maxSize;
+		evict();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public Eviction getEviction() {
+		return eviction;
+	}
+
+	public int size() {
+		return map.size();
+	}
+
+	public Stats getStats() {
+		return stats;
+	}
+
+	/**
+		@return the cached value or null
+	*/
+	public V get( Object key )
+	{
+		Entry<V> entry = map.get( key );
+		if ( entry == null ) {
+			stats.miss();
+			return null;
+		}
+		stats.hit();
+		if ( maxSize > 0 )
+		{
+			int clock = this.clock;
+			if ( entry.lastUse != clock )
+				entry.lastUse = clock;
+			if ( eviction == Eviction.LFU && entry.uses < Integer.MAX_VALUE )
+				entry.uses++;
+		}
+		return entry.value;
+	}
+
+	/**
+		Whether the key is cached.  Counted as a lookup like get().
+	*/
+	public boolean containsKey( Object key ) {
+		return get( key ) != null;
+	}
+
+	/**
+		Cache the value.  The key must not be changed afterwards.
+		@return the value cached before or null
+	*/
+	public V put( K key, V value )
+	{
+		Entry<V> previous = map.put( key, new Entry<V>( value, ++clock ) );
+		int maxSize = this.maxSize;
+		if ( maxSize > 0 && map.size() > maxSize )
+			evict();
+		return previous == null ? null : previous.value;
+	}
+
+	public V remove( Object key ) {
+		Entry<V> previous = map.remove( key );
+		return previous == null ? null : previous.value;
+	}
+
+	public void clear() {
+		map.clear();
+	}
+
+	/**
+		The entries of the cache.  Iterating them does not count as lookups.
+	*/
+	public Set<Map.Entry<K,V>> entrySet()
+	{
+		return new AbstractSet<Map.Entry<K,V>>() {
+			public Iterator<Map.Entry<K,V>> iterator()
+			{
+				final Iterator<Map.Entry<K,Entry<V>>> entries =
+					map.entrySet().iterator();
+				return new Iterator<Map.Entry<K,V>>() {
+					public boolean hasNext() {
+						return entries.hasNext();
+					}
+
+					public Map.Entry<K,V> next() {
+						Map.Entry<K,Entry<V>> entry = entries.next();
+						return new EntryView<K,V>(
+							entry.getKey(), entry.getValue().value );
+					}
+
+					public void remove() {
+						entries.remove();
+					}
+				};
+			}
+
+			public int size() {
+				return map.size();
+			}
+
+			public void clear() {
+				map.clear();
+			}
+		};
+	}
+
+	/**
+		A set view of the keys of the cache, which adds a key by caching the
+		value for it, e.g. for a cache of names known not to be classes.
+	*/
+	public Set<K> asSet( final V value )
+	{
+		return new AbstractSet<K>() {
+			public boolean add( K key ) {
+				return put( key, value ) == null;
+			}
+
+			public boolean contains( Object key ) {
+				return containsKey( key );
+			}
+
+			public boolean remove( Object key ) {
+				return LookupCache.this.remove( key ) != null;
+			}
+
+			public Iterator<K> iterator() {
+				return keySet().iterator();
+			}
+
+			public int size() {
+				return map.size();
+			}
+
+			public void clear() {
+				map.clear();
+			}
+		};
+	}
+
+	/**
+		Evict entries of an overfull cache down to 7/8 of its size.
+	*/
+	private synchronized void evict()
+	{
+		int maxSize = this.maxSize;
+		if ( maxSize == 0 || map.size() <= maxSize )
+			return;
+
+		List<Map.Entry<K,Entry<V>>> entries =
+			new ArrayList<Map.Entry<K,Entry<V>>>( map.entrySet() );
+		final boolean lfu = eviction == Eviction.LFU;
+		Collections.sort( entries, new Comparator<Map.Entry<K,Entry<V>>>() {
+			public int compare(
+				Map.Entry<K,Entry<V>> a, Map.Entry<K,Entry<V>> b )
+			{
+				Entry<V> x = a.getValue(), y = b.getValue();
+				if ( lfu && x.uses != y.uses )
+					return x.uses < y.uses ? -1 : 1;
+				return x.lastUse < y.lastUse ? -1
+					: x.lastUse == y.lastUse ? 0 : 1;
+			}
+		} );
+
+		int target = maxSize - maxSize / 8;
+		int evicted = 0;
+		for ( int i = 0; i < entries.size() - target; i++ )
+			if ( map.remove( entries.get( i ).getKey() ) != null )
+				evicted++;
+		stats.evicted( evicted );
+	}
+}
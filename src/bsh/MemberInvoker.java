@@ -0,0 +1,466 @@
+package bsh;
+
+import bsh.org.objectweb.asm.*;
+import bsh.org.objectweb.asm.Type;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+	MemberInvoker invokes a resolved Java method or constructor or accesses a
+	resolved field.  Calls go through core reflection until the member has
+	been used "bsh.invoker.threshold" times (default 100, negative disables),
+	after which an accessor class calling the member directly is generated
+	with the bundled ASM.  The JIT can inline through the accessor, which
+	Method.invoke() with its access checks and argument array copies
+	prevents.
+	<p>
+
+	Method handles would serve the same purpose but are not available on the
+	Java versions BeanShell supports.
+	<p>
+
+	Accessors are only generated for public members of public classes in
+	exported packages, whose parameter types are accessible as well.  Caller
+	sensitive methods (e.g. Class.forName()) must see their real caller and
+	are always called reflectively.  So are members made accessible through
+	setAccessibility(true).
+	<p>
+
+	Invokers are kept by the class manager, see
+	BshClassManager.getInvoker(), and dropped with its resolved method
+	caches.  Arguments and values are unwrapped Java values, already
+	converted to the member's types by the caller.
+*/
+final class MemberInvoker implements Constants
+{
+	/**
+		The number of reflective calls of a member before an accessor is
+		generated for it.
+	*/
+	static final int THRESHOLD =
+		Integer.getInteger( "bsh.invoker.threshold", 100 ).intValue();
+
+	/**
+		A generated accessor of one member.
+	*/
+	public interface Accessor
+	{
+		/**
+			Invoke the method or constructor, get the field (args == null)
+			or set the field to args[0].  Exceptions thrown by the member are
+			thrown as they are.
+			@param target the object, ignored for static members and
+				constructors.
+		*/
+		Object invoke( Object target, Object [] args ) throws Throwable;
+	}
+
+	private static final String ACCESSOR =
+		Type.getInternalName( Accessor.class );
+
+	private static int classCount;
+
+	/**
+		A class loader per accessor, so that the class can be collected with
+		its invoker.  The accessor sees the classes of the member's class
+		loader and the Accessor interface.
+	*/
+	private static class Loader extends ClassLoader
+	{
+		Loader( ClassLoader parent ) {
+			super( parent );
+		}
+
+		protected synchronized Class loadClass( String name, boolean resolve )
+			throws ClassNotFoundException
+		{
+			if ( name.equals( Accessor.class.getName() ) )
+				return Accessor.class;
+			return super.loadClass( name, resolve );
+		}
+
+		Class define( String name, byte [] code ) {
+			return defineClass( name, code, 0, code.length );
+		}
+	}
+
+	private final Member member;
+	private int invocations;
+	private volatile boolean notGenerated;
+	private volatile Accessor accessor;
+
+	MemberInvoker( Member member ) {
+		this.member = member;
+	}
+
+	Member getMember() {
+		return member;
+	}
+
+	/**
+		Invoke the method on the object.
+		@see Method#invoke( Object, Object[] )
+	*/
+	Object invoke( Object object, Object [] args )
+		throws IllegalAccessException, InvocationTargetException
+	{
+		Accessor accessor = accessor();
+		if ( accessor == null )
+			return ((Method)member).invoke( object, args );
+		try {
+			return accessor.invoke( object, args );
+		} catch ( Throwable e ) {
+			throw new InvocationTargetException( e );
+		}
+	}
+
+	/**
+		Invoke the constructor.
+		@see Constructor#newInstance( Object[] )
+	*/
+	Object newInstance( Object [] args )
+		throws InstantiationException, IllegalAccessException,
+			InvocationTargetException
+	{
+		Accessor accessor = accessor();
+		if ( accessor == null )
+			return ((Constructor)member).newInstance( args );
+		try {
+			return accessor.invoke( null, args );
+		} catch ( Throwable e ) {
+			throw new InvocationTargetException( e );
+		}
+	}
+
+	/**
+		Get the value of the field.
+		@see Field#get( Object )
+	*/
+	Object get( Object object ) throws IllegalAccessException
+	{
+		Accessor accessor = accessor();
+		if ( accessor == null )
+			return ((Field)member).get( object );
+		return getOrSet( accessor, object, null );
+	}
+
+	/**
+		Set the value of the field.  Values which need a widening
+		conversion, like an Integer assigned to a long field, are left to
+		Field.set().
+		@see Field#set( Object, Object )
+	*/
+	void set( Object object, Object value ) throws IllegalAccessException
+	{
+		Field field = (Field)member;
+		Accessor accessor = Modifier.isFinal( field.getModifiers() )
+			? null : accessor();
+		if ( accessor == null || !isExactValue( field.getType(), value ) )
+			field.set( object, value );
+		else
+			getOrSet( accessor, object, new Object [] { value } );
+	}
+
+	private static Object getOrSet(
+		Accessor accessor, Object object, Object [] args )
+	{
+		try {
+			return accessor.invoke( object, args );
+		} catch ( RuntimeException e ) {
+			throw e;
+		} catch ( Error e ) {
+			throw e;
+		} catch ( Throwable e ) {
+			// field access throws no checked exceptions
+			throw new InterpreterError( "field accessor: " + e );
+		}
+	}
+
+	private static boolean isExactValue( Class type, Object value )
+	{
+		if ( type.isPrimitive() )
+			return value != null
+				&& value.getClass() == Primitive.boxType( type );
+		return value == null || type.isInstance( value );
+	}
+
+	/**
+		Count the call and once the member is hot generate its accessor.
+		@return the accessor or null if the member is called reflectively.
+	*/
+	private Accessor accessor()
+	{
+		Accessor accessor = this.accessor;
+		if ( accessor != null || notGenerated )
+			return accessor;
+		if ( THRESHOLD < 0 || ++invocations <= THRESHOLD )
+			return null;
+		return generateAccessor();
+	}
+
+	private synchronized Accessor generateAccessor()
+	{
+		if ( accessor == null && !notGenerated )
+		{
+			accessor = generate( member );
+			notGenerated = accessor == null;
+		}
+		return accessor;
+	}
+
+	/**
+		Generate the accessor class of the member.
+		@return the accessor or null if the member cannot be called
+			directly.
+	*/
+	static Accessor generate( Member member )
+	{
+		if ( !isDirectlyAccessible( member ) )
+			return null;
+
+		Class clas = member.getDeclaringClass();
+		String className;
+		synchronized ( MemberInvoker.class ) {
+			className = "bsh/invoker/" + clas.getName().replace( '.', '_' )
+				+ "$" + ( member instanceof Constructor ? "new"
+					: member.getName() )
+				+ "$" + (++classCount);
+		}
+		try {
+			byte [] bytes = generate( className, member );
+			Class accessorClass = new Loader( clas.getClassLoader() )
+				.define( className.replace( '/', '.' ), bytes );
+			return (Accessor)accessorClass.newInstance();
+		} catch ( Exception e ) {
+			if ( Interpreter.DEBUG )
+				Interpreter.debug( "Error generating accessor of " + member
+					+ ": " + e );
+		} catch ( LinkageError e ) {
+			if ( Interpreter.DEBUG )
+				Interpreter.debug( "Error generating accessor of " + member
+					+ ": " + e );
+		}
+		return null;
+	}
+
+	private static byte [] generate( String className, Member member )
+	{
+		ClassWriter cw = new ClassWriter( true/*computeMaxs*/ );
+		cw.visit( ACC_PUBLIC | ACC_FINAL, className,
+			"java/lang/Object", new String [] { ACCESSOR },
+			"BeanShell accessor " + member.getName() );
+
+		CodeVisitor code = cw.visitMethod( ACC_PUBLIC, "<init>", "()V", null );
+		code.visitVarInsn( ALOAD, 0 );
+		code.visitMethodInsn(
+			INVOKESPECIAL, "java/lang/Object", "<init>", "()V" );
+		code.visitInsn( RETURN );
+		code.visitMaxs( 0, 0 );
+
+		code = cw.visitMethod( ACC_PUBLIC, "invoke",
+			"(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;",
+			new String [] { "java/lang/Throwable" } );
+		String owner = Type.getInternalName( member.getDeclaringClass() );
+		boolean isStatic = Modifier.isStatic( member.getModifiers() );
+
+		if ( member instanceof Method )
+		{
+			Method method = (Method)member;
+			if ( !isStatic )
+				loadTarget( code, owner );
+			loadArgs( code, method.getParameterTypes() );
+			int opcode = isStatic ? INVOKESTATIC
+				: method.getDeclaringClass().isInterface() ? INVOKEINTERFACE
+				: INVOKEVIRTUAL;
+			code.visitMethodInsn( opcode, owner, method.getName(),
+				Type.getMethodDescriptor( method ) );
+			box( code, method.getReturnType() );
+		}
+		else if ( member instanceof Constructor )
+		{
+			Constructor con = (Constructor)member;
+			Class [] types = con.getParameterTypes();
+			code.visitTypeInsn( NEW, owner );
+			code.visitInsn( DUP );
+			loadArgs( code, types );
+			Type [] argTypes = new Type[ types.length ];
+			for ( int i = 0; i < types.length; i++ )
+				argTypes[i] = Type.getType( types[i] );
+			code.visitMethodInsn( INVOKESPECIAL, owner, "<init>",
+				Type.getMethodDescriptor( Type.VOID_TYPE, argTypes ) );
+		}
+		else
+		{
+			Field field = (Field)member;
+			String desc = Type.getDescriptor( field.getType() );
+			if ( !Modifier.isFinal( field.getModifiers() ) )
+			{
+				// args != null: set the field
+				Label get = new Label();
+				code.visitVarInsn( ALOAD, 2 );
+				code.visitJumpInsn( IFNULL, get );
+				if ( !isStatic )
+					loadTarget( code, owner );
+				code.visitVarInsn( ALOAD, 2 );
+				code.visitInsn( ICONST_0 );
+				code.visitInsn( AALOAD );
+				unbox( code, field.getType() );
+				code.visitFieldInsn(
+					isStatic ? PUTSTATIC : PUTFIELD, owner, field.getName(),
+					desc );
+				code.visitInsn( ACONST_NULL );
+				code.visitInsn( ARETURN );
+				code.visitLabel( get );
+			}
+			if ( !isStatic )
+				loadTarget( code, owner );
+			code.visitFieldInsn( isStatic ? GETSTATIC : GETFIELD, owner,
+				field.getName(), desc );
+			box( code, field.getType() );
+		}
+		code.visitInsn( ARETURN );
+		code.visitMaxs( 0, 0 );
+		return cw.toByteArray();
+	}
+
+	private static void loadTarget( CodeVisitor code, String owner )
+	{
+		code.visitVarInsn( ALOAD, 1 );
+		code.visitTypeInsn( CHECKCAST, owner );
+	}
+
+	private static void loadArgs( CodeVisitor code, Class [] types )
+	{
+		for ( int i = 0; i < types.length; i++ )
+		{
+			code.visitVarInsn( ALOAD, 2 );
+			code.visitLdcInsn( new Integer( i ) );
+			code.visitInsn( AALOAD );
+			unbox( code, types[i] );
+		}
+	}
+
+	/**
+		Cast the Object on the stack to the type, unboxing primitive values.
+	*/
+	private static void unbox( CodeVisitor code, Class type )
+	{
+		if ( type == Object.class )
+			return;
+		if ( !type.isPrimitive() ) {
+			code.visitTypeInsn( CHECKCAST, Type.getInternalName( type ) );
+			return;
+		}
+		String wrapper = Type.getInternalName( Primitive.boxType( type ) );
+		code.visitTypeInsn( CHECKCAST, wrapper );
+		code.visitMethodInsn( INVOKEVIRTUAL, wrapper, type.getName() + "Value",
+			"()" + Type.getDescriptor( type ) );
+	}
+
+	/**
+		Box the value of the type on the stack.  Void leaves null.
+	*/
+	private static void box( CodeVisitor code, Class type )
+	{
+		if ( type == Void.TYPE ) {
+			code.visitInsn( ACONST_NULL );
+			return;
+		}
+		if ( !type.isPrimitive() )
+			return;
+		String wrapper = Type.getInternalName( Primitive.boxType( type ) );
+		code.visitMethodInsn( INVOKESTATIC, wrapper, "valueOf",
+			"(" + Type.getDescriptor( type ) + ")L" + wrapper + ";" );
+	}
+
+	/**
+		Whether generated code outside of the member's package may call the
+		member and would be an equivalent caller.
+	*/
+	private static boolean isDirectlyAccessible( Member member )
+	{
+		Class clas = member.getDeclaringClass();
+		if ( !Modifier.isPublic( member.getModifiers() )
+				|| !isAccessible( clas ) )
+			return false;
+		if ( isCallerSensitive( (AccessibleObject)member ) )
+			return false;
+
+		if ( member instanceof Method )
+		{
+			Method method = (Method)member;
+			// signature polymorphic methods like MethodHandle.invoke()
+			if ( clas.getName().startsWith( "java.lang.invoke." ) )
+				return false;
+			// static interface methods need a newer class file version
+			if ( clas.isInterface()
+					&& Modifier.isStatic( method.getModifiers() ) )
+				return false;
+			return isAccessible( method.getParameterTypes() );
+		}
+		if ( member instanceof Constructor )
+			return !Modifier.isAbstract( clas.getModifiers() )
+				&& isAccessible( ((Constructor)member).getParameterTypes() );
+		return isAccessible( ((Field)member).getType() );
+	}
+
+	private static boolean isAccessible( Class [] types )
+	{
+		for ( int i = 0; i < types.length; i++ )
+			if ( !isAccessible( types[i] ) )
+				return false;
+		return true;
+	}
+
+	private static boolean isAccessible( Class type )
+	{
+		while ( type.isArray() )
+			type = type.getComponentType();
+		if ( type.isPrimitive() )
+			return true;
+		return Modifier.isPublic( type.getModifiers() ) && isExported( type );
+	}
+
+	/**
+		Whether the package of the class is exported to all modules.  Always
+		true before Java 9, where the module system is looked up
+		reflectively.
+	*/
+	private static boolean isExported( Class type )
+	{
+		String name = type.getName();
+		int i = name.lastIndexOf( '.' );
+		String packageName = i < 0 ? "" : name.substring( 0, i );
+		try {
+			Object module = Class.class.getMethod( "getModule" )
+				.invoke( type );
+			return Boolean.TRUE.equals( module.getClass()
+				.getMethod( "isExported", String.class )
+				.invoke( module, packageName ) );
+		} catch ( NoSuchMethodException e ) {
+			return true;
+		} catch ( Exception e ) {
+			return false;
+		}
+	}
+
+	/**
+		Whether the member is annotated as caller sensitive by the JDK.
+	*/
+	private static boolean isCallerSensitive( AccessibleObject member )
+	{
+		Annotation [] annotations = member.getAnnotations();
+		for ( int i = 0; i < annotations.length; i++ )
+			if ( annotations[i].annotationType().getName()
+					.endsWith( ".CallerSensitive" ) )
+				return true;
+		return false;
+	}
+}
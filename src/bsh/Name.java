@@ -61,8 +61,11 @@ import java.lang.reflect.Method;
 /*
 	<strong>Implementation notes</strong>
 	<pre>
-	Thread safety: all of the work methods in this class must be synchronized
-	because they share the internal intermediate evaluation state.
+	Thread safety: Name objects are cached and shared by their namespace, so
+	the intermediate state of an evaluation is held in an EvalState per call
+	and the work methods need no locking.  The cached results (asClass, 
+	classOfStaticMethod) are only ever set to the same value, so a race 
+	merely repeats the resolution.
 
 	Note about invokeMethod():  We could simply use resolveMethod and return
 	the MethodInvoker (BshMethod or JavaMethod) however there is no easy way
@@ -101,26 +104,31 @@ class Name implements java.io.Serializable
 	public NameSpace namespace;
 	String value = null;
 	
-	// ---------------------------------------------------------
-	// The following instance variables mutate during evaluation and should
-	// be reset by the reset() method where necessary
+	private static String FINISHED = null; // null evalname and we're finished
 
-	// For evaluation
-	/** Remaining text to evaluate */
-	private String evalName;
-	/** 
-		The last part of the name evaluated.  This is really only used for
-	 	this, caller, and super resolution.
+	/**
+		The intermediate state of one evaluation of the name.  It is held
+		per call (not in the Name, which is cached and shared by the
+		namespace), so that a name may be resolved by several threads at
+		once without locking.
 	*/
-	private String lastEvalName;
-	private static String FINISHED = null; // null evalname and we're finished
-	private Object evalBaseObject;	// base object for current eval
+	private static final class EvalState
+	{
+		/** Remaining text to evaluate */
+		String evalName;
+		/** 
+			The last part of the name evaluated.  This is really only used for
+		 	this, caller, and super resolution.
+		*/
+		String lastEvalName;
+		Object evalBaseObject;	// base object for current eval
 
-	private int callstackDepth;		// number of times eval hit 'this.caller'
+		int callstackDepth;		// number of times eval hit 'this.caller'
 
-	//  
-	//  End mutable instance variables.
-	// ---------------------------------------------------------
+		EvalState( String value ) {
+			evalName = value;
+		}
+	}
 
 	// Begin Cached result structures
 	// These are optimizations 
@@ -140,12 +148,6 @@ class Name implements java.io.Serializable
 
 	// End Cached result structures
 
-	private void reset() {
-		evalName = value;
-		evalBaseObject = null;
-		callstackDepth = 0;
-	}
-
 	/**
 		This constructor should *not* be used in general. 
 		Use NameSpace getNameResolver() which supports caching.
@@ -191,15 +193,15 @@ class Name implements java.io.Serializable
 		This is necessary to disambiguate in cases where the grammar knows
 		that we want a class; where in general the var path may be taken.
 	*/
-	synchronized public Object toObject( 
+	public Object toObject( 
 		CallStack callstack, Interpreter interpreter, boolean forceClass ) 
 		throws UtilEvalError
 	{
-		reset();
+		EvalState state = new EvalState( value );
 
 		Object obj = null;
-		while( evalName != null )
-			obj = consumeNextObjectField( 
+		while( state.evalName != null )
+			obj = consumeNextObjectField( state,
 				callstack, interpreter, forceClass, false/*autoalloc*/  );
 
 		if ( obj == null )
@@ -208,24 +210,24 @@ class Name implements java.io.Serializable
 		return obj;
 	}
 
-	private Object completeRound( 
+	private Object completeRound( EvalState state,
 		String lastEvalName, String nextEvalName, Object returnObject )
 	{
 		if ( returnObject == null )
 			throw new InterpreterError("lastEvalName = "+lastEvalName);
-		this.lastEvalName = lastEvalName;
-		this.evalName = nextEvalName;
-		this.evalBaseObject = returnObject;
+		state.lastEvalName = lastEvalName;
+		state.evalName = nextEvalName;
+		state.evalBaseObject = returnObject;
 		return returnObject;
 	}
 
 	/**
-		Get the next object by consuming one or more components of evalName.  
+		Get the next object by consuming one or more components of state.evalName.  
 		Often this consumes just one component, but if the name is a classname 
 		it will consume all of the components necessary to make the class 
 		identifier.
 	*/
-	private Object consumeNextObjectField( 	
+	private Object consumeNextObjectField( EvalState state,
 		CallStack callstack, Interpreter interpreter, 
 		boolean forceClass, boolean autoAllocateThis ) 
 		throws UtilEvalError
@@ -236,14 +238,14 @@ class Name implements java.io.Serializable
 			vs. imported class names (at least in the simple case - see
 			tests/precedence1.bsh).  It should also speed things up a bit.
 		*/
-		if ( (evalBaseObject == null && !isCompound(evalName) )
+		if ( (state.evalBaseObject == null && !isCompound(state.evalName) )
 			&& !forceClass ) 
 		{
-			Object obj = resolveThisFieldReference( 
-				callstack, namespace, interpreter, evalName, false );
+			Object obj = resolveThisFieldReference( state,
+				callstack, namespace, interpreter, state.evalName, false );
 
 			if ( obj != Primitive.VOID )
-				return completeRound( evalName, FINISHED, obj );
+				return completeRound( state, state.evalName, FINISHED, obj );
 		}
 
 		/*
@@ -251,8 +253,8 @@ class Name implements java.io.Serializable
 			If we're just starting the eval of name (no base object)
 			or we're evaluating relative to a This type reference check.
 		*/
-		String varName = prefix(evalName, 1);
-		if ( ( evalBaseObject == null || evalBaseObject instanceof This  )
+		String varName = prefix(state.evalName, 1);
+		if ( ( state.evalBaseObject == null || state.evalBaseObject instanceof This  )
 			&& !forceClass ) 
 		{
 			if ( Interpreter.DEBUG ) 
@@ -260,12 +262,12 @@ class Name implements java.io.Serializable
 
 			Object obj;
 			// switch namespace and special var visibility
-			if ( evalBaseObject == null ) {
-				obj = resolveThisFieldReference( 
+			if ( state.evalBaseObject == null ) {
+				obj = resolveThisFieldReference( state,
 					callstack, namespace, interpreter, varName, false );
 			} else {
-				obj = resolveThisFieldReference( 
-					callstack, ((This)evalBaseObject).namespace, 
+				obj = resolveThisFieldReference( state,
+					callstack, ((This)state.evalBaseObject).namespace, 
 					interpreter, varName, true );
 			}
 
@@ -276,7 +278,7 @@ class Name implements java.io.Serializable
 					Interpreter.debug( "resolved variable: " + varName + 
 					" in namespace: "+namespace);
 
-				return completeRound( varName, suffix(evalName), obj );
+				return completeRound( state, varName, suffix(state.evalName), obj );
 			}
 		}
 
@@ -284,10 +286,10 @@ class Name implements java.io.Serializable
 			Is it a class name?
 			If we're just starting eval of name try to make it, else fail.
 		*/
-		if ( evalBaseObject == null ) 
+		if ( state.evalBaseObject == null ) 
 		{
 			if ( Interpreter.DEBUG ) 
-				Interpreter.debug( "trying class: " + evalName);
+				Interpreter.debug( "trying class: " + state.evalName);
 			
 			/*
 				Keep adding parts until we have a class 
@@ -295,37 +297,37 @@ class Name implements java.io.Serializable
 			Class clas = null;
 			int i = 1;
 			String className = null;
-			for(; i <= countParts(evalName); i++)
+			for(; i <= countParts(state.evalName); i++)
 			{
-				className = prefix(evalName, i);
+				className = prefix(state.evalName, i);
 				if ( (clas = namespace.getClass(className)) != null )
 					break;
 			}
 		
 			if ( clas != null )  {
-				return completeRound(
+				return completeRound( state,
 					className,
-					suffix( evalName, countParts(evalName)-i ),
+					suffix( state.evalName, countParts(state.evalName)-i ),
 					new ClassIdentifier(clas) 
 				);
 			}
 			// not a class (or variable per above)
 			if ( Interpreter.DEBUG ) 
-				Interpreter.debug( "not a class, trying var prefix "+evalName );
+				Interpreter.debug( "not a class, trying var prefix "+state.evalName );
 		}
 
 		// No variable or class found in 'this' type ref.
 		// if autoAllocateThis then create one; a child 'this'.
-		if ( ( evalBaseObject == null || evalBaseObject instanceof This  )
+		if ( ( state.evalBaseObject == null || state.evalBaseObject instanceof This  )
 			&& !forceClass && autoAllocateThis )
 		{
 			NameSpace targetNameSpace = 
-				( evalBaseObject == null ) ?  
-					namespace : ((This)evalBaseObject).namespace;
+				( state.evalBaseObject == null ) ?  
+					namespace : ((This)state.evalBaseObject).namespace;
 			Object obj = new NameSpace( 
 				targetNameSpace, "auto: "+varName ).getThis( interpreter );
 			targetNameSpace.setVariable( varName, obj, false );
-			return completeRound( varName, suffix(evalName), obj );
+			return completeRound( state, varName, suffix(state.evalName), obj );
 		}
 
 		/*
@@ -336,12 +338,12 @@ class Name implements java.io.Serializable
 			reference.
 			- If we are compound then we must fail at this point.
 		*/
-		if ( evalBaseObject == null ) {
-			if ( !isCompound(evalName) ) {
-				return completeRound( evalName, FINISHED, Primitive.VOID );
+		if ( state.evalBaseObject == null ) {
+			if ( !isCompound(state.evalName) ) {
+				return completeRound( state, state.evalName, FINISHED, Primitive.VOID );
 			} else
 				throw new UtilEvalError(
-					"Class or variable not found: " + evalName);
+					"Class or variable not found: " + state.evalName);
 		}
 
 		/*
@@ -355,15 +357,15 @@ class Name implements java.io.Serializable
 			Do some basic validity checks.
 		*/
 
-		if ( evalBaseObject == Primitive.NULL) // previous round produced null
+		if ( state.evalBaseObject == Primitive.NULL) // previous round produced null
 			throw new UtilTargetError( new NullPointerException( 
 				"Null Pointer while evaluating: " +value ) );
 
-		if ( evalBaseObject == Primitive.VOID) // previous round produced void
+		if ( state.evalBaseObject == Primitive.VOID) // previous round produced void
 			throw new UtilEvalError(
 				"Undefined variable or class name while evaluating: "+value);
 
-		if ( evalBaseObject instanceof Primitive)
+		if ( state.evalBaseObject instanceof Primitive)
 			throw new UtilEvalError("Can't treat primitive like an object. "+
 			"Error while evaluating: "+value);
 
@@ -371,10 +373,10 @@ class Name implements java.io.Serializable
 			Resolve relative to a class type
 			static field, inner class, ?
 		*/
-		if ( evalBaseObject instanceof ClassIdentifier ) 
+		if ( state.evalBaseObject instanceof ClassIdentifier ) 
 		{
-			Class clas = ((ClassIdentifier)evalBaseObject).getTargetClass();
-			String field = prefix(evalName, 1);
+			Class clas = ((ClassIdentifier)state.evalBaseObject).getTargetClass();
+			String field = prefix(state.evalName, 1);
 
 			// Class qualified 'this' reference from inner class.
 			// e.g. 'MyOuterClass.this'
@@ -388,8 +390,8 @@ class Name implements java.io.Serializable
 					if ( ns.classInstance != null 
 						&& ns.classInstance.getClass() == clas 
 					)
-						return completeRound( 
-							field, suffix(evalName), ns.classInstance );
+						return completeRound( state, 
+							field, suffix(state.evalName), ns.classInstance );
 					ns=ns.getParent();
 				}
 				throw new UtilEvalError(
@@ -402,7 +404,8 @@ class Name implements java.io.Serializable
 				if ( Interpreter.DEBUG ) 
 					Interpreter.debug("Name call to getStaticFieldValue, class: "
 						+clas+", field:"+field);
-				obj = Reflect.getStaticFieldValue(clas, field);
+				obj = Reflect.getStaticFieldValue(
+					namespace.getClassManager(), clas, field);
 			} catch( ReflectError e ) { 
 				if ( Interpreter.DEBUG ) 
 					Interpreter.debug("field reflect error: "+e);
@@ -421,7 +424,7 @@ class Name implements java.io.Serializable
 					"No static field or inner class: " 
 					+ field + " of " + clas );
 
-			return completeRound( field, suffix(evalName), obj );
+			return completeRound( state, field, suffix(state.evalName), obj );
 		}
 
 		/*
@@ -436,25 +439,26 @@ class Name implements java.io.Serializable
 			Some kind of field access?
 		*/
 
-		String field = prefix(evalName, 1);
+		String field = prefix(state.evalName, 1);
 
 		// length access on array? 
-		if ( field.equals("length") && evalBaseObject.getClass().isArray() )
+		if ( field.equals("length") && state.evalBaseObject.getClass().isArray() )
 		{
-			Object obj = new Primitive(Array.getLength(evalBaseObject));
-			return completeRound( field, suffix(evalName), obj );
+			Object obj = new Primitive(Array.getLength(state.evalBaseObject));
+			return completeRound( state, field, suffix(state.evalName), obj );
 		}
 
 		// Check for field on object 
 		// Note: could eliminate throwing the exception somehow
 		try {
-			Object obj = Reflect.getObjectFieldValue(evalBaseObject, field);
-			return completeRound( field, suffix(evalName), obj );
+			Object obj = Reflect.getObjectFieldValue(
+				namespace.getClassManager(), state.evalBaseObject, field);
+			return completeRound( state, field, suffix(state.evalName), obj );
 		} catch(ReflectError e) { /* not a field */ }
 	
 		// if we get here we have failed
 		throw new UtilEvalError(
-			"Cannot access field: " + field + ", on object: " + evalBaseObject);
+			"Cannot access field: " + field + ", on object: " + state.evalBaseObject);
 	}
 
 	/**
@@ -473,7 +477,7 @@ class Name implements java.io.Serializable
 		@param namespace the namespace of the this reference (should be the
 		same as the top of the stack?
 	*/
-	Object resolveThisFieldReference( 
+	Object resolveThisFieldReference( EvalState state,
 		CallStack callstack, NameSpace thisNameSpace, Interpreter interpreter, 
 		String varName, boolean specialFieldsVisible ) 
 		throws UtilEvalError
@@ -499,7 +503,7 @@ class Name implements java.io.Serializable
 			NameSpace classNameSpace = getClassNameSpace( thisNameSpace );
 			if ( classNameSpace != null )
 			{
-				if ( isCompound( evalName ) )
+				if ( isCompound( state.evalName ) )
 					result = classNameSpace.getThis( interpreter );
 				else
 					result = classNameSpace.getClassInstance();
@@ -550,7 +554,7 @@ class Name implements java.io.Serializable
 			else if (varName.equals("methods"))
 				obj = thisNameSpace.getMethodNames();
 			else if ( varName.equals("interpreter") )
-				if ( lastEvalName.equals("this") )
+				if ( state.lastEvalName.equals("this") )
 					obj = interpreter;
 				else
 					throw new UtilEvalError(
@@ -559,12 +563,12 @@ class Name implements java.io.Serializable
 
 		if ( obj == null && specialFieldsVisible && varName.equals("caller") )
 		{
-			if ( lastEvalName.equals("this") || lastEvalName.equals("caller") ) 
+			if ( state.lastEvalName.equals("this") || state.lastEvalName.equals("caller") ) 
 			{
 				// get the previous context (see notes for this class)
 				if ( callstack == null )
 					throw new InterpreterError("no callstack");
-				obj = callstack.get( ++callstackDepth ).getThis( 
+				obj = callstack.get( ++state.callstackDepth ).getThis( 
 					interpreter ); 
 			}
 			else
@@ -578,7 +582,7 @@ class Name implements java.io.Serializable
 		if ( obj == null && specialFieldsVisible 
 			&& varName.equals("callstack") )
 		{
-			if ( lastEvalName.equals("this") ) 
+			if ( state.lastEvalName.equals("this") ) 
 			{
 				// get the previous context (see notes for this class)
 				if ( callstack == null )
@@ -628,20 +632,18 @@ class Name implements java.io.Serializable
 		@throws ClassPathException (type of EvalError) on special case of 
 		ambiguous unqualified name after super import. 
 	*/
-	synchronized public Class toClass() 
+	public Class toClass() 
 		throws ClassNotFoundException, UtilEvalError
 	{
 		if ( asClass != null )
 			return asClass;
 
-		reset();
-
 		// "var" means untyped, return null class
-		if ( evalName.equals("var") )
+		if ( value.equals("var") )
 			return asClass = null;
 
 		/* Try straightforward class name first */
-		Class clas = namespace.getClass( evalName );
+		Class clas = namespace.getClass( value );
 
 		if ( clas == null ) 
 		{
@@ -670,31 +672,31 @@ class Name implements java.io.Serializable
 
 	/*
 	*/
-	synchronized public LHS toLHS( 
+	public LHS toLHS( 
 		CallStack callstack, Interpreter interpreter )
 		throws UtilEvalError
 	{
 		// Should clean this up to a single return statement
-		reset();
+		EvalState state = new EvalState( value );
 		LHS lhs;
 
 		// Simple (non-compound) variable assignment e.g. x=5;
-		if ( !isCompound(evalName) ) 
+		if ( !isCompound(state.evalName) ) 
 		{
-			if ( evalName.equals("this") )
+			if ( state.evalName.equals("this") )
 				throw new UtilEvalError("Can't assign to 'this'." );
 
 			// Interpreter.debug("Simple var LHS...");
-			lhs = new LHS( namespace, evalName, false/*bubble up if allowed*/);
+			lhs = new LHS( namespace, state.evalName, false/*bubble up if allowed*/);
 			return lhs;
 		}
 
 		// Field e.g. foo.bar=5;
 		Object obj = null;
 		try {
-			while( evalName != null && isCompound( evalName ) )
+			while( state.evalName != null && isCompound( state.evalName ) )
 			{
-				obj = consumeNextObjectField( callstack, interpreter, 
+				obj = consumeNextObjectField( state, callstack, interpreter, 
 					false/*forcclass*/, true/*autoallocthis*/ );
 			}
 		} 
@@ -703,7 +705,7 @@ class Name implements java.io.Serializable
 		}
 
 		// Finished eval and its a class.
-		if ( evalName == null && obj instanceof ClassIdentifier )
+		if ( state.evalName == null && obj instanceof ClassIdentifier )
 			throw new UtilEvalError("Can't assign to class: " + value );
 
 		if ( obj == null )
@@ -714,13 +716,13 @@ class Name implements java.io.Serializable
 		{
 			// dissallow assignment to magic fields
 			if ( 
-				evalName.equals("namespace")
-				|| evalName.equals("variables")
-				|| evalName.equals("methods")
-				|| evalName.equals("caller")
+				state.evalName.equals("namespace")
+				|| state.evalName.equals("variables")
+				|| state.evalName.equals("methods")
+				|| state.evalName.equals("caller")
 			)
 				throw new UtilEvalError(
-					"Can't assign to special variable: "+evalName );
+					"Can't assign to special variable: "+state.evalName );
 
 			Interpreter.debug("found This reference evaluating LHS");
 			/*
@@ -733,20 +735,22 @@ class Name implements java.io.Serializable
 				
 				In the old scoping rules super didn't do this.
 			*/
-			boolean localVar = !lastEvalName.equals("super");
-			return new LHS( ((This)obj).namespace, evalName, localVar );
+			boolean localVar = !state.lastEvalName.equals("super");
+			return new LHS( ((This)obj).namespace, state.evalName, localVar );
 		}
 
-		if ( evalName != null )
+		if ( state.evalName != null )
 		{
 			try {
 				if ( obj instanceof ClassIdentifier ) 
 				{
 					Class clas = ((ClassIdentifier)obj).getTargetClass();
-					lhs = Reflect.getLHSStaticField(clas, evalName);
+					lhs = Reflect.getLHSStaticField(
+						namespace.getClassManager(), clas, state.evalName);
 					return lhs;
 				} else {
-					lhs = Reflect.getLHSObjectField(obj, evalName);
+					lhs = Reflect.getLHSObjectField(
+						namespace.getClassManager(), obj, state.evalName);
 					return lhs;
 				}
 			} catch(ReflectError e) {
@@ -786,6 +790,20 @@ class Name implements java.io.Serializable
 		SimpleNode callerInfo
 	)
         throws UtilEvalError, EvalError, ReflectError, InvocationTargetException
+    {
+		return invokeMethod( interpreter, args, callstack, callerInfo, null );
+	}
+
+	/**
+		Invoke the method identified by this name, resolving Java methods
+		through the cache of the invocation site.
+		@param cache may be null
+	*/
+    Object invokeMethod(
+		Interpreter interpreter, Object[] args, CallStack callstack,
+		SimpleNode callerInfo, CallSiteCache cache
+	)
+        throws UtilEvalError, EvalError, ReflectError, InvocationTargetException
     {
         String methodName = Name.suffix(value, 1);
 		BshClassManager bcm = interpreter.getClassManager();
@@ -797,7 +815,7 @@ class Name implements java.io.Serializable
         if ( classOfStaticMethod != null )
 		{
 			return Reflect.invokeStaticMethod( 
-				bcm, classOfStaticMethod, methodName, args );
+				bcm, classOfStaticMethod, methodName, args, cache );
 		}
 
 		if ( !Name.isCompound(value) )
@@ -857,7 +875,8 @@ class Name implements java.io.Serializable
 
             // found an object and it's not an undefined variable
             return Reflect.invokeObjectMethod(
-				obj, methodName, args, interpreter, callstack, callerInfo );
+				obj, methodName, args, interpreter, callstack, callerInfo, 
+				cache );
         }
 
 		// It's a class
@@ -872,7 +891,8 @@ class Name implements java.io.Serializable
 		classOfStaticMethod = clas;
 		
         if ( clas != null )
-			return Reflect.invokeStaticMethod( bcm, clas, methodName, args );
+			return Reflect.invokeStaticMethod( 
+				bcm, clas, methodName, args, cache );
 
         // return null; ???
 		throw new UtilEvalError("invokeMethod: unknown target: " + targetName);
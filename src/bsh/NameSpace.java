@@ -37,12 +37,13 @@ package	bsh;
 import java.io.Serializable;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.IOException;
 
 import java.lang.reflect.Method;
@@ -69,6 +70,9 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	
 	private static final long serialVersionUID = 5004976946651004751L;
 
+	/** Numbers the changes of namespaces, in the order they are made */
+	private static final AtomicInteger changes = new AtomicInteger();
+
 	public static final NameSpace JAVACODE = 
 		new NameSpace((BshClassManager)null, "Called from compiled Java code.");
 	static {
@@ -86,6 +90,10 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	private String nsName; 
     private NameSpace parent;
     private Map<String,Variable> variables;
+	/** The lexically declared locals of a method or block scope, if any.
+		@see FrameLayout */
+	private FrameLayout frameLayout;
+	private Variable [] frame;
     private Map<String,List<BshMethod>> methods;
 
     protected Map<String,String> importedClasses;
@@ -100,8 +108,27 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	// See notes in getThis()
     private This thisReference;
 
-	/** Name resolver objects */
-    private Map<String,Name> names;
+	/** Name resolver objects, shared by the threads evaluating here */
+    private volatile ConcurrentHashMap<String,Name> names;
+
+	/** 
+		Memoized overload resolution among the methods declared here, keyed
+		by name and argument types.  Cleared when a method is declared or the
+		imports change.
+	*/
+	private transient volatile ConcurrentHashMap<MethodKey,Object> methodCache;
+	/** Cached when no declared method matches the signature */
+	private static final Object NO_METHOD = new Object();
+	/**
+		The last change of this namespace which may change the methods found
+		here, see getMethodsVersion().
+	*/
+	private transient int methodsVersion;
+	/**
+		The last change of this namespace which may change the classes found
+		through its imports, see getImportsVersion().
+	*/
+	private transient int importsVersion;
 
 	/** The node associated with the creation of this namespace.
 		This is used support getInvocationLine() and getInvocationText(). */
@@ -123,6 +150,10 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	boolean isClass;
 	Class classStatic;	
 	Object classInstance;
+	/** The typed fields of a generated class, see InstanceFields */
+	private InstanceFields instanceFields;
+	/** The instance initializer of a generated class, see ClassGenerator */
+	private InstanceInitializer instanceInitializer;
 	
 	void setClassStatic( Class clas ) {
 		this.classStatic = clas;
@@ -132,6 +163,18 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 		this.classInstance = instance;
 		importObject( instance );
 	}
+	void setInstanceFields( InstanceFields fields ) {
+		this.instanceFields = fields;
+	}
+	InstanceFields getInstanceFields() {
+		return instanceFields;
+	}
+	void setInstanceInitializer( InstanceInitializer initializer ) {
+		this.instanceInitializer = initializer;
+	}
+	InstanceInitializer getInstanceInitializer() {
+		return instanceInitializer;
+	}
 	Object getClassInstance()
 		throws UtilEvalError
 	{
@@ -186,8 +229,10 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 			// create our own class manager?
 
 		setName(name);
-		setParent(parent);
-		setClassManager( classManager );
+		// Not through setParent() and setClassManager(): nothing has seen
+		// the versions of a new namespace, so they need no new number
+		initParent( parent );
+		this.classManager = classManager;
 
 		// Register for notification of classloader change
 		if ( classManager != null )
@@ -300,8 +345,6 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 		String name, Object value, boolean strictJava, boolean recurse ) 
 		throws UtilEvalError 
 	{
-		ensureVariables();
-
 		// primitives should have been wrapped
 		if ( value == null )
 			throw new InterpreterError("null variable value");
@@ -331,7 +374,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 			// This modification makes default allocation local
 			NameSpace varScope = this;
 
-			varScope.variables.put( 
+			varScope.putVariable( 
 				name, new Variable( name, value, null/*modifiers*/ ) );
 
 			// nameSpaceChanged() on new variable addition
@@ -344,11 +387,102 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 			variables =	new HashMap<String,Variable>();
 	}
 
+	/**
+		Store the variable in its frame slot if the name is declared in the
+		frame layout, otherwise in the variable map.
+	*/
+	private void putVariable( String name, Variable var )
+	{
+		if ( frameLayout != null )
+		{
+			int slot = frameLayout.getSlot( name );
+			if ( slot != -1 ) {
+				frame[slot] = var;
+				return;
+			}
+		}
+		ensureVariables();
+		variables.put( name, var );
+	}
+
+	/**
+		Allocate a frame for the locals of the layout.  This must be done
+		before any variables are set in the namespace.
+		@param layout may be null for no frame
+	*/
+	void setFrame( FrameLayout layout )
+	{
+		this.frameLayout = layout;
+		this.frame = layout == null ? null : new Variable[ layout.size() ];
+	}
+
+	/**
+		Locate the variable bound to the frame slot: follow the parents up
+		to the depth of the slot and index the frame there.  This is
+		equivalent to getVariableImpl( name, true ) as long as none of the
+		namespaces in between could supply the name in another way: by a
+		variable of a frame declared after the use (see Slot.shadows), a
+		dynamically set variable, an import or a subclass lookup.  In that
+		case, or if the chain does not have the shape the slot was resolved
+		for, null is returned and the caller must take the regular path.
+
+		@param local if true the variable is going to be assigned and only
+			block namespaces, which delegate assignment to their parent,
+			may be skipped.
+		@return the Variable or null if the slot could not be used
+	*/
+	Variable getFrameVariable( FrameLayout.Slot slot, String name, boolean local )
+	{
+		if ( local && slot.crossesMethod )
+			return null;
+		FrameLayout.Slot [] shadows = slot.shadows;
+		int shadow = 0;
+		NameSpace ns = this;
+		for ( int depth = 0; depth < slot.depth; depth++ )
+		{
+			if ( ns == null || !ns.isFrameTransparent( name ) )
+				return null;
+			if ( shadows != null && shadow < shadows.length 
+				&& shadows[shadow].depth == depth )
+			{
+				FrameLayout.Slot s = shadows[shadow++];
+				if ( ns.frameLayout != s.layout || ns.frame[ s.index ] != null )
+					return null;
+			}
+			ns = ns.parent;
+		}
+		if ( ns == null || ns.frameLayout != slot.layout )
+			return null;
+		return ns.frame[ slot.index ];
+	}
+
+	/**
+		Whether a frame lookup may pass this namespace: a block or method
+		namespace of the frame's method which has no imports and no
+		variable of the name outside of its frame.  Blocks normally hold
+		all their variables in their frames, so this takes no lookup.
+	*/
+	private boolean isFrameTransparent( String name )
+	{
+		Class nsClass = getClass();
+		return ( nsClass == BlockNameSpace.class || nsClass == NameSpace.class )
+			&& !isClass && importedObjects == null && importedStatic == null
+			&& ( variables == null || !variables.containsKey( name ) );
+	}
+
 	/**
 		Remove the variable from the namespace.
 	*/
 	public void unsetVariable( String name )
 	{
+		if ( frameLayout != null )
+		{
+			int slot = frameLayout.getSlot( name );
+			if ( slot != -1 && frame[slot] != null ) {
+				frame[slot] = null;
+				nameSpaceChanged();
+			}
+		}
 		if ( variables != null )
 		{
 			variables.remove( name );
@@ -361,10 +495,19 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 		(This does not show variables in parent namespaces).
 	*/
 	public String [] getVariableNames() {
-		if ( variables == null )
-			return new String [0];
-		else
-			return variables.keySet().toArray(new String[0]);
+		List<String> names = new ArrayList<String>();
+		addVariableNames( names );
+		return names.toArray(new String[0]);
+	}
+
+	private void addVariableNames( List<String> names )
+	{
+		if ( frame != null )
+			for ( int i = 0; i < frame.length; i++ )
+				if ( frame[i] != null )
+					names.add( frameLayout.getName( i ) );
+		if ( variables != null )
+			names.addAll( variables.keySet() );
 	}
 
 	/**
@@ -484,6 +627,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 
 	void setClassManager( BshClassManager classManager ) {
 		this.classManager = classManager;
+		importsVersion = changes.incrementAndGet();
 	}
 
 	/**
@@ -506,6 +650,13 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	}
 
 	public void setParent( NameSpace parent ) 
+	{
+		initParent( parent );
+		// the namespace may move onto a chain with lower versions
+		importsVersion = methodsVersion = changes.incrementAndGet();
+	}
+
+	private void initParent( NameSpace parent )
 	{
 		this.parent = parent;
 
@@ -562,11 +713,23 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	{
 		Variable var = null;
 
+		// The typed fields of a generated class instance come first
+		if ( instanceFields != null && classInstance instanceof GeneratedClass )
+			var = instanceFields.getVariable( 
+				(GeneratedClass)classInstance, name );
+
 		// Change import precedence if we are a class body/instance
 		// Get imported first.
 		if ( var == null && isClass )
 			var = getImportedVar( name );
 
+		if ( var == null && frameLayout != null )
+		{
+			int slot = frameLayout.getSlot( name );
+			if ( slot != -1 )
+				var = frame[slot];
+		}
+
 		if ( var == null && variables != null )
 			var	= (Variable)variables.get(name);
 
@@ -586,9 +749,14 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	*/
 	public Variable [] getDeclaredVariables() 
 	{
-		if ( variables == null )
-			return new Variable[0];
-		return variables.values().toArray(new Variable[0]);
+		List<Variable> vars = new ArrayList<Variable>();
+		if ( frame != null )
+			for ( int i = 0; i < frame.length; i++ )
+				if ( frame[i] != null )
+					vars.add( frame[i] );
+		if ( variables != null )
+			vars.addAll( variables.values() );
+		return vars.toArray(new Variable[0]);
 	}
 
 	/**
@@ -640,8 +808,6 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	{
 		//checkVariableModifiers( name, modifiers );
 
-		ensureVariables();
-
 		// Setting a typed variable is always a local operation.
 		Variable existing = getVariableImpl( name, false/*recurse*/ );
 
@@ -680,7 +846,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 		} 
 
 		// Add the new typed var
-		variables.put( name, new Variable( name, type, value, modifiers ) );
+		putVariable( name, new Variable( name, type, value, modifiers ) );
     }
 
 	/**
@@ -721,6 +887,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 			list.remove(method);
 			list.add( method );
 		}
+		methodsChanged();
     }
 
 	/**
@@ -758,22 +925,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 			method = getImportedMethod( name, sig );
 
 		if ( method == null && methods != null )
-		{
-			List<BshMethod> list = methods.get(name);
-
-			if ( list != null ) 
-			{
-				// Apply most specific signature matching
-				Class [][] candidates = new Class[ list.size() ][];
-				for( int i=0; i< candidates.length; i++ )
-					candidates[i] = list.get(i).getParameterTypes();
-
-				int match = 
-					Reflect.findMostSpecificSignature( sig, candidates );
-				if ( match != -1 )
-					method = list.get(match);
-			}
-		}
+			method = getDeclaredMethod( name, sig );
 
 		if ( method == null && !isClass && !declaredOnly )
 			method = getImportedMethod( name, sig );
@@ -785,6 +937,130 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 		return method;
     }
 
+	/**
+		Get the method which getMethod() finds for any arguments of the
+		signature, whatever their runtime types: the only method of the name
+		and number of parameters visible here, if it accepts the signature.
+		The result stays valid while getMethodsVersion() does not change.
+		@return the method, or null if there is none, there are several or
+			methods may be imported from an object or class.
+	*/
+	BshMethod getOnlyMethod( String name, Class [] sig )
+	{
+		BshMethod only = null;
+		for ( NameSpace ns = this; ns != null; ns = ns.parent )
+		{
+			if ( ns.importedObjects != null || ns.importedStatic != null )
+				return null;
+			List<BshMethod> list =
+				ns.methods == null ? null : ns.methods.get( name );
+			if ( list == null )
+				continue;
+			for ( BshMethod method : list )
+				if ( method.getParameterTypes().length == sig.length )
+				{
+					if ( only != null )
+						return null;
+					only = method;
+				}
+		}
+		if ( only == null )
+			return null;
+
+		Class [][] candidates = { only.getParameterTypes() };
+		return Reflect.findMostSpecificSignature( sig, candidates ) == 0
+			? only : null;
+	}
+
+	/**
+		Get the namespace which resolves class names as this one does: this
+		namespace if it imports classes or packages, is the root or has a
+		class manager of its own, else that of the parent.  Method, block and
+		instance namespaces usually share the scope of their declaring
+		namespace.  The scope of a namespace may change when its imports
+		version changes.
+		@see #getImportsVersion()
+	*/
+	NameSpace getImportScope()
+	{
+		NameSpace ns = this;
+		while ( ns.importedClasses == null && ns.importedPackages == null 
+			&& ns.parent != null && ns.parent != JAVACODE
+			&& ( ns.classManager == null 
+				|| ns.classManager == ns.parent.getClassManager() ) )
+			ns = ns.parent;
+		return ns;
+	}
+
+	/**
+		Get the version of the imports of this namespace and its parents: the
+		last change of their imports, parents or class managers.  Changes are
+		numbered in the order they are made in any namespace, so that the
+		version grows with every change of the chain.  The classes which a
+		namespace resolves by name may change only when the version of its
+		import scope or the version of its class manager change.
+		@see #getImportScope()
+		@see BshClassManager#getResolveCacheVersion()
+	*/
+	int getImportsVersion()
+	{
+		int version = 0;
+		for ( NameSpace ns = this; ns != null; ns = ns.parent )
+			version = Math.max( version, ns.importsVersion );
+		return version;
+	}
+
+	/**
+		Get the version of the methods of this namespace and its parents, a
+		number which changes whenever the methods found here may change: the
+		last method declaration, import or new parent in the chain, numbered
+		as for getImportsVersion(), so that a namespace moved onto another
+		chain never reports a version seen before the move.
+	*/
+	int getMethodsVersion()
+	{
+		int version = 0;
+		for ( NameSpace ns = this; ns != null; ns = ns.parent )
+			version = Math.max( version, ns.methodsVersion );
+		return version;
+	}
+
+	/**
+		Find the most specific of the methods declared in this namespace for
+		the signature.  The result of the signature matching is memoized
+		until the next method declaration.
+		@return the BshMethod or null if not found
+	*/
+	private BshMethod getDeclaredMethod( String name, Class [] sig ) 
+	{
+		List<BshMethod> list = methods.get(name);
+		if ( list == null ) 
+			return null;
+
+		ConcurrentHashMap<MethodKey,Object> methodCache = this.methodCache;
+		if ( methodCache == null )
+			this.methodCache = methodCache = 
+				new ConcurrentHashMap<MethodKey,Object>();
+
+		MethodKey key = new MethodKey( name, sig );
+		Object cached = methodCache.get( key );
+		if ( cached != null )
+			return cached == NO_METHOD ? null : (BshMethod)cached;
+
+		// Apply most specific signature matching
+		Class [][] candidates = new Class[ list.size() ][];
+		for( int i=0; i< candidates.length; i++ )
+			candidates[i] = list.get(i).getParameterTypes();
+
+		int match = Reflect.findMostSpecificSignature( sig, candidates );
+		BshMethod method = match == -1 ? null : list.get(match);
+
+		// the caller may reuse its signature array
+		methodCache.put( new MethodKey( name, sig == null ? null : sig.clone() ),
+			method == null ? NO_METHOD : method );
+		return method;
+	}
+
 	/**
 		Import a class name.
 		Subsequent imports override earlier ones
@@ -795,7 +1071,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 			importedClasses = new HashMap<String,String>();
 
 		importedClasses.put( Name.suffix(name, 1), name );
-		nameSpaceChanged();
+		importsChanged();
     }
 
 	/**
@@ -810,7 +1086,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 		importedPackages.remove( name );
 
 		importedPackages.add(name);
-		nameSpaceChanged();
+		importsChanged();
     }
 
 	/**
@@ -839,6 +1115,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 
 		importedCommands.add(name);
 		nameSpaceChanged();
+		methodsChanged();
     }
 
 	/**
@@ -888,13 +1165,18 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 				else
 					scriptPath = path +"/"+ name +".bsh";
 
-				Interpreter.debug("searching for script: "+scriptPath );
-
-        		InputStream in = bcm.getResourceAsStream( scriptPath );
+				SimpleNode [] script;
+				try {
+					script = CommandRegistry.getScript( bcm, scriptPath );
+				} catch ( EvalError e ) {
+					Interpreter.debug( e.toString() );
+					throw new UtilEvalError( 
+						"Error loading script: "+ e.getMessage(), e);
+				}
 
-				if ( in != null )
+				if ( script != null )
 					return loadScriptedCommand( 
-						in, name, argTypes, scriptPath, interpreter );
+						script, name, argTypes, scriptPath, interpreter );
 
 				// Chop leading "/" and change "/" to "."
 				String className;
@@ -955,7 +1237,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 			Object object = importedObjects.get(i);
 			Class clas = object.getClass();
 			Field field = Reflect.resolveJavaField( 
-				clas, name, false/*onlyStatic*/ );
+				getClassManager(), clas, name, false/*onlyStatic*/ );
 			if ( field != null )
 				return new Variable( 
 					name, field.getType(), new LHS( object, field ) );
@@ -967,7 +1249,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 		{
 			Class clas = importedStatic.get(i);
 			Field field = Reflect.resolveJavaField( 
-				clas, name, true/*onlyStatic*/ );
+				getClassManager(), clas, name, true/*onlyStatic*/ );
 			if ( field != null )
 				return new Variable( name, field.getType(), new LHS( field ) );
 		}
@@ -976,23 +1258,21 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	}
 
 	/**
-		Load a command script from the input stream and find the BshMethod in
-		the target namespace.
-		@throws UtilEvalError on error in parsing the script or if the the
-			method is not found after parsing the script.
+		Evaluate the parsed command script and find the BshMethod in the
+		target namespace.
+		@throws UtilEvalError on error in evaluating the script.
 	*/
 	/*
 		If we want to support multiple commands in the command path we need to
 		change this to not throw the exception.
 	*/
 	private BshMethod loadScriptedCommand( 
-		InputStream in, String name, Class [] argTypes, String resourcePath, 
-		Interpreter interpreter )
+		SimpleNode [] script, String name, Class [] argTypes, 
+		String resourcePath, Interpreter interpreter )
 		throws UtilEvalError
 	{
 		try {
-			interpreter.eval( 
-				new InputStreamReader(in), this, resourcePath );
+			interpreter.eval( script, this, resourcePath );
 		} catch ( EvalError e ) {
 		/* 
 			Here we catch any EvalError from the interpreter because we are
@@ -1215,7 +1495,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	*/
 	protected void getAllNamesAux( List<String> list ) 
 	{
-		list.addAll( variables.keySet() );
+		addVariableNames( list );
 		if ( methods != null )
 			list.addAll( methods.keySet() );
 		if ( parent != null )
@@ -1318,6 +1598,27 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 		names = null;
 	}
 
+	/**
+		Forget the memoized overload resolution and give the methods found
+		here a new version, after a method declaration or an import.
+		Variables do not take part in method resolution, so declaring one
+		does not call this.
+	*/
+	private void methodsChanged() {
+		methodCache = null;
+		methodsVersion = changes.incrementAndGet();
+	}
+
+	/**
+		Note a change of the imported classes or packages, which changes the
+		classes and may change the methods found here.
+	*/
+	private void importsChanged() {
+		nameSpaceChanged();
+		methodCache = null;
+		importsVersion = methodsVersion = changes.incrementAndGet();
+	}
+
 	/**
 		Import standard packages.  Currently:
 		<pre>
@@ -1377,14 +1678,17 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	*/
 	Name getNameResolver( String ambigname ) 
 	{
+		ConcurrentHashMap<String,Name> names = this.names;
 		if ( names == null )
-			names = new HashMap<String,Name>();
+			this.names = names = new ConcurrentHashMap<String,Name>();
 
 		Name name = names.get( ambigname );
 
 		if ( name == null ) {
 			name = new Name( this, ambigname );
-			names.put( ambigname, name );
+			Name existing = names.putIfAbsent( ambigname, name );
+			if ( existing != null )
+				name = existing;
 		} 
 
 		return name;
@@ -1429,6 +1733,8 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	public void clear() 
 	{
 		variables = null;
+		if ( frame != null )
+			frame = new Variable[ frame.length ];
 		methods = null;
 		importedClasses = null;
 		importedPackages = null;
@@ -1438,6 +1744,8 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 			loadDefaultImports();	
     	classCache = null;
 		names = null;
+		methodCache = null;
+		importsVersion = methodsVersion = changes.incrementAndGet();
 	}
 
 	/**
@@ -1462,6 +1770,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 
 		importedObjects.add( obj );
 		nameSpaceChanged();
+		methodsChanged();
 
 	}
 
@@ -1477,6 +1786,7 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 
 		importedStatic.add( clas );
 		nameSpaceChanged();
+		methodsChanged();
 	}
 
 	/**
@@ -1500,18 +1810,48 @@ public class NameSpace implements Serializable, BshClassManager.Listener, NameSo
 	}
 
 
+	/**
+		The name and argument types of a method lookup.
+	*/
+	private static final class MethodKey
+	{
+		private final String name;
+		private final Class [] sig;
+		private final int hashCode;
+
+		MethodKey( String name, Class [] sig ) {
+			this.name = name;
+			this.sig = sig;
+			this.hashCode = name.hashCode() * 31 + Arrays.hashCode( sig );
+		}
+
+		public int hashCode() { return hashCode; }
+
+		public boolean equals( Object o ) {
+			if ( !(o instanceof MethodKey) )
+				return false;
+			MethodKey key = (MethodKey)o;
+			return hashCode == key.hashCode && name.equals( key.name )
+				&& Arrays.equals( sig, key.sig );
+		}
+	}
+
 	NameSpace copy() {
 		try {
 			final NameSpace clone = (NameSpace) clone();
 			clone.thisReference = null;
 			clone.variables = clone(variables);
+			if ( frame != null )
+				clone.frame = frame.clone();
 			clone.methods = clone(methods);
 			clone.importedClasses = clone(importedClasses);
 			clone.importedPackages = clone(importedPackages);
 			clone.importedCommands = clone(importedCommands);
 			clone.importedObjects = clone(importedObjects);
 			clone.importedStatic = clone(importedStatic);
-			clone.names = clone(names);
+			// name resolvers are bound to their namespace
+			clone.names = null;
+			clone.methodCache = null;
 			return clone;
 		} catch (CloneNotSupportedException e) {
 			throw new IllegalStateException(e);
@@ -0,0 +1,199 @@
+package bsh;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+	The runtime support of the classes written by the script compiler
+	(bshc).  A compiled script class holds one PrecompiledScript, which
+	loads the parsed statements of the script from the .bshc resource next
+	to the class, so that the script runs without being parsed (and without
+	loading the parser).  The bytecode of the scripted classes which the
+	script declares, generated when it was compiled, is read from the
+	resource with the .bshclasses extension and given to the class
+	generator, so that the classes are defined without being generated
+	again when the script declares them.
+	<p>
+
+	The main() method of a compiled script runs the script with the
+	arguments in bsh.args, as the bsh launcher does.  The static methods
+	generated for the typed method declarations of the script invoke them
+	in a module interpreter, which runs the script once on first use.
+	Untyped code is evaluated by the interpreter as usual.
+	@see ScriptCompiler
+*/
+public final class PrecompiledScript
+{
+	/** The extension of the resource of the scripted classes */
+	static final String CLASSES_EXTENSION = ".bshclasses";
+
+	private final Class scriptClass;
+	private final String sourceFile;
+	private SimpleNode [] statements;
+	private This module;
+
+	/**
+		@param scriptClass the compiled script class, its parsed statements
+			are read from the resource of the class with the .bshc extension.
+		@param sourceFile the name of the script for error messages.
+	*/
+	public PrecompiledScript( Class scriptClass, String sourceFile )
+	{
+		this.scriptClass = scriptClass;
+		this.sourceFile = sourceFile;
+	}
+
+	/**
+		Run the script in a new interpreter with the arguments in bsh.args.
+		If the script evaluates to a class its main() method is invoked.
+		Errors are reported on System.err, as bsh reports them.
+	*/
+	public void main( String [] args )
+	{
+		Interpreter interpreter = new Interpreter();
+		interpreter.setu( "bsh.args", args );
+		try {
+			Object result = eval( interpreter );
+			if ( result instanceof Class )
+				try {
+					Interpreter.invokeMain( (Class)result, args );
+				} catch ( Exception e )
+				{
+					Object o = e;
+					if ( e instanceof InvocationTargetException )
+						o = ((InvocationTargetException)e)
+							.getTargetException();
+					System.err.println(
+						"Class: "+result+" main method threw exception:"+o);
+				}
+		} catch ( TargetError e ) {
+			System.err.println("Script threw exception: "+e);
+			if ( e.inNativeCode() )
+				e.printStackTrace( Interpreter.DEBUG, System.err );
+		} catch ( EvalError e ) {
+			System.err.println("Evaluation Error: "+e);
+		}
+	}
+
+	/**
+		Run the script in the global namespace of the interpreter.
+		@return the value of the last statement, as Interpreter.source().
+	*/
+	public Object eval( Interpreter interpreter ) throws EvalError
+	{
+		return Primitive.unwrap( interpreter.eval(
+			getStatements(), interpreter.getNameSpace(), sourceFile ) );
+	}
+
+	/**
+		Invoke a method declared by the script in the module interpreter.
+		@return the unwrapped result, null for void methods.
+	*/
+	public Object invoke( String methodName, Object [] args )
+		throws EvalError
+	{
+		return Primitive.unwrap( getModule().invokeMethod( methodName, args ) );
+	}
+
+	private synchronized This getModule() throws EvalError
+	{
+		if ( module == null )
+		{
+			Interpreter interpreter = new Interpreter();
+			interpreter.setu( "bsh.args", new String [0] );
+			eval( interpreter );
+			module = interpreter.getNameSpace().getThis( interpreter );
+		}
+		return module;
+	}
+
+	private synchronized SimpleNode [] getStatements() throws EvalError
+	{
+		if ( statements == null )
+		{
+			String resource = getResourceName( ASTSerializer.EXTENSION );
+			InputStream in = scriptClass.getResourceAsStream( resource );
+			if ( in == null )
+				throw new EvalError( "Compiled script not found: "
+					+ resource, null, null );
+			try {
+				try {
+					statements = ASTSerializer.read(
+						new BufferedInputStream( in ), sourceFile );
+				} finally {
+					in.close();
+				}
+			} catch ( IOException e ) {
+				throw new EvalError( "Unable to read compiled script: "
+					+ resource + ": " + e, null, null, e );
+			}
+			loadClasses();
+		}
+		return statements;
+	}
+
+	/**
+		Give the class generator the bytecode of the scripted classes
+		generated when the script was compiled, if there are any.
+	*/
+	private void loadClasses() throws EvalError
+	{
+		String resource = getResourceName( CLASSES_EXTENSION );
+		InputStream in = scriptClass.getResourceAsStream( resource );
+		if ( in == null )
+			return;
+		try {
+			try {
+				for ( Map.Entry<String,byte[]> entry
+					: readClasses( new BufferedInputStream( in ) ).entrySet() )
+					ClassGenerator.addGeneratedCode(
+						entry.getKey(), entry.getValue() );
+			} finally {
+				in.close();
+			}
+		} catch ( IOException e ) {
+			throw new EvalError( "Unable to read compiled script: "
+				+ resource + ": " + e, null, null, e );
+		}
+	}
+
+	private String getResourceName( String extension )
+	{
+		String name = scriptClass.getName();
+		return name.substring( name.lastIndexOf('.') + 1 ) + extension;
+	}
+
+	/**
+		Read the bytecode of scripted classes as written by the script
+		compiler: the code version, the number of classes and for each its
+		signature (see ClassGeneratorUtil.getSignature()) and its bytecode,
+		both prefixed with their length.
+		@return the bytecode by signature, empty if it was generated by
+			another version of bsh.
+	*/
+	static Map<String,byte[]> readClasses( InputStream in ) throws IOException
+	{
+		Map<String,byte[]> classes = new LinkedHashMap<String,byte[]>();
+		DataInputStream data = new DataInputStream( in );
+		if ( !data.readUTF().equals( ClassGenerator.CODE_VERSION ) )
+			return classes;
+		for ( int n = data.readInt(); n > 0; n-- )
+		{
+			String signature = new String( readBytes( data ), "UTF-8" );
+			classes.put( signature, readBytes( data ) );
+		}
+		return classes;
+	}
+
+	private static byte [] readBytes( DataInputStream in ) throws IOException
+	{
+		byte [] bytes = new byte[ in.readInt() ];
+		in.readFully( bytes );
+		return bytes;
+	}
+}
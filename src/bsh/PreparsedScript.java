@@ -13,6 +13,7 @@ public class PreparsedScript {
 
 	private final BshMethod _method;
 	private final Interpreter _interpreter;
+	private final ASTOptimizer.Stats _optimizerStats;
 
 
 	public PreparsedScript(final String source) throws EvalError {
@@ -38,23 +39,85 @@ public class PreparsedScript {
 
 
 	public PreparsedScript(final String source, final ClassLoader classLoader) throws EvalError {
-		final ClassManagerImpl classManager = new ClassManagerImpl();
-		classManager.setClassLoader(classLoader);
+		this(source, createClassManager(classLoader));
+	}
+
+
+	/**
+	 * Prepare the script with the class manager of other scripts, which its invocations share.
+	 */
+	PreparsedScript(final String source, final BshClassManager classManager) throws EvalError {
 		final NameSpace nameSpace = new NameSpace(classManager, "global");
 		_interpreter = new Interpreter(new StringReader(""), System.out, System.err, false, nameSpace, null, null);
 		try {
 			final This callable = (This) _interpreter.eval("__execute() { " + source + "\n" + "}\n" + "return this;");
 			_method = callable.getNameSpace().getMethod("__execute", new Class[0], false);
+			_optimizerStats = ASTOptimizer.isEnabled() ? ASTOptimizer.optimize(_method.methodBody) : null;
 		} catch (final UtilEvalError e) {
 			throw new IllegalStateException(e);
 		}
 	}
 
 
+	/**
+	 * Prepare the script file.  If there is a fresh {@code .bshc} file of the script (see {@link ASTSerializer}) its
+	 * parsed statements are loaded instead of parsing the script.
+	 */
+	public PreparsedScript(final File file, final ClassLoader classLoader) throws EvalError, IOException {
+		final NameSpace nameSpace = new NameSpace(createClassManager(classLoader), "global");
+		_interpreter = new Interpreter(new StringReader(""), System.out, System.err, false, nameSpace, null, null);
+		final String sourceFileInfo = file.getPath();
+		SimpleNode[] statements = ASTSerializer.readFresh(file, sourceFileInfo);
+		if (statements == null) {
+			final Reader in = new BufferedReader(new FileReader(file));
+			try {
+				statements = Interpreter.parse(in, sourceFileInfo);
+			} finally {
+				in.close();
+			}
+		}
+		// the statements become the body of the method, as in PreparsedScript(String)
+		final SimpleNode[] declaration = Interpreter.parse(new StringReader("__execute() { }"), sourceFileInfo);
+		final SimpleNode body = ((BSHMethodDeclaration) declaration[0]).getChild(1);
+		for (int i = 0; i < statements.length; i++) {
+			statements[i].setSourceFile(null);
+			statements[i].jjtSetParent(body);
+			body.jjtAddChild(statements[i], i);
+		}
+		try {
+			_interpreter.eval(declaration, nameSpace, sourceFileInfo);
+			_method = nameSpace.getMethod("__execute", new Class[0], false);
+			_optimizerStats = ASTOptimizer.isEnabled() ? ASTOptimizer.optimize(_method.methodBody) : null;
+		} catch (final UtilEvalError e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+
+	public PreparsedScript(final File file) throws EvalError, IOException {
+		this(file, getDefaultClassLoader());
+	}
+
+
+	private static BshClassManager createClassManager(final ClassLoader classLoader) {
+		final ClassManagerImpl classManager = new ClassManagerImpl();
+		classManager.setClassLoader(classLoader);
+		return classManager;
+	}
+
+
 	public Object invoke(final Map<String, ?> context) throws EvalError {
+		return invoke(context, _interpreter);
+	}
+
+
+	/**
+	 * Invoke the script with another interpreter than its own, which prints its output.
+	 */
+	Object invoke(final Map<String, ?> context, final Interpreter interpreter) throws EvalError {
 		final NameSpace nameSpace = new NameSpace(_interpreter.getClassManager(), "BeanshellExecutable");
 		nameSpace.setParent(_interpreter.getNameSpace());
-		final BshMethod method = new BshMethod(_method.getName(), _method.getReturnType(), _method.getParameterNames(), _method.getParameterTypes(), _method.methodBody, nameSpace, _method.getModifiers());
+		final BshMethod method = new BshMethod(_method, nameSpace);
 		for (final Map.Entry<String, ?> entry : context.entrySet()) {
 			try {
 				final Object value = entry.getValue();
@@ -63,7 +126,7 @@ public class PreparsedScript {
 				throw new EvalError("cannot set variable '" + entry.getKey() + '\'', null, null, e);
 			}
 		}
-		final Object result = method.invoke(new Object[0], _interpreter);
+		final Object result = method.invoke(new Object[0], interpreter);
 		if (result instanceof Primitive) {
 			if (( (Primitive) result).getType() == Void.TYPE) {
 				return null;
@@ -74,6 +137,14 @@ public class PreparsedScript {
 	}
 
 
+	/**
+	 * @return the statistics of the {@link ASTOptimizer} pass over the script or {@code null} if it was disabled.
+	 */
+	ASTOptimizer.Stats getOptimizerStats() {
+		return _optimizerStats;
+	}
+
+
 	public void setOut(final PrintStream value) {
 		_interpreter.setOut(value);
 	}
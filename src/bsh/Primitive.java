@@ -92,9 +92,35 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 		wrapperMap.put( Double.class, Double.TYPE );
 	}
 
-    /** The primitive value stored in its java.lang wrapper class */
+    /** 
+		The primitive value stored in its java.lang wrapper class.
+		For a value held in raw form the wrapper is created on demand.
+	*/
     private Object value;
 
+	/**
+		The type of an int, long or double value held in raw form, or null.
+		Raw values are operated on without boxing, see rawBinaryOperation().
+	*/
+	private Class rawType;
+	/** The raw int or long value */
+	private long longValue;
+	/** The raw double value */
+	private double doubleValue;
+
+	/** Shared instances of the boolean values */
+	static final Primitive TRUE = new Primitive( Boolean.TRUE );
+	static final Primitive FALSE = new Primitive( Boolean.FALSE );
+
+	/** Shared instances of small int values, as used by counting loops */
+	private static final int CACHE_LOW = -128, CACHE_HIGH = 1023;
+	private static final Primitive [] intCache = 
+		new Primitive[ CACHE_HIGH - CACHE_LOW + 1 ];
+	static {
+		for ( int i = 0; i < intCache.length; i++ )
+			intCache[i] = new Primitive( i + CACHE_LOW );
+	}
+
     private static class Special implements java.io.Serializable
     {
         private Special() { }
@@ -158,22 +184,73 @@ public final class Primitive implements ParserConstants, java.io.Serializable
             throw new InterpreterError( "Not a wrapper type: "+value);
 
         this.value = value;
+
+		// keep the raw form too, so that the arithmetic fast paths apply
+		if ( value instanceof Integer ) {
+			rawType = Integer.TYPE;
+			longValue = ((Integer)value).intValue();
+		} else if ( value instanceof Long ) {
+			rawType = Long.TYPE;
+			longValue = ((Long)value).longValue();
+		} else if ( value instanceof Double ) {
+			rawType = Double.TYPE;
+			doubleValue = ((Double)value).doubleValue();
+		}
     }
 
-    public Primitive(boolean value) { this(new Boolean(value)); }
-    public Primitive(byte value) { this(new Byte(value)); }
-    public Primitive(short value) { this(new Short(value)); }
-    public Primitive(char value) { this(new Character(value)); }
-    public Primitive(int value) { this(new Integer(value)); }
-    public Primitive(long value) { this(new Long(value)); }
-    public Primitive(float value) { this(new Float(value)); }
-    public Primitive(double value) { this(new Double(value)); }
+    public Primitive(boolean value) { this(Boolean.valueOf(value)); }
+    public Primitive(byte value) { this(Byte.valueOf(value)); }
+    public Primitive(short value) { this(Short.valueOf(value)); }
+    public Primitive(char value) { this(Character.valueOf(value)); }
+    public Primitive(float value) { this(Float.valueOf(value)); }
+
+    public Primitive(int value) { 
+		this.rawType = Integer.TYPE;
+		this.longValue = value;
+	}
+
+    public Primitive(long value) { 
+		this.rawType = Long.TYPE;
+		this.longValue = value;
+	}
+
+    public Primitive(double value) { 
+		this.rawType = Double.TYPE;
+		this.doubleValue = value;
+	}
+
+	/**
+		Get a Primitive for the int value, sharing the instances of small
+		values.
+	*/
+	static Primitive valueOf( int value ) 
+	{
+		if ( value >= CACHE_LOW && value <= CACHE_HIGH )
+			return intCache[ value - CACHE_LOW ];
+		return new Primitive( value );
+	}
+
+	/**
+		Get the shared Primitive for the boolean value.
+	*/
+	static Primitive valueOf( boolean value ) {
+		return value ? TRUE : FALSE;
+	}
 
 	/**
     	Return the primitive value stored in its java.lang wrapper class
 	*/
     public Object getValue()
     {
+		Object value = this.value;
+		if ( value == null ) 
+			// raw value, box it on first use.  A race here is benign.
+			this.value = value = rawType == Integer.TYPE ? 
+					(Object)Integer.valueOf( (int)longValue )
+				: rawType == Long.TYPE ? 
+					(Object)Long.valueOf( longValue )
+				: Double.valueOf( doubleValue );
+
         if ( value == Special.NULL_VALUE )
             return null;
         else 
@@ -190,7 +267,7 @@ public final class Primitive implements ParserConstants, java.io.Serializable
         else if(value == Special.VOID_TYPE)
             return "void";
         else
-            return value.toString();
+            return getValue().toString();
     }
 
 	/**
@@ -208,6 +285,9 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 		if ( this == Primitive.NULL )
 			return null;
 
+		if ( rawType != null )
+			return rawType;
+
 		return unboxType( value.getClass() );
     }
 
@@ -230,6 +310,14 @@ public final class Primitive implements ParserConstants, java.io.Serializable
             throw new UtilEvalError(
 			"Undefined variable, class, or 'void' literal in binary operation");
 
+		if ( obj1 instanceof Primitive && obj2 instanceof Primitive )
+		{
+			Primitive result = rawBinaryOperation( 
+				(Primitive)obj1, (Primitive)obj2, kind );
+			if ( result != null )
+				return result;
+		}
+
 		// keep track of the original types
 		Class lhsOrgType = obj1.getClass();
 		Class rhsOrgType = obj2.getClass();
@@ -266,6 +354,117 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 			return result;
     }
 
+	/**
+		Perform a binary operation on two raw numeric (int, long or double)
+		or two boolean Primitives without boxing.  The operands are promoted
+		and the result typed as by binaryOperation().
+		@return the result or null if the operands or the operator are not
+			handled here, in which case binaryOperation() must be used.
+	*/
+	static Primitive rawBinaryOperation( Primitive lhs, Primitive rhs, int kind )
+		throws UtilEvalError
+	{
+		Class lhsType = lhs.rawType, rhsType = rhs.rawType;
+		if ( lhsType == null || rhsType == null )
+		{
+			if ( lhs.value instanceof Boolean && rhs.value instanceof Boolean )
+			{
+				boolean l = ((Boolean)lhs.value).booleanValue(); 
+				boolean r = ((Boolean)rhs.value).booleanValue();
+				switch( kind )
+				{
+					case EQ: return valueOf( l == r );
+					case NE: return valueOf( l != r );
+					case BOOL_OR: case BOOL_ORX: case BIT_OR: 
+						return valueOf( l || r );
+					case BOOL_AND: case BOOL_ANDX: case BIT_AND: 
+						return valueOf( l && r );
+					case XOR: return valueOf( l ^ r );
+				}
+			}
+			return null;
+		}
+
+		try {
+			if ( lhsType == Double.TYPE || rhsType == Double.TYPE )
+			{
+				double l = lhsType == Double.TYPE ? 
+					lhs.doubleValue : (double)lhs.longValue;
+				double r = rhsType == Double.TYPE ? 
+					rhs.doubleValue : (double)rhs.longValue;
+				switch( kind )
+				{
+					case LT: case LTX: return valueOf( l < r );
+					case GT: case GTX: return valueOf( l > r );
+					case EQ: return valueOf( l == r );
+					case LE: case LEX: return valueOf( l <= r );
+					case GE: case GEX: return valueOf( l >= r );
+					case NE: return valueOf( l != r );
+					case PLUS: return new Primitive( l + r );
+					case MINUS: return new Primitive( l - r );
+					case STAR: return new Primitive( l * r );
+					case SLASH: return new Primitive( l / r );
+					case MOD: return new Primitive( l % r );
+				}
+				return null;
+			}
+
+			long l = lhs.longValue, r = rhs.longValue;
+			if ( lhsType == Long.TYPE || rhsType == Long.TYPE )
+				switch( kind )
+				{
+					case LT: case LTX: return valueOf( l < r );
+					case GT: case GTX: return valueOf( l > r );
+					case EQ: return valueOf( l == r );
+					case LE: case LEX: return valueOf( l <= r );
+					case GE: case GEX: return valueOf( l >= r );
+					case NE: return valueOf( l != r );
+					case PLUS: return new Primitive( l + r );
+					case MINUS: return new Primitive( l - r );
+					case STAR: return new Primitive( l * r );
+					case SLASH: return new Primitive( l / r );
+					case MOD: return new Primitive( l % r );
+					case LSHIFT: case LSHIFTX: return new Primitive( l << r );
+					case RSIGNEDSHIFT: case RSIGNEDSHIFTX: 
+						return new Primitive( l >> r );
+					case RUNSIGNEDSHIFT: case RUNSIGNEDSHIFTX: 
+						return new Primitive( l >>> r );
+					case BIT_AND: case BIT_ANDX: return new Primitive( l & r );
+					case BIT_OR: case BIT_ORX: return new Primitive( l | r );
+					case XOR: return new Primitive( l ^ r );
+				}
+			else
+			{
+				int i = (int)l, j = (int)r;
+				switch( kind )
+				{
+					case LT: case LTX: return valueOf( i < j );
+					case GT: case GTX: return valueOf( i > j );
+					case EQ: return valueOf( i == j );
+					case LE: case LEX: return valueOf( i <= j );
+					case GE: case GEX: return valueOf( i >= j );
+					case NE: return valueOf( i != j );
+					case PLUS: return valueOf( i + j );
+					case MINUS: return valueOf( i - j );
+					case STAR: return valueOf( i * j );
+					case SLASH: return valueOf( i / j );
+					case MOD: return valueOf( i % j );
+					case LSHIFT: case LSHIFTX: return valueOf( i << j );
+					case RSIGNEDSHIFT: case RSIGNEDSHIFTX: 
+						return valueOf( i >> j );
+					case RUNSIGNEDSHIFT: case RUNSIGNEDSHIFTX: 
+						return valueOf( i >>> j );
+					case BIT_AND: case BIT_ANDX: return valueOf( i & j );
+					case BIT_OR: case BIT_ORX: return valueOf( i | j );
+					case XOR: return valueOf( i ^ j );
+				}
+			}
+			return null;
+		} catch ( ArithmeticException e ) {
+			throw new UtilTargetError( "Arithemetic Exception in binary op", e);
+		}
+	}
+
     static Object binaryOperationImpl( Object lhs, Object rhs, int kind )
         throws UtilEvalError
 	{
@@ -658,6 +857,39 @@ public final class Primitive implements ParserConstants, java.io.Serializable
             throw new UtilEvalError(
 				"illegal use of undefined object or 'void' literal");
 
+		// raw and boolean values without boxing
+		if ( val.rawType == Integer.TYPE ) 
+		{
+			int i = (int)val.longValue;
+			switch( kind ) {
+				case PLUS: return val;
+				case MINUS: return valueOf( -i );
+				case TILDE: return valueOf( ~i );
+				case INCR: return valueOf( i + 1 );
+				case DECR: return valueOf( i - 1 );
+			}
+		} else if ( val.rawType == Long.TYPE ) 
+		{
+			long l = val.longValue;
+			switch( kind ) {
+				case PLUS: return val;
+				case MINUS: return new Primitive( -l );
+				case TILDE: return new Primitive( ~l );
+				case INCR: return new Primitive( l + 1 );
+				case DECR: return new Primitive( l - 1 );
+			}
+		} else if ( val.rawType == Double.TYPE ) 
+		{
+			double d = val.doubleValue;
+			switch( kind ) {
+				case PLUS: return val;
+				case MINUS: return new Primitive( -d );
+				case INCR: return new Primitive( d + 1 );
+				case DECR: return new Primitive( d - 1 );
+			}
+		} else if ( kind == BANG && val.value instanceof Boolean )
+			return valueOf( !((Boolean)val.value).booleanValue() );
+
         Class operandType = val.getType();
         Object operand = promoteToInteger(val.getValue());
 
@@ -786,12 +1018,28 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 
     public int intValue() throws UtilEvalError
     {
+		if ( rawType != null )
+			return rawType == Double.TYPE ? (int)doubleValue : (int)longValue;
         if(value instanceof Number)
             return((Number)value).intValue();
         else
             throw new UtilEvalError("Primitive not a number");
     }
 
+    public long longValue() throws UtilEvalError
+    {
+		if ( rawType != null )
+			return rawType == Double.TYPE ? (long)doubleValue : longValue;
+		return numberValue().longValue();
+    }
+
+    public double doubleValue() throws UtilEvalError
+    {
+		if ( rawType != null )
+			return rawType == Double.TYPE ? doubleValue : (double)longValue;
+		return numberValue().doubleValue();
+    }
+
     public boolean booleanValue() throws UtilEvalError
     {
         if(value instanceof Boolean)
@@ -811,7 +1059,9 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 
     public Number numberValue() throws UtilEvalError
     {
-		Object value = this.value;
+		if ( this == NULL || this == VOID )
+            throw new UtilEvalError("Primitive not a number");
+		Object value = getValue();
 
 		// Promote character to Number type for these purposes
 		if (value instanceof Character)
@@ -830,7 +1080,8 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 	public boolean equals( Object obj ) 
 	{
 		if ( obj instanceof Primitive )
-			return ((Primitive)obj).value.equals( this.value );
+			return valueOrSpecial( (Primitive)obj ).equals( 
+				valueOrSpecial( this ) );
 		else
 			return false;
 	}
@@ -841,7 +1092,12 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 	*/
 	public int hashCode() 
 	{
-		return this.value.hashCode() * 21; // arbitrary
+		return valueOrSpecial( this ).hashCode() * 21; // arbitrary
+	}
+
+	private static Object valueOrSpecial( Primitive primitive ) {
+		return primitive.value instanceof Special ? 
+			primitive.value : primitive.getValue();
 	}
 
 	/**
@@ -923,7 +1179,7 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 		if ( type == null || !type.isPrimitive() )
 			return Primitive.NULL;
 		if ( type == Boolean.TYPE )
-			return new Primitive( false );
+			return FALSE;
 
 		// non boolean primitive, get appropriate flavor of zero
 		try {
@@ -1023,11 +1279,6 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 				throw Types.castError( Reflect.normalizeClassName(toType), 
 					"void value", operation );
 
-		// unwrap Primitive fromValue to its wrapper value, etc.
-		Object value = null; 
-		if ( fromValue != null )
-			value = fromValue.getValue();
-
 		if ( toType.isPrimitive() )
 		{
 			// Trying to cast null to primitive type?
@@ -1079,8 +1330,25 @@ public final class Primitive implements ParserConstants, java.io.Serializable
 				throw Types.castError( toType, fromType, operation );
 		}
 
-		return checkOnly ? Types.VALID_CAST :
-			new Primitive( castWrapper(toType, value) );
+		if ( checkOnly )
+			return Types.VALID_CAST;
+
+		// raw int, long and double conversions without boxing
+		if ( fromValue.rawType != null )
+		{
+			boolean fromDouble = fromValue.rawType == Double.TYPE;
+			if ( toType == Integer.TYPE )
+				return valueOf( fromDouble ? 
+					(int)fromValue.doubleValue : (int)fromValue.longValue );
+			if ( toType == Long.TYPE )
+				return new Primitive( fromDouble ? 
+					(long)fromValue.doubleValue : fromValue.longValue );
+			if ( toType == Double.TYPE )
+				return new Primitive( fromDouble ? 
+					fromValue.doubleValue : (double)fromValue.longValue );
+		}
+
+		return new Primitive( castWrapper(toType, fromValue.getValue()) );
 	}
 
 	public static boolean isWrapperType( Class type )
@@ -0,0 +1,194 @@
+package bsh;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+	The bean properties of a class, used for the obj.name and obj{"name"}
+	style property access.  Each property's getter (getName() or boolean
+	isName()) and the setters resolved for the types of assigned values are
+	looked up once and kept together with their invokers, so a property read
+	or write is a table lookup plus the call.
+	<p>
+
+	Tables are cached per class with weak keys.  A table references its
+	class, so it is held softly in order not to keep the class alive.  The
+	tables are dropped when the accessibility changes, as the resolved
+	method caches of the class managers are.
+	@see Reflect#getObjectProperty( Object, String )
+	@see Reflect#setObjectProperty( Object, String, Object )
+*/
+final class PropertyTable
+{
+	private static final Map<Class,SoftReference<PropertyTable>> tables =
+		Collections.synchronizedMap(
+			new WeakHashMap<Class,SoftReference<PropertyTable>>() );
+
+	/** Key of setters resolved for a null value */
+	private static final Class NULL_TYPE = Void.class;
+
+	/**
+		The accessors of one property, looked up when the property is first
+		used.  A class without the property keeps an entry as well.
+	*/
+	static final class Property
+	{
+		final String name;
+		/** The getter, may be null */
+		final Method getter;
+		final MemberInvoker getterInvoker;
+		/** There is a public getter (or a public boolean is-getter) */
+		final boolean hasPublicGetter;
+		/** There is a public method named like a setter */
+		final boolean hasPublicSetter;
+		/** The setters resolved by value type, see NULL_TYPE */
+		private final Map<Class,Method> setters =
+			new ConcurrentHashMap<Class,Method>();
+		private final Map<Method,MemberInvoker> setterInvokers =
+			new ConcurrentHashMap<Method,MemberInvoker>();
+
+		Property( String name, Method getter, boolean hasPublicGetter,
+			boolean hasPublicSetter )
+		{
+			this.name = name;
+			this.getter = getter;
+			this.getterInvoker =
+				getter == null ? null : new MemberInvoker( getter );
+			this.hasPublicGetter = hasPublicGetter;
+			this.hasPublicSetter = hasPublicSetter;
+		}
+	}
+
+	private final Class clas;
+	private final Map<String,Property> properties =
+		new ConcurrentHashMap<String,Property>();
+	private volatile Method [] publicMethods;
+
+	private PropertyTable( Class clas ) {
+		this.clas = clas;
+	}
+
+	/**
+		Get the property table of the class.
+	*/
+	static PropertyTable getTable( Class clas )
+	{
+		SoftReference<PropertyTable> ref = tables.get( clas );
+		PropertyTable table = ref == null ? null : ref.get();
+		if ( table == null )
+		{
+			table = new PropertyTable( clas );
+			tables.put( clas, new SoftReference<PropertyTable>( table ) );
+		}
+		return table;
+	}
+
+	/**
+		Drop all property tables, e.g. when the accessibility changes.
+	*/
+	static void clear() {
+		tables.clear();
+	}
+
+	/**
+		Get the property, looking up its getter on first use.
+	*/
+	Property getProperty( String propName ) throws UtilEvalError
+	{
+		Property property = properties.get( propName );
+		if ( property == null )
+		{
+			property = createProperty( propName );
+			properties.put( propName, property );
+		}
+		return property;
+	}
+
+	private Property createProperty( String propName ) throws UtilEvalError
+	{
+		Method getter = Reflect.resolveJavaMethod( null/*bcm*/, clas,
+			accessorName( "get", propName ), new Class[0], false );
+		if ( getter == null )
+		{
+			getter = Reflect.resolveJavaMethod( null/*bcm*/, clas,
+				accessorName( "is", propName ), new Class[0], false );
+			if ( getter != null && getter.getReturnType() != Boolean.TYPE )
+				getter = null;
+		}
+
+		boolean hasPublicGetter = false;
+		boolean hasPublicSetter = false;
+		String getterName = accessorName( "get", propName );
+		String isName = accessorName( "is", propName );
+		String setterName = accessorName( "set", propName );
+		Method [] methods = getPublicMethods();
+		for ( int i = 0; i < methods.length; i++ )
+		{
+			Method method = methods[i];
+			String name = method.getName();
+			if ( name.equals( setterName ) )
+				hasPublicSetter = true;
+			else if ( method.getParameterTypes().length == 0
+				&& ( name.equals( getterName ) || name.equals( isName )
+					&& method.getReturnType() == Boolean.TYPE ) )
+				hasPublicGetter = true;
+		}
+		return new Property(
+			propName, getter, hasPublicGetter, hasPublicSetter );
+	}
+
+	private Method [] getPublicMethods()
+	{
+		Method [] methods = publicMethods;
+		if ( methods == null )
+			publicMethods = methods = clas.getMethods();
+		return methods;
+	}
+
+	/**
+		Resolve the setter of the property for the value.
+		@return the setter or null if there is none for the type of value.
+	*/
+	Method getSetter( Property property, Object value ) throws UtilEvalError
+	{
+		Class type = value == null ? null
+			: value instanceof Primitive ? ((Primitive)value).getType()
+			: value.getClass();
+		Class key = type == null ? NULL_TYPE : type;
+		Method setter = property.setters.get( key );
+		if ( setter == null )
+		{
+			setter = Reflect.resolveJavaMethod( null/*bcm*/, clas,
+				accessorName( "set", property.name ), new Class [] { type },
+				false );
+			if ( setter == null )
+				return null;
+			property.setters.put( key, setter );
+		}
+		return setter;
+	}
+
+	/**
+		Get the invoker of a setter returned by getSetter().
+	*/
+	static MemberInvoker getSetterInvoker( Property property, Method setter )
+	{
+		MemberInvoker invoker = property.setterInvokers.get( setter );
+		if ( invoker == null )
+		{
+			invoker = new MemberInvoker( setter );
+			property.setterInvokers.put( setter, invoker );
+		}
+		return invoker;
+	}
+
+	static String accessorName( String getorset, String propName ) {
+		return getorset
+			+ String.valueOf( Character.toUpperCase( propName.charAt(0) ) )
+			+ propName.substring(1);
+	}
+}
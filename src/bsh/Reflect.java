@@ -65,6 +65,17 @@ final class Reflect {
 	 * @return the result of the method call
 	 */
 	public static Object invokeObjectMethod(Object object, String methodName, Object[] args, Interpreter interpreter, CallStack callstack, SimpleNode callerInfo) throws ReflectError, EvalError, InvocationTargetException {
+		return invokeObjectMethod(object, methodName, args, interpreter, callstack, callerInfo, null);
+	}
+
+
+	/**
+	 * Invoke method on arbitrary object instance, resolving Java methods
+	 * through the cache of the invocation site.
+	 *
+	 * @param cache may be null
+	 */
+	static Object invokeObjectMethod(Object object, String methodName, Object[] args, Interpreter interpreter, CallStack callstack, SimpleNode callerInfo, CallSiteCache cache) throws ReflectError, EvalError, InvocationTargetException {
 		// Bsh scripted object
 		if (object instanceof This && !This.isExposedThisMethod(methodName)) {
 			return ((This) object).invokeMethod(methodName, args, interpreter, callstack, callerInfo, false/*delcaredOnly*/);
@@ -75,9 +86,9 @@ final class Reflect {
 			BshClassManager bcm = interpreter == null ? null : interpreter.getClassManager();
 			Class clas = object.getClass();
 
-			Method method = resolveExpectedJavaMethod(bcm, clas, object, methodName, args, false);
+			Method method = resolveExpectedJavaMethod(bcm, clas, object, methodName, args, false, cache);
 
-			return invokeMethod(method, object, args);
+			return invokeMethod(method, getInvoker(bcm, method, cache), object, args);
 		} catch (UtilEvalError e) {
 			throw e.toEvalError(callerInfo, callstack);
 		}
@@ -90,9 +101,36 @@ final class Reflect {
 	 * method being a bsh scripted method.
 	 */
 	public static Object invokeStaticMethod(BshClassManager bcm, Class clas, String methodName, Object[] args) throws ReflectError, UtilEvalError, InvocationTargetException {
+		return invokeStaticMethod(bcm, clas, methodName, args, null);
+	}
+
+
+	/**
+	 * Invoke a method known to be static, resolving it through the cache of
+	 * the invocation site.
+	 *
+	 * @param cache may be null
+	 */
+	static Object invokeStaticMethod(BshClassManager bcm, Class clas, String methodName, Object[] args, CallSiteCache cache) throws ReflectError, UtilEvalError, InvocationTargetException {
 		Interpreter.debug("invoke static Method");
-		Method method = resolveExpectedJavaMethod(bcm, clas, null, methodName, args, true);
-		return invokeMethod(method, null, args);
+		Method method = resolveExpectedJavaMethod(bcm, clas, null, methodName, args, true, cache);
+		return invokeMethod(method, getInvoker(bcm, method, cache), null, args);
+	}
+
+
+	/**
+	 * The invoker of a resolved method, taken from the invocation site
+	 * when possible.
+	 *
+	 * @param bcm   may be null
+	 * @param cache may be null
+	 * @return the invoker or null if there is no class manager
+	 */
+	private static MemberInvoker getInvoker(BshClassManager bcm, Method method, CallSiteCache cache) {
+		if (cache != null) {
+			return cache.getInvoker(bcm, method);
+		}
+		return bcm == null ? null : bcm.getInvoker(method);
 	}
 
 
@@ -103,6 +141,19 @@ final class Reflect {
 	 * @param args may be null
 	 */
 	static Object invokeMethod(Method method, Object object, Object[] args) throws ReflectError, InvocationTargetException {
+		return invokeMethod(method, null, object, args);
+	}
+
+
+	/**
+	 * Invoke the Java method on the specified object through its invoker,
+	 * performing needed type mappings on arguments and return values.
+	 *
+	 * @param invoker the invoker of the method or null to call it
+	 *                reflectively
+	 * @param args    may be null
+	 */
+	static Object invokeMethod(Method method, MemberInvoker invoker, Object object, Object[] args) throws ReflectError, InvocationTargetException {
 		if (args == null) {
 			args = new Object[0];
 		}
@@ -144,7 +195,7 @@ final class Reflect {
 		logInvokeMethod("Invoking method (after massaging values): ", method, tmpArgs);
 
 		try {
-			Object returnValue = method.invoke(object, tmpArgs);
+			Object returnValue = invoker == null ? method.invoke(object, tmpArgs) : invoker.invoke(object, tmpArgs);
 			if (returnValue == null) {
 				returnValue = Primitive.NULL;
 			}
@@ -188,13 +239,29 @@ final class Reflect {
 
 
 	public static Object getStaticFieldValue(Class clas, String fieldName) throws UtilEvalError, ReflectError {
-		return getFieldValue(clas, null, fieldName, true/*onlystatic*/);
+		return getStaticFieldValue(null, clas, fieldName);
+	}
+
+
+	/**
+	 * @param bcm may be null, the field is then read reflectively
+	 */
+	static Object getStaticFieldValue(BshClassManager bcm, Class clas, String fieldName) throws UtilEvalError, ReflectError {
+		return getFieldValue(bcm, clas, null, fieldName, true/*onlystatic*/);
 	}
 
 
 	/**
 	 */
 	public static Object getObjectFieldValue(Object object, String fieldName) throws UtilEvalError, ReflectError {
+		return getObjectFieldValue(null, object, fieldName);
+	}
+
+
+	/**
+	 * @param bcm may be null, the field is then read reflectively
+	 */
+	static Object getObjectFieldValue(BshClassManager bcm, Object object, String fieldName) throws UtilEvalError, ReflectError {
 		if (object instanceof This) {
 			return ((This) object).namespace.getVariable(fieldName);
 		} else if (object == Primitive.NULL) {
@@ -202,7 +269,7 @@ final class Reflect {
 			throw new UtilTargetError(new NullPointerException("Attempt to access field '" + fieldName + "' on null value"));
 		} else {
 			try {
-				return getFieldValue(object.getClass(), object, fieldName, false/*onlystatic*/);
+				return getFieldValue(bcm, object.getClass(), object, fieldName, false/*onlystatic*/);
 			} catch (ReflectError e) {
 				// no field, try property acces
 
@@ -217,8 +284,20 @@ final class Reflect {
 
 
 	static LHS getLHSStaticField(Class clas, String fieldName) throws UtilEvalError, ReflectError {
-		Field f = resolveExpectedJavaField(clas, fieldName, true/*onlystatic*/);
-		return new LHS(f);
+		return getLHSStaticField(null, clas, fieldName);
+	}
+
+
+	/**
+	 * @param bcm may be null, the field is then accessed reflectively
+	 */
+	static LHS getLHSStaticField(BshClassManager bcm, Class clas, String fieldName) throws UtilEvalError, ReflectError {
+		Field f = resolveExpectedJavaField(bcm, clas, fieldName, true/*onlystatic*/);
+		LHS lhs = new LHS(f);
+		if (bcm != null) {
+			lhs.invoker = bcm.getInvoker(f);
+		}
+		return lhs;
 	}
 
 
@@ -229,6 +308,14 @@ final class Reflect {
 	 * In the field does not exist we check for a property setter.
 	 */
 	static LHS getLHSObjectField(Object object, String fieldName) throws UtilEvalError, ReflectError {
+		return getLHSObjectField(null, object, fieldName);
+	}
+
+
+	/**
+	 * @param bcm may be null, the field is then accessed reflectively
+	 */
+	static LHS getLHSObjectField(BshClassManager bcm, Object object, String fieldName) throws UtilEvalError, ReflectError {
 		if (object instanceof This) {
 			// I guess this is when we pass it as an argument?
 			// Setting locally
@@ -237,8 +324,12 @@ final class Reflect {
 		}
 
 		try {
-			Field f = resolveExpectedJavaField(object.getClass(), fieldName, false/*staticOnly*/);
-			return new LHS(object, f);
+			Field f = resolveExpectedJavaField(bcm, object.getClass(), fieldName, false/*staticOnly*/);
+			LHS lhs = new LHS(object, f);
+			if (bcm != null) {
+				lhs.invoker = bcm.getInvoker(f);
+			}
+			return lhs;
 		} catch (ReflectError e) {
 			// not a field, try property access
 			if (hasObjectPropertySetter(object.getClass(), fieldName)) {
@@ -250,11 +341,11 @@ final class Reflect {
 	}
 
 
-	private static Object getFieldValue(Class clas, Object object, String fieldName, boolean staticOnly) throws UtilEvalError, ReflectError {
+	private static Object getFieldValue(BshClassManager bcm, Class clas, Object object, String fieldName, boolean staticOnly) throws UtilEvalError, ReflectError {
 		try {
-			Field f = resolveExpectedJavaField(clas, fieldName, staticOnly);
+			Field f = resolveExpectedJavaField(bcm, clas, fieldName, staticOnly);
 
-			Object value = f.get(object);
+			Object value = bcm == null ? f.get(object) : bcm.getInvoker(f).get(object);
 			Class returnType = f.getType();
 			return Primitive.wrap(value, returnType);
 
@@ -274,8 +365,16 @@ final class Reflect {
 
 
 	protected static Field resolveJavaField(Class clas, String fieldName, boolean staticOnly) throws UtilEvalError {
+		return resolveJavaField(null, clas, fieldName, staticOnly);
+	}
+
+
+	/**
+	 * @param bcm may be null, the field is then looked up without caching
+	 */
+	static Field resolveJavaField(BshClassManager bcm, Class clas, String fieldName, boolean staticOnly) throws UtilEvalError {
 		try {
-			return resolveExpectedJavaField(clas, fieldName, staticOnly);
+			return resolveExpectedJavaField(bcm, clas, fieldName, staticOnly);
 		} catch (ReflectError e) {
 			return null;
 		}
@@ -290,19 +389,43 @@ final class Reflect {
 			 to change related signatures and code.
 		 */
 	protected static Field resolveExpectedJavaField(Class clas, String fieldName, boolean staticOnly) throws UtilEvalError, ReflectError {
-		Field field;
-		try {
-			if (Capabilities.haveAccessibility()) {
-				field = findAccessibleField(clas, fieldName);
-			} else
-			// Class getField() finds only public (and in interfaces, etc.)
-			{
-				field = clas.getField(fieldName);
+		return resolveExpectedJavaField(null, clas, fieldName, staticOnly);
+	}
+
+
+	/**
+	 * Resolve the field through the field cache of the class manager.
+	 *
+	 * @param bcm may be null, the field is then looked up without caching
+	 * @throws ReflectError if the field is not found.
+	 */
+	static Field resolveExpectedJavaField(BshClassManager bcm, Class clas, String fieldName, boolean staticOnly) throws UtilEvalError, ReflectError {
+		Object cached = bcm == null ? null : bcm.getResolvedField(clas, fieldName);
+		if (cached == BshClassManager.NOT_FOUND) {
+			throw new ReflectError("No such field: " + fieldName);
+		}
+
+		Field field = (Field) cached;
+		if (field == null) {
+			try {
+				if (Capabilities.haveAccessibility()) {
+					field = findAccessibleField(clas, fieldName);
+				} else
+				// Class getField() finds only public (and in interfaces, etc.)
+				{
+					field = clas.getField(fieldName);
+				}
+			} catch (NoSuchFieldException e) {
+				if (bcm != null) {
+					bcm.cacheResolvedField(clas, fieldName, null);
+				}
+				throw new ReflectError("No such field: " + fieldName, e);
+			} catch (SecurityException e) {
+				throw new UtilTargetError("Security Exception while searching fields of: " + clas, e);
+			}
+			if (bcm != null) {
+				bcm.cacheResolvedField(clas, fieldName, field);
 			}
-		} catch (NoSuchFieldException e) {
-			throw new ReflectError("No such field: " + fieldName, e);
-		} catch (SecurityException e) {
-			throw new UtilTargetError("Security Exception while searching fields of: " + clas, e);
 		}
 
 		if (staticOnly && !Modifier.isStatic(field.getModifiers())) {
@@ -364,16 +487,25 @@ final class Reflect {
 	 * result. If the method is not found it throws a descriptive ReflectError.
 	 */
 	protected static Method resolveExpectedJavaMethod(BshClassManager bcm, Class clas, Object object, String name, Object[] args, boolean staticOnly) throws ReflectError, UtilEvalError {
+		return resolveExpectedJavaMethod(bcm, clas, object, name, args, staticOnly, null);
+	}
+
+
+	/**
+	 * @param cache the cache of the invocation site, may be null
+	 */
+	static Method resolveExpectedJavaMethod(BshClassManager bcm, Class clas, Object object, String name, Object[] args, boolean staticOnly, CallSiteCache cache) throws ReflectError, UtilEvalError {
 		if (object == Primitive.NULL) {
 			//noinspection ThrowableInstanceNeverThrown
 			throw new UtilTargetError(new NullPointerException("Attempt to invoke method " + name + " on null value"));
 		}
 
-		Class[] types = Types.getTypes(args);
-		Method method = resolveJavaMethod(bcm, clas, name, types, staticOnly);
+		Method method = cache == null
+				? resolveJavaMethod(bcm, clas, name, Types.getTypes(args), staticOnly)
+				: cache.resolve(bcm, clas, name, args, staticOnly);
 
 		if (method == null) {
-			throw new ReflectError((staticOnly ? "Static method " : "Method ") + StringUtil.methodString(name, types) + " not found in class'" + clas.getName() + "'");
+			throw new ReflectError((staticOnly ? "Static method " : "Method ") + StringUtil.methodString(name, Types.getTypes(args)) + " not found in class'" + clas.getName() + "'");
 		}
 
 		return method;
@@ -551,31 +683,68 @@ final class Reflect {
 	 * <p/>
 	 */
 	static Object constructObject(Class clas, Object[] args) throws ReflectError, InvocationTargetException {
+		return constructObject(null, clas, args);
+	}
+
+
+	/**
+	 * Construct an object, invoking the constructor through its invoker
+	 * in the class manager.
+	 *
+	 * @param bcm may be null
+	 */
+	static Object constructObject(BshClassManager bcm, Class clas, Object[] args) throws ReflectError, InvocationTargetException {
 		if (clas.isInterface()) {
 			throw new ReflectError("Can't create instance of an interface: " + clas);
 		}
 
 		Class[] types = Types.getTypes(args);
 
-		// Find the constructor.
-		// (there are no inherited constructors to worry about)
-		Constructor[] constructors = Capabilities.haveAccessibility() ? clas.getDeclaredConstructors() : clas.getConstructors();
-
-		if (Interpreter.DEBUG) {
-			Interpreter.debug("Looking for most specific constructor: " + clas);
+		Object cached = bcm == null ? null : bcm.getResolvedConstructor(clas, types);
+		if (cached == BshClassManager.NOT_FOUND) {
+			throw cantFindConstructor(clas, types);
 		}
-		Constructor con = findMostSpecificConstructor(types, constructors);
+
+		Constructor con = (Constructor) cached;
 		if (con == null) {
-			throw cantFindConstructor(clas, types);
+			// Find the constructor.
+			// (there are no inherited constructors to worry about)
+			Constructor[] constructors = Capabilities.haveAccessibility() ? clas.getDeclaredConstructors() : clas.getConstructors();
+
+			if (Interpreter.DEBUG) {
+				Interpreter.debug("Looking for most specific constructor: " + clas);
+			}
+			con = findMostSpecificConstructor(types, constructors);
+
+			if (con != null && !isPublic(con) && Capabilities.haveAccessibility()) {
+				con.setAccessible(true);
+			}
+			if (bcm != null) {
+				bcm.cacheResolvedConstructor(clas, types, con);
+			}
+			if (con == null) {
+				throw cantFindConstructor(clas, types);
+			}
 		}
 
-		if (!isPublic(con) && Capabilities.haveAccessibility()) {
-			con.setAccessible(true);
+		if (bcm != null && args != null) {
+			// The invoker may call the constructor directly, which does not
+			// widen the arguments as Constructor.newInstance() does.
+			Class[] paramTypes = con.getParameterTypes();
+			Object[] tmpArgs = new Object[args.length];
+			try {
+				for (int i = 0; i < args.length; i++) {
+					tmpArgs[i] = Types.castObject(args[i]/*rhs*/, paramTypes[i]/*lhsType*/, Types.ASSIGNMENT);
+				}
+			} catch (UtilEvalError e) {
+				throw new InterpreterError("illegal argument type in constructor invocation: " + e);
+			}
+			args = tmpArgs;
 		}
 
 		args = Primitive.unwrap(args);
 		try {
-			return con.newInstance(args);
+			return bcm == null ? con.newInstance(args) : bcm.getInvoker(con).newInstance(args);
 		} catch (InstantiationException e) {
 			throw new ReflectError("The class " + clas + " is abstract ");
 		} catch (IllegalAccessException e) {
@@ -693,42 +862,26 @@ final class Reflect {
 	}
 
 
-	private static String accessorName(String getorset, String propName) {
-		return getorset + String.valueOf(Character.toUpperCase(propName.charAt(0))) + propName.substring(1);
-	}
-
-
 	public static boolean hasObjectPropertyGetter(Class clas, String propName) {
 		if (clas == Primitive.class) {
 			return false;
 		}
-		String getterName = accessorName("get", propName);
 		try {
-			clas.getMethod(getterName, new Class[0]);
-			return true;
-		} catch (NoSuchMethodException e) { /* fall through */ }
-		getterName = accessorName("is", propName);
-		try {
-			Method m = clas.getMethod(getterName, new Class[0]);
-			return (m.getReturnType() == Boolean.TYPE);
-		} catch (NoSuchMethodException e) {
+			return PropertyTable.getTable(clas).getProperty(propName).hasPublicGetter;
+		} catch (UtilEvalError e) {
 			return false;
 		}
 	}
 
 
 	public static boolean hasObjectPropertySetter(Class clas, String propName) {
-		String setterName = accessorName("set", propName);
-		Method[] methods = clas.getMethods();
-
 		// we don't know the right hand side of the assignment yet.
 		// has at least one setter of the right name?
-		for (Method method : methods) {
-			if (method.getName().equals(setterName)) {
-				return true;
-			}
+		try {
+			return PropertyTable.getTable(clas).getProperty(propName).hasPublicSetter;
+		} catch (UtilEvalError e) {
+			return false;
 		}
-		return false;
 	}
 
 
@@ -736,32 +889,13 @@ final class Reflect {
 		Object[] args = new Object[]{};
 
 		Interpreter.debug("property access: ");
-		Method method = null;
-
-		Exception e1 = null, e2 = null;
-		try {
-			String accessorName = accessorName("get", propName);
-			method = resolveExpectedJavaMethod(null/*bcm*/, obj.getClass(), obj, accessorName, args, false);
-		} catch (Exception e) {
-			e1 = e;
-		}
-		if (method == null) {
-			try {
-				String accessorName = accessorName("is", propName);
-				method = resolveExpectedJavaMethod(null/*bcm*/, obj.getClass(), obj, accessorName, args, false);
-				if (method.getReturnType() != Boolean.TYPE) {
-					method = null;
-				}
-			} catch (Exception e) {
-				e2 = e;
-			}
-		}
-		if (method == null) {
-			throw new ReflectError("Error in property getter: " + e1 + (e2 != null ? " : " + e2 : ""));
+		PropertyTable.Property property = PropertyTable.getTable(obj.getClass()).getProperty(propName);
+		if (property.getter == null) {
+			throw new ReflectError("Error in property getter: no method " + PropertyTable.accessorName("get", propName) + "() or boolean " + PropertyTable.accessorName("is", propName) + "() in " + obj.getClass().getName());
 		}
 
 		try {
-			return invokeMethod(method, obj, args);
+			return invokeMethod(property.getter, property.getterInvoker, obj, args);
 		} catch (InvocationTargetException e) {
 			throw new UtilEvalError("Property accessor threw exception: " + e.getTargetException());
 		}
@@ -769,13 +903,17 @@ final class Reflect {
 
 
 	public static void setObjectProperty(Object obj, String propName, Object value) throws ReflectError, UtilEvalError {
-		String accessorName = accessorName("set", propName);
 		Object[] args = new Object[]{value};
 
 		Interpreter.debug("property access: ");
+		PropertyTable table = PropertyTable.getTable(obj.getClass());
+		PropertyTable.Property property = table.getProperty(propName);
+		Method method = table.getSetter(property, value);
+		if (method == null) {
+			throw new ReflectError("Method " + StringUtil.methodString(PropertyTable.accessorName("set", propName), Types.getTypes(args)) + " not found in class'" + obj.getClass().getName() + "'");
+		}
 		try {
-			Method method = resolveExpectedJavaMethod(null/*bcm*/, obj.getClass(), obj, accessorName, args, false);
-			invokeMethod(method, obj, args);
+			invokeMethod(method, PropertyTable.getSetterInvoker(property, method), obj, args);
 		} catch (InvocationTargetException e) {
 			throw new UtilEvalError("Property accessor threw exception: " + e.getTargetException());
 		}
@@ -35,18 +35,51 @@
 package bsh;
 
 /**
-	Represents a Return, Break, or Continue statement
+	Represents a Return, Break, or Continue statement.
+	<p>
+
+	A break, continue or return without a value is signalled with a single
+	immutable instance per statement node, which is shared by all
+	evaluations of the statement.  A return with a value is signalled with
+	the carrier of the callstack it is evaluated on (see
+	CallStack.returnValue()), which the next return with a value on that
+	stack overwrites.
 */
 class ReturnControl implements ParserConstants {
-	public int kind;
+	public final int kind;
 	public Object value;
 	/** The node where we returned... for printing error messages correctly */
 	public SimpleNode returnPoint;
+	/** The label of a labeled break or continue, otherwise null */
+	public final String label;
 
 	public ReturnControl( int kind, Object value, SimpleNode returnPoint ) {
+		this( kind, value, returnPoint, null );
+	}
+
+	ReturnControl( 
+		int kind, Object value, SimpleNode returnPoint, String label ) 
+	{
 		this.kind = kind;
 		this.value = value;
 		this.returnPoint = returnPoint;
+		this.label = label;
 	}
-}
 
+	/**
+		Get a copy which later returns do not overwrite.
+	*/
+	ReturnControl copy() {
+		return new ReturnControl( kind, value, returnPoint, label );
+	}
+
+	/**
+		Determine whether this break or continue applies to the statement,
+		i.e. it is unlabeled or its label is a label of the statement.
+	*/
+	boolean isTargetOf( SimpleNode statement ) 
+	{
+		return label == null 
+			|| BSHLabeledStatement.hasLabel( statement, label );
+	}
+}
@@ -0,0 +1,457 @@
+package bsh;
+
+import bsh.org.objectweb.asm.ClassWriter;
+import bsh.org.objectweb.asm.CodeVisitor;
+import bsh.org.objectweb.asm.Constants;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+	The script compiler (bshc), which compiles scripts ahead of time into
+	classes that run without parsing the script:
+	<pre>
+		java bsh.ScriptCompiler [-d dir] [-jar file.jar] [-package name]
+			foo.bsh ...
+	</pre>
+	A script foo.bsh is compiled into the class foo, in the package given
+	with -package or else in the package declared by the script, and its
+	parsed statements into the resource foo.bshc next to the class (see
+	ASTSerializer).  The scripted classes which the script declares at its
+	top level (and their inner classes) are generated by ClassGeneratorUtil
+	at compile time, without running the script, and their bytecode is
+	written into the resource foo.bshclasses.  The classes are written
+	below the directory given with -d (default the current directory) or
+	into the jar given with -jar.  A jar of one script gets it as its
+	Main-Class.
+	<p>
+
+	The class of a script has the methods
+	<pre>
+		public static void main( String [] args )
+		public static Object eval( Interpreter interpreter )
+	</pre>
+	which run the script as the bsh launcher does and in the global
+	namespace of the interpreter, and a public static method for each
+	method declared at the top level of the script, which invokes it in a
+	module interpreter where the script has run once.  The parameter and
+	return types of these methods are the declared types where they are
+	public classes resolved at compile time (through the imports of the
+	script and the class path of the compiler), else Object.  The method
+	calls are wrapped in the same way as those of scripted classes (see
+	ClassGeneratorUtil).
+	<p>
+
+	The script itself, including untyped code and the bodies of scripted
+	methods, is evaluated by the interpreter from the parsed statements
+	(see PrecompiledScript), so the classes need bsh at run time, but the
+	parser is not loaded.  When the script declares a scripted class the
+	class is defined from the bytecode generated at compile time, unless
+	its declaration resolves differently at run time (e.g. its superclass
+	changed), in which case it is generated again.  Classes declared in
+	methods or blocks, or whose declaration could not be evaluated at
+	compile time, are generated when the script runs.
+	@see PrecompiledScript
+*/
+public final class ScriptCompiler implements Constants
+{
+	private static final String SCRIPT_FIELD = "_bshScript";
+	private static final String PRECOMPILED = "bsh/PrecompiledScript";
+	private static final String PRECOMPILED_TYPE = "L" + PRECOMPILED + ";";
+	private static final String OBJECT = "Ljava/lang/Object;";
+	private static final String MAIN = "main([Ljava/lang/String;)";
+	private static final String EVAL = "eval(Lbsh/Interpreter;)";
+
+	/** A compiled script */
+	static final class CompiledScript
+	{
+		/** The internal name of the class, e.g. pkg/foo */
+		final String className;
+		final byte [] classFile;
+		/** The .bshc resource */
+		final byte [] statements;
+		/** The .bshclasses resource, null if no class was generated */
+		final byte [] classes;
+
+		CompiledScript( String className, byte [] classFile,
+			byte [] statements, byte [] classes )
+		{
+			this.className = className;
+			this.classFile = classFile;
+			this.statements = statements;
+			this.classes = classes;
+		}
+	}
+
+	private ScriptCompiler() { }
+
+	public static void main( String [] args ) throws IOException
+	{
+		File dir = new File(".");
+		File jar = null;
+		String packageName = null;
+		List<File> sources = new ArrayList<File>();
+		for ( int i = 0; i < args.length; i++ )
+		{
+			if ( args[i].equals("-d") && i+1 < args.length )
+				dir = new File( args[++i] );
+			else if ( args[i].equals("-jar") && i+1 < args.length )
+				jar = new File( args[++i] );
+			else if ( args[i].equals("-package") && i+1 < args.length )
+				packageName = args[++i];
+			else if ( args[i].startsWith("-") )
+				usage();
+			else
+				sources.add( new File( args[i] ) );
+		}
+		if ( sources.isEmpty() )
+			usage();
+
+		List<CompiledScript> scripts = new ArrayList<CompiledScript>();
+		for ( File source : sources )
+			try {
+				scripts.add( compile( source, packageName ) );
+			} catch ( EvalError e ) {
+				System.err.println( source + ": " + e.getMessage() );
+				System.exit(1);
+			}
+
+		if ( jar != null )
+			writeJar( scripts, jar );
+		else
+			for ( CompiledScript script : scripts )
+			{
+				write( dir, script.className + ".class", script.classFile );
+				write( dir, script.className + ASTSerializer.EXTENSION,
+					script.statements );
+				if ( script.classes != null )
+					write( dir, script.className
+						+ PrecompiledScript.CLASSES_EXTENSION, script.classes );
+			}
+	}
+
+	private static void usage()
+	{
+		System.err.println("usage: bshc [-d dir] [-jar file.jar] "
+			+ "[-package name] file.bsh ...");
+		System.exit(1);
+	}
+
+	/**
+		Compile the script.
+		@param packageName the package of the class, if null the package
+			declared by the script.
+		@throws EvalError if the script does not parse.
+	*/
+	static CompiledScript compile( File source, String packageName )
+		throws IOException, EvalError
+	{
+		byte [] text = ASTSerializer.readFully( source );
+		SimpleNode [] statements = Interpreter.parse( new InputStreamReader(
+			new ByteArrayInputStream( text ) ), source.getPath() );
+
+		ByteArrayOutputStream bshc = new ByteArrayOutputStream();
+		ASTSerializer.write( statements, text.length,
+			ASTSerializer.checksum( text ), bshc );
+
+		// Evaluate the package and imports so that types resolve
+		Interpreter interpreter = new Interpreter();
+		NameSpace nameSpace = interpreter.getNameSpace();
+		for ( SimpleNode statement : statements )
+		{
+			if ( statement instanceof BSHPackageDeclaration
+				&& packageName == null )
+				packageName = ((BSHAmbiguousName)statement.jjtGetChild(0)).text;
+			if ( statement instanceof BSHPackageDeclaration
+				|| statement instanceof BSHImportDeclaration )
+				try {
+					interpreter.eval( new SimpleNode [] { statement },
+						nameSpace, source.getPath() );
+				} catch ( EvalError e ) {
+					System.err.println( source + ": warning: " + e.getMessage() );
+				}
+		}
+
+		// Declare the scripted classes, generating their bytecode
+		interpreter.declareClassesOnly = true;
+		for ( SimpleNode statement : statements )
+			if ( statement instanceof BSHClassDeclaration )
+				try {
+					interpreter.eval( new SimpleNode [] { statement },
+						nameSpace, source.getPath() );
+				} catch ( EvalError e ) {
+					System.err.println( source + ": warning: class "
+						+ ((BSHClassDeclaration)statement).name
+						+ " is generated at run time: " + e.getMessage() );
+				}
+
+		String className = getClassName( source );
+		if ( packageName != null && packageName.length() > 0 )
+			className = packageName.replace('.','/') + "/" + className;
+
+		return new CompiledScript( className,
+			generateClass( className, source.getName(), statements,
+				new CallStack( nameSpace ), interpreter ),
+			bshc.toByteArray(),
+			writeClasses( interpreter.getClassManager() ) );
+	}
+
+	/**
+		Write the bytecode of the scripted classes generated by the class
+		manager in the format read by PrecompiledScript.readClasses().
+		@return null if no class was generated.
+	*/
+	private static byte [] writeClasses( BshClassManager bcm )
+		throws IOException
+	{
+		List<String> signatures = new ArrayList<String>();
+		List<byte []> codes = new ArrayList<byte []>();
+		for ( String signature : bcm.getGeneratedClasses().keySet() )
+		{
+			byte [] code = ClassGenerator.getGeneratedCode( signature );
+			if ( code != null ) {
+				signatures.add( signature );
+				codes.add( code );
+			}
+		}
+		if ( signatures.isEmpty() )
+			return null;
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream( bytes );
+		out.writeUTF( ClassGenerator.CODE_VERSION );
+		out.writeInt( signatures.size() );
+		for ( int i = 0; i < signatures.size(); i++ )
+		{
+			writeBytes( out, signatures.get(i).getBytes("UTF-8") );
+			writeBytes( out, codes.get(i) );
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static void writeBytes( DataOutputStream out, byte [] bytes )
+		throws IOException
+	{
+		out.writeInt( bytes.length );
+		out.write( bytes );
+	}
+
+	private static byte [] generateClass( String className, String sourceFile,
+		SimpleNode [] statements, CallStack callstack, Interpreter interpreter )
+	{
+		ClassWriter cw = new ClassWriter( true/*computeMaxs*/ );
+		cw.visit( ACC_PUBLIC | ACC_FINAL, className, "java/lang/Object",
+			null, sourceFile );
+		cw.visitField( ACC_PRIVATE | ACC_STATIC | ACC_FINAL, SCRIPT_FIELD,
+			PRECOMPILED_TYPE, null );
+
+		// static { _bshScript = new PrecompiledScript( <class>, <file> ); }
+		CodeVisitor cv = cw.visitMethod( ACC_STATIC, "<clinit>", "()V", null );
+		cv.visitTypeInsn( NEW, PRECOMPILED );
+		cv.visitInsn( DUP );
+		cv.visitLdcInsn( className.replace('/','.') );
+		cv.visitMethodInsn( INVOKESTATIC, "java/lang/Class", "forName",
+			"(Ljava/lang/String;)Ljava/lang/Class;" );
+		cv.visitLdcInsn( sourceFile );
+		cv.visitMethodInsn( INVOKESPECIAL, PRECOMPILED, "<init>",
+			"(Ljava/lang/Class;Ljava/lang/String;)V" );
+		cv.visitFieldInsn( PUTSTATIC, className, SCRIPT_FIELD, PRECOMPILED_TYPE );
+		cv.visitInsn( RETURN );
+		cv.visitMaxs( 0, 0 );
+
+		cv = cw.visitMethod( ACC_PRIVATE, "<init>", "()V", null );
+		cv.visitVarInsn( ALOAD, 0 );
+		cv.visitMethodInsn( INVOKESPECIAL, "java/lang/Object", "<init>", "()V" );
+		cv.visitInsn( RETURN );
+		cv.visitMaxs( 0, 0 );
+
+		cv = cw.visitMethod( ACC_PUBLIC | ACC_STATIC, "main",
+			"([Ljava/lang/String;)V", null );
+		cv.visitFieldInsn( GETSTATIC, className, SCRIPT_FIELD, PRECOMPILED_TYPE );
+		cv.visitVarInsn( ALOAD, 0 );
+		cv.visitMethodInsn( INVOKEVIRTUAL, PRECOMPILED, "main",
+			"([Ljava/lang/String;)V" );
+		cv.visitInsn( RETURN );
+		cv.visitMaxs( 0, 0 );
+
+		cv = cw.visitMethod( ACC_PUBLIC | ACC_STATIC, "eval",
+			"(Lbsh/Interpreter;)Ljava/lang/Object;",
+			new String [] { "bsh/EvalError" } );
+		cv.visitFieldInsn( GETSTATIC, className, SCRIPT_FIELD, PRECOMPILED_TYPE );
+		cv.visitVarInsn( ALOAD, 0 );
+		cv.visitMethodInsn( INVOKEVIRTUAL, PRECOMPILED, "eval",
+			"(Lbsh/Interpreter;)Ljava/lang/Object;" );
+		cv.visitInsn( ARETURN );
+		cv.visitMaxs( 0, 0 );
+
+		Set<String> signatures = new HashSet<String>();
+		signatures.add( MAIN );
+		signatures.add( EVAL );
+		for ( SimpleNode statement : statements )
+			if ( statement instanceof BSHMethodDeclaration )
+				generateMethod( className, (BSHMethodDeclaration)statement,
+					signatures, callstack, interpreter, cw );
+
+		return cw.toByteArray();
+	}
+
+	/**
+		Generate the static method which invokes the scripted method:
+		<pre>
+			return (type)_bshScript.invoke( "name", new Object [] { args } );
+		</pre>
+	*/
+	private static void generateMethod( String className,
+		BSHMethodDeclaration method, Set<String> signatures,
+		CallStack callstack, Interpreter interpreter, ClassWriter cw )
+	{
+		method.insureNodesParsed();
+		String returnType = OBJECT;
+		if ( method.returnTypeNode != null )
+			returnType = method.returnTypeNode.isVoid ? "V"
+				: getTypeDescriptor( method.returnTypeNode.getTypeNode(),
+					callstack, interpreter );
+		String [] paramTypes = new String[ method.paramsNode.jjtGetNumChildren() ];
+		for ( int i = 0; i < paramTypes.length; i++ )
+		{
+			SimpleNode param = method.paramsNode.getChild(i);
+			paramTypes[i] = param.jjtGetNumChildren() == 0 ? OBJECT
+				: getTypeDescriptor( (BSHType)param.getChild(0),
+					callstack, interpreter );
+		}
+
+		String descriptor =
+			ClassGeneratorUtil.getMethodDescriptor( returnType, paramTypes );
+		String signature = method.name
+			+ descriptor.substring( 0, descriptor.indexOf(')') + 1 );
+		if ( !signatures.add( signature ) ) {
+			System.err.println( "warning: method not compiled, the "
+				+ "signature is already used: " + signature );
+			return;
+		}
+
+		CodeVisitor cv = cw.visitMethod( ACC_PUBLIC | ACC_STATIC, method.name,
+			descriptor, new String [] { "bsh/EvalError" } );
+		cv.visitFieldInsn( GETSTATIC, className, SCRIPT_FIELD, PRECOMPILED_TYPE );
+		cv.visitLdcInsn( method.name );
+		ClassGeneratorUtil.generateParameterReifierCode(
+			paramTypes, true/*isStatic*/, cv );
+		cv.visitMethodInsn( INVOKEVIRTUAL, PRECOMPILED, "invoke",
+			"(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/Object;" );
+		ClassGeneratorUtil.generateReturnCode( returnType, cv );
+		cv.visitMaxs( 0, 0 );
+	}
+
+	/**
+		The descriptor of the declared type, Object if it is not a public
+		class known at compile time (e.g. a class declared by the script).
+	*/
+	private static String getTypeDescriptor(
+		BSHType type, CallStack callstack, Interpreter interpreter )
+	{
+		Class clas;
+		try {
+			clas = type.getType( callstack, interpreter );
+		} catch ( EvalError e ) {
+			return OBJECT;
+		}
+		Class baseType = clas;
+		while ( baseType.isArray() )
+			baseType = baseType.getComponentType();
+		if ( !baseType.isPrimitive()
+			&& ( !Modifier.isPublic( baseType.getModifiers() )
+				|| GeneratedClass.class.isAssignableFrom( baseType ) ) )
+			return OBJECT;
+		return BSHType.getTypeDescriptor( clas );
+	}
+
+	/**
+		The class name of the script: its file name without the extension,
+		with characters which are not allowed in a name replaced by '_'
+		(and a name starting with a digit prefixed with '_').
+	*/
+	static String getClassName( File source )
+	{
+		String name = source.getName();
+		int dot = name.lastIndexOf('.');
+		if ( dot > 0 )
+			name = name.substring( 0, dot );
+		StringBuilder sb = new StringBuilder();
+		for ( int i = 0; i < name.length(); i++ )
+		{
+			char c = name.charAt(i);
+			if ( i == 0 && !Character.isJavaIdentifierStart(c) )
+				sb.append('_');
+			if ( Character.isJavaIdentifierPart(c) )
+				sb.append( c );
+			else if ( i > 0 )
+				sb.append('_');
+		}
+		return sb.length() == 0 ? "_" : sb.toString();
+	}
+
+	private static void writeJar( List<CompiledScript> scripts, File jar )
+		throws IOException
+	{
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put( Attributes.Name.MANIFEST_VERSION, "1.0" );
+		if ( scripts.size() == 1 )
+			attributes.put( Attributes.Name.MAIN_CLASS,
+				scripts.get(0).className.replace('/','.') );
+
+		JarOutputStream out = new JarOutputStream(
+			new BufferedOutputStream( new FileOutputStream( jar ) ), manifest );
+		try {
+			for ( CompiledScript script : scripts )
+			{
+				out.putNextEntry(
+					new JarEntry( script.className + ".class" ) );
+				out.write( script.classFile );
+				out.putNextEntry( new JarEntry(
+					script.className + ASTSerializer.EXTENSION ) );
+				out.write( script.statements );
+				if ( script.classes != null ) {
+					out.putNextEntry( new JarEntry( script.className
+						+ PrecompiledScript.CLASSES_EXTENSION ) );
+					out.write( script.classes );
+				}
+			}
+		} finally {
+			out.close();
+		}
+		System.out.println( "wrote: " + jar );
+	}
+
+	private static void write( File dir, String path, byte [] data )
+		throws IOException
+	{
+		File file = new File( dir, path );
+		File parent = file.getParentFile();
+		if ( parent != null && !parent.isDirectory() && !parent.mkdirs() )
+			throw new IOException( "Unable to create directory: " + parent );
+		OutputStream out = new FileOutputStream( file );
+		try {
+			out.write( data );
+		} finally {
+			out.close();
+		}
+		System.out.println( "wrote: " + file );
+	}}
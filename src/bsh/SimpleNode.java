@@ -44,9 +44,16 @@ package bsh;
 	be parse tree data... features of the node which should never change (e.g.
 	the number of arguments, etc.)
 	
-	Exceptions would be public fields of simple classes that just publish
-	data produced by the last eval()... data that is used immediately. We'll
-	try to remember to mark these as transient to highlight them.
+	Nodes must not publish data produced by the last eval() in fields, a
+	parsed tree (e.g. of a PreparsedScript) may be evaluated by several 
+	threads at once, and in namespaces with different imports and class
+	managers.  Such results are returned to the caller instead.  Classes
+	resolved by name depend on the imports of the namespace and on its 
+	class manager, a node caches them only together with what they were
+	resolved with (see BSHType).  The remaining caches (call sites, jump 
+	tables, etc.) are either the same for every evaluation or likewise 
+	keyed, and are published whole, through volatile fields or immutable 
+	objects, so a racing evaluation at worst computes them twice.
 
 */
 class SimpleNode implements Node 
@@ -36,8 +36,10 @@ package bsh;
 
 import java.io.IOException;
 import java.lang.reflect.*;
-import java.util.Map;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -64,10 +66,10 @@ public final class This implements java.io.Serializable, Runnable
 	transient Interpreter declaringInterpreter;
 
 	/**
-		A cache of proxy interface handlers.
-		Currently just one per interface.
+		A cache of the implementations of getInterface(), one per set of
+		interfaces, keyed by the list of the interfaces.
 	*/
-	private Map<Integer,Object> interfaces;
+	private transient volatile ConcurrentMap<List<Class>,Object> interfaces;
 
 	private final InvocationHandler invocationHandler = new Handler();
 
@@ -107,27 +109,34 @@ public final class This implements java.io.Serializable, Runnable
 	}
 
 	/**
-		Get dynamic proxy for interface, caching those it creates.
+		Get an implementation of the interfaces, caching those it creates.
+		The implementation is an instance of a class generated for the
+		interfaces, or a dynamic proxy for interfaces which the generated
+		classes cannot implement.
+		@see InterfaceGenerator
 	*/
 	public Object getInterface( Class [] ca ) 
 	{
+		ConcurrentMap<List<Class>,Object> interfaces = this.interfaces;
 		if ( interfaces == null )
-			interfaces = new HashMap<Integer,Object>();
-
-		// Make a hash of the interface hashcodes in order to cache them
-		int hash = 21;
-		for(int i=0; i<ca.length; i++)
-			hash *= ca[i].hashCode() + 3;
-		Integer hashKey = new Integer(hash);
+			this.interfaces = interfaces = 
+				new ConcurrentHashMap<List<Class>,Object>();
 
-		Object interf = interfaces.get( hashKey );
+		List<Class> key = Arrays.asList( ca.clone() );
+		Object interf = interfaces.get( key );
 
 		if ( interf == null ) 
 		{
-			ClassLoader classLoader = ca[0].getClassLoader(); // ?
-			interf = Proxy.newProxyInstance( 
-				classLoader, ca, invocationHandler );
-			interfaces.put( hashKey, interf );
+			interf = InterfaceGenerator.newInstance( this, ca );
+			if ( interf == null )
+			{
+				ClassLoader classLoader = ca[0].getClassLoader(); // ?
+				interf = Proxy.newProxyInstance( 
+					classLoader, ca, invocationHandler );
+			}
+			Object cached = interfaces.putIfAbsent( key, interf );
+			if ( cached != null )
+				interf = cached;
 		}
 
 		return interf;
@@ -150,87 +159,114 @@ public final class This implements java.io.Serializable, Runnable
 		public Object invoke( Object proxy, Method method, Object[] args ) 
 			throws Throwable
 		{
-			try { 
-				return invokeImpl( proxy, method, args );
-			} catch ( TargetError te ) {
-				// Unwrap target exception.  If the interface declares that 
-				// it throws the ex it will be delivered.  If not it will be 
-				// wrapped in an UndeclaredThrowable
-
-				// This isn't simple because unwrapping this loses all context info.
-				// So rewrap is better than unwrap.  - fschmidt
-				Throwable t = te.getTarget();
-				Class<? extends Throwable> c = t.getClass();
-				String msg = t.getMessage();
-				try {
-					Throwable t2 = msg==null 
-						? c.getConstructor().newInstance()
-						: c.getConstructor(String.class).newInstance(msg)
-					;
-					t2.initCause(te);
-					throw t2;
-				} catch(NoSuchMethodException e) {
-					throw t;
-				}
-			} catch ( EvalError ee ) {
-				// Ease debugging...
-				// XThis.this refers to the enclosing class instance
-				if ( Interpreter.DEBUG ) 
-					Interpreter.debug( "EvalError in scripted interface: "
-					+ This.this.toString() + ": "+ ee );
-				throw ee;
-			}
+			Object [] wrapped = args == null ? new Object[0]
+				: Primitive.wrap( args, method.getParameterTypes() );
+			return invokeInterfaceMethod( 
+				proxy, method, null/*bshMethod*/, wrapped );
 		}
+	}
 
-		public Object invokeImpl( Object proxy, Method method, Object[] args ) 
-			throws EvalError 
-		{
-			String methodName = method.getName();
-			CallStack callstack = new CallStack( namespace );
-
-			/*
-				If equals() is not explicitly defined we must override the 
-				default implemented by the This object protocol for scripted
-				object.  To support XThis equals() must test for equality with 
-				the generated proxy object, not the scripted bsh This object;
-				otherwise callers from outside in Java will not see a the 
-				proxy object as equal to itself.
-			*/
-			BshMethod equalsMethod = null;
+	/**
+		Invoke the scripted method implementing a method of the interfaces
+		of getInterface().
+		@param proxy the implementation of the interfaces
+		@param bshMethod the scripted method found for the interface method
+			in advance, or null to look it up by the arguments
+		@param args the arguments, primitive values wrapped as Primitive.
+			The array may be modified.
+	*/
+	Object invokeInterfaceMethod( 
+		Object proxy, Method method, BshMethod bshMethod, Object [] args ) 
+		throws Throwable
+	{
+		try { 
+			return invokeInterfaceMethodImpl( proxy, method, bshMethod, args );
+		} catch ( TargetError te ) {
+			// Unwrap target exception.  If the interface declares that 
+			// it throws the ex it will be delivered.  If not it will be 
+			// wrapped in an UndeclaredThrowable
+
+			// This isn't simple because unwrapping this loses all context info.
+			// So rewrap is better than unwrap.  - fschmidt
+			Throwable t = te.getTarget();
+			Class<? extends Throwable> c = t.getClass();
+			String msg = t.getMessage();
 			try {
-				equalsMethod = namespace.getMethod( 
-					"equals", new Class [] { Object.class } );
-			} catch ( UtilEvalError e ) {/*leave null*/ }
-			if ( methodName.equals("equals" ) && equalsMethod == null ) {
-				Object obj = args[0];
-				return proxy == obj;
+				Throwable t2 = msg==null 
+					? c.getConstructor().newInstance()
+					: c.getConstructor(String.class).newInstance(msg)
+				;
+				t2.initCause(te);
+				throw t2;
+			} catch(NoSuchMethodException e) {
+				throw t;
 			}
+		} catch ( EvalError ee ) {
+			// Ease debugging...
+			if ( Interpreter.DEBUG ) 
+				Interpreter.debug( "EvalError in scripted interface: "
+				+ this.toString() + ": "+ ee );
+			throw ee;
+		}
+	}
 
-			/*
-				If toString() is not explicitly defined override the default 
-				to show the proxy interfaces.
-			*/
-			BshMethod toStringMethod = null;
-			try {
-				toStringMethod = 
-					namespace.getMethod( "toString", new Class [] { } );
-			} catch ( UtilEvalError e ) {/*leave null*/ }
+	private Object invokeInterfaceMethodImpl( 
+		Object proxy, Method method, BshMethod bshMethod, Object [] args ) 
+		throws EvalError 
+	{
+		String methodName = method.getName();
 
-			if ( methodName.equals("toString" ) && toStringMethod == null)
-			{
-				Class [] ints = proxy.getClass().getInterfaces();
-				// XThis.this refers to the enclosing class instance
-				StringBuilder sb = new StringBuilder( 
-					This.this.toString() + "\nimplements:" );
-				for(int i=0; i<ints.length; i++)
-					sb.append( " "+ ints[i].getName() 
-						+ ((ints.length > 1)?",":"") );
-				return sb.toString();
-			}
+		if ( bshMethod != null )
+		{
+			// Wrap nulls, as invokeMethod() does
+			for ( int i = 0; i < args.length; i++ )
+				if ( args[i] == null )
+					args[i] = Primitive.NULL;
+			return Primitive.unwrap( bshMethod.invoke( args, 
+				declaringInterpreter, new CallStack( namespace ), 
+				SimpleNode.JAVACODE ) );
+		}
+
+		/*
+			If equals() is not explicitly defined we must override the 
+			default implemented by the This object protocol for scripted
+			object.  To support XThis equals() must test for equality with 
+			the generated proxy object, not the scripted bsh This object;
+			otherwise callers from outside in Java will not see a the 
+			proxy object as equal to itself.
+		*/
+		if ( methodName.equals("equals" ) 
+			&& !hasMethod( "equals", new Class [] { Object.class } ) ) 
+		{
+			Object obj = args[0];
+			return proxy == obj;
+		}
+
+		/*
+			If toString() is not explicitly defined override the default 
+			to show the proxy interfaces.
+		*/
+		if ( methodName.equals("toString" ) 
+			&& !hasMethod( "toString", new Class [] { } ) )
+		{
+			Class [] ints = proxy.getClass().getInterfaces();
+			StringBuilder sb = new StringBuilder( 
+				this.toString() + "\nimplements:" );
+			for(int i=0; i<ints.length; i++)
+				sb.append( " "+ ints[i].getName() 
+					+ ((ints.length > 1)?",":"") );
+			return sb.toString();
+		}
 
-			Class [] paramTypes = method.getParameterTypes();
-			return Primitive.unwrap( 
-				invokeMethod( methodName, Primitive.wrap(args, paramTypes) ) );
+		return Primitive.unwrap( invokeMethod( methodName, args ) );
+	}
+
+	private boolean hasMethod( String name, Class [] sig )
+	{
+		try {
+			return namespace.getMethod( name, sig ) != null;
+		} catch ( UtilEvalError e ) {
+			return false;
 		}
 	}
 
@@ -291,6 +291,23 @@ public class ClassManagerImpl extends BshClassManager
 		return in;
 	}
 
+	/**
+		The base loader if the class path was extended, else the scope of
+		the default resources.
+	*/
+	@Override
+	protected Object getResourceScope()
+	{
+		if ( getClass() != ClassManagerImpl.class )
+			return null; // may find other resources
+		if ( baseLoader == null )
+			return externalClassLoader != null ? 
+				externalClassLoader : Interpreter.class;
+		if ( externalClassLoader == null )
+			return baseLoader;
+		return null; // two loaders
+	}
+
 	ClassLoader getLoaderForClass( String name ) {
 		return (ClassLoader)loaderMap.get( name );
 	}
@@ -309,6 +326,7 @@ public class ClassManagerImpl extends BshClassManager
 			// opportunity here for listener in classpath
 			baseLoader.addURL( path );
 			baseClassPath.add( path );
+			resourcesChanged();
 			classLoaderChanged();
 		}
 	}
@@ -0,0 +1,73 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ASTOptimizerTest {
+
+	private static final Map<String, Object> NO_ARGS = Collections.emptyMap();
+
+
+	@Test
+	public void constant_expressions_are_folded() throws Exception {
+		final PreparsedScript script = new PreparsedScript("long ms = 60 * 60 * 1000L; return ms + (-1) + ~0 + (1 < 2 ? 1 : 2);");
+		assertEquals(3600000L - 1, script.invoke(NO_ARGS));
+		final ASTOptimizer.Stats stats = script.getOptimizerStats();
+		assertEquals(5, stats.foldedExpressions);
+		assertEquals(1, stats.prunedBranches);
+	}
+
+
+	@Test
+	public void concatenations_are_folded_and_interned() throws Exception {
+		final PreparsedScript script = new PreparsedScript("return \"a\" + 1 + 'c' + \"d\";");
+		assertSame("a1cd", script.invoke(NO_ARGS));
+		assertEquals(3, script.getOptimizerStats().foldedConcatenations);
+	}
+
+
+	@Test
+	public void short_circuits_do_not_need_the_rhs() throws Exception {
+		final PreparsedScript script = new PreparsedScript("return (false && x.foo()) || (true || x.bar());");
+		assertEquals(true, script.invoke(NO_ARGS));
+		assertEquals(2, script.getOptimizerStats().shortCircuits);
+	}
+
+
+	@Test
+	public void dead_branches_are_pruned() throws Exception {
+		final PreparsedScript script = new PreparsedScript(
+				"int i = 0; if (false) i = x.foo(); if (true) i++; else i = x.bar(); if (1 > 2) { i = 10; } return i;");
+		assertEquals(1, script.invoke(NO_ARGS));
+		assertEquals(3, script.getOptimizerStats().prunedBranches);
+	}
+
+
+	@Test
+	public void trailing_if_is_kept() throws Exception {
+		final PreparsedScript script = new PreparsedScript("x = 1; if (true) x = 2;");
+		assertEquals(0, script.getOptimizerStats().prunedBranches);
+		script.invoke(NO_ARGS);
+	}
+
+
+	@Test
+	public void failing_operations_are_left_for_runtime() throws Exception {
+		final PreparsedScript script = new PreparsedScript("x = 1;\nreturn 1 / 0;");
+		assertEquals(0, script.getOptimizerStats().foldedExpressions);
+		try {
+			script.invoke(NO_ARGS);
+			fail("expected error");
+		} catch (final TargetError e) {
+			assertEquals(ArithmeticException.class, e.getTarget().getClass());
+			assertEquals(2, e.getErrorLineNumber());
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.StringReader;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ASTSerializerTest {
+
+	private static final String SCRIPT = "import java.util.*;\n"
+			+ "public static int fib(int n) { return n < 2 ? n : fib(n - 1) + fib(n - 2); }\n"
+			+ "class Point { private int x; int y = -1; Point(int x) { this.x = x; } int getX() { return x; } }\n"
+			+ "List list = new ArrayList();\n"
+			+ "outer: for (int i = 0; i < 5; i++) { for (int j : new int[] {1, 2}) { if (j > i) continue outer; list.add(i * 10 + j); } }\n"
+			+ "String s = \"a\\tb\" + 'c' + 1L + 2.5f + 3.5d + true + null;\n"
+			+ "long[][] grid = new long[2][3]; grid[1][2] += 7; int k = 0; do { k++; } while (k < 3);\n"
+			+ "switch (k) { case 3: s += \"!\"; break; default: s = null; }\n"
+			+ "synchronized (list) { i = list.size(); i--; }\n"
+			+ "try { throw new Exception(\"x\"); } catch (Exception e) { s += e.getMessage(); } finally { k = -k; }\n"
+			+ "return fib(10) + \":\" + list + \":\" + new Point(4).getX() + \":\" + s + \":\" + grid[1][2] + \":\" + k + \":\" + i;\n";
+
+
+	@Test
+	public void statements_are_restored() throws Exception {
+		final SimpleNode[] parsed = Interpreter.parse(new StringReader(SCRIPT), "test.bsh");
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ASTSerializer.write(parsed, SCRIPT.length(), 0, out);
+		final SimpleNode[] loaded = ASTSerializer.read(new ByteArrayInputStream(out.toByteArray()), "test.bsh");
+
+		assertEquals(parsed.length, loaded.length);
+		for (int i = 0; i < parsed.length; i++) {
+			assertSameTree(parsed[i], loaded[i]);
+		}
+		final Object expected = new Interpreter().eval(parsed, new Interpreter().getNameSpace(), "test.bsh");
+		assertEquals("55:[11, 21, 22, 31, 32, 41, 42]:4:a\tbc12.53.5truenull!x:7:-3:6", expected);
+		final Interpreter interpreter = new Interpreter();
+		assertEquals(expected, interpreter.eval(loaded, interpreter.getNameSpace(), "test.bsh"));
+	}
+
+
+	@Test
+	public void fresh_bshc_files_are_used() throws Exception {
+		final File source = File.createTempFile("serializer", ".bsh");
+		final File bshc = ASTSerializer.getFile(source);
+		try {
+			write(source, "x = 2;\ny = x * 21;");
+			assertNull(ASTSerializer.readFresh(source, source.getPath()));
+			assertEquals(new File(source.getPath() + "c"), ASTSerializer.write(source));
+			assertNotNull(ASTSerializer.readFresh(source, source.getPath()));
+			// source() prefers .bshc files when the parse cache is enabled
+			final Interpreter interpreter = new Interpreter();
+			interpreter.getClassManager().setParseCacheSize(4);
+			assertEquals(42, interpreter.source(source.getPath()));
+			assertEquals(42, new Interpreter().source(source.getPath()));
+			assertEquals(42, new PreparsedScript(source).invoke(new HashMap<String, Object>()));
+
+			write(source, "x = 2;\ny = x * 12;");
+			assertNull(ASTSerializer.readFresh(source, source.getPath()));
+			source.setLastModified(source.lastModified() + 2000);
+			assertEquals(24, interpreter.source(source.getPath()));
+			assertEquals(24, new Interpreter().source(source.getPath()));
+		} finally {
+			source.delete();
+			bshc.delete();
+		}
+	}
+
+
+	@Test
+	public void errors_report_the_source_position() throws Exception {
+		final SimpleNode[] parsed = Interpreter.parse(new StringReader("a = 1;\n\n  b = a.noSuchMethod();"), "test.bsh");
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ASTSerializer.write(parsed, 0, 0, out);
+		final SimpleNode[] loaded = ASTSerializer.read(new ByteArrayInputStream(out.toByteArray()), "test.bsh");
+		assertEquals(errorOf(parsed), errorOf(loaded));
+		assertEquals("test.bsh:3:a .noSuchMethod ( )", errorOf(loaded));
+	}
+
+
+	private static String errorOf(final SimpleNode[] statements) {
+		try {
+			final Interpreter interpreter = new Interpreter();
+			interpreter.eval(statements, interpreter.getNameSpace(), "test.bsh");
+			throw new AssertionError("expected EvalError");
+		} catch (EvalError e) {
+			return e.getErrorSourceFile() + ":" + e.getErrorLineNumber() + ":" + e.getErrorText().trim();
+		}
+	}
+
+
+	private static void assertSameTree(final SimpleNode expected, final SimpleNode actual) {
+		assertSame(expected.getClass(), actual.getClass());
+		assertEquals(expected.toString(), actual.toString());
+		assertEquals(expected.getText(), actual.getText());
+		assertEquals(expected.getLineNumber(), actual.getLineNumber());
+		assertEquals(expected.getSourceFile(), actual.getSourceFile());
+		assertEquals(expected.jjtGetNumChildren(), actual.jjtGetNumChildren());
+		for (int i = 0; i < expected.jjtGetNumChildren(); i++) {
+			assertSame(actual, actual.getChild(i).jjtGetParent());
+			assertSameTree(expected.getChild(i), actual.getChild(i));
+		}
+	}
+
+
+	private static void write(final File file, final String text) throws Exception {
+		final FileWriter writer = new FileWriter(file);
+		try {
+			writer.write(text);
+		} finally {
+			writer.close();
+		}
+	}
+
+}
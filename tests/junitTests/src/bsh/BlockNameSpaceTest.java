@@ -0,0 +1,56 @@
+package bsh;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BlockNameSpaceTest {
+
+	private static SimpleNode[] statements(final String body) throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f() { " + body + " }");
+		final BSHBlock block = interpreter.getNameSpace().getMethod("f", new Class[0]).methodBody;
+		final SimpleNode[] statements = new SimpleNode[block.jjtGetNumChildren()];
+		for (int i = 0; i < statements.length; i++) {
+			statements[i] = block.getChild(i);
+		}
+		return statements;
+	}
+
+
+	@Test
+	public void scopes_without_declarations_need_no_namespace() throws Exception {
+		final SimpleNode[] statements = statements("for (i = 0; i < 3; i++) { s += i; } for (o : list) { if (o != null) { n++; } } { x = 1; switch (x) { case 1: y = 2; } }");
+		assertFalse(BlockNameSpace.isRequired(statements[0]));
+		assertFalse(BlockNameSpace.isRequired(statements[0].getChild(3)));
+		assertFalse(BlockNameSpace.isRequired(statements[1]));
+		assertFalse(BlockNameSpace.isRequired(statements[2]));
+	}
+
+
+	@Test
+	public void declarations_need_a_namespace() throws Exception {
+		final SimpleNode[] statements = statements("for (int i = 0; i < 3; i++) { } { int x = 1; } { switch (x) { case 1: int y = 2; } } { g() { } }"
+				+ " { r = new Runnable() { public void run() { } }; } { eval(\"z = 1\"); } { import java.util.*; }");
+		for (final SimpleNode statement : statements) {
+			assertTrue(statement.getText(), BlockNameSpace.isRequired(statement));
+		}
+	}
+
+
+	@Test
+	public void scoping_is_unchanged() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		assertEquals(6, interpreter.eval("s = 0; for (i = 0; i < 4; i++) { s += i; } return s;"));
+		assertEquals(4, interpreter.eval("return i;"));
+		assertEquals(3, interpreter.eval("n = 0; for (o : new int[] { 1, 2, 3 }) { n++; } return n;"));
+		assertEquals(3, interpreter.eval("return o;"));
+		assertEquals(1, interpreter.eval("x = 1; { int x = 2; } return x;"));
+		assertEquals(7, interpreter.eval("{ y = 7; } return y;"));
+		assertEquals(Primitive.VOID, interpreter.getNameSpace().getVariable("z"));
+		assertEquals(5, interpreter.eval("z = 5; { if (true) { unset(\"q\"); } } return z;"));
+	}
+
+}
@@ -0,0 +1,135 @@
+package bsh;
+
+import bsh.classpath.ClassManagerImpl;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BshClassManagerTest {
+
+	@Test
+	public void fields_are_cached_including_missing_ones() throws Exception {
+		final BshClassManager bcm = new Interpreter().getClassManager();
+		final LookupCache.Stats stats = bcm.getCacheStatistics().get("fields");
+		assertNull(bcm.getResolvedField(Point.class, "x"));
+		final Object field = Reflect.resolveJavaField(bcm, Point.class, "x", false);
+		assertSame(field, bcm.getResolvedField(Point.class, "x"));
+		assertSame(field, Reflect.resolveJavaField(bcm, Point.class, "x", false));
+		assertNull(Reflect.resolveJavaField(bcm, Point.class, "z", false));
+		assertSame(BshClassManager.NOT_FOUND, bcm.getResolvedField(Point.class, "z"));
+		assertNull(Reflect.resolveJavaField(bcm, Point.class, "z", false));
+		assertEquals(3, stats.getMisses());
+		assertEquals(4, stats.getHits());
+
+		bcm.clearCaches();
+		assertNull(bcm.getResolvedField(Point.class, "z"));
+	}
+
+
+	@Test
+	public void constructors_are_cached_per_argument_types() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final BshClassManager bcm = interpreter.getClassManager();
+		interpreter.eval("for (int i = 0; i < 10; i++) { p = new java.awt.Point(i, 1); q = new java.awt.Point(p); }");
+		assertEquals(new Point(9, 1), interpreter.get("q"));
+		final LookupCache.Stats stats = bcm.getCacheStatistics().get("constructors");
+		assertEquals(2, stats.getMisses());
+		assertEquals(18, stats.getHits());
+
+		try {
+			interpreter.eval("new java.awt.Point(\"x\");");
+		} catch (EvalError e) {
+			// no such constructor
+		}
+		assertSame(BshClassManager.NOT_FOUND, bcm.getResolvedConstructor(Point.class, new Class[]{String.class}));
+	}
+
+
+	@Test
+	public void bounded_caches_evict_least_recently_used_entries() {
+		final LookupCache<String,Integer> cache = new LookupCache<String,Integer>(8, LookupCache.Eviction.LRU);
+		for (int i = 0; i < 8; i++) {
+			cache.put("k" + i, i);
+		}
+		assertEquals(Integer.valueOf(0), cache.get("k0"));
+		cache.put("k8", 8);
+		assertEquals(7, cache.size());
+		assertTrue(cache.containsKey("k0"));
+		assertFalse(cache.containsKey("k1"));
+		assertFalse(cache.containsKey("k2"));
+		assertEquals(2, cache.getStats().getEvictions());
+	}
+
+
+	@Test
+	public void bounded_caches_evict_least_frequently_used_entries() {
+		final LookupCache<String,Integer> cache = new LookupCache<String,Integer>(8, LookupCache.Eviction.LFU);
+		for (int i = 0; i < 8; i++) {
+			cache.put("k" + i, i);
+			for (int j = 0; j < i % 4; j++) {
+				cache.get("k" + i);
+			}
+		}
+		cache.put("k8", 8);
+		assertEquals(7, cache.size());
+		assertFalse(cache.containsKey("k0"));
+		assertFalse(cache.containsKey("k4"));
+		assertTrue(cache.containsKey("k8"));
+	}
+
+
+	@Test
+	public void class_manager_caches_can_be_bounded() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final BshClassManager bcm = interpreter.getClassManager();
+		bcm.setCacheLimit(4, LookupCache.Eviction.LRU);
+		interpreter.eval("p = new java.awt.Point(1, 2); for (int i = 0; i < 10; i++) { p.translate(i, i); p.getX(); p.getY(); p.getLocation(); p.toString(); p.hashCode(); }");
+		assertEquals(new Point(46, 47), interpreter.get("p"));
+		final LookupCache.Stats methods = bcm.getCacheStatistics().get("objectMethods");
+		assertTrue(methods.getEvictions() > 0);
+		assertEquals(6, methods.getMisses());
+		assertEquals(9, bcm.getCacheStatistics().size());
+	}
+
+
+	@Test
+	public void class_caches_are_maps_and_sets() throws Exception {
+		final BshClassManager bcm = new Interpreter().getClassManager();
+		assertSame(Point.class, bcm.classForName("java.awt.Point"));
+		assertNull(bcm.classForName("java.awt.NoSuchPoint"));
+		assertSame(Point.class, bcm.absoluteClassCache.get("java.awt.Point"));
+		assertTrue(bcm.absoluteNonClasses.contains("java.awt.NoSuchPoint"));
+		assertTrue(bcm.absoluteClassCache.containsValue(Point.class));
+		assertTrue(bcm.absoluteNonClasses.remove("java.awt.NoSuchPoint"));
+		assertFalse(bcm.absoluteNonClasses.contains("java.awt.NoSuchPoint"));
+	}
+
+
+	@Test
+	public void subclasses_may_replace_the_class_caches() throws Exception {
+		final Map<String, Class> classes = new Hashtable<String, Class>();
+		final BshClassManager bcm = new ClassManagerImpl() {
+			{
+				absoluteClassCache = classes;
+				absoluteNonClasses = new HashSet<String>();
+			}
+		};
+		assertSame(Point.class, bcm.classForName("java.awt.Point"));
+		assertSame(Point.class, classes.get("java.awt.Point"));
+		assertNull(bcm.classForName("java.awt.NoSuchPoint"));
+		assertTrue(bcm.absoluteNonClasses.contains("java.awt.NoSuchPoint"));
+		bcm.reset();
+		assertTrue(classes.isEmpty());
+		assertTrue(bcm.absoluteNonClasses.isEmpty());
+	}
+
+}
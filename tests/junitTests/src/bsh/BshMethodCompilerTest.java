@@ -0,0 +1,106 @@
+package bsh;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class BshMethodCompilerTest {
+
+	private static BshMethod method(final Interpreter interpreter, final String script, final String name, final Class... types) throws Exception {
+		interpreter.eval(script);
+		return interpreter.getNameSpace().getMethod(name, types);
+	}
+
+
+	/** Compiles the method and checks that compiled and interpreted results match. */
+	private static void assertCompiled(final String script, final String name, final Class[] types, final Object[]... argsList) throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final BshMethod method = method(interpreter, script, name, types);
+		final BshMethodCompiler.Compiled compiled = BshMethodCompiler.compile(method);
+		assertNotNull("not compiled: " + script, compiled);
+		for (final Object[] args : argsList) {
+			final Object expected = Primitive.unwrap(method.invoke(args.clone(), interpreter));
+			assertEquals(script, expected, Primitive.unwrap(compiled.invoke(args.clone())));
+		}
+	}
+
+
+	@Test
+	public void arithmetic_and_loops() throws Exception {
+		assertCompiled("int sum(int n) { int s = 0; for (int i = 0; i < n; i++) { if (i % 3 == 0) continue; s += i * 2; } return s; }",
+				"sum", new Class[]{int.class}, new Object[]{new Primitive(10)}, new Object[]{new Primitive(0)});
+		assertCompiled("long fact(int n) { long f = 1; while (n > 1) f *= n--; return f; }",
+				"fact", new Class[]{int.class}, new Object[]{new Primitive(20)});
+		assertCompiled("double avg(int a, long b, double c) { return (a + b + c) / 3; }",
+				"avg", new Class[]{int.class, long.class, double.class}, new Object[]{new Primitive(1), new Primitive(2L), new Primitive(4.5)});
+		assertCompiled("int bits(int x) { int c = 0; do { c += x & 1; x >>>= 1; } while (x != 0); return c; }",
+				"bits", new Class[]{int.class}, new Object[]{new Primitive(-1)}, new Object[]{new Primitive(1234)});
+	}
+
+
+	@Test
+	public void conditions() throws Exception {
+		final Class[] types = {double.class, double.class};
+		final Object[] nan = {new Primitive(Double.NaN), new Primitive(1.0)};
+		final Object[] lt = {new Primitive(0.5), new Primitive(1.0)};
+		for (final String op : new String[]{"<", "<=", ">", ">=", "==", "!="}) {
+			assertCompiled("boolean cmp(double a, double b) { return a " + op + " b; }", "cmp", types, nan, lt);
+			assertCompiled("int cmp(double a, double b) { if (!(a " + op + " b)) return 1; return 2; }", "cmp", types, nan, lt);
+		}
+		assertCompiled("boolean f(boolean a, int b) { return a && b > 2 || !a && b < 0 ? a == true : false; }",
+				"f", new Class[]{boolean.class, int.class}, new Object[]{new Primitive(true), new Primitive(3)}, new Object[]{new Primitive(false), new Primitive(-1)});
+	}
+
+
+	@Test
+	public void labeled_break_and_continue() throws Exception {
+		assertCompiled("int pairs(int n) { int c = 0; outer: for (int i = 0; i < n; i++) { int j = 0; while (true) { if (j > i) continue outer; if (i + j > 6) break outer; c++; j++; } } return c; }",
+				"pairs", new Class[]{int.class}, new Object[]{new Primitive(10)}, new Object[]{new Primitive(2)});
+		assertCompiled("int f(int a) { done: { if (a > 2) break done; a = a * 10; } return a; }",
+				"f", new Class[]{int.class}, new Object[]{new Primitive(1)}, new Object[]{new Primitive(5)});
+	}
+
+
+	@Test
+	public void unsupported() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		assertNull(BshMethodCompiler.compile(method(interpreter, "int f(int a) { return a + y; }", "f", int.class)));
+		assertNull(BshMethodCompiler.compile(method(interpreter, "f(int a) { return a; }", "f", int.class)));
+		assertNull(BshMethodCompiler.compile(method(interpreter, "int f(int a) { print(a); return a; }", "f", int.class)));
+		assertNull(BshMethodCompiler.compile(method(interpreter, "int f(int a) { a += 1.5; return a; }", "f", int.class)));
+	}
+
+
+	@Test
+	public void hot_method_falls_back_on_error() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("int div(int a, int b) { return a / b; }");
+		interpreter.eval("for (int i = 0; i < " + (BshMethodCompiler.THRESHOLD + 10) + "; i++) div(i, 1);");
+		assertEquals(5, interpreter.eval("return div(10, 2);"));
+		try {
+			interpreter.eval("div(1, 0);");
+		} catch (final EvalError e) {
+			return;
+		}
+		throw new AssertionError("expected error");
+	}
+
+
+	@Test
+	public void hot_method_leaves_the_arguments_of_the_caller() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final BshMethod method = method(interpreter, "long twice(long a) { return a * 2; }", "twice", long.class);
+		for (int i = 0; i < BshMethodCompiler.THRESHOLD + 10; i++) {
+			assertEquals(2L * i, Primitive.unwrap(method.invoke(new Object[] {new Primitive(i)}, interpreter)));
+		}
+		// the compiled call casts the int argument to long in a copy
+		final Primitive one = new Primitive(1);
+		final Object[] args = {one};
+		assertEquals(2L, Primitive.unwrap(method.invoke(args, interpreter)));
+		assertSame(one, args[0]);
+	}
+
+}
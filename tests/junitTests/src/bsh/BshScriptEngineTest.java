@@ -0,0 +1,114 @@
+package bsh;
+
+import org.junit.Test;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.SimpleScriptContext;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class BshScriptEngineTest {
+
+	@Test
+	public void threading_is_reported_by_engine_mode() throws Exception {
+		assertNull(new BshScriptEngineFactory(false).getParameter("THREADING"));
+		assertEquals("MULTITHREADED", new BshScriptEngineFactory(true).getParameter("THREADING"));
+	}
+
+
+	@Test
+	public void pooled_engine_evaluates_concurrently() throws Exception {
+		final ScriptEngine engine = new BshScriptEngineFactory(true).getScriptEngine();
+		final CompiledScript compiled = ((Compilable) engine).compile("print(\"compiled \" + n); return n * 2;");
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (int i = 0; i < 200; i++) {
+				final int n = i;
+				futures.add(executor.submit(new Callable<Object>() {
+					public Object call() throws Exception {
+						final ScriptContext context = new SimpleScriptContext();
+						final StringWriter out = new StringWriter();
+						context.setWriter(out);
+						context.setAttribute("n", n, ScriptContext.ENGINE_SCOPE);
+						assertEquals(n + 1, engine.eval("square(x) { return x * x; } print(n); return n + 1;", context));
+						assertEquals(n * n, engine.eval("return square(n);", context));
+						assertEquals(n * 2, compiled.eval(context));
+						assertEquals(n + "\ncompiled " + n + "\n", out.toString().replace("\r", ""));
+						return null;
+					}
+				}));
+			}
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+
+	@Test
+	public void pooled_contexts_share_the_class_manager() throws Exception {
+		final ScriptEngine engine = new BshScriptEngineFactory(true).getScriptEngine();
+		final ScriptContext first = new SimpleScriptContext();
+		final ScriptContext second = new SimpleScriptContext();
+		engine.eval("a = 1;", first);
+		engine.eval("a = 2;", second);
+		final NameSpace firstNameSpace = (NameSpace) first.getAttribute(BshScriptEngine.engineNameSpaceKey);
+		final NameSpace secondNameSpace = (NameSpace) second.getAttribute(BshScriptEngine.engineNameSpaceKey);
+		assertSame(firstNameSpace.getClassManager(), secondNameSpace.getClassManager());
+		assertEquals(1, engine.eval("return a;", first));
+		assertEquals(2, engine.eval("return a;", second));
+	}
+
+
+	@Test
+	public void pooled_evaluations_in_the_default_context_take_turns() throws Exception {
+		final ScriptEngine engine = new BshScriptEngineFactory(true).getScriptEngine();
+		engine.put("n", 0);
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (int i = 0; i < 400; i++) {
+				final int id = i;
+				futures.add(executor.submit(new Callable<Object>() {
+					public Object call() throws Exception {
+						engine.eval("inc" + id + "(x) { return x + 1; } v" + id + " = " + id + "; n = inc" + id + "(n);");
+						return null;
+					}
+				}));
+			}
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(400, engine.get("n"));
+		assertEquals(400, engine.eval("return inc0(v399);"));
+	}
+
+
+	@Test
+	public void compiled_scripts_use_the_class_manager_of_the_pool() throws Exception {
+		final ScriptEngine engine = new BshScriptEngineFactory(true).getScriptEngine();
+		engine.eval("a = 1;");
+		final NameSpace nameSpace = (NameSpace) engine.get(BshScriptEngine.engineNameSpaceKey);
+		final CompiledScript compiled = ((Compilable) engine).compile("return this.namespace.getClassManager();");
+		assertSame(nameSpace.getClassManager(), compiled.eval());
+	}
+
+}
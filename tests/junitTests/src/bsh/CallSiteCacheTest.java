@@ -0,0 +1,44 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class CallSiteCacheTest {
+
+	@Test
+	public void overloads_are_resolved_per_argument_types() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("sb = new StringBuilder(); for (o : new Object[] { 1, \"a\", 'c', 2L, null, 1.5, true }) sb.append(o);");
+		assertEquals("1ac2null1.5true", interpreter.eval("return sb.toString();"));
+	}
+
+
+	@Test
+	public void megamorphic_site_still_dispatches() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("s = \"\"; for (o : new Object[] { 1, \"a\", 'c', 2L, 1.5, true, new StringBuilder(\"x\") }) s += String.valueOf(o.hashCode() == o.hashCode()) + o.toString();");
+		assertEquals("true1truea" + "truectrue2true1.5truetruetruex", interpreter.eval("return s;"));
+	}
+
+
+	@Test
+	public void entries_are_dropped_when_resolve_cache_is_cleared() throws Exception {
+		final BshClassManager bcm = new Interpreter().getClassManager();
+		final CallSiteCache cache = new CallSiteCache();
+		final Object[] args = {"x"};
+		final Method first = cache.resolve(bcm, String.class, "concat", args, false);
+		assertSame(first, cache.resolve(bcm, String.class, "concat", args, false));
+		bcm.clearCaches();
+		final Method second = cache.resolve(bcm, String.class, "concat", args, false);
+		assertEquals(first, second);
+		assertNotSame(first, second);
+		assertNull(cache.resolve(bcm, String.class, "concat", new Object[]{new Primitive(1)}, false));
+	}
+
+}
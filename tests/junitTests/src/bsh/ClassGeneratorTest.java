@@ -8,6 +8,8 @@ import org.junit.runner.RunWith;
 import java.util.concurrent.Callable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 @RunWith(FilteredTestRunner.class)
 public class ClassGeneratorTest {
@@ -72,6 +74,104 @@ public class ClassGeneratorTest {
 	}
 
 
+	@Test
+	public void bytecode_is_generated_once_for_all_interpreters() throws Exception {
+		final String declaration = "class X6 { int get() { return 6; } }";
+		final LookupCache.Stats stats = ClassGenerator.getCodeCacheStats();
+		final Interpreter first = new Interpreter();
+		first.eval(declaration);
+		final long hits = stats.getHits();
+		final long misses = stats.getMisses();
+		final Interpreter second = new Interpreter();
+		second.eval(declaration);
+		assertEquals(hits + 1, stats.getHits());
+		assertEquals(misses, stats.getMisses());
+		assertNotSame(first.eval("X6.class"), second.eval("X6.class"));
+		assertEquals(6, second.eval("new X6().get()"));
+	}
+
+
+	@Test
+	public void redeclared_classes_are_reused() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("class X7 { static int n = 1; int get() { return n; } }; a = new X7();");
+		interpreter.eval("class X7 { static int n = 2; int get() { return n * 10; } }; b = new X7();");
+		assertSame(interpreter.eval("a.getClass()"), interpreter.eval("b.getClass()"));
+		assertEquals(20, interpreter.eval("b.get()"));
+		assertEquals(2, interpreter.eval("X7.n"));
+
+		interpreter.eval("class X7 { long get() { return 3; } }; c = new X7();");
+		assertNotSame(interpreter.eval("b.getClass()"), interpreter.eval("c.getClass()"));
+		assertEquals(3L, interpreter.eval("c.get()"));
+	}
+
+
+	@Test
+	public void methods_are_invoked_by_declared_signature() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final Object x8 = interpreter.eval(
+				"class X8 {"
+					+ "public String get(Object o) { return \"Object\"; }"
+					+ "public String get(String s) { return \"String \" + s; }"
+					+ "public String get(int i) { return \"int \" + i; }"
+					+ "public static long twice(long l) { return 2 * l; }"
+				+ "}"
+				+ "return new X8();");
+		final Class<?> clas = x8.getClass();
+		assertEquals("Object", clas.getMethod("get", Object.class).invoke(x8, "s"));
+		assertEquals("String null", clas.getMethod("get", String.class).invoke(x8, new Object[] {null}));
+		assertEquals("int 3", clas.getMethod("get", int.class).invoke(x8, 3));
+		assertEquals(8L, clas.getMethod("twice", long.class).invoke(null, 4L));
+		assertEquals("int 5", interpreter.eval("x = new X8(); return x.get(5);"));
+	}
+
+
+	@Test
+	public void typed_fields_are_held_in_java_fields() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final Object x10 = interpreter.eval(
+				"class X9 { public int n = 1; public String s; public void inc() { n++; } public int getN() { return n; } }"
+				+ "class X10 extends X9 { public long n = 10; Object o = \"o\"; public long add() { return getN() + n; } }"
+				+ "x = new X10(); x.inc(); x.n += 5;"
+				+ "return x;");
+		final Class<?> clas = x10.getClass();
+		assertEquals(2, clas.getSuperclass().getField("n").get(x10));
+		assertEquals(15L, clas.getField("n").get(x10));
+		assertEquals(17L, interpreter.eval("x.add()"));
+		clas.getSuperclass().getField("n").set(x10, 7);
+		clas.getField("s").set(x10, "s");
+		assertEquals(22L, interpreter.eval("x.add()"));
+		assertEquals("s", interpreter.eval("x.s"));
+		interpreter.eval("x.s = null;");
+		assertEquals(null, clas.getField("s").get(x10));
+		assertEquals("o", interpreter.eval("x.o"));
+	}
+
+
+	@Test
+	public void instances_are_initialized_by_the_constructor_called() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval(
+				"class X11 { public String s; public X11(String s) { this.s = s; } }"
+				+ "class X12 extends X11 {"
+					+ "public String log = init();"
+					+ "public X12() { this(\"default\"); log += \" X12()\"; }"
+					+ "public X12(Object o) { super(\"object\"); log += \" X12(Object)\"; }"
+					+ "public X12(String s) { super(s); log += \" X12(String)\"; }"
+					+ "String init() { return \"init\"; }"
+				+ "}");
+		assertEquals("init X12(String) X12()", interpreter.eval("new X12().log"));
+		assertEquals("default", interpreter.eval("new X12().s"));
+		final Class<?> clas = (Class<?>) interpreter.eval("X12.class");
+		final Object o = clas.getConstructor(Object.class).newInstance("s");
+		assertEquals("init X12(Object)", clas.getField("log").get(o));
+		assertEquals("object", clas.getField("s").get(o));
+		final Object s = clas.getConstructor(String.class).newInstance("s");
+		assertEquals("init X12(String)", clas.getField("log").get(s));
+		assertEquals("s", clas.getField("s").get(s));
+	}
+
+
 	/**
 	 * See also failing test script "classinterf1.bsh" and
 	 * <a href="http://code.google.com/p/beanshell2/issues/detail?id=46">issue #46</a>.
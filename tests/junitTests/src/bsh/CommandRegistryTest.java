@@ -0,0 +1,101 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CommandRegistryTest {
+
+	private static class CountingLoader extends ClassLoader {
+		final List<String> requests = new ArrayList<String>();
+
+		CountingLoader() {
+			super(CommandRegistryTest.class.getClassLoader());
+		}
+
+		@Override
+		public InputStream getResourceAsStream(final String name) {
+			requests.add(name);
+			return super.getResourceAsStream(name);
+		}
+	}
+
+
+	@Test
+	public void command_scripts_are_parsed_once() throws Exception {
+		final SimpleNode[] script = CommandRegistry.getScript(new Interpreter().getClassManager(), "/bsh/commands/dirname.bsh");
+		assertNotNull(script);
+		assertSame(script, CommandRegistry.getScript(new Interpreter().getClassManager(), "/bsh/commands/dirname.bsh"));
+
+		for (int i = 0; i < 3; i++) {
+			final Interpreter interpreter = new Interpreter();
+			assertEquals("/tmp", interpreter.eval("dirname(\"/tmp/x\")"));
+		}
+	}
+
+
+	@Test
+	public void missing_command_scripts_are_not_searched_again() throws Exception {
+		final CountingLoader loader = new CountingLoader();
+		for (int i = 0; i < 3; i++) {
+			final Interpreter interpreter = new Interpreter();
+			interpreter.setClassLoader(loader);
+			assertNull(CommandRegistry.getScript(interpreter.getClassManager(), "/bsh/commands/noSuchCommand.bsh"));
+		}
+		assertEquals(1, loader.requests.size());
+	}
+
+
+	@Test
+	public void commands_are_found_after_the_class_path_is_extended() throws Exception {
+		final File first = createTempDir();
+		final File second = createTempDir();
+		final File commands = new File(second, "bsh/commands");
+		commands.mkdirs();
+		final File script = new File(commands, "registryTestCommand.bsh");
+		final FileWriter writer = new FileWriter(script);
+		try {
+			writer.write("registryTestCommand() { return \"found\"; }");
+		} finally {
+			writer.close();
+		}
+		try {
+			final Interpreter interpreter = new Interpreter();
+			interpreter.getClassManager().addClassPath(first.toURI().toURL());
+			try {
+				interpreter.eval("registryTestCommand()");
+				fail();
+			} catch (EvalError e) {
+				assertTrue(e.getMessage().contains("Command not found"));
+			}
+			interpreter.getClassManager().addClassPath(second.toURI().toURL());
+			assertEquals("found", interpreter.eval("registryTestCommand()"));
+		} finally {
+			script.delete();
+			commands.delete();
+			commands.getParentFile().delete();
+			second.delete();
+			first.delete();
+		}
+	}
+
+
+	private static File createTempDir() throws Exception {
+		final File dir = File.createTempFile("commands", "");
+		dir.delete();
+		dir.mkdir();
+		return dir;
+	}
+
+}
@@ -0,0 +1,109 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+public class FrameLayoutTest {
+
+	private static Object eval(final String... code) throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		Object result = null;
+		for (final String line : code) {
+			result = interpreter.eval(line);
+		}
+		return result;
+	}
+
+
+	@Test
+	public void locals_are_resolved_to_slots() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f(a) { int b = a + 1; for (int i = 0; i < 2; i++) { int c = b; b = c + i; } return b; }");
+		final BshMethod method = interpreter.getNameSpace().getMethod("f", new Class[]{null});
+		assertNotNull(method.frameLayout);
+		assertEquals(0, method.frameLayout.getSlot("a"));
+		assertEquals(1, method.frameLayout.getSlot("b"));
+		assertEquals(-1, method.frameLayout.getSlot("i"));
+		assertEquals(4, interpreter.eval("return f(2);"));
+	}
+
+
+	@Test
+	public void slots_are_resolved_to_a_depth_and_index() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f(a) { int b = a; for (int i = 0; i < 1; i++) { if (true) { int c = i; b += c; } } return b; }");
+		final BshMethod method = interpreter.getNameSpace().getMethod("f", new Class[]{null});
+		assertEquals(1, interpreter.eval("return f(1);"));
+		// the for loop and the inner block get namespaces, the if block declaring nothing does not
+		final FrameLayout.Slot b = findName(method.methodBody, "b", 0).slot;
+		assertSame(method.frameLayout, b.layout);
+		assertEquals(1, b.index);
+		assertEquals(2, b.depth);
+		final FrameLayout.Slot i = findName(method.methodBody, "i", 2).slot;
+		assertEquals(1, i.depth);
+		assertEquals(0, i.index);
+	}
+
+
+	/**
+	 * @return the nth use of the name in the node
+	 */
+	private static BSHAmbiguousName findName(final SimpleNode node, final String name, final int n) {
+		final List<BSHAmbiguousName> names = new ArrayList<BSHAmbiguousName>();
+		collectNames(node, name, names);
+		return names.get(n);
+	}
+
+
+	private static void collectNames(final SimpleNode node, final String name, final List<BSHAmbiguousName> names) {
+		if (node instanceof BSHAmbiguousName && ((BSHAmbiguousName) node).text.equals(name)) {
+			names.add((BSHAmbiguousName) node);
+		}
+		for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+			collectNames(node.getChild(i), name, names);
+		}
+	}
+
+
+	@Test
+	public void recursion_and_closures() throws Exception {
+		assertEquals(120, eval("int fact(int n) { if (n < 2) return 1; int r = fact(n - 1); return n * r; }", "return fact(5);"));
+		assertEquals(3, eval("counter() { int count = 0; inc() { count++; return count; } return this; }",
+				"c = counter(); c.inc(); c.inc(); return c.inc();"));
+	}
+
+
+	@Test
+	public void shadowing() throws Exception {
+		// a method local hides the global variable
+		assertEquals("outer1", eval("String x = \"global\";",
+				"f() { String x = \"outer\"; String s = x; { s += \"1\"; } return s; }", "return f();"));
+		assertEquals(11, eval("f() { int x = 1; { int y = x; int x2 = 10; x = y + x2; } return x; }", "return f();"));
+		// a block local hides the method local only after it is declared, in each evaluation of the block
+		assertEquals("121", eval("f() { int x = 1; String s = \"\"; { s += x; int x = 2; s += x; } return s + x; }", "return f();"));
+		assertEquals("1212", eval("f() { int x = 1; String s = \"\"; for (int i = 0; i < 2; i++) { s += x; int x = 2; s += x; } return s; }", "return f();"));
+		// locals of the enclosing method are found through the method namespace and blocks declaring nothing
+		assertEquals(1, eval("f() { int x = 1; g() { { if (true) { return x; } } } return g(); }", "return f();"));
+		// a variable declared dynamically in a nested scope is honored
+		assertEquals(2, eval("f() { int x = 1; if (true) { eval(\"int x = 2;\"); return x; } }", "return f();"));
+		assertEquals(5, eval("f() { int x = 1; try { throw new Exception(); } catch (Exception x2) { x = 5; } return x; }", "return f();"));
+	}
+
+
+	@Test
+	public void unset_and_variable_names() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f() { int a = 1; b = 2; return this; }");
+		final This ths = (This) interpreter.eval("return f();");
+		assertEquals(2, ths.getNameSpace().getVariableNames().length);
+		ths.getNameSpace().unsetVariable("a");
+		assertEquals(Primitive.VOID, ths.getNameSpace().getVariable("a"));
+	}
+
+}
@@ -0,0 +1,108 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InterfaceGeneratorTest {
+
+	@Test
+	public void scripted_comparator_sorts() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final Comparator comparator = (Comparator) interpreter.eval("compare(a, b) { return b.compareTo(a); } return (java.util.Comparator) this;");
+		assertFalse(Proxy.isProxyClass(comparator.getClass()));
+		final List<Integer> list = new ArrayList<Integer>(Arrays.asList(2, 3, 1));
+		Collections.sort(list, comparator);
+		assertEquals(Arrays.asList(3, 2, 1), list);
+		assertTrue(comparator.equals(comparator));
+		assertTrue(comparator.toString().contains("implements: java.util.Comparator"));
+	}
+
+
+	@Test
+	public void implementations_are_cached_per_interface_set() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final This ths = (This) interpreter.eval("run() { } call() { return 1; } return this;");
+		final Object both = ths.getInterface(new Class[] {Runnable.class, Callable.class});
+		assertSame(both, ths.getInterface(new Class[] {Runnable.class, Callable.class}));
+		final Object reversed = ths.getInterface(new Class[] {Callable.class, Runnable.class});
+		assertNotSame(both, reversed);
+		assertEquals(1, ((Callable) reversed).call());
+		final Object other = ((This) interpreter.eval("run() { } call() { return 2; } return this;")).getInterface(new Class[] {Runnable.class, Callable.class});
+		assertSame(both.getClass(), other.getClass());
+		assertEquals(2, ((Callable) other).call());
+	}
+
+
+	@Test
+	public void methods_are_resolved_again_when_redeclared() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final Callable callable = (Callable) interpreter.eval("call() { return 1; } return (java.util.concurrent.Callable) this;");
+		assertEquals(1, callable.call());
+		interpreter.eval("call() { return 2; }");
+		assertEquals(2, callable.call());
+	}
+
+
+	@Test
+	public void methods_are_resolved_again_when_the_parent_changes() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final NameSpace first = new NameSpace(interpreter.getNameSpace(), "first");
+		interpreter.eval("call() { return 1; } other() { }", first);
+		final NameSpace second = new NameSpace(interpreter.getNameSpace(), "second");
+		interpreter.eval("call() { return 2; }", second);
+		final NameSpace object = new NameSpace(first, "object");
+		final Callable callable = (Callable) object.getThis(interpreter).getInterface(Callable.class);
+		assertEquals(1, callable.call());
+		object.setParent(second);
+		assertEquals(2, callable.call());
+	}
+
+
+	@Test
+	public void overloads_are_chosen_by_argument_types() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final Comparator comparator = (Comparator) interpreter.eval(
+				"int compare(String a, String b) { return a.length() - b.length(); }"
+				+ "int compare(Object a, Object b) { return 0; }"
+				+ "return (java.util.Comparator) this;");
+		assertEquals(-1, comparator.compare("a", "bb"));
+		assertEquals(0, comparator.compare(1, 2));
+	}
+
+
+	@Test
+	public void undeclared_exceptions_are_wrapped() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final Object o = interpreter.eval("run() { throw new java.io.IOException(\"run\"); } call() { throw new java.io.IOException(\"call\"); } return this;");
+		final Object both = ((This) o).getInterface(new Class[] {Runnable.class, Callable.class});
+		try {
+			((Runnable) both).run();
+			fail();
+		} catch (UndeclaredThrowableException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+		try {
+			((Callable) both).call();
+			fail();
+		} catch (IOException e) {
+			assertEquals("call", e.getMessage());
+		}
+	}
+
+}
@@ -4,6 +4,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class InterpreterConcurrencyTest {
 
@@ -79,6 +80,55 @@ public class InterpreterConcurrencyTest {
 	}
 
 
+	/**
+	 * Concurrent calls into one shared {@code This}, all resolving the same cached names, from one thread up to
+	 * twice the number of available processors.
+	 */
+	@Test
+	public void shared_name_resolution_from_many_threads() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final This callable = (This) interpreter.eval(
+				"call(v) {" +
+				"	sb = new StringBuilder();" +
+				"	sb.append(v).append(\"x\");" +
+				"	return Integer.parseInt(sb.substring(0, sb.length() - 1)) + Math.abs(0);" +
+				"}" +
+				"return this;");
+		final int iterationCount = 2000;
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int threadCount = 1; threadCount <= 2 * processors; threadCount *= 2) {
+			final AtomicInteger counter = new AtomicInteger();
+			final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+			final Thread[] threads = new Thread[threadCount];
+			for (int t = 0; t < threadCount; t++) {
+				threads[t] = new Thread() {
+					public void run() {
+						try {
+							for (int i = 0; i < iterationCount; i++) {
+								final int value = counter.incrementAndGet();
+								Assert.assertEquals(value, Primitive.unwrap(callable.invokeMethod("call", new Object[] { value })));
+							}
+						} catch (final Throwable e) {
+							failure.compareAndSet(null, e);
+						}
+					}
+				};
+			}
+			for (final Thread thread : threads) {
+				thread.start();
+			}
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+			if (failure.get() != null) {
+				throw new RuntimeException(failure.get());
+			}
+			Assert.assertEquals(threadCount * iterationCount, counter.get());
+			Assert.assertEquals(-1, Primitive.unwrap(callable.invokeMethod("call", new Object[] { -1 })));
+		}
+	}
+
+
 	private This createCallable() throws EvalError {
 		final Interpreter interpreter = new Interpreter();
 		return (This) interpreter.eval(script);
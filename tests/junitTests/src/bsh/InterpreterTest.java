@@ -2,6 +2,7 @@ package bsh;
 
 import org.junit.Test;
 
+import java.io.StringReader;
 import java.lang.ref.WeakReference;
 
 import static org.junit.Assert.assertEquals;
@@ -32,4 +33,26 @@ public class InterpreterTest {
 		assertEquals(Boolean.FALSE, TestUtil.eval("return bsh.system.shutdownOnExit;"));
 	}
 
+
+	@Test
+	public void parsed_types_are_resolved_in_each_namespace() throws Exception {
+		final SimpleNode[] statements = Interpreter.parse(new StringReader(
+				"Date cast(Object o) { return (Date) o; }"
+				+ "Date[] dates = { cast(date) };"
+				+ "return dates[0];"), "test");
+		final Interpreter interpreter = new Interpreter();
+		final NameSpace sql = new NameSpace(interpreter.getNameSpace(), "sql");
+		sql.importPackage("java.sql");
+		sql.setVariable("date", new java.sql.Date(0), false);
+		final NameSpace util = new NameSpace(interpreter.getNameSpace(), "util");
+		util.importPackage("java.util");
+		util.setVariable("date", new java.util.Date(0), false);
+		assertEquals(java.sql.Date.class, interpreter.eval(statements, sql, "test").getClass());
+		assertEquals(java.util.Date.class, interpreter.eval(statements, util, "test").getClass());
+		sql.importPackage("java.util");
+		final NameSpace child = new NameSpace(sql, "child");
+		child.setVariable("date", new java.util.Date(0), false);
+		assertEquals(java.util.Date.class, interpreter.eval(statements, child, "test").getClass());
+	}
+
 }
@@ -0,0 +1,100 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class MemberInvokerTest {
+
+	public static class Fields {
+		public static String name = "a";
+		public static final int ANSWER = 42;
+		public long count;
+		public Object value;
+	}
+
+
+	@Test
+	public void accessors_call_methods_directly() throws Throwable {
+		final MemberInvoker.Accessor concat = MemberInvoker.generate(String.class.getMethod("concat", String.class));
+		assertEquals("ab", concat.invoke("a", new Object[]{"b"}));
+		final MemberInvoker.Accessor max = MemberInvoker.generate(Math.class.getMethod("max", int.class, int.class));
+		assertEquals(3, max.invoke(null, new Object[]{1, 3}));
+		final MemberInvoker.Accessor add = MemberInvoker.generate(java.util.List.class.getMethod("add", Object.class));
+		final java.util.List<Object> list = new java.util.ArrayList<Object>();
+		assertEquals(Boolean.TRUE, add.invoke(list, new Object[]{"x"}));
+		assertEquals("[x]", list.toString());
+		final MemberInvoker.Accessor clear = MemberInvoker.generate(java.util.List.class.getMethod("clear"));
+		assertNull(clear.invoke(list, new Object[0]));
+		assertEquals(0, list.size());
+	}
+
+
+	@Test
+	public void accessors_construct_objects_and_access_fields() throws Throwable {
+		final MemberInvoker.Accessor con = MemberInvoker.generate(StringBuilder.class.getConstructor(String.class));
+		assertEquals("x", con.invoke(null, new Object[]{"x"}).toString());
+
+		final MemberInvoker.Accessor count = MemberInvoker.generate(Fields.class.getField("count"));
+		final Fields fields = new Fields();
+		count.invoke(fields, new Object[]{5L});
+		assertEquals(5L, fields.count);
+		assertEquals(5L, count.invoke(fields, null));
+
+		final MemberInvoker.Accessor name = MemberInvoker.generate(Fields.class.getField("name"));
+		name.invoke(null, new Object[]{"b"});
+		assertEquals("b", name.invoke(null, null));
+		assertEquals(42, MemberInvoker.generate(Fields.class.getField("ANSWER")).invoke(null, null));
+	}
+
+
+	@Test
+	public void inaccessible_and_caller_sensitive_members_are_not_generated() throws Exception {
+		assertNull(MemberInvoker.generate(Class.class.getMethod("forName", String.class)));
+		assertNull(MemberInvoker.generate(Object.class.getDeclaredMethod("clone")));
+		assertNotNull(MemberInvoker.generate(Object.class.getMethod("hashCode")));
+	}
+
+
+	@Test
+	public void invoker_keeps_reflective_semantics() throws Exception {
+		final MemberInvoker invoker = new MemberInvoker(Integer.class.getMethod("parseInt", String.class));
+		for (int i = 0; i <= MemberInvoker.THRESHOLD + 1; i++) {
+			assertEquals(i, invoker.invoke(null, new Object[]{String.valueOf(i)}));
+		}
+		try {
+			invoker.invoke(null, new Object[]{"x"});
+			fail("expected exception");
+		} catch (InvocationTargetException e) {
+			assertSame(NumberFormatException.class, e.getTargetException().getClass());
+		}
+
+		final MemberInvoker field = new MemberInvoker(Fields.class.getField("count"));
+		final Fields fields = new Fields();
+		for (int i = 0; i <= MemberInvoker.THRESHOLD + 1; i++) {
+			field.set(fields, i); // widened by Field.set()
+			field.set(fields, field.get(fields));
+		}
+		assertEquals(MemberInvoker.THRESHOLD + 1L, fields.count);
+	}
+
+
+	@Test
+	public void scripts_run_through_invokers() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.set("fields", new Fields());
+		interpreter.eval("sb = new StringBuilder(); long n = 0;"
+				+ "for (int i = 0; i < 1000; i++) { sb = new StringBuilder(sb.length() > 10 ? \"\" : sb.toString()); sb.append(i % 10); "
+				+ "fields.count += i; fields.value = sb; n += Math.max(i, 1) + fields.ANSWER; }");
+		assertEquals(499500L, ((Fields) interpreter.get("fields")).count);
+		assertEquals(499501L + 42000L, interpreter.get("n"));
+		assertSame(interpreter.get("sb"), ((Fields) interpreter.get("fields")).value);
+	}
+
+}
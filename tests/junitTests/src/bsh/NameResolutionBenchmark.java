@@ -0,0 +1,59 @@
+package bsh;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput benchmark of concurrent calls into one shared {@code This}, all resolving the same cached names (see
+ * {@code InterpreterConcurrencyTest.shared_name_resolution_from_many_threads}). Prints the calls per second from one
+ * thread up to twice the number of available processors, so that the scaling across cores can be compared between
+ * revisions. Not a unit test, run it with {@code ant bench} or
+ * <pre>
+ *     java -cp &lt;classes&gt; bsh.NameResolutionBenchmark [iterations per thread]
+ * </pre>
+ */
+public class NameResolutionBenchmark {
+
+	public static void main(final String[] args) throws Exception {
+		final int iterationCount = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		final Interpreter interpreter = new Interpreter();
+		final This callable = (This) interpreter.eval(
+				"call(v) {" +
+				"	sb = new StringBuilder();" +
+				"	sb.append(v).append(\"x\");" +
+				"	return Integer.parseInt(sb.substring(0, sb.length() - 1)) + Math.abs(0);" +
+				"}" +
+				"return this;");
+		final AtomicInteger counter = new AtomicInteger();
+		final Runnable runnable = new Runnable() {
+			public void run() {
+				final int value = counter.incrementAndGet();
+				try {
+					if (!Primitive.unwrap(callable.invokeMethod("call", new Object[] { value })).equals(value)) {
+						throw new IllegalStateException("call(" + value + ") failed");
+					}
+				} catch (final EvalError e) {
+					throw new RuntimeException(e);
+				}
+			}
+		};
+
+		// warm up
+		for (int i = 0; i < 5; i++) {
+			TestUtil.measureConcurrentTime(runnable, 1, 1, iterationCount);
+		}
+
+		final int processors = Runtime.getRuntime().availableProcessors();
+		System.out.println("name resolution, " + processors + " processor(s), " + iterationCount + " calls per thread");
+		long singleThreaded = 0;
+		for (int threadCount = 1; threadCount <= 2 * processors; threadCount *= 2) {
+			final long nanos = TestUtil.measureConcurrentTime(runnable, threadCount, threadCount, iterationCount);
+			final long callsPerSecond = threadCount * (long) iterationCount * 1000000000L / Math.max(nanos, 1);
+			if (threadCount == 1) {
+				singleThreaded = callsPerSecond;
+			}
+			System.out.println(threadCount + " thread(s): " + callsPerSecond + " calls/s, "
+					+ (callsPerSecond * 100 / Math.max(singleThreaded, 1)) + "% of one thread");
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+package bsh;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class NameSpaceTest {
+
+	@Test
+	public void overload_resolution_is_memoized() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f(int i) { return \"int\"; } f(Object o) { return \"object\"; } f(String s) { return \"string\"; }");
+		final NameSpace nameSpace = interpreter.getNameSpace();
+		final BshMethod method = nameSpace.getMethod("f", new Class[] { String.class });
+		assertEquals(String.class, method.getParameterTypes()[0]);
+		assertSame(method, nameSpace.getMethod("f", new Class[] { String.class }));
+		assertNull(nameSpace.getMethod("f", new Class[] { String.class, String.class }));
+		assertNull(nameSpace.getMethod("f", new Class[] { String.class, String.class }));
+		assertEquals("int", interpreter.eval("return f(1);"));
+		assertEquals("object", interpreter.eval("return f(new Object());"));
+		assertEquals("string", interpreter.eval("return f(\"s\");"));
+	}
+
+
+	@Test
+	public void declarations_invalidate_the_resolution() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f(Object o) { return \"object\"; }");
+		assertEquals("object", interpreter.eval("return f(\"s\");"));
+		assertNull(interpreter.getNameSpace().getMethod("f", new Class[] { String.class, String.class }));
+		interpreter.eval("f(String s) { return \"string\"; } f(String a, String b) { return \"two\"; }");
+		assertEquals("string", interpreter.eval("return f(\"s\");"));
+		assertEquals("two", interpreter.eval("return f(\"a\", \"b\");"));
+		interpreter.eval("f(String s) { return \"redeclared\"; }");
+		assertEquals("redeclared", interpreter.eval("return f(\"s\");"));
+	}
+
+
+	@Test
+	public void variables_do_not_invalidate_the_resolution() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f(String s) { return \"string\"; }");
+		final NameSpace nameSpace = interpreter.getNameSpace();
+		final BshMethod method = nameSpace.getMethod("f", new Class[] { String.class });
+		final int version = nameSpace.getMethodsVersion();
+		interpreter.eval("x = 1; y = \"a\";");
+		assertEquals(version, nameSpace.getMethodsVersion());
+		assertSame(method, nameSpace.getMethod("f", new Class[] { String.class }));
+		interpreter.eval("import java.util.*;");
+		assertTrue(version < nameSpace.getMethodsVersion());
+	}
+
+
+	@Test
+	public void new_namespaces_take_the_versions_of_their_parent() throws Exception {
+		final NameSpace parent = new Interpreter().getNameSpace();
+		final NameSpace child = new NameSpace(parent, "child");
+		assertEquals(parent.getMethodsVersion(), child.getMethodsVersion());
+		assertEquals(parent.getImportsVersion(), child.getImportsVersion());
+		final NameSpace other = new Interpreter().getNameSpace();
+		final int version = Math.max(parent.getMethodsVersion(), other.getMethodsVersion());
+		child.setParent(other);
+		assertTrue(version < child.getMethodsVersion());
+		assertTrue(version < child.getImportsVersion());
+	}
+
+
+	@Test
+	public void reused_signature_arrays_are_not_cached() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f(String s) { return \"string\"; }");
+		final NameSpace nameSpace = interpreter.getNameSpace();
+		final Class[] sig = { String.class };
+		assertEquals(String.class, nameSpace.getMethod("f", sig).getParameterTypes()[0]);
+		sig[0] = Integer.class;
+		assertNull(nameSpace.getMethod("f", sig));
+		assertEquals(String.class, nameSpace.getMethod("f", new Class[] { String.class }).getParameterTypes()[0]);
+	}
+
+}
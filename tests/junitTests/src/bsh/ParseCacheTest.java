@@ -0,0 +1,120 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class ParseCacheTest {
+
+	@Test
+	public void parse_cache_is_disabled_by_default() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		assertEquals(0, interpreter.getClassManager().getParseCacheSize());
+		assertNull(interpreter.getClassManager().getParseCacheStats());
+		assertEquals(3, interpreter.eval("1 + 2"));
+	}
+
+
+	@Test
+	public void evaluated_text_is_parsed_once_per_class_manager() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final BshClassManager bcm = interpreter.getClassManager();
+		bcm.setParseCacheSize(10);
+		interpreter.set("n", 0);
+		for (int i = 0; i < 5; i++) {
+			interpreter.eval("for (int i = 0; i < 3; i++) n++;");
+		}
+		assertEquals(15, interpreter.get("n"));
+
+		final Interpreter other = new Interpreter(new StringReader(""), System.out, System.err, false, interpreter.getNameSpace());
+		other.eval("for (int i = 0; i < 3; i++) n++;");
+		assertEquals(18, interpreter.get("n"));
+		assertEquals(1, bcm.getParseCacheStats().getMisses());
+		assertEquals(5, bcm.getParseCacheStats().getHits());
+
+		for (int i = 0; i < 2; i++) {
+			try {
+				interpreter.eval("n++; n++ +;");
+				fail("parsed");
+			} catch (ParseException e) {
+				// the statements before the error are evaluated, as without the cache
+			}
+		}
+		assertEquals(20, interpreter.get("n"));
+		assertEquals(3, bcm.getParseCacheStats().getMisses());
+	}
+
+
+	@Test
+	public void sourced_files_are_parsed_again_when_modified() throws Exception {
+		final File file = File.createTempFile("parsecache", ".bsh");
+		try {
+			final Interpreter interpreter = new Interpreter();
+			final BshClassManager bcm = interpreter.getClassManager();
+			bcm.setParseCacheSize(10);
+			write(file, "x = 1;");
+			assertEquals(1, interpreter.source(file.getPath()));
+			assertEquals(1, interpreter.source(file.getPath()));
+			write(file, "x = 22;");
+			file.setLastModified(file.lastModified() + 2000);
+			assertEquals(22, interpreter.source(file.getPath()));
+			assertEquals(2, bcm.getParseCacheStats().getMisses());
+			assertEquals(1, bcm.getParseCacheStats().getHits());
+
+			write(file, "x = 3;\ny = ;");
+			file.setLastModified(file.lastModified() + 2000);
+			try {
+				interpreter.source(file.getPath());
+				fail("parsed");
+			} catch (ParseException e) {
+				assertEquals(3, interpreter.get("x"));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+
+	@Test
+	public void parse_cache_evicts_least_recently_used_scripts() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final BshClassManager bcm = interpreter.getClassManager();
+		bcm.setParseCacheSize(8);
+		for (int i = 0; i < 20; i++) {
+			assertEquals(i, interpreter.eval("x = " + i));
+		}
+		assertEquals(12, bcm.getParseCacheStats().getEvictions());
+	}
+
+
+	@Test
+	public void cached_scripts_resolve_types_through_the_imports_of_each_namespace() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		final BshClassManager bcm = interpreter.getClassManager();
+		bcm.setParseCacheSize(10);
+		final NameSpace sql = new NameSpace(interpreter.getNameSpace(), "sql");
+		interpreter.eval("import java.sql.*; o = new Date(0L);", sql);
+		final NameSpace util = new NameSpace(interpreter.getNameSpace(), "util");
+		interpreter.eval("import java.util.*; o = new Date(0L);", util);
+		assertEquals(java.sql.Date.class, interpreter.eval("(Date) o", sql).getClass());
+		assertEquals(java.util.Date.class, interpreter.eval("(Date) o", util).getClass());
+		assertEquals(1, bcm.getParseCacheStats().getHits());
+	}
+
+
+	private static void write(final File file, final String text) throws Exception {
+		final FileWriter writer = new FileWriter(file);
+		try {
+			writer.write(text);
+		} finally {
+			writer.close();
+		}
+	}
+
+}
@@ -91,6 +91,36 @@ public class PreparsedScriptTest {
 	}
 
 
+	@Test
+	public void multi_threaded_shared_tree() throws Exception {
+		final AtomicInteger counter = new AtomicInteger();
+		final PreparsedScript f = new PreparsedScript(
+				"int n = v % 7 + 1;" +
+				"int[] squares = new int[n];" +
+				"for (int i = 0; i < n; i++) squares[i] = i * i;" +
+				"int sum = 0;" +
+				"for (int s : squares) sum += s;" +
+				"String[] names = { \"a\", \"b\" };" +
+				"switch (n) { case 1: sum += 100; break; default: sum += names.length; }" +
+				"int cube(int x) { return x * x * x; }" +
+				"return v + \":\" + sum + \":\" + cube(n);",
+				_classLoader);
+		final Runnable runnable = new Runnable() {
+			public void run() {
+				final int value = counter.incrementAndGet();
+				final int n = value % 7 + 1;
+				final int sum = (n - 1) * n * (2 * n - 1) / 6 + (n == 1 ? 100 : 2);
+				try {
+					Assert.assertEquals(value + ":" + sum + ":" + n * n * n, f.invoke(Collections.singletonMap("v", value)));
+				} catch (final EvalError evalError) {
+					throw new RuntimeException(evalError);
+				}
+			}
+		};
+		TestUtil.measureConcurrentTime(runnable, 8, 8, 500);
+	}
+
+
 	@Test
 	public void param_with_name_result() throws Exception {
 		final AtomicInteger result = new AtomicInteger();
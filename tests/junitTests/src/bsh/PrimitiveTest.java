@@ -0,0 +1,73 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class PrimitiveTest {
+
+	private static Object eval(final String script) throws Exception {
+		return new Interpreter().eval(script);
+	}
+
+
+	@Test
+	public void raw_arithmetic_promotes_like_java() throws Exception {
+		assertEquals(7, eval("return 3 + 4;"));
+		assertEquals(7L, eval("return 3 + 4L;"));
+		assertEquals(3.5, eval("return 3 + 0.5;"));
+		assertEquals(1L << 40, eval("return 1L << 40;"));
+		assertEquals(-1 >>> 28, eval("return -1 >>> 28;"));
+		assertEquals(Integer.MIN_VALUE, eval("return 2147483647 + 1;"));
+		assertEquals(2.5f, eval("return 2f + 0.5f;"));
+		assertEquals(true, eval("return 1 < 2L && 2.0 >= 2 && true != false;"));
+		assertEquals(6, eval("int i = 5; i++; return i;"));
+		assertEquals(5, eval("int i = 5; return i--;"));
+		assertEquals(-5L, eval("long l = 5; return -l;"));
+		assertEquals(7, eval("int i = 5; i += 2; return i;"));
+		assertEquals((byte) 2, eval("byte b = 1; b++; return b;"));
+		assertEquals(3, eval("return (int) 3.9;"));
+	}
+
+
+	@Test
+	public void division_by_zero_is_a_target_error() throws Exception {
+		try {
+			eval("return 1 / 0;");
+			fail("expected error");
+		} catch (final TargetError e) {
+			assertEquals(ArithmeticException.class, e.getTarget().getClass());
+		}
+	}
+
+
+	@Test
+	public void small_values_are_shared() throws Exception {
+		assertSame(Primitive.valueOf(42), Primitive.valueOf(42));
+		assertSame(Primitive.TRUE, Primitive.valueOf(true));
+		assertSame(Primitive.valueOf(3), Primitive.binaryOperation(new Primitive(1), new Primitive(2), ParserConstants.PLUS));
+		assertSame(Primitive.FALSE, Primitive.binaryOperation(new Primitive(1), new Primitive(2L), ParserConstants.GT));
+	}
+
+
+	@Test
+	public void raw_values_box_equal_and_serialize() throws Exception {
+		assertEquals(new Primitive(Integer.valueOf(5)), new Primitive(5));
+		assertEquals(new Primitive(5).hashCode(), new Primitive(Integer.valueOf(5)).hashCode());
+		assertEquals(Long.valueOf(5), new Primitive(5L).getValue());
+		assertEquals(Integer.TYPE, new Primitive(5).getType());
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new ObjectOutputStream(bytes).writeObject(new Primitive(2.5));
+		final Object copy = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+		assertEquals(new Primitive(2.5), copy);
+		assertEquals(Double.TYPE, ((Primitive) copy).getType());
+	}
+
+}
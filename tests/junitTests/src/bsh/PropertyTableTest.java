@@ -0,0 +1,78 @@
+package bsh;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PropertyTableTest {
+
+	public static class Bean {
+		private String name;
+		private boolean active;
+		private Object value;
+		private long number;
+
+		public String getName() { return name; }
+		public void setName(String name) { this.name = name; }
+		public boolean isActive() { return active; }
+		public void setActive(boolean active) { this.active = active; }
+		public Object getValue() { return value; }
+		public void setValue(Object value) { this.value = "object"; }
+		public void setValue(Integer value) { this.value = "integer"; }
+		public long getNumber() { return number; }
+		public void setNumber(long number) { this.number = number; }
+		public int isCount() { return 1; }
+		public void setOnly(String s) { }
+	}
+
+
+	@Test
+	public void tables_are_cached_per_class() throws Exception {
+		final PropertyTable table = PropertyTable.getTable(Bean.class);
+		assertSame(table, PropertyTable.getTable(Bean.class));
+		assertSame(table.getProperty("name"), table.getProperty("name"));
+		assertTrue(Reflect.hasObjectPropertyGetter(Bean.class, "active"));
+		assertFalse(Reflect.hasObjectPropertyGetter(Bean.class, "count"));
+		assertFalse(Reflect.hasObjectPropertyGetter(Bean.class, "only"));
+		assertTrue(Reflect.hasObjectPropertySetter(Bean.class, "only"));
+		assertFalse(Reflect.hasObjectPropertySetter(Bean.class, "missing"));
+		assertNull(table.getProperty("count").getter);
+	}
+
+
+	@Test
+	public void setters_are_resolved_by_value_type() throws Exception {
+		final Bean bean = new Bean();
+		Reflect.setObjectProperty(bean, "value", new Primitive(1));
+		assertEquals("integer", bean.getValue());
+		Reflect.setObjectProperty(bean, "value", "s");
+		assertEquals("object", bean.getValue());
+		Reflect.setObjectProperty(bean, "value", new Primitive(2));
+		assertEquals("integer", bean.getValue());
+		Reflect.setObjectProperty(bean, "name", Primitive.NULL);
+		assertNull(bean.getName());
+		try {
+			Reflect.setObjectProperty(bean, "name", new Primitive(1));
+			fail("expected ReflectError");
+		} catch (ReflectError e) {
+			// no setName(int)
+		}
+	}
+
+
+	@Test
+	public void scripts_access_properties() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.set("bean", new Bean());
+		interpreter.eval("for (int i = 0; i < 500; i++) { bean.name = \"n\" + i; bean{\"active\"} = i % 2 == 0; bean.number = bean.number + i; }");
+		assertEquals("n499", interpreter.eval("return bean.name;"));
+		assertEquals(Boolean.FALSE, interpreter.eval("return bean.active;"));
+		assertEquals(124750L, interpreter.eval("return bean{\"number\"};"));
+	}
+
+}
@@ -0,0 +1,62 @@
+package bsh;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ReturnControlTest {
+
+	private static Object eval(final String script) throws Exception {
+		return new Interpreter().eval(script);
+	}
+
+
+	@Test
+	public void labeled_break_and_continue() throws Exception {
+		assertEquals("00 10 11 20 21 22 30 31 ", eval("s = \"\"; outer: for (int i = 0; i < 5; i++) { for (j : new int[] { 0, 1, 2, 3 }) { if (j > i) continue outer; if (i + j > 4) break outer; s += \"\" + i + j + \" \"; } } return s;"));
+		assertEquals(3, eval("i = 0; a: b: while (true) { while (true) { if (++i == 3) break a; continue b; } } return i;"));
+		assertEquals(1, eval("x = 1; done: { if (x == 1) break done; x = 2; } return x;"));
+		assertEquals(4, eval("n = 0; loop: for (i = 0; i < 4; i++) { switch (i) { case 2: n++; continue loop; default: n++; } } return n;"));
+		assertEquals(5, eval("f() { for (;;) { switch (5) { case 5: return 5; } } } return f();"));
+	}
+
+
+	@Test
+	public void break_and_continue_signals_are_shared() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f() { while (true) { break; } }");
+		final BSHBlock body = interpreter.getNameSpace().getMethod("f", new Class[0]).methodBody;
+		final SimpleNode statement = body.getChild(0).getChild(1).getChild(0);
+		final CallStack callstack = new CallStack(interpreter.getNameSpace());
+		final ReturnControl control = (ReturnControl) statement.eval(callstack, interpreter);
+		assertSame(control, statement.eval(callstack, interpreter));
+		assertEquals(ParserConstants.BREAK, control.kind);
+	}
+
+
+	@Test
+	public void value_returns_reuse_the_carrier_of_the_callstack() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("f(x) { return x + 1; }");
+		final BSHBlock body = interpreter.getNameSpace().getMethod("f", new Class[] { null }).methodBody;
+		final SimpleNode statement = body.getChild(0);
+		final CallStack callstack = new CallStack(interpreter.getNameSpace());
+		interpreter.getNameSpace().setVariable("x", 1, false);
+		final ReturnControl control = (ReturnControl) statement.eval(callstack, interpreter);
+		assertEquals(2, Primitive.unwrap(control.value));
+		interpreter.getNameSpace().setVariable("x", 2, false);
+		assertSame(control, statement.eval(callstack, interpreter));
+		assertEquals(3, Primitive.unwrap(control.value));
+	}
+
+
+	@Test
+	public void returns_in_finally_blocks_keep_the_pending_return() throws Exception {
+		assertEquals(1, eval("g() { return 2; } f() { try { return 1; } finally { g(); } } return f();"));
+		assertEquals(3, eval("g() { return 2; } f() { try { throw new Exception(); } catch (e) { return 3; } finally { g(); } } return f();"));
+		assertEquals(2, eval("f() { try { return 1; } finally { return 2; } } return f();"));
+		assertEquals(4, eval("g(x) { return x * 2; } f() { return g(1) + g(1); } return f();"));
+	}
+
+}
@@ -0,0 +1,116 @@
+package bsh;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ScriptCompilerTest {
+
+	private static final String SCRIPT = "package compiled;\n"
+			+ "import java.util.*;\n"
+			+ "int calls = 0;\n"
+			+ "int square(int x) { calls++; return x * x; }\n"
+			+ "String greet(name) { return \"hello \" + name; }\n"
+			+ "List twice(List l) { l.addAll(l); return l; }\n"
+			+ "class Counter { static int created = 10; int n; Counter() { created++; } int inc() { return ++n; } }\n"
+			+ "getCalls() { return calls; }\n"
+			+ "c = new Counter(); c.inc();\n"
+			+ "result = c.inc() + square(3);\n";
+
+
+	@Test
+	public void compiled_scripts_run_without_parsing() throws Exception {
+		final File dir = createTempDir();
+		try {
+			compile_and_run(dir);
+		} finally {
+			delete(dir);
+		}
+	}
+
+
+	private void compile_and_run(final File dir) throws Exception {
+		final File source = new File(dir, "my-script.bsh");
+		final FileWriter writer = new FileWriter(source);
+		try {
+			writer.write(SCRIPT);
+		} finally {
+			writer.close();
+		}
+		final File classes = new File(dir, "classes");
+		ScriptCompiler.main(new String[] {"-d", classes.getPath(), source.getPath()});
+		assertTrue(new File(classes, "compiled/my_script.class").isFile());
+		assertTrue(new File(classes, "compiled/my_script.bshc").isFile());
+		assertTrue(source.delete());
+
+		// the scripted class was generated at compile time
+		final InputStream in = new FileInputStream(new File(classes, "compiled/my_script.bshclasses"));
+		final Map<String, byte[]> code;
+		try {
+			code = PrecompiledScript.readClasses(in);
+		} finally {
+			in.close();
+		}
+		assertEquals(1, code.size());
+		final String signature = code.keySet().iterator().next();
+		assertTrue(signature, signature.contains(" class compiled/Counter extends "));
+		assertEquals(code.get(signature).length, ClassGenerator.getGeneratedCode(signature).length);
+
+		final ClassLoader loader = new URLClassLoader(new URL[] {classes.toURI().toURL()}, getClass().getClassLoader());
+		final Class<?> clas = loader.loadClass("compiled.my_script");
+
+		final Interpreter interpreter = new Interpreter();
+		clas.getMethod("eval", Interpreter.class).invoke(null, interpreter);
+		assertEquals(11, interpreter.get("result"));
+		assertEquals(11, interpreter.eval("Counter.created"));
+
+		final Method square = clas.getMethod("square", int.class);
+		assertEquals(int.class, square.getReturnType());
+		assertEquals(49, square.invoke(null, 7));
+		assertEquals("hello world", clas.getMethod("greet", Object.class).invoke(null, "world"));
+		final List<Object> list = Arrays.<Object>asList(1);
+		assertEquals(Arrays.asList(1, 1), clas.getMethod("twice", List.class).invoke(null, new java.util.ArrayList<Object>(list)));
+		// the module ran the script once, which called square() once
+		assertEquals(2, clas.getMethod("getCalls").invoke(null));
+	}
+
+
+	@Test
+	public void class_names_are_derived_from_file_names() {
+		assertEquals("foo", ScriptCompiler.getClassName(new File("dir/foo.bsh")));
+		assertEquals("my_script_2", ScriptCompiler.getClassName(new File("my-script.2.bsh")));
+		assertEquals("_1st", ScriptCompiler.getClassName(new File("1st.bsh")));
+	}
+
+
+	private static File createTempDir() throws Exception {
+		final File dir = File.createTempFile("bshc", "");
+		assertTrue(dir.delete());
+		assertTrue(dir.mkdir());
+		return dir;
+	}
+
+
+	private static void delete(final File file) {
+		final File[] files = file.listFiles();
+		if (files != null) {
+			for (final File f : files) {
+				delete(f);
+			}
+		}
+		file.delete();
+	}
+
+}
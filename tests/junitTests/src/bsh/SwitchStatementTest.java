@@ -0,0 +1,74 @@
+package bsh;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SwitchStatementTest {
+
+	private static final String INTS = "f(x) { s = \"\"; switch (x) { case -1: s += \"m\"; case 'a': s += \"a\"; break; case 2: case 3: s += \"23\"; break; "
+			+ "case Integer.MAX_VALUE: s += \"max\"; break; default: s += \"d\"; } return s; }";
+
+
+	@Test
+	public void integral_labels() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval(INTS);
+		assertEquals("ma", interpreter.eval("return f(-1);"));
+		assertEquals("a", interpreter.eval("return f(97);"));
+		assertEquals("a", interpreter.eval("return f('a');"));
+		assertEquals("23", interpreter.eval("return f((byte) 3);"));
+		assertEquals("max", interpreter.eval("return f(2147483647);"));
+		assertEquals("d", interpreter.eval("return f(4);"));
+		assertEquals("23", interpreter.eval("return f(Integer.valueOf(2));"));
+		// not in the table, compared label by label
+		assertEquals("23", interpreter.eval("return f(2.0);"));
+		assertEquals("d", interpreter.eval("return f(2L << 40);"));
+	}
+
+
+	@Test
+	public void string_and_enum_labels() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval("g(x) { switch (x) { case \"one\": return 1; case \"two\": return 2; } return 0; }");
+		assertEquals(2, interpreter.eval("return g(\"two\");"));
+		assertEquals(2, interpreter.eval("return g(new String(\"two\"));"));
+		assertEquals(0, interpreter.eval("return g(\"three\");"));
+		interpreter.eval("import java.util.concurrent.TimeUnit;");
+		interpreter.eval("h(x) { switch (x) { case TimeUnit.SECONDS: return \"s\"; case TimeUnit.DAYS: return \"d\"; default: return \"?\"; } }");
+		assertEquals("d", interpreter.eval("return h(TimeUnit.DAYS);"));
+		assertEquals("?", interpreter.eval("return h(TimeUnit.HOURS);"));
+	}
+
+
+	@Test
+	public void non_constant_labels_and_default_first() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		assertEquals(2, interpreter.eval("y = 2; switch (2) { case 1: return 1; case y: return 2; } return 0;"));
+		// labels after default are not reached, as before
+		assertEquals("d", interpreter.eval("switch (2) { case 1: return \"1\"; default: return \"d\"; case 2: return \"2\"; }"));
+	}
+
+
+	@Test
+	public void static_field_labels_follow_variables_and_imports() throws Exception {
+		final Interpreter interpreter = new Interpreter();
+		interpreter.eval(INTS);
+		assertEquals("max", interpreter.eval("return f(2147483647);"));
+		// a variable declared later hides the class of the label
+		interpreter.eval("limits() { MAX_VALUE = 5; return this; } Integer = limits();");
+		assertEquals("max", interpreter.eval("return f(5);"));
+		assertEquals("d", interpreter.eval("return f(2147483647);"));
+
+		// the same parsed switch in namespaces importing another Modifier
+		interpreter.getClassManager().setParseCacheSize(10);
+		final String m = "switch (x) { case Modifier.STATIC: return \"static\"; default: return \"?\"; }";
+		final NameSpace reflect = new NameSpace(interpreter.getNameSpace(), "reflect");
+		interpreter.eval("import java.lang.reflect.Modifier; x = 8;", reflect);
+		assertEquals("static", interpreter.eval(m, reflect));
+		final NameSpace model = new NameSpace(interpreter.getNameSpace(), "model");
+		interpreter.eval("import javax.lang.model.element.Modifier; x = Modifier.STATIC;", model);
+		assertEquals("static", interpreter.eval(m, model));
+	}
+
+}